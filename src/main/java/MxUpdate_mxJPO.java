@@ -26,6 +26,7 @@ import org.mxupdate.mapping.TypeDefGroup_mxJPO;
 import org.mxupdate.typedef.TypeDef_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.mxupdate.util.MqlTranscript_mxJPO;
 
 import matrix.db.Context;
 import matrix.util.MatrixException;
@@ -192,9 +193,13 @@ public class MxUpdate_mxJPO
                        final String... _args)
             throws Exception
     {
+        MqlTranscript_mxJPO transcript = null;
         try {
             final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(_context, false);
 
+            // record / replay of the MQL transcript starts before first MQL call
+            transcript = MqlTranscript_mxJPO.begin(paramCache, _args);
+
             this.prepareParams(paramCache);
 
             // to be sure....
@@ -234,12 +239,21 @@ public class MxUpdate_mxJPO
             if (unknown || (action == null))  {
                 Action_mxJPO.HELP.execute(paramCache, selectHandler);;
             } else  {
-                action.execute(paramCache, selectHandler);
+                paramCache.getStatistics().begin(paramCache);
+                try  {
+                    action.execute(paramCache, selectHandler);
+                } finally  {
+                    paramCache.getStatistics().end(paramCache);
+                }
             }
 
         } catch (final Exception e)  {
             e.printStackTrace(System.out);
             throw e;
+        } finally  {
+            if (transcript != null)  {
+                transcript.end();
+            }
         }
     }
 }
@@ -0,0 +1,131 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.action;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Pool of MX contexts used from the parallel workers of the update. All MX
+ * contexts are {@link UpdateAction_mxJPO#connectWorkerContext connected} from
+ * the update action. The MQL executor of the origin MX context is also used
+ * for the MX contexts of the pool.
+ *
+ * @author The MxUpdate Team
+ */
+class ContextPool_mxJPO
+{
+    /** All connected MX contexts of this pool. */
+    private final List<Context> contexts = new ArrayList<>();
+
+    /** Currently free MX contexts. */
+    private final BlockingQueue<Context> free = new LinkedBlockingQueue<>();
+
+    /**
+     * Initializes the pool and connects <code>_size</code> MX contexts.
+     *
+     * @param _paramCache   parameter cache with the origin MX context
+     * @param _action       update action used to connect the MX contexts
+     * @param _size         number of MX contexts in the pool
+     * @throws MatrixException if a MX context could not be connected
+     */
+    ContextPool_mxJPO(final ParameterCache_mxJPO _paramCache,
+                      final UpdateAction_mxJPO _action,
+                      final int _size)
+        throws MatrixException
+    {
+        final Context origContext = _paramCache.getContext();
+
+        try  {
+            for (int idx = 0; idx < _size; idx++)  {
+                final Context context = _action.connectWorkerContext(_paramCache);
+                this.contexts.add(context);
+                MqlBuilderUtil_mxJPO.setExecutor(context, MqlBuilderUtil_mxJPO.getExecutor(origContext));
+                MqlBuilderUtil_mxJPO.mql().cmd("escape verbose off").exec(context);
+                this.free.add(context);
+            }
+        } catch (final MatrixException e)  {
+            this.close(_paramCache);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of MX contexts of this pool.
+     *
+     * @return number of MX contexts
+     */
+    int size()
+    {
+        return this.contexts.size();
+    }
+
+    /**
+     * Returns the next free MX context. If all MX contexts are used, the
+     * method waits until a MX context is {@link #release(Context) released}.
+     *
+     * @return free MX context
+     * @throws InterruptedException if the wait for a free MX context was
+     *                              interrupted
+     */
+    Context acquire()
+        throws InterruptedException
+    {
+        return this.free.take();
+    }
+
+    /**
+     * Releases given <code>_context</code> so that the MX context could be
+     * used from the next worker.
+     *
+     * @param _context  MX context to release
+     */
+    void release(final Context _context)
+    {
+        this.free.add(_context);
+    }
+
+    /**
+     * Disconnects all MX contexts of this pool. Errors are only logged.
+     *
+     * @param _paramCache   parameter cache (used for logging purposes)
+     */
+    void close(final ParameterCache_mxJPO _paramCache)
+    {
+        for (final Context context : this.contexts)  {
+            try  {
+                if (context.isTransactionActive())  {
+                    context.abort();
+                }
+                context.shutdown();
+            } catch (final MatrixException e)  {
+                _paramCache.logWarning("disconnect of parallel worker MX context failed:\n" + e.toString());
+            } finally  {
+                MqlBuilderUtil_mxJPO.setExecutor(context, null);
+            }
+        }
+        this.contexts.clear();
+        this.free.clear();
+    }
+}
@@ -19,6 +19,7 @@ import java.io.File;
 import java.util.Map;
 import java.util.Set;
 
+import org.mxupdate.typedef.EMxAdmin_mxJPO;
 import org.mxupdate.typedef.TypeDef_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
@@ -68,29 +69,64 @@ public class DeleteAction_mxJPO
         final Map<TypeDef_mxJPO,Map<String,File>> clazz2FileNames = this.selects.evalMatches(this.paramCache);
 
         // and now loop throw the list of file names and compare to existing
-        for (final Map.Entry<TypeDef_mxJPO,Set<String>> entry : clazz2MxNames.entrySet())  {
-            final Set<String> mxNames = clazz2FileNames.containsKey(entry.getKey()) ? clazz2FileNames.get(entry.getKey()).keySet() : null;
-            for (final String name : entry.getValue())  {
-                if ((mxNames == null) || !mxNames.contains(name))  {
-                    this.paramCache.logInfo("delete " + entry.getKey().getLogging() + " '" + name + "'");
-                    boolean commit = false;
-                    final boolean transActive = this.paramCache.getContext().isTransactionActive();
-                    try  {
-                        if (!transActive)  {
-                            this.paramCache.getContext().start(true);
-                        }
-                        entry.getKey().newTypeInstance(this.paramCache, name).delete(this.paramCache);
-                        if (!transActive)  {
-                            this.paramCache.getContext().commit();
-                        }
-                        commit = true;
-                    } finally  {
-                        if (!commit && !transActive && this.paramCache.getContext().isTransactionActive())  {
-                            this.paramCache.getContext().abort();
-                        }
+        final TransactionBatch_mxJPO batch = new TransactionBatch_mxJPO(this.paramCache);
+        try  {
+            for (final Map.Entry<TypeDef_mxJPO,Set<String>> entry : clazz2MxNames.entrySet())  {
+                final Set<String> mxNames = clazz2FileNames.containsKey(entry.getKey()) ? clazz2FileNames.get(entry.getKey()).keySet() : null;
+                for (final String name : entry.getValue())  {
+                    if ((mxNames == null) || !mxNames.contains(name))  {
+                        batch.execute(new TransactionBatch_mxJPO.Work() {
+                            @Override()
+                            void execute(final ParameterCache_mxJPO _paramCache)
+                                throws Exception
+                            {
+                                DeleteAction_mxJPO.this.delete(_paramCache, entry.getKey(), name);
+                            }
+                        });
                     }
                 }
             }
+            batch.commit();
+        } finally  {
+            batch.abort();
+        }
+        batch.logStatistics();
+    }
+
+    /**
+     * Deletes the CI with given <code>_name</code>. The delete itself is done
+     * within a transaction (if no transaction is already active).
+     *
+     * @param _paramCache   parameter cache (with the used MX context)
+     * @param _typeDef      type definition of the CI
+     * @param _name         MX name of the CI
+     * @throws Exception if delete failed
+     */
+    protected void delete(final ParameterCache_mxJPO _paramCache,
+                          final TypeDef_mxJPO _typeDef,
+                          final String _name)
+        throws Exception
+    {
+        _paramCache.logInfo("delete " + _typeDef.getLogging() + " '" + _name + "'");
+        boolean commit = false;
+        final boolean transActive = _paramCache.getContext().isTransactionActive();
+        try  {
+            if (!transActive)  {
+                _paramCache.getContext().start(true);
+            }
+            _typeDef.newTypeInstance(_paramCache, _name).delete(_paramCache);
+            if (!transActive)  {
+                _paramCache.getContext().commit();
+                EMxAdmin_mxJPO.commitListCache(_paramCache);
+            }
+            commit = true;
+        } finally  {
+            if (!commit && !transActive && _paramCache.getContext().isTransactionActive())  {
+                _paramCache.getContext().abort();
+            }
+            if (!commit && !transActive)  {
+                EMxAdmin_mxJPO.abortListCache(_paramCache);
+            }
         }
     }
 }
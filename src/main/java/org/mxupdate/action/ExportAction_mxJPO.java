@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
+import org.mxupdate.typedef.EMxAdmin_mxJPO;
 import org.mxupdate.typedef.TypeDef_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
@@ -72,10 +73,32 @@ public class ExportAction_mxJPO
         final Map<TypeDef_mxJPO,Set<String>> clazz2names = this.selects.getMatching(this.paramCache);
 
         // export
-        for (final Map.Entry<TypeDef_mxJPO,Set<String>> entry : clazz2names.entrySet())  {
-            for (final String mxName : entry.getValue())  {
-                this.paramCache.logInfo("export " + entry.getKey().getLogging() + " '" + mxName + "'");
-                entry.getKey().export(this.paramCache, mxName, new File(pathStr));
+        final boolean bulk = this.paramCache.getValueBoolean(ValueKeys.ExportBulkXML);
+        if (bulk)  {
+            EMxAdmin_mxJPO.prefetchSymbolicNames(this.paramCache);
+        }
+        try  {
+            for (final Map.Entry<TypeDef_mxJPO,Set<String>> entry : clazz2names.entrySet())  {
+                // bulk XML export only for MX classes without suffix (otherwise other objects are exported)
+                final EMxAdmin_mxJPO listClass = (bulk && !entry.getValue().isEmpty()) ? entry.getKey().getMxAdminList(this.paramCache) : null;
+                final EMxAdmin_mxJPO mxClass = ((listClass != null) && !listClass.hasMxClassSuffix()) ? listClass : null;
+                if (mxClass != null)  {
+                    mxClass.prefetchXMLExports(this.paramCache, entry.getValue());
+                }
+                try  {
+                    for (final String mxName : entry.getValue())  {
+                        this.paramCache.logInfo("export " + entry.getKey().getLogging() + " '" + mxName + "'");
+                        entry.getKey().export(this.paramCache, mxName, new File(pathStr));
+                    }
+                } finally  {
+                    if (mxClass != null)  {
+                        mxClass.clearXMLExports(this.paramCache);
+                    }
+                }
+            }
+        } finally  {
+            if (bulk)  {
+                EMxAdmin_mxJPO.clearSymbolicNames(this.paramCache);
             }
         }
     }
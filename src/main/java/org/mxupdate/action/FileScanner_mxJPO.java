@@ -0,0 +1,213 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.action;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.mxupdate.typedef.filenames.FileIndex_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
+import org.mxupdate.update.util.WildcardMatcher_mxJPO;
+
+/**
+ * Scans directory trees for CI files. Each directory is read with one
+ * {@link Files#walkFileTree(Path, Set, int, java.nio.file.FileVisitor) walk}
+ * of depth one, so that the file attributes read within the walk are used to
+ * differ between files and directories. Sub directories are scanned in
+ * parallel within a fork join pool. Ignored directories (defined with
+ * {@link ValueKeys#PathIgnorePath}) are not scanned and ignored files
+ * (defined with {@link ValueKeys#PathIgnoreFile}) are not returned. The
+ * wildcard matches of the ignored directories and files are
+ * {@link WildcardMatcher_mxJPO compiled} once.<br/>
+ * If a {@link FileIndex_mxJPO file index} is used, the listing of a
+ * directory is only read if the modified date of the directory is changed.
+ *
+ * @author The MxUpdate Team
+ */
+class FileScanner_mxJPO
+{
+    /** Compiled match for ignored directories. */
+    private final WildcardMatcher_mxJPO ignorePaths;
+    /** Compiled match for ignored files. */
+    private final WildcardMatcher_mxJPO ignoreFiles;
+    /** Number of parallel threads. */
+    private final int threads;
+    /** File index used for warm starts (or <code>null</code> if not used). */
+    private final FileIndex_mxJPO index;
+
+    /**
+     * Initializes the file scanner.
+     *
+     * @param _ignorePaths  wildcard matches of ignored directory names
+     * @param _ignoreFiles  wildcard matches of ignored file names
+     * @param _threads      number of parallel threads
+     * @param _index        file index used for warm starts (or
+     *                      <code>null</code> if not used)
+     */
+    FileScanner_mxJPO(final Collection<String> _ignorePaths,
+                      final Collection<String> _ignoreFiles,
+                      final int _threads,
+                      final FileIndex_mxJPO _index)
+    {
+        this.ignorePaths = WildcardMatcher_mxJPO.compile((_ignorePaths != null) ? _ignorePaths : Collections.<String>emptyList());
+        this.ignoreFiles = WildcardMatcher_mxJPO.compile((_ignoreFiles != null) ? _ignoreFiles : Collections.<String>emptyList());
+        this.threads = (_threads > 1) ? _threads : 1;
+        this.index = _index;
+    }
+
+    /**
+     * Evaluates all not ignored files within <code>_path</code> and all not
+     * ignored sub directories.
+     *
+     * @param _path     path to scan
+     * @return set of all found files
+     * @throws IOException if a directory could not be read
+     */
+    Set<File> scan(final File _path)
+        throws IOException
+    {
+        final Set<File> ret = new HashSet<>();
+        if (_path.isDirectory())  {
+            final ForkJoinPool pool = new ForkJoinPool(this.threads);
+            try  {
+                ret.addAll(pool.invoke(new ScanTask(_path.toPath())));
+            } catch (final ScanException e)  {
+                // the exception of a sub task could be wrapped again from the pool
+                Throwable cause = e.getCause();
+                while (!(cause instanceof IOException))  {
+                    cause = cause.getCause();
+                }
+                throw (IOException) cause;
+            } finally  {
+                pool.shutdown();
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Scans one directory and forks the scan of the sub directories.
+     */
+    private final class ScanTask
+        extends RecursiveTask<List<File>>
+    {
+        /** Serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** Directory to scan. */
+        private final Path dir;
+
+        /**
+         * Initializes the scan task.
+         *
+         * @param _dir  directory to scan
+         */
+        private ScanTask(final Path _dir)
+        {
+            this.dir = _dir;
+        }
+
+        @Override()
+        protected List<File> compute()
+        {
+            final FileIndex_mxJPO index = FileScanner_mxJPO.this.index;
+            final List<String> fileNames = new ArrayList<>();
+            final List<String> dirNames = new ArrayList<>();
+            try  {
+                // the modified date must be fetched before the directory is read
+                final long modified = (index != null) ? Files.getLastModifiedTime(this.dir).toMillis() : 0;
+                final FileIndex_mxJPO.Listing listing = (index != null) ? index.getListing(this.dir, modified) : null;
+                if (listing != null)  {
+                    fileNames.addAll(listing.getFiles());
+                    dirNames.addAll(listing.getDirs());
+                } else  {
+                    Files.walkFileTree(this.dir, EnumSet.of(FileVisitOption.FOLLOW_LINKS), 1, new SimpleFileVisitor<Path>()  {
+                        @Override()
+                        public FileVisitResult visitFile(final Path _file,
+                                                         final BasicFileAttributes _attrs)
+                        {
+                            if (_attrs.isDirectory())  {
+                                dirNames.add(_file.getFileName().toString());
+                            } else  {
+                                fileNames.add(_file.getFileName().toString());
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+                    if (index != null)  {
+                        index.putListing(this.dir, modified, fileNames, dirNames);
+                    }
+                }
+            } catch (final IOException e)  {
+                throw new ScanException(e);
+            }
+
+            final List<ScanTask> subTasks = new ArrayList<>();
+            for (final String dirName : dirNames)  {
+                if (!FileScanner_mxJPO.this.ignorePaths.match(dirName))  {
+                    final ScanTask subTask = new ScanTask(this.dir.resolve(dirName));
+                    subTask.fork();
+                    subTasks.add(subTask);
+                }
+            }
+            final List<File> ret = new ArrayList<>();
+            for (final String fileName : fileNames)  {
+                if (!FileScanner_mxJPO.this.ignoreFiles.match(fileName))  {
+                    ret.add(this.dir.resolve(fileName).toFile());
+                }
+            }
+            for (final ScanTask subTask : subTasks)  {
+                ret.addAll(subTask.join());
+            }
+            return ret;
+        }
+    }
+
+    /**
+     * Wraps the exception of a failed read of a directory within a
+     * {@link ScanTask}.
+     */
+    private static final class ScanException
+        extends RuntimeException
+    {
+        /** Serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Initializes the exception.
+         *
+         * @param _cause    failed read of a directory
+         */
+        private ScanException(final IOException _cause)
+        {
+            super(_cause);
+        }
+    }
+}
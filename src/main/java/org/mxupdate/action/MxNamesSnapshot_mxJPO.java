@@ -0,0 +1,161 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.action;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mxupdate.typedef.EMxAdmin_mxJPO;
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
+import org.mxupdate.update.util.PerformanceStatistics_mxJPO.Phase;
+
+import matrix.db.Context;
+
+/**
+ * Snapshot of the lists of object names for all MX admin classes of the
+ * selected type definitions. The lists are evaluated at once before the MX
+ * names of the type definitions are matched. If a
+ * {@link ContextPool_mxJPO pool} of MX contexts for the
+ * {@link ValueKeys#UpdateParallelWorkers parallel workers} is given, the
+ * lists are evaluated in parallel with the MX contexts of this pool. The
+ * evaluated lists are stored within the cache of
+ * {@link EMxAdmin_mxJPO#evalList(ParameterCache_mxJPO)}, so that all
+ * following matches of the MX names are served from the snapshot.
+ *
+ * @author The MxUpdate Team
+ */
+final class MxNamesSnapshot_mxJPO
+{
+    /**
+     * The constructor is defined to avoid external initialization.
+     */
+    private MxNamesSnapshot_mxJPO()
+    {
+    }
+
+    /**
+     * Evaluates the lists of object names for all MX admin classes of given
+     * <code>_typeDefs</code> which are not already cached.
+     *
+     * @param _paramCache   parameter cache
+     * @param _pool         pool of MX contexts of the parallel workers (or
+     *                      {@code null} if the lists are evaluated one after
+     *                      the other)
+     * @param _typeDefs     type definitions
+     * @throws Exception if the lists could not be evaluated
+     */
+    static void prefetch(final ParameterCache_mxJPO _paramCache,
+                         final ContextPool_mxJPO _pool,
+                         final Collection<TypeDef_mxJPO> _typeDefs)
+        throws Exception
+    {
+        final long start = System.nanoTime();
+
+        final Set<EMxAdmin_mxJPO> mxClasses = new LinkedHashSet<>();
+        for (final TypeDef_mxJPO typeDef : _typeDefs)  {
+            final EMxAdmin_mxJPO mxClass = typeDef.getMxAdminList(_paramCache);
+            if ((mxClass != null) && !mxClass.isListCached(_paramCache))  {
+                mxClasses.add(mxClass);
+            }
+        }
+
+        if ((_pool != null) && (_pool.size() > 1) && (mxClasses.size() > 1))  {
+            MxNamesSnapshot_mxJPO.prefetchParallel(_paramCache, _pool, Math.min(_pool.size(), mxClasses.size()), mxClasses);
+        } else  {
+            for (final EMxAdmin_mxJPO mxClass : mxClasses)  {
+                mxClass.evalList(_paramCache);
+            }
+        }
+
+        if (!mxClasses.isEmpty())  {
+            _paramCache.getStatistics().record(Phase.NAME_LIST, start);
+            _paramCache.logDebug("name list snapshot of " + mxClasses.size() + " MX class(es) in " + ((System.nanoTime() - start) / 1000000L) + "ms");
+        }
+    }
+
+    /**
+     * Evaluates the lists of object names for all <code>_mxClasses</code>
+     * with <code>_workers</code> parallel workers. Each worker uses its own
+     * MX context from the {@link ContextPool_mxJPO pool}.
+     *
+     * @param _paramCache   parameter cache
+     * @param _pool         pool of MX contexts of the parallel workers
+     * @param _workers      number of parallel workers
+     * @param _mxClasses    MX admin classes to evaluate
+     * @throws Exception if the lists could not be evaluated
+     */
+    private static void prefetchParallel(final ParameterCache_mxJPO _paramCache,
+                                         final ContextPool_mxJPO _pool,
+                                         final int _workers,
+                                         final Collection<EMxAdmin_mxJPO> _mxClasses)
+        throws Exception
+    {
+        final AtomicInteger threadIdx = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(_workers, new ThreadFactory() {
+            @Override()
+            public Thread newThread(final Runnable _runnable)
+            {
+                final Thread thread = new Thread(_runnable, "MxUpdate Name List " + threadIdx.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        try  {
+            final List<Future<SortedSet<String>>> futures = new ArrayList<>();
+            for (final EMxAdmin_mxJPO mxClass : _mxClasses)  {
+                futures.add(executor.submit(new Callable<SortedSet<String>>() {
+                    @Override()
+                    public SortedSet<String> call()
+                        throws Exception
+                    {
+                        final Context context = _pool.acquire();
+                        try  {
+                            return mxClass.evalListWOCache(new ParameterCache_mxJPO(_paramCache, context));
+                        } finally  {
+                            _pool.release(context);
+                        }
+                    }
+                }));
+            }
+            int idx = 0;
+            for (final EMxAdmin_mxJPO mxClass : _mxClasses)  {
+                try  {
+                    mxClass.cacheList(_paramCache, futures.get(idx++).get());
+                } catch (final ExecutionException e)  {
+                    if (e.getCause() instanceof Exception)  {
+                        throw (Exception) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+        } finally  {
+            executor.shutdownNow();
+        }
+    }
+}
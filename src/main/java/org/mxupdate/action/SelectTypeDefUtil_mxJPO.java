@@ -15,10 +15,18 @@
 
 package org.mxupdate.action;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -27,9 +35,13 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 
 import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.typedef.filenames.FileIndex_mxJPO;
+import org.mxupdate.typedef.filenames.FileNamesClassifier_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO.CacheKey;
+import org.mxupdate.update.util.PerformanceStatistics_mxJPO.Phase;
 import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
-import org.mxupdate.update.util.StringUtil_mxJPO;
+import org.mxupdate.update.util.WildcardMatcher_mxJPO;
 
 /**
  * Handles the select items (match of files or match of configuration items).
@@ -86,6 +98,9 @@ public class SelectTypeDefUtil_mxJPO
     protected Map<TypeDef_mxJPO,Set<String>> getMatching(final ParameterCache_mxJPO _paramCache)
         throws Exception
     {
+        // snapshot of the name lists of all selected type definitions
+        MxNamesSnapshot_mxJPO.prefetch(_paramCache, null, this.clazz2matches.keySet());
+
         // and now depending on the type definition prepare return list
         final Map<TypeDef_mxJPO,Set<String>> clazz2names = new HashMap<TypeDef_mxJPO,Set<String>>();
         for (final Entry<TypeDef_mxJPO,Set<String>> entry : this.clazz2matches.entrySet())  {
@@ -98,16 +113,10 @@ public class SelectTypeDefUtil_mxJPO
             final Collection<String> matchOpps = this.clazz2matchesOpp.get(entry.getKey());
             // ignored match defined? => to test!
             if ((matchOpps != null) && !matchOpps.isEmpty())  {
+                final WildcardMatcher_mxJPO matcherOpps = WildcardMatcher_mxJPO.compile(matchOpps);
                 final Set<String> names = new TreeSet<String>();
                 for (final String nameToTest : entry.getValue())  {
-                    boolean allowed = true;
-                    for (final String matchOpp : matchOpps)  {
-                        if (StringUtil_mxJPO.match(nameToTest, matchOpp))  {
-                            allowed = false;
-                            break;
-                        }
-                    }
-                    if (allowed)  {
+                    if (!matcherOpps.match(nameToTest))  {
                         names.add(nameToTest);
                     }
                 }
@@ -132,25 +141,41 @@ public class SelectTypeDefUtil_mxJPO
     public Map<TypeDef_mxJPO,Map<String,File>> evalMatches(final ParameterCache_mxJPO _paramCache)
         throws Exception
     {
+        final long start = System.nanoTime();
+
         final Map<TypeDef_mxJPO,Map<String,File>> clazz2names = new HashMap<TypeDef_mxJPO,Map<String,File>>();
 
         // get path parameters
         final Collection<String> ignoreFiles = _paramCache.getValueList(ValueKeys.PathIgnoreFile);
         final Collection<String> ignorePaths = _paramCache.getValueList(ValueKeys.PathIgnorePath);
         final Collection<String> paths       = _paramCache.getValueList(ValueKeys.Path);
+        final String indexPath       = _paramCache.getValueString(ValueKeys.PathFileIndex);
+        final FileIndex_mxJPO index = ((indexPath != null) && !indexPath.isEmpty())
+                ? new FileIndex_mxJPO(new File(indexPath)).read()
+                : null;
+        if (index != null)  {
+            _paramCache.setCache(CacheKey.FileIndex, index);
+        }
+        final FileScanner_mxJPO scanner = new FileScanner_mxJPO(ignorePaths, ignoreFiles, _paramCache.getValueInteger(ValueKeys.PathScanThreads), index);
 
         // if no path is defined, the paths are directly defined at the objects
         // to import
         if ((paths == null) || paths.isEmpty())  {
+            // each parent directory is only scanned once
+            final Map<File,Set<File>> scanned = new HashMap<File,Set<File>>();
             for (final Entry<TypeDef_mxJPO,Set<String>> entry : this.clazz2matches.entrySet())  {
                 // first get all matching files
                 final Set<File> allFiles = new HashSet<File>();
                 for (final String pathStr : entry.getValue())  {
                     final File pathFile = new File(pathStr);
-                    final String match = pathFile.getName();
-                    final Set<File> subPathFiles = this.getAllFiles(pathFile.getParentFile(), ignorePaths, ignoreFiles);
+                    final WildcardMatcher_mxJPO matcher = WildcardMatcher_mxJPO.compile(pathFile.getName());
+                    Set<File> subPathFiles = scanned.get(pathFile.getParentFile());
+                    if (subPathFiles == null)  {
+                        subPathFiles = scanner.scan(pathFile.getParentFile());
+                        scanned.put(pathFile.getParentFile(), subPathFiles);
+                    }
                     for (final File file : subPathFiles)  {
-                        if (StringUtil_mxJPO.match(file.getName(), match))  {
+                        if (matcher.match(file.getName()))  {
                             allFiles.add(file);
                         }
                     }
@@ -163,83 +188,200 @@ public class SelectTypeDefUtil_mxJPO
             /// get all files
             final Set<File> allFiles = new HashSet<File>();
             for (final String path : paths)  {
-                allFiles.addAll(this.getAllFiles(new File(path), ignorePaths, ignoreFiles));
-            }
-            // get all matching files depending on the update classes
-            for (final Entry<TypeDef_mxJPO,Set<String>> entry : this.clazz2matches.entrySet())  {
-                clazz2names.put(entry.getKey(), entry.getKey().matchFileNames(_paramCache, allFiles, entry.getValue()));
+                allFiles.addAll(scanner.scan(new File(path)));
             }
+            clazz2names.putAll(this.matchFiles(_paramCache, allFiles));
         }
 
-        // and now remove ignored matches
-        final Map<TypeDef_mxJPO,Map<String,File>> ret = new HashMap<TypeDef_mxJPO,Map<String,File>>();
-        for (final Entry<TypeDef_mxJPO,Map<String,File>> entry : clazz2names.entrySet())  {
-            final Collection<String> matchOpps = this.clazz2matchesOpp.get(entry.getKey());
-            if ((matchOpps != null) && !matchOpps.isEmpty())  {
-                final SortedMap<String,File> files = new TreeMap<String,File>();
-                for (final Map.Entry<String,File> fileEntry : entry.getValue().entrySet())  {
-                    boolean allowed = true;
-                    for (final String matchOpp : matchOpps)  {
-                        if (StringUtil_mxJPO.match(fileEntry.getKey(), matchOpp))  {
-                            allowed = false;
-                            break;
+        // store file index for next warm start
+        if (index != null)  {
+            index.write();
+        }
+
+        final Map<TypeDef_mxJPO,Map<String,File>> ret = this.removeIgnored(clazz2names);
+
+        _paramCache.getStatistics().record(Phase.FILE_SCAN, start);
+
+        return ret;
+    }
+
+    /**
+     * Evaluates for given <code>_files</code> the matching names depending on
+     * the update classes. The paths are not scanned, so that only the given
+     * files are matched (e.g. for a list of changed files). If no path
+     * parameter is defined, the matches are the paths of the CI files (like
+     * for {@link #evalMatches(ParameterCache_mxJPO)}) and the given files
+     * must be below the parent directory of the match.
+     *
+     * @param _paramCache       parameter cache
+     * @param _files            files to match
+     * @return map of update classes and the depending files with their names
+     * @throws Exception if match for the files failed
+     */
+    public Map<TypeDef_mxJPO,Map<String,File>> evalMatches(final ParameterCache_mxJPO _paramCache,
+                                                           final Collection<File> _files)
+        throws Exception
+    {
+        final long start = System.nanoTime();
+
+        final Collection<String> paths = _paramCache.getValueList(ValueKeys.Path);
+
+        final Map<TypeDef_mxJPO,Map<String,File>> clazz2names;
+        // if no path is defined, the paths are directly defined at the objects
+        // to import
+        if ((paths == null) || paths.isEmpty())  {
+            clazz2names = new HashMap<TypeDef_mxJPO,Map<String,File>>();
+            for (final Entry<TypeDef_mxJPO,Set<String>> entry : this.clazz2matches.entrySet())  {
+                // first get all matching files
+                final Set<File> allFiles = new HashSet<File>();
+                for (final String pathStr : entry.getValue())  {
+                    final File pathFile = new File(pathStr).getAbsoluteFile();
+                    final Path parent = pathFile.getParentFile().toPath().normalize();
+                    final WildcardMatcher_mxJPO matcher = WildcardMatcher_mxJPO.compile(pathFile.getName());
+                    for (final File file : _files)  {
+                        if (file.getAbsoluteFile().toPath().normalize().startsWith(parent) && matcher.match(file.getName()))  {
+                            allFiles.add(file);
                         }
                     }
-                    if (allowed)  {
-                        files.put(fileEntry.getKey(), fileEntry.getValue());
-                    }
                 }
-                ret.put(entry.getKey(), files);
-            } else  {
-                ret.put(entry.getKey(), entry.getValue());
+                // get all matching files depending on the update classes
+                clazz2names.put(entry.getKey(), entry.getKey().matchFileNames(_paramCache, allFiles));
             }
+        // path parameter is defined
+        } else  {
+            clazz2names = this.matchFiles(_paramCache, _files);
         }
 
+        final Map<TypeDef_mxJPO,Map<String,File>> ret = this.removeIgnored(clazz2names);
+
+        _paramCache.getStatistics().record(Phase.FILE_SCAN, start);
+
         return ret;
     }
 
     /**
-     * Evaluates depending on given path all files in the sub directories.
+     * Reads the list of CI files from <code>_fileList</code> (or from the
+     * standard input if <code>_fileList</code> is <code>-</code>). Each line
+     * defines one CI file; relative paths are evaluated from the current
+     * directory. Not existing files, files outside of the paths (if the
+     * path parameter is defined) and ignored files are skipped. Ignored
+     * directories are only checked below the path of the CI file (or below
+     * the current directory if the path parameter is not defined).
      *
-     * @param _path         path for which the files are searched
-     * @param _ignorePaths  match for ignored paths for which files are not
-     *                      returned
-     * @param _ignoreFiles  match for ignored files which are not returned
-     * @return set of all found files
-     * TODO performance improvement needed if for given path already all files
-     *       are evaluated
+     * @param _paramCache       parameter cache
+     * @param _fileList         path of the file list or <code>-</code>
+     * @return set of all CI files of the list
+     * @throws IOException if the file list could not be read
      */
-    private Set<File> getAllFiles(final File _path,
-                                  final Collection<String> _ignorePaths,
-                                  final Collection<String> _ignoreFiles)
+    public Set<File> readFileList(final ParameterCache_mxJPO _paramCache,
+                                  final String _fileList)
+        throws IOException
     {
-        final Set<File> ret = new HashSet<File>();
+        final Collection<String> ignoreFiles = _paramCache.getValueList(ValueKeys.PathIgnoreFile);
+        final Collection<String> ignorePaths = _paramCache.getValueList(ValueKeys.PathIgnorePath);
+        final Collection<String> paths       = _paramCache.getValueList(ValueKeys.Path);
+        final WildcardMatcher_mxJPO ignoreFileMatcher = WildcardMatcher_mxJPO.compile((ignoreFiles != null) ? ignoreFiles : Collections.<String>emptyList());
+        final WildcardMatcher_mxJPO ignorePathMatcher = WildcardMatcher_mxJPO.compile((ignorePaths != null) ? ignorePaths : Collections.<String>emptyList());
+        final Path curDir = new File("").getAbsoluteFile().toPath().normalize();
+        final List<Path> roots = new ArrayList<Path>();
+        if (paths != null)  {
+            for (final String path : paths)  {
+                roots.add(new File(path).getAbsoluteFile().toPath().normalize());
+            }
+        }
 
-        if (_path.isDirectory())  {
-            for (final File file : _path.listFiles())  {
-                if (file.isDirectory())  {
-                    boolean allowed = true;
-                    for (final String match : _ignorePaths)  {
-                        if (StringUtil_mxJPO.match(file.getName(), match))  {
-                            allowed = false;
+        final Set<File> ret = new HashSet<File>();
+        final boolean stdin = "-".equals(_fileList);
+        final BufferedReader reader = new BufferedReader(stdin
+                ? new InputStreamReader(System.in, "UTF-8")
+                : new InputStreamReader(new FileInputStream(_fileList), "UTF-8"));
+        try  {
+            String line = reader.readLine();
+            while (line != null)  {
+                final String fileName = line.trim();
+                if (!fileName.isEmpty())  {
+                    final Path filePath = new File(fileName).getAbsoluteFile().toPath().normalize();
+                    // path relative to the root path (or current directory if no paths are defined)
+                    Path relPath = null;
+                    if (roots.isEmpty())  {
+                        relPath = filePath.startsWith(curDir) ? curDir.relativize(filePath) : filePath.getFileName();
+                    }
+                    for (final Path root : roots)  {
+                        if (filePath.startsWith(root))  {
+                            relPath = root.relativize(filePath);
                             break;
                         }
                     }
-                    if (allowed)  {
-                        ret.addAll(this.getAllFiles(file, _ignorePaths, _ignoreFiles));
+                    // check ignored directories
+                    boolean ignored = (relPath == null);
+                    for (int idx = 0; !ignored && (idx < (relPath.getNameCount() - 1)); idx++)  {
+                        ignored = ignorePathMatcher.match(relPath.getName(idx).toString());
                     }
-                } else  {
-                    boolean allowed = true;
-                    for (final String match : _ignoreFiles)  {
-                        if (StringUtil_mxJPO.match(file.getName(), match))  {
-                            allowed = false;
-                            break;
-                        }
+                    if (ignored)  {
+                        _paramCache.logDebug("file '" + fileName + "' of file list is outside of the paths or ignored");
+                    } else if (!filePath.toFile().isFile())  {
+                        _paramCache.logDebug("file '" + fileName + "' of file list does not exist");
+                    } else if (!ignoreFileMatcher.match(filePath.getFileName().toString()))  {
+                        ret.add(filePath.toFile());
                     }
-                    if (allowed)  {
-                        ret.add(file);
+                }
+                line = reader.readLine();
+            }
+        } finally  {
+            if (!stdin)  {
+                reader.close();
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Classifies all <code>_files</code> within one pass to the update classes
+     * and evaluates the matching names depending on the update classes.
+     *
+     * @param _paramCache       parameter cache
+     * @param _files            files to match
+     * @return map of update classes and the depending files with their names
+     * @throws Exception if match for the files failed
+     */
+    protected Map<TypeDef_mxJPO,Map<String,File>> matchFiles(final ParameterCache_mxJPO _paramCache,
+                                                             final Collection<File> _files)
+        throws Exception
+    {
+        final Map<TypeDef_mxJPO,Map<String,File>> ret = new HashMap<TypeDef_mxJPO,Map<String,File>>();
+        // classify all files within one pass to the update classes
+        final Map<TypeDef_mxJPO,Set<File>> classified = new FileNamesClassifier_mxJPO(_paramCache, this.clazz2matches.keySet()).classify(_files);
+        // get all matching files depending on the update classes
+        for (final Entry<TypeDef_mxJPO,Set<String>> entry : this.clazz2matches.entrySet())  {
+            ret.put(entry.getKey(), entry.getKey().matchFileNames(_paramCache, classified.get(entry.getKey()), entry.getValue()));
+        }
+        return ret;
+    }
+
+    /**
+     * Removes the ignored matches from <code>_clazz2names</code>.
+     *
+     * @param _clazz2names      map of update classes and the depending files
+     *                          with their names
+     * @return map of update classes and the depending files with their names
+     *         without ignored matches
+     */
+    protected Map<TypeDef_mxJPO,Map<String,File>> removeIgnored(final Map<TypeDef_mxJPO,Map<String,File>> _clazz2names)
+    {
+        final Map<TypeDef_mxJPO,Map<String,File>> ret = new HashMap<TypeDef_mxJPO,Map<String,File>>();
+        for (final Entry<TypeDef_mxJPO,Map<String,File>> entry : _clazz2names.entrySet())  {
+            final Collection<String> matchOpps = this.clazz2matchesOpp.get(entry.getKey());
+            if ((matchOpps != null) && !matchOpps.isEmpty())  {
+                final WildcardMatcher_mxJPO matcherOpps = WildcardMatcher_mxJPO.compile(matchOpps);
+                final SortedMap<String,File> files = new TreeMap<String,File>();
+                for (final Map.Entry<String,File> fileEntry : entry.getValue().entrySet())  {
+                    if (!matcherOpps.match(fileEntry.getKey()))  {
+                        files.put(fileEntry.getKey(), fileEntry.getValue());
                     }
                 }
+                ret.put(entry.getKey(), files);
+            } else  {
+                ret.put(entry.getKey(), entry.getValue());
             }
         }
         return ret;
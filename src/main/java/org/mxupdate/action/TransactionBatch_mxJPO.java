@@ -0,0 +1,292 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.action;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mxupdate.typedef.EMxAdmin_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Groups the work for multiple CI's into one transaction. A transaction is
+ * committed if {@link ValueKeys#ParamTransactionBatchSize} CI's are
+ * executed or {@link ValueKeys#ParamTransactionBatchTime} seconds are
+ * elapsed since the start of the transaction.<br/>
+ * Each work within a transaction batch logs into an own worker parameter
+ * cache. The log is appended after the commit of the transaction. If a work
+ * or the commit failed, the transaction is aborted and each work of the
+ * batch is executed again in its own transaction (so that one failed CI does
+ * not roll back the other CI's of the batch).<br/>
+ * If no batching is defined or a transaction is already active, the work is
+ * executed directly.<br/>
+ * If {@link ValueKeys#ParamContinueOnError} is set, batching is disabled,
+ * because failed works are then only logged. Such a failed work would be
+ * committed partially within the transaction batch and could not be executed
+ * again in an own transaction.
+ *
+ * @author The MxUpdate Team
+ */
+class TransactionBatch_mxJPO
+{
+    /** Parameter cache. */
+    private final ParameterCache_mxJPO paramCache;
+    /** Maximum number of CI's within one transaction. */
+    private final int maxSize;
+    /** Maximum time in milliseconds of one transaction (or 0 if not limited). */
+    private final long maxTime;
+    /** Works of current open transaction batch. */
+    private final List<Pending> pendings = new ArrayList<>();
+    /** Start time of current open transaction batch. */
+    private long batchStart;
+
+    /** Number of CI's executed within transaction batches. */
+    private int countCIs;
+    /** Number of committed transaction batches. */
+    private int countCommits;
+    /** Number of failed transaction batches. */
+    private int countFailed;
+    /** Needed time in nanoseconds for all commits of transaction batches. */
+    private long commitTime;
+
+    /**
+     * Initializes the transaction batch.
+     *
+     * @param _paramCache   parameter cache
+     */
+    TransactionBatch_mxJPO(final ParameterCache_mxJPO _paramCache)
+    {
+        this.paramCache = _paramCache;
+        if (_paramCache.getValueBoolean(ValueKeys.ParamContinueOnError))  {
+            this.maxTime = 0;
+            this.maxSize = 1;
+        } else  {
+            final Integer size = _paramCache.getValueInteger(ValueKeys.ParamTransactionBatchSize);
+            final Integer time = _paramCache.getValueInteger(ValueKeys.ParamTransactionBatchTime);
+            this.maxTime = ((time != null) && (time > 0)) ? time * 1000L : 0;
+            this.maxSize = ((size != null) && (size > 1)) ? size : ((this.maxTime > 0) ? Integer.MAX_VALUE : 1);
+        }
+    }
+
+    /**
+     * Returns the maximum number of CI's within one transaction.
+     *
+     * @return maximum number of CI's within one transaction
+     */
+    int getMaxSize()
+    {
+        return this.maxSize;
+    }
+
+    /**
+     * Executes given <code>_work</code> within current transaction batch.
+     *
+     * @param _work     work to execute
+     * @throws Exception if the work failed (also if executed again in an own
+     *                   transaction)
+     */
+    void execute(final Work _work)
+        throws Exception
+    {
+        final Context context = this.paramCache.getContext();
+
+        if ((this.maxSize <= 1) || (this.pendings.isEmpty() && context.isTransactionActive()))  {
+            _work.execute(this.paramCache);
+            _work.committed();
+        } else  {
+            if (this.pendings.isEmpty())  {
+                context.start(true);
+                this.batchStart = System.currentTimeMillis();
+            }
+            final Pending pending = new Pending(_work, new ParameterCache_mxJPO(this.paramCache, context));
+            this.pendings.add(pending);
+            boolean failed = true;
+            try  {
+                _work.execute(pending.paramCache);
+                failed = false;
+            } catch (final Exception e)  {
+                this.paramCache.logTrace("transaction batch failed: " + e.toString());
+            }
+            if (failed)  {
+                this.retry();
+            } else if ((this.pendings.size() >= this.maxSize)
+                    || ((this.maxTime > 0) && ((System.currentTimeMillis() - this.batchStart) >= this.maxTime)))  {
+                this.commit();
+            }
+        }
+    }
+
+    /**
+     * Commits current open transaction batch. If the commit failed, all works
+     * of the transaction batch are executed again in an own transaction.
+     *
+     * @throws Exception if a work failed within the execution in an own
+     *                   transaction
+     */
+    void commit()
+        throws Exception
+    {
+        if (!this.pendings.isEmpty())  {
+            final long start = System.nanoTime();
+            boolean failed = true;
+            try  {
+                this.paramCache.getContext().commit();
+                failed = false;
+            } catch (final MatrixException e)  {
+                this.paramCache.logTrace("commit of transaction batch failed: " + e.toString());
+            }
+            if (failed)  {
+                this.retry();
+            } else  {
+                EMxAdmin_mxJPO.commitListCache(this.paramCache);
+                this.commitTime += System.nanoTime() - start;
+                this.countCommits++;
+                this.countCIs += this.pendings.size();
+                for (final Pending pending : this.pendings)  {
+                    this.paramCache.appendLog(pending.paramCache);
+                    pending.work.committed();
+                }
+                this.pendings.clear();
+            }
+        }
+    }
+
+    /**
+     * Aborts current open transaction batch (if not committed). The method is
+     * called to clean up if the execution was stopped by an exception.
+     *
+     * @throws MatrixException if abort failed
+     */
+    void abort()
+        throws MatrixException
+    {
+        if (!this.pendings.isEmpty())  {
+            this.pendings.clear();
+            if (this.paramCache.getContext().isTransactionActive())  {
+                this.paramCache.getContext().abort();
+            }
+            EMxAdmin_mxJPO.abortListCache(this.paramCache);
+        }
+    }
+
+    /**
+     * Aborts current transaction batch and executes each work of the batch
+     * again in an own transaction.
+     *
+     * @throws Exception if a work failed within the execution in an own
+     *                   transaction
+     */
+    private void retry()
+        throws Exception
+    {
+        final List<Pending> retries = new ArrayList<>(this.pendings);
+        this.pendings.clear();
+        this.countFailed++;
+        if (this.paramCache.getContext().isTransactionActive())  {
+            this.paramCache.getContext().abort();
+        }
+        EMxAdmin_mxJPO.abortListCache(this.paramCache);
+        this.paramCache.logDebug("transaction batch with " + retries.size() + " CI(s) failed, retry each CI in own transaction");
+        for (final Pending pending : retries)  {
+            pending.work.execute(this.paramCache);
+            pending.work.committed();
+        }
+    }
+
+    /**
+     * Adds the statistics of the transaction batches of <code>_batch</code>
+     * (e.g. of a parallel worker) to the statistics of this transaction
+     * batch, so that the statistics of all transaction batches are logged
+     * once.
+     *
+     * @param _batch    transaction batch with the statistics to add
+     */
+    void addStatistics(final TransactionBatch_mxJPO _batch)
+    {
+        this.countCIs += _batch.countCIs;
+        this.countCommits += _batch.countCommits;
+        this.countFailed += _batch.countFailed;
+        this.commitTime += _batch.commitTime;
+    }
+
+    /**
+     * Logs the statistics of the transaction batches with the estimated
+     * saved commit time. The saved commit time is estimated from the average
+     * commit time for the CI's which are not committed separately.
+     */
+    void logStatistics()
+    {
+        if (this.countCommits > 0)  {
+            final long avgCommitTime = this.commitTime / this.countCommits;
+            this.paramCache.logInfo("transaction batches: " + this.countCIs + " CI(s) committed within "
+                    + this.countCommits + " transaction(s) (" + this.countFailed + " failed batch(es)), "
+                    + "commit time " + (this.commitTime / 1000000L) + "ms, "
+                    + "estimated saved commit time " + ((avgCommitTime * (this.countCIs - this.countCommits)) / 1000000L) + "ms");
+        }
+    }
+
+    /**
+     * Work of one CI executed within a transaction batch.
+     */
+    abstract static class Work
+    {
+        /**
+         * Executes the work for one CI. The work could be executed twice, if
+         * the transaction batch failed. If no transaction is active, the work
+         * itself must start and commit the transaction.
+         *
+         * @param _paramCache   parameter cache used for the execution
+         * @throws Exception if the work failed
+         */
+        abstract void execute(final ParameterCache_mxJPO _paramCache)
+            throws Exception;
+
+        /**
+         * Called after the work is committed.
+         */
+        void committed()
+        {
+        }
+    }
+
+    /**
+     * Executed but not committed work within a transaction batch.
+     */
+    private static final class Pending
+    {
+        /** Executed work. */
+        private final Work work;
+        /** Worker parameter cache with the log of the work. */
+        private final ParameterCache_mxJPO paramCache;
+
+        /**
+         * Initializes the pending work.
+         *
+         * @param _work         executed work
+         * @param _paramCache   worker parameter cache
+         */
+        private Pending(final Work _work,
+                        final ParameterCache_mxJPO _paramCache)
+        {
+            this.work = _work;
+            this.paramCache = _paramCache;
+        }
+    }
+}
@@ -18,19 +18,36 @@ package org.mxupdate.action;
 import java.io.File;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mxupdate.mapping.PropertyDef_mxJPO;
+import org.mxupdate.typedef.EMxAdmin_mxJPO;
 import org.mxupdate.typedef.TypeDef_mxJPO;
 import org.mxupdate.update.AbstractObject_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
 import org.mxupdate.update.util.StringUtil_mxJPO;
+import org.mxupdate.util.FileUtils_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO.MergedMqlException;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
 
 /**
  * Implements the update action used within MxUpdate.
@@ -43,6 +60,11 @@ public class UpdateAction_mxJPO
     private final ParameterCache_mxJPO paramCache;
     /** Selected files / CI objects. */
     private final SelectTypeDefUtil_mxJPO selects;
+    /**
+     * CI files with unchanged content whose MX objects are modified since
+     * the last update recorded in the manifest.
+     */
+    private final Set<File> modifiedFiles = new HashSet<>();
 
     /**
      * Initializes the action.
@@ -58,14 +80,21 @@ public class UpdateAction_mxJPO
     }
 
     /**
-     * Executes the action.
+     * Executes the action. If a file list is defined with
+     * {@link ValueKeys#PathFileList}, only the CI files of the list are
+     * updated (and the paths are not scanned).
      *
      * @throws Exception if execute failed
      */
     public void execute()
         throws Exception
     {
-        this.update(this.paramCache, this.selects.evalMatches(this.paramCache));
+        final String fileList = this.paramCache.getValueString(ValueKeys.PathFileList);
+        if ((fileList != null) && !fileList.isEmpty())  {
+            this.update(this.paramCache, this.selects.evalMatches(this.paramCache, this.selects.readFileList(this.paramCache, fileList)));
+        } else  {
+            this.update(this.paramCache, this.selects.evalMatches(this.paramCache));
+        }
     }
 
     /**
@@ -79,96 +108,711 @@ public class UpdateAction_mxJPO
                       final Map<TypeDef_mxJPO,Map<String,File>> _clazz2names)
        throws Exception
    {
-       // fetch existing CI's
-       final Map<TypeDef_mxJPO,Set<String>> existingNames = this.getExistingCIs(_paramCache, _clazz2names.keySet());
-
-       // create if needed (and not in the list of existing objects)
-       this.create(_paramCache, existingNames, _clazz2names);
+       // read manifest and remove unchanged CI's
+       final String manifestPath = _paramCache.getValueString(ValueKeys.UpdateManifest);
+       final UpdateManifest_mxJPO manifest = ((manifestPath != null) && !manifestPath.isEmpty())
+               ? new UpdateManifest_mxJPO(new File(manifestPath)).read()
+               : null;
+       // the manifest needs the file hashes to check for successful updates
+       if ((manifest != null) && !_paramCache.getValueBoolean(ValueKeys.UpdateCheckFileHash))  {
+           _paramCache.logDebug("file hash check is enabled because of the update manifest");
+           _paramCache.defineValueBoolean(ValueKeys.UpdateCheckFileHash.name(), true);
+       }
+       this.modifiedFiles.clear();
+       final Map<TypeDef_mxJPO,Map<String,File>> clazz2names = (manifest != null)
+               ? this.removeUnchanged(_paramCache, manifest, _clazz2names)
+               : _clazz2names;
 
-       // update
+       // pool of MX contexts for the parallel workers
+       final Integer workers = _paramCache.getValueInteger(ValueKeys.UpdateParallelWorkers);
+       final ContextPool_mxJPO pool = ((workers != null) && (workers > 1) && !clazz2names.isEmpty())
+               ? new ContextPool_mxJPO(_paramCache, this, workers)
+               : null;
        final List<AbstractObject_mxJPO<?>> compiles = new ArrayList<>();
-       for (final TypeDef_mxJPO typeDef : _paramCache.getMapping().getAllTypeDefsSorted())  {
-           final Map<String,File> clazzMap = _clazz2names.get(typeDef);
-           if (clazzMap != null)  {
-               final Set<String> existings = existingNames.get(typeDef);
+       final TransactionBatch_mxJPO batch = new TransactionBatch_mxJPO(_paramCache);
+       try  {
+           // fetch existing CI's
+           final Map<TypeDef_mxJPO,Set<String>> existingNames = this.getExistingCIs(_paramCache, pool, clazz2names.keySet());
 
-               for (final Entry<String,File> fileEntry : clazzMap.entrySet())  {
-                   _paramCache.logInfo("check " + typeDef.getLogging() + " '" + fileEntry.getKey() + "'");
-
-                   final boolean update;
-                   if (_paramCache.getValueBoolean(ValueKeys.UpdateCheckFileDate))  {
-                       final AbstractObject_mxJPO<?> instance = typeDef.newTypeInstance(this.paramCache, fileEntry.getKey());
-                       final Date fileDate = new Date(fileEntry.getValue().lastModified());
-                       final String instDateString;
-                       if (existings.contains(fileEntry.getKey()))  {
-                           instDateString = instance.getPropValue(_paramCache, PropertyDef_mxJPO.FILEDATE);
-                       } else  {
-                           instDateString = null;
-                       }
-                       Date instDate;
-                       if ((instDateString == null) || instDateString.isEmpty())  {
-                           instDate = null;
-                       } else  {
-                           try {
-                               instDate = StringUtil_mxJPO.parseFileDate(_paramCache, instDateString);
-                           } catch (final ParseException e) {
-                               instDate = null;
-                           }
-                       }
-                       if (fileDate.equals(instDate))  {
-                           update = false;
-                       } else  {
-                           update = true;
-                           _paramCache.logDebug("    - update to version from " + fileDate);
-                       }
+           // create if needed (and not in the list of existing objects)
+           this.create(_paramCache, existingNames, clazz2names);
+
+           // fetch file dates / hashes of existing CI's
+           final Map<TypeDef_mxJPO,Map<PropertyDef_mxJPO,Map<String,String>>> propValues = this.getPropValues(_paramCache, existingNames);
+
+           // update
+           if (pool != null)  {
+               this.updateParallel(_paramCache, batch, pool, existingNames, propValues, clazz2names, compiles);
+           } else  {
+               this.updateSerial(_paramCache, batch, _paramCache.getMapping().getAllTypeDefsSorted(), existingNames, propValues, clazz2names, compiles);
+           }
+       } finally  {
+           if (pool != null)  {
+               pool.close(_paramCache);
+           }
+       }
+       batch.logStatistics();
+
+       // compile
+       this.compile(_paramCache, compiles);
+
+       // write manifest
+       if (manifest != null)  {
+           this.updateManifest(_paramCache, manifest, clazz2names);
+           manifest.write();
+       }
+   }
+
+   /**
+    * Removes all CI's from <code>_clazz2names</code> which are unchanged
+    * since the last update recorded in the <code>_manifest</code>. A CI is
+    * unchanged if the content hash of the file, the type definition, the MX
+    * name and the modified date of the MX object are the same as recorded.
+    * The modified dates are only evaluated for type definitions with CI files
+    * with unchanged content hash (one MQL statement per type definition). CI
+    * files with unchanged content hash, but a modified MX object are stored
+    * in {@link #modifiedFiles}, so that they are updated although the stored
+    * file hash is equal.
+    *
+    * @param _paramCache   parameter cache
+    * @param _manifest     manifest of the last update
+    * @param _clazz2names  depending on the type definition the related files
+    *                      with MX name which must be updated
+    * @return depending on the type definition the related files with MX name
+    *         which are changed and must be updated
+    * @throws Exception if the check failed
+    */
+   protected Map<TypeDef_mxJPO,Map<String,File>> removeUnchanged(final ParameterCache_mxJPO _paramCache,
+                                                                 final UpdateManifest_mxJPO _manifest,
+                                                                 final Map<TypeDef_mxJPO,Map<String,File>> _clazz2names)
+       throws Exception
+   {
+       final Map<TypeDef_mxJPO,Map<String,File>> ret = new HashMap<>();
+       for (final Entry<TypeDef_mxJPO,Map<String,File>> entry : _clazz2names.entrySet())  {
+           final TypeDef_mxJPO typeDef = entry.getKey();
+           final Map<String,File> changed = new TreeMap<>();
+           final Map<String,String> hashes = new HashMap<>();
+           for (final Entry<String,File> fileEntry : entry.getValue().entrySet())  {
+               final String hash = _manifest.getHash(fileEntry.getValue());
+               if ((hash != null) && FileUtils_mxJPO.isContentHashEqual(fileEntry.getValue(), hash))  {
+                   hashes.put(fileEntry.getKey(), hash);
+               } else  {
+                   changed.put(fileEntry.getKey(), fileEntry.getValue());
+               }
+           }
+           if (!hashes.isEmpty())  {
+               final Map<String,String> modifieds = typeDef.evalModified(_paramCache);
+               for (final Entry<String,String> hashEntry : hashes.entrySet())  {
+                   final File file = entry.getValue().get(hashEntry.getKey());
+                   final String modified = (modifieds != null) ? modifieds.get(hashEntry.getKey()) : null;
+                   if ((modified != null) && _manifest.isUnchanged(file, hashEntry.getValue(), typeDef.getName(), hashEntry.getKey(), modified))  {
+                       _paramCache.logDebug("unchanged " + typeDef.getLogging() + " '" + hashEntry.getKey() + "'");
                    } else  {
-                       update = true;
-                       _paramCache.logDebug("    - update");
+                       changed.put(hashEntry.getKey(), file);
+                       this.modifiedFiles.add(file);
                    }
-                   // execute update
-                   if (update)  {
-                       boolean commit = false;
-                       final boolean transActive = _paramCache.getContext().isTransactionActive();
-                       try  {
-                           if (!transActive)  {
-                               _paramCache.getContext().start(true);
+               }
+           }
+           if (!changed.isEmpty())  {
+               ret.put(typeDef, changed);
+           }
+       }
+       return ret;
+   }
+
+   /**
+    * Updates the <code>_manifest</code> for all CI's of
+    * <code>_clazz2names</code>. A CI is only recorded if the stored file
+    * hash of the MX object is equal to the content of the file (means that
+    * the update was successful); otherwise the CI is removed from the
+    * manifest. The stored file hash is also recorded in the manifest, so
+    * that referenced code files of programs and pages are checked, too.
+    *
+    * @param _paramCache   parameter cache
+    * @param _manifest     manifest to update
+    * @param _clazz2names  depending on the type definition the related files
+    *                      with MX name which are updated
+    * @throws Exception if the manifest could not be updated
+    */
+   protected void updateManifest(final ParameterCache_mxJPO _paramCache,
+                                 final UpdateManifest_mxJPO _manifest,
+                                 final Map<TypeDef_mxJPO,Map<String,File>> _clazz2names)
+       throws Exception
+   {
+       for (final Entry<TypeDef_mxJPO,Map<String,File>> entry : _clazz2names.entrySet())  {
+           final TypeDef_mxJPO typeDef = entry.getKey();
+           final Map<String,String> hashes = typeDef.evalPropValues(_paramCache, PropertyDef_mxJPO.FILEHASH);
+           final Map<String,String> modifieds = typeDef.evalModified(_paramCache);
+           for (final Entry<String,File> fileEntry : entry.getValue().entrySet())  {
+               final String hash = (hashes != null) ? hashes.get(fileEntry.getKey()) : null;
+               final String modified = (modifieds != null) ? modifieds.get(fileEntry.getKey()) : null;
+               if ((hash != null) && (modified != null) && FileUtils_mxJPO.isContentHashEqual(fileEntry.getValue(), hash))  {
+                   _manifest.put(fileEntry.getValue(), hash, typeDef.getName(), fileEntry.getKey(), modified);
+               } else  {
+                   _manifest.remove(fileEntry.getValue());
+               }
+           }
+       }
+   }
+
+   /**
+    * Updates one CI with given <code>_name</code> from <code>_file</code>, if
+    * the {@link #isUpdateRequired update is required}. The update itself is
+    * done within a transaction (if no transaction is already active).
+    *
+    * @param _paramCache   parameter cache (with the used MX context)
+    * @param _typeDef      type definition of the CI
+    * @param _create       <i>true</i> if the CI was created within this
+    *                      update
+    * @param _propValues   pre-fetched property values of all existing CI's
+    *                      of the type definition
+    * @param _name         MX name of the CI
+    * @param _file         update file of the CI
+    * @return instance of the CI which must be compiled; <code>null</code> if
+    *         not updated or no compile is required
+    * @throws Exception if update failed
+    */
+   protected AbstractObject_mxJPO<?> update(final ParameterCache_mxJPO _paramCache,
+                                            final TypeDef_mxJPO _typeDef,
+                                            final boolean _create,
+                                            final Map<PropertyDef_mxJPO,Map<String,String>> _propValues,
+                                            final String _name,
+                                            final File _file)
+       throws Exception
+   {
+       AbstractObject_mxJPO<?> ret = null;
+
+       _paramCache.logInfo("check " + _typeDef.getLogging() + " '" + _name + "'");
+
+       final boolean update = this.isUpdateRequired(_paramCache, _typeDef, _create, _propValues, _name, _file);
+
+       // execute update
+       if (update)  {
+           _paramCache.getStatistics().startCI(_typeDef, _name);
+           boolean commit = false;
+           final boolean transActive = _paramCache.getContext().isTransactionActive();
+           try  {
+               if (!transActive)  {
+                   _paramCache.getContext().start(true);
+               }
+               try  {
+                   _typeDef.update(_paramCache, _create, _name, _file);
+               } catch (final MergedMqlException e)  {
+                   if (transActive)  {
+                       throw e;
+                   }
+                   this.updateWithoutMerge(_paramCache, _typeDef, _create, _name, _file);
+               }
+               if (!transActive)  {
+                   _paramCache.getContext().commit();
+                   EMxAdmin_mxJPO.commitListCache(_paramCache);
+               }
+               commit = true;
+               if (_paramCache.getValueBoolean(ValueKeys.Compile))  {
+                   ret = _typeDef.newTypeInstance(_paramCache, _name);
+               }
+           } finally  {
+               if (!commit && !transActive && _paramCache.getContext().isTransactionActive())  {
+                   _paramCache.getContext().abort();
+               }
+               if (!commit && !transActive)  {
+                   EMxAdmin_mxJPO.abortListCache(_paramCache);
+               }
+               _paramCache.getStatistics().endCI();
+           }
+       }
+       return ret;
+   }
+
+   /**
+    * Updates the CI again without merged MQL statements within a new
+    * transaction. The method is called if a merged MQL statement failed
+    * within the transaction of the CI, so that the error points to the
+    * failed MQL line. The current transaction is aborted before, because the
+    * MQL lines could not be executed twice within the same transaction.
+    *
+    * @param _paramCache   parameter cache (with the used MX context)
+    * @param _typeDef      type definition of the CI
+    * @param _create       <i>true</i> if the CI was created within this
+    *                      update
+    * @param _name         MX name of the CI
+    * @param _file         update file of the CI
+    * @throws Exception if update failed
+    */
+   protected void updateWithoutMerge(final ParameterCache_mxJPO _paramCache,
+                                     final TypeDef_mxJPO _typeDef,
+                                     final boolean _create,
+                                     final String _name,
+                                     final File _file)
+       throws Exception
+   {
+       _paramCache.logDebug("    - merged MQL statement failed, update again with single MQL statements");
+       _paramCache.getContext().abort();
+       EMxAdmin_mxJPO.abortListCache(_paramCache);
+       _paramCache.getContext().start(true);
+       final Integer mergeLines = _paramCache.getValueInteger(ValueKeys.UpdateMqlMergeLines);
+       _paramCache.defineValueInteger(ValueKeys.UpdateMqlMergeLines.name(), 1);
+       try  {
+           _typeDef.update(_paramCache, _create, _name, _file);
+       } finally  {
+           _paramCache.defineValueInteger(ValueKeys.UpdateMqlMergeLines.name(), mergeLines);
+       }
+   }
+
+   /**
+    * Checks if the update of the CI is required.
+    * <ul>
+    * <li>If the MX object is modified since the last update recorded in the
+    *     manifest (see {@link #modifiedFiles}), the update is required.</li>
+    * <li>Otherwise if parameter {@link ValueKeys#UpdateCheckFileHash} is set
+    *     and a file hash is stored for the CI, the update is only required if
+    *     the stored file hash is different to the content hash of the
+    *     file.</li>
+    * <li>Otherwise if parameter {@link ValueKeys#UpdateCheckFileDate} is set,
+    *     the update is only required if the file date of the CI is different
+    *     to the last modified date of the file.</li>
+    * </ul>
+    *
+    * @param _paramCache   parameter cache (with the used MX context)
+    * @param _typeDef      type definition of the CI
+    * @param _create       <i>true</i> if the CI was created within this
+    *                      update
+    * @param _propValues   pre-fetched property values of all existing CI's
+    *                      of the type definition
+    * @param _name         MX name of the CI
+    * @param _file         update file of the CI
+    * @return <i>true</i> if the update is required; otherwise <i>false</i>
+    * @throws Exception if the check failed
+    */
+   protected boolean isUpdateRequired(final ParameterCache_mxJPO _paramCache,
+                                      final TypeDef_mxJPO _typeDef,
+                                      final boolean _create,
+                                      final Map<PropertyDef_mxJPO,Map<String,String>> _propValues,
+                                      final String _name,
+                                      final File _file)
+       throws Exception
+   {
+       Boolean update = null;
+
+       if (this.modifiedFiles.contains(_file))  {
+           update = true;
+           _paramCache.logDebug("    - update because MX object is modified since last update");
+       }
+
+       if ((update == null) && _paramCache.getValueBoolean(ValueKeys.UpdateCheckFileHash) && !_create)  {
+           final String instHash = this.getPropValue(_paramCache, _typeDef, _propValues, PropertyDef_mxJPO.FILEHASH, _name);
+           if ((instHash != null) && !instHash.isEmpty())  {
+               if (FileUtils_mxJPO.isContentHashEqual(_file, instHash))  {
+                   update = false;
+               } else  {
+                   update = true;
+                   _paramCache.logDebug("    - update because file hash is changed");
+               }
+           }
+       }
+
+       if ((update == null) && _paramCache.getValueBoolean(ValueKeys.UpdateCheckFileDate))  {
+           final Date fileDate = new Date(_file.lastModified());
+           final String instDateString = _create
+                   ? null
+                   : this.getPropValue(_paramCache, _typeDef, _propValues, PropertyDef_mxJPO.FILEDATE, _name);
+           Date instDate;
+           if ((instDateString == null) || instDateString.isEmpty())  {
+               instDate = null;
+           } else  {
+               try {
+                   instDate = StringUtil_mxJPO.parseFileDate(_paramCache, instDateString);
+               } catch (final ParseException e) {
+                   instDate = null;
+               }
+           }
+           if (fileDate.equals(instDate))  {
+               update = false;
+           } else  {
+               update = true;
+               _paramCache.logDebug("    - update to version from " + fileDate);
+           }
+       }
+
+       if (update == null)  {
+           update = true;
+           _paramCache.logDebug("    - update");
+       }
+
+       return update;
+   }
+
+   /**
+    * Returns the value of property <code>_prop</code> for the CI. If the
+    * property values are pre-fetched, the value is taken from
+    * <code>_propValues</code>; otherwise the value is read from the CI
+    * itself.
+    *
+    * @param _paramCache   parameter cache (with the used MX context)
+    * @param _typeDef      type definition of the CI
+    * @param _propValues   pre-fetched property values of all existing CI's
+    *                      of the type definition
+    * @param _prop         property definition
+    * @param _name         MX name of the CI
+    * @return value of the property
+    * @throws Exception if the value could not be read
+    */
+   protected String getPropValue(final ParameterCache_mxJPO _paramCache,
+                                 final TypeDef_mxJPO _typeDef,
+                                 final Map<PropertyDef_mxJPO,Map<String,String>> _propValues,
+                                 final PropertyDef_mxJPO _prop,
+                                 final String _name)
+       throws Exception
+   {
+       final Map<String,String> values = (_propValues != null) ? _propValues.get(_prop) : null;
+       return (values != null)
+               ? values.get(_name)
+               : _typeDef.newTypeInstance(_paramCache, _name).getPropValue(_paramCache, _prop);
+   }
+
+   /**
+    * Updates the CI's of <code>_typeDefs</code> one after the other within
+    * {@link TransactionBatch_mxJPO transaction batches}.
+    *
+    * @param _paramCache       parameter cache
+    * @param _batch            transaction batch
+    * @param _typeDefs         sorted type definitions to update
+    * @param _existingNames    already existing names
+    * @param _propValues       pre-fetched property values of existing CI's
+    * @param _clazz2names      depending on the type definition the related
+    *                          files with MX name which must be updated
+    * @param _compiles         list of CI's which must be compiled
+    * @throws Exception if update failed
+    */
+   protected void updateSerial(final ParameterCache_mxJPO _paramCache,
+                               final TransactionBatch_mxJPO _batch,
+                               final Collection<TypeDef_mxJPO> _typeDefs,
+                               final Map<TypeDef_mxJPO,Set<String>> _existingNames,
+                               final Map<TypeDef_mxJPO,Map<PropertyDef_mxJPO,Map<String,String>>> _propValues,
+                               final Map<TypeDef_mxJPO,Map<String,File>> _clazz2names,
+                               final List<AbstractObject_mxJPO<?>> _compiles)
+       throws Exception
+   {
+       try  {
+           for (final TypeDef_mxJPO typeDef : _typeDefs)  {
+               final Map<String,File> clazzMap = _clazz2names.get(typeDef);
+               if (clazzMap != null)  {
+                   final Set<String> existings = _existingNames.get(typeDef);
+                   for (final Entry<String,File> fileEntry : clazzMap.entrySet())  {
+                       final boolean create = !existings.contains(fileEntry.getKey());
+                       _batch.execute(new TransactionBatch_mxJPO.Work() {
+                           /** Instance of the CI to compile. */
+                           private AbstractObject_mxJPO<?> compile;
+
+                           @Override()
+                           void execute(final ParameterCache_mxJPO _paramCache)
+                               throws Exception
+                           {
+                               this.compile = UpdateAction_mxJPO.this.update(
+                                       _paramCache, typeDef, create, _propValues.get(typeDef), fileEntry.getKey(), fileEntry.getValue());
                            }
-                           typeDef.update(_paramCache, !existings.contains(fileEntry.getKey()), fileEntry.getKey(), fileEntry.getValue());
-                           if (!transActive)  {
-                               _paramCache.getContext().commit();
+
+                           @Override()
+                           void committed()
+                           {
+                               if (this.compile != null)  {
+                                   _compiles.add(this.compile);
+                               }
                            }
-                           commit = true;
-                           if (_paramCache.getValueBoolean(ValueKeys.Compile))  {
-                               compiles.add(typeDef.newTypeInstance(this.paramCache, fileEntry.getKey()));
+                       });
+                   }
+               }
+           }
+           _batch.commit();
+       } finally  {
+           _batch.abort();
+       }
+   }
+
+   /**
+    * Updates the CI's with {@link ValueKeys#UpdateParallelWorkers parallel
+    * workers}. Each worker uses its own MX context from a
+    * {@link ContextPool_mxJPO pool} and its own worker parameter cache. The
+    * type definitions with the same {@link TypeDef_mxJPO#getOrderNo() order
+    * number} are one phase (e.g. policies after types and relationships,
+    * roles and groups before persons), the next phase is started after all
+    * CI's of the current phase are updated. The CI's of a phase are split
+    * into chunks; each chunk is updated from one worker within
+    * {@link TransactionBatch_mxJPO transaction batches}. Type definitions
+    * without order number are {@link #updateSerial updated serially} after
+    * all phases.<br/>
+    * The log of each chunk is appended in the same order as within a
+    * sequential update. If the update of a CI failed, the error is logged. If
+    * {@link ValueKeys#ParamContinueOnError} is not set, not already started
+    * updates are skipped and the first error is thrown after the current
+    * phase is finished.<br/>
+    * The statistics of the transaction batches of all workers are added to
+    * <code>_batch</code>.
+    *
+    * @param _paramCache       parameter cache
+    * @param _batch            transaction batch
+    * @param _pool             pool of the MX contexts for the workers
+    * @param _existingNames    already existing names
+    * @param _propValues       pre-fetched property values of existing CI's
+    * @param _clazz2names      depending on the type definition the related
+    *                          files with MX name which must be updated
+    * @param _compiles         list of CI's which must be compiled
+    * @throws Exception if update failed
+    */
+   protected void updateParallel(final ParameterCache_mxJPO _paramCache,
+                                 final TransactionBatch_mxJPO _batch,
+                                 final ContextPool_mxJPO _pool,
+                                 final Map<TypeDef_mxJPO,Set<String>> _existingNames,
+                                 final Map<TypeDef_mxJPO,Map<PropertyDef_mxJPO,Map<String,String>>> _propValues,
+                                 final Map<TypeDef_mxJPO,Map<String,File>> _clazz2names,
+                                 final List<AbstractObject_mxJPO<?>> _compiles)
+       throws Exception
+   {
+       final int workers = _pool.size();
+       final AtomicInteger threadIdx = new AtomicInteger();
+       final ExecutorService executor = Executors.newFixedThreadPool(workers, new ThreadFactory() {
+           @Override()
+           public Thread newThread(final Runnable _runnable)
+           {
+               final Thread thread = new Thread(_runnable, "MxUpdate Worker " + threadIdx.incrementAndGet());
+               thread.setDaemon(true);
+               return thread;
+           }
+       });
+
+       final List<TypeDef_mxJPO> serials = new ArrayList<>();
+       try  {
+           final AtomicBoolean failed = new AtomicBoolean(false);
+           final List<TypeDef_mxJPO> phase = new ArrayList<>();
+           for (final TypeDef_mxJPO typeDef : _paramCache.getMapping().getAllTypeDefsSorted())  {
+               if (_clazz2names.containsKey(typeDef))  {
+                   if (typeDef.getOrderNo() == Integer.MAX_VALUE)  {
+                       serials.add(typeDef);
+                   } else  {
+                       // new phase: update all CI's of previous phase
+                       if (!phase.isEmpty() && (phase.get(0).getOrderNo() != typeDef.getOrderNo()))  {
+                           this.updateParallelPhase(_paramCache, _batch, workers, _pool, executor, failed, phase, _existingNames, _propValues, _clazz2names, _compiles);
+                           phase.clear();
+                       }
+                       phase.add(typeDef);
+                   }
+               }
+           }
+           if (!phase.isEmpty())  {
+               this.updateParallelPhase(_paramCache, _batch, workers, _pool, executor, failed, phase, _existingNames, _propValues, _clazz2names, _compiles);
+           }
+       } finally  {
+           executor.shutdownNow();
+       }
+
+       this.updateSerial(_paramCache, _batch, serials, _existingNames, _propValues, _clazz2names, _compiles);
+   }
+
+   /**
+    * Updates all CI's of the type definitions of one <code>_phase</code>
+    * with parallel workers. The CI's are split into chunks so that each
+    * worker gets at minimum one chunk and a chunk is not larger than a
+    * {@link TransactionBatch_mxJPO transaction batch}.
+    *
+    * @param _paramCache       parameter cache
+    * @param _batch            transaction batch to which the statistics of
+    *                          the workers are added
+    * @param _workers          number of parallel workers
+    * @param _pool             pool of the MX contexts for the workers
+    * @param _executor         executor of the workers
+    * @param _failed           flag that an update failed and not already
+    *                          started updates must be skipped
+    * @param _phase            sorted type definitions of the phase
+    * @param _existingNames    already existing names
+    * @param _propValues       pre-fetched property values of existing CI's
+    * @param _clazz2names      depending on the type definition the related
+    *                          files with MX name which must be updated
+    * @param _compiles         list of CI's which must be compiled
+    * @throws Exception if the update of a CI failed and
+    *                   {@link ValueKeys#ParamContinueOnError} is not set
+    */
+   protected void updateParallelPhase(final ParameterCache_mxJPO _paramCache,
+                                      final TransactionBatch_mxJPO _batch,
+                                      final int _workers,
+                                      final ContextPool_mxJPO _pool,
+                                      final ExecutorService _executor,
+                                      final AtomicBoolean _failed,
+                                      final List<TypeDef_mxJPO> _phase,
+                                      final Map<TypeDef_mxJPO,Set<String>> _existingNames,
+                                      final Map<TypeDef_mxJPO,Map<PropertyDef_mxJPO,Map<String,String>>> _propValues,
+                                      final Map<TypeDef_mxJPO,Map<String,File>> _clazz2names,
+                                      final List<AbstractObject_mxJPO<?>> _compiles)
+       throws Exception
+   {
+       final boolean continueOnError = _paramCache.getValueBoolean(ValueKeys.ParamContinueOnError);
+
+       // all CI's of the phase in the order of a sequential update
+       final List<TypeDef_mxJPO> typeDefs = new ArrayList<>();
+       final List<Entry<String,File>> fileEntries = new ArrayList<>();
+       for (final TypeDef_mxJPO typeDef : _phase)  {
+           for (final Entry<String,File> fileEntry : _clazz2names.get(typeDef).entrySet())  {
+               typeDefs.add(typeDef);
+               fileEntries.add(fileEntry);
+           }
+       }
+       final int chunkSize = Math.max(1, Math.min(
+               _batch.getMaxSize(),
+               (fileEntries.size() + _workers - 1) / _workers));
+
+       final List<Future<WorkerResult>> futures = new ArrayList<>();
+       for (int chunkStart = 0; chunkStart < fileEntries.size(); chunkStart += chunkSize)  {
+           final int from = chunkStart;
+           final int to = Math.min(chunkStart + chunkSize, fileEntries.size());
+           futures.add(_executor.submit(new Callable<WorkerResult>() {
+               @Override()
+               public WorkerResult call()
+                   throws Exception
+               {
+                   WorkerResult ret = null;
+                   if (!_failed.get())  {
+                       final Context context = _pool.acquire();
+                       try  {
+                           final WorkerResult result = new WorkerResult(new ParameterCache_mxJPO(_paramCache, context));
+                           ret = result;
+                           final TransactionBatch_mxJPO batch = result.batch;
+                           try  {
+                               for (int idx = from; (idx < to) && !_failed.get(); idx++)  {
+                                   final TypeDef_mxJPO typeDef = typeDefs.get(idx);
+                                   final Entry<String,File> fileEntry = fileEntries.get(idx);
+                                   final boolean create = !_existingNames.get(typeDef).contains(fileEntry.getKey());
+                                   final String logging = typeDef.getLogging() + " '" + fileEntry.getKey() + "'";
+                                   result.current = logging;
+                                   try  {
+                                       batch.execute(new TransactionBatch_mxJPO.Work() {
+                                           /** Instance of the CI to compile. */
+                                           private AbstractObject_mxJPO<?> compile;
+
+                                           @Override()
+                                           void execute(final ParameterCache_mxJPO _paramCache)
+                                               throws Exception
+                                           {
+                                               // a failed transaction batch executes the CI's again
+                                               result.current = logging;
+                                               this.compile = UpdateAction_mxJPO.this.update(
+                                                       _paramCache, typeDef, create, _propValues.get(typeDef), fileEntry.getKey(), fileEntry.getValue());
+                                           }
+
+                                           @Override()
+                                           void committed()
+                                           {
+                                               if (this.compile != null)  {
+                                                   result.compiles.add(this.compile);
+                                               }
+                                           }
+                                       });
+                                   } catch (final Exception e)  {
+                                       result.exceptions.put(result.current, e);
+                                       if (!continueOnError)  {
+                                           _failed.set(true);
+                                       }
+                                   }
+                               }
+                               try  {
+                                   batch.commit();
+                               } catch (final Exception e)  {
+                                   result.exceptions.put(result.current, e);
+                                   if (!continueOnError)  {
+                                       _failed.set(true);
+                                   }
+                               }
+                           } finally  {
+                               batch.abort();
                            }
                        } finally  {
-                           if (!commit && !transActive && _paramCache.getContext().isTransactionActive())  {
-                               _paramCache.getContext().abort();
-                           }
+                           _pool.release(context);
                        }
                    }
+                   return ret;
+               }
+           }));
+       }
+       this.updateParallelFinish(_paramCache, _batch, futures, _compiles);
+   }
 
+   /**
+    * Waits for all <code>_futures</code> of current phase of the parallel
+    * update and appends the log of each chunk of updated CI's in the defined
+    * order. The statistics of the transaction batches of the workers are
+    * added to <code>_batch</code>.
+    *
+    * @param _paramCache   parameter cache
+    * @param _batch        transaction batch
+    * @param _futures      futures of current phase
+    * @param _compiles     list of CI's which must be compiled
+    * @throws Exception if the update of a CI failed and
+    *                   {@link ValueKeys#ParamContinueOnError} is not set
+    */
+   protected void updateParallelFinish(final ParameterCache_mxJPO _paramCache,
+                                       final TransactionBatch_mxJPO _batch,
+                                       final List<Future<WorkerResult>> _futures,
+                                       final List<AbstractObject_mxJPO<?>> _compiles)
+       throws Exception
+   {
+       Exception first = null;
+       for (final Future<WorkerResult> future : _futures)  {
+           final WorkerResult result = future.get();
+           if (result != null)  {
+               _paramCache.appendLog(result.paramCache);
+               _batch.addStatistics(result.batch);
+               for (final Entry<String,Exception> entry : result.exceptions.entrySet())  {
+                   _paramCache.logError("update of " + entry.getKey()
+                           + " failed (" + result.worker + "):\n" + entry.getValue().toString());
+                   if ((first == null) && !_paramCache.getValueBoolean(ValueKeys.ParamContinueOnError))  {
+                       first = entry.getValue();
+                   }
                }
+               _compiles.addAll(result.compiles);
            }
        }
+       if (first != null)  {
+           throw first;
+       }
+   }
 
-       // compile
-       this.compile(_paramCache, compiles);
+   /**
+    * Connects a new MX context for a parallel worker with the user and
+    * password of the MX context from the parameter cache to the MX server
+    * defined with parameter {@link ValueKeys#UpdateParallelServerUrl}.
+    *
+    * @param _paramCache   parameter cache with the origin MX context
+    * @return connected MX context
+    * @throws MatrixException if the MX context could not be connected
+    */
+   protected Context connectWorkerContext(final ParameterCache_mxJPO _paramCache)
+       throws MatrixException
+   {
+       final String url = _paramCache.getValueString(ValueKeys.UpdateParallelServerUrl);
+       final Context origContext = _paramCache.getContext();
+
+       final Context context = new Context((url == null) ? "" : url);
+       context.resetContext(origContext.getUser(), origContext.getPassword(), null);
+       context.connect();
+       return context;
    }
 
    /**
     * Searches for given <code>_typeDefs</code> related existing CI's.
     *
     * @param _paramCache   parameter cache (used to get the MX context)
+    * @param _pool         pool of the MX contexts for the parallel workers
+    *                      (or {@code null} if not updated in parallel)
     * @param _typeDefs     set of type definitions for which existing CI's are
     *                      searched
     * @return found existing CI's
     * @throws Exception if existing CI's could not be found
     */
    protected Map<TypeDef_mxJPO,Set<String>> getExistingCIs(final ParameterCache_mxJPO _paramCache,
+                                                           final ContextPool_mxJPO _pool,
                                                            final Set<TypeDef_mxJPO> _typeDefs)
        throws Exception
    {
+       MxNamesSnapshot_mxJPO.prefetch(_paramCache, _pool, _typeDefs);
+
        final Map<TypeDef_mxJPO,Set<String>> existingNames = new HashMap<>();
        for (final TypeDef_mxJPO clazz : _typeDefs)  {
            existingNames.put(clazz, clazz.matchMxNames(_paramCache, null));
@@ -176,6 +820,49 @@ public class UpdateAction_mxJPO
        return existingNames;
    }
 
+   /**
+    * Fetches for all type definitions with existing CI's the file dates and
+    * file hashes of all CI's with one MQL statement for each type definition
+    * and property (instead of one MQL statement for each CI). The file dates
+    * are only fetched if parameter {@link ValueKeys#UpdateCheckFileDate} is
+    * set, the file hashes only if parameter
+    * {@link ValueKeys#UpdateCheckFileHash} is set.
+    *
+    * @param _paramCache       parameter cache
+    * @param _existingNames    already existing names
+    * @return map between the type definition and the property values of all
+    *         related CI's; if the values of a property could not be
+    *         pre-fetched for a type definition, no entry is defined
+    * @throws Exception if the property values could not be fetched
+    */
+   protected Map<TypeDef_mxJPO,Map<PropertyDef_mxJPO,Map<String,String>>> getPropValues(final ParameterCache_mxJPO _paramCache,
+                                                                                       final Map<TypeDef_mxJPO,Set<String>> _existingNames)
+       throws Exception
+   {
+       final List<PropertyDef_mxJPO> props = new ArrayList<>();
+       if (_paramCache.getValueBoolean(ValueKeys.UpdateCheckFileHash))  {
+           props.add(PropertyDef_mxJPO.FILEHASH);
+       }
+       if (_paramCache.getValueBoolean(ValueKeys.UpdateCheckFileDate))  {
+           props.add(PropertyDef_mxJPO.FILEDATE);
+       }
+
+       final Map<TypeDef_mxJPO,Map<PropertyDef_mxJPO,Map<String,String>>> ret = new HashMap<>();
+       for (final Entry<TypeDef_mxJPO,Set<String>> entry : _existingNames.entrySet())  {
+           final Map<PropertyDef_mxJPO,Map<String,String>> propValues = new HashMap<>();
+           ret.put(entry.getKey(), propValues);
+           if (!entry.getValue().isEmpty())  {
+               for (final PropertyDef_mxJPO prop : props)  {
+                   final Map<String,String> values = entry.getKey().evalPropValues(_paramCache, prop);
+                   if (values != null)  {
+                       propValues.put(prop, values);
+                   }
+               }
+           }
+       }
+       return ret;
+   }
+
    /**
     * Creates not existing CI's.
     *
@@ -225,4 +912,35 @@ public class UpdateAction_mxJPO
            }
        }
    }
+
+   /**
+    * Result of the update of one chunk of CI's within a parallel worker.
+    */
+   protected static class WorkerResult
+   {
+       /** Worker parameter cache with the log of the update. */
+       private final ParameterCache_mxJPO paramCache;
+       /** Transaction batch of the worker. */
+       private final TransactionBatch_mxJPO batch;
+       /** Name of the worker which updated the CI's. */
+       private final String worker;
+       /** Instances of the CI's which must be compiled. */
+       private final List<AbstractObject_mxJPO<?>> compiles = new ArrayList<>();
+       /** Thrown exceptions depending on the logging text of the failed CI. */
+       private final Map<String,Exception> exceptions = new LinkedHashMap<>();
+       /** Logging text of the currently updated CI. */
+       private String current;
+
+       /**
+        * Initializes the result of an update of a chunk of CI's.
+        *
+        * @param _paramCache   worker parameter cache
+        */
+       WorkerResult(final ParameterCache_mxJPO _paramCache)
+       {
+           this.paramCache = _paramCache;
+           this.batch = new TransactionBatch_mxJPO(_paramCache);
+           this.worker = Thread.currentThread().getName();
+       }
+   }
 }
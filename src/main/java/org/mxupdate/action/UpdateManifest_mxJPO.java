@@ -0,0 +1,224 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.action;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Local deployment manifest of the update. The manifest stores for each
+ * successfully updated CI file the content hash, the type definition, the MX
+ * name and the modified date of the MX object after the update. The manifest
+ * is written as text file; each line defines one CI file with the values
+ * separated by tabulators.
+ *
+ * @author The MxUpdate Team
+ */
+class UpdateManifest_mxJPO
+{
+    /** Separator of the values within one line. */
+    private static final String SEPARATOR = "\t";
+
+    /** Header line of the manifest. */
+    private static final String HEADER = "# MxUpdate Update Manifest: path, hash, type definition, name, modified";
+
+    /** Manifest file. */
+    private final File file;
+
+    /** Mapping between the absolute path of the CI files and the entries. */
+    private final Map<String,Entry> entries = new TreeMap<>();
+
+    /**
+     * Initializes the manifest for given <code>_file</code>.
+     *
+     * @param _file     manifest file
+     */
+    UpdateManifest_mxJPO(final File _file)
+    {
+        this.file = _file;
+    }
+
+    /**
+     * Reads the manifest file (if exists).
+     *
+     * @return this manifest instance
+     * @throws IOException if the manifest file could not be read
+     */
+    UpdateManifest_mxJPO read()
+        throws IOException
+    {
+        this.entries.clear();
+        if (this.file.exists())  {
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(this.file), "UTF-8"));
+            try  {
+                String line = reader.readLine();
+                while (line != null)  {
+                    if (!line.isEmpty() && !line.startsWith("#"))  {
+                        final String[] values = line.split(UpdateManifest_mxJPO.SEPARATOR, -1);
+                        if (values.length == 5)  {
+                            this.entries.put(values[0], new Entry(values[1], values[2], values[3], values[4]));
+                        }
+                    }
+                    line = reader.readLine();
+                }
+            } finally  {
+                reader.close();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes the manifest file. Entries for not existing CI files are
+     * removed.
+     *
+     * @throws IOException if the manifest file could not be written
+     */
+    void write()
+        throws IOException
+    {
+        final PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(this.file), "UTF-8"));
+        try  {
+            writer.append(UpdateManifest_mxJPO.HEADER).append('\n');
+            final Iterator<Map.Entry<String,Entry>> iter = this.entries.entrySet().iterator();
+            while (iter.hasNext())  {
+                final Map.Entry<String,Entry> entry = iter.next();
+                if (new File(entry.getKey()).exists())  {
+                    writer.append(entry.getKey())
+                          .append(UpdateManifest_mxJPO.SEPARATOR).append(entry.getValue().hash)
+                          .append(UpdateManifest_mxJPO.SEPARATOR).append(entry.getValue().typeDef)
+                          .append(UpdateManifest_mxJPO.SEPARATOR).append(entry.getValue().name)
+                          .append(UpdateManifest_mxJPO.SEPARATOR).append(entry.getValue().modified)
+                          .append('\n');
+                } else  {
+                    iter.remove();
+                }
+            }
+        } finally  {
+            writer.close();
+        }
+    }
+
+    /**
+     * Checks if the CI <code>_file</code> is unchanged since the last
+     * update.
+     *
+     * @param _file         CI file
+     * @param _hash         current content hash of the CI file
+     * @param _typeDef      name of the type definition
+     * @param _name         MX name
+     * @param _modified     current modified date of the MX object
+     * @return <i>true</i> if all values are equal to the stored values of the
+     *         manifest; otherwise <i>false</i>
+     */
+    boolean isUnchanged(final File _file,
+                        final String _hash,
+                        final String _typeDef,
+                        final String _name,
+                        final String _modified)
+    {
+        final Entry entry = this.entries.get(_file.getAbsolutePath());
+        return (entry != null)
+                && entry.hash.equals(_hash)
+                && entry.typeDef.equals(_typeDef)
+                && entry.name.equals(_name)
+                && entry.modified.equals(_modified);
+    }
+
+    /**
+     * Returns the stored content hash for the CI <code>_file</code>.
+     *
+     * @param _file     CI file
+     * @return stored content hash; or <code>null</code> if no entry for the
+     *         CI file is defined
+     */
+    String getHash(final File _file)
+    {
+        final Entry entry = this.entries.get(_file.getAbsolutePath());
+        return (entry != null) ? entry.hash : null;
+    }
+
+    /**
+     * Defines the entry for the CI <code>_file</code>.
+     *
+     * @param _file         CI file
+     * @param _hash         content hash of the CI file
+     * @param _typeDef      name of the type definition
+     * @param _name         MX name
+     * @param _modified     modified date of the MX object
+     */
+    void put(final File _file,
+             final String _hash,
+             final String _typeDef,
+             final String _name,
+             final String _modified)
+    {
+        this.entries.put(_file.getAbsolutePath(), new Entry(_hash, _typeDef, _name, _modified));
+    }
+
+    /**
+     * Removes the entry for the CI <code>_file</code>.
+     *
+     * @param _file     CI file
+     */
+    void remove(final File _file)
+    {
+        this.entries.remove(_file.getAbsolutePath());
+    }
+
+    /**
+     * Entry of one CI file within the manifest.
+     */
+    private static final class Entry
+    {
+        /** Content hash of the CI file. */
+        private final String hash;
+        /** Name of the type definition. */
+        private final String typeDef;
+        /** MX name. */
+        private final String name;
+        /** Modified date of the MX object after the update. */
+        private final String modified;
+
+        /**
+         * Initializes the entry.
+         *
+         * @param _hash         content hash of the CI file
+         * @param _typeDef      name of the type definition
+         * @param _name         MX name
+         * @param _modified     modified date of the MX object
+         */
+        private Entry(final String _hash,
+                      final String _typeDef,
+                      final String _name,
+                      final String _modified)
+        {
+            this.hash = _hash;
+            this.typeDef = _typeDef;
+            this.name = _name;
+            this.modified = _modified;
+        }
+    }
+}
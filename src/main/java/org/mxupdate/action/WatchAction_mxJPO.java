@@ -0,0 +1,270 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.action;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO.CacheKey;
+import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
+import org.mxupdate.update.util.WildcardMatcher_mxJPO;
+
+/**
+ * Implements the watch action used within MxUpdate. All directories of the
+ * paths are watched for changed CI files. After a change, further events are
+ * collected until no event occurs within {@link ValueKeys#WatchDebounceTime}
+ * milliseconds. Then only the changed CI files are updated. The parameter
+ * cache (with the mapping and the name caches) is used for all updates.
+ * The watch action runs until the action is {@link #stop() stopped} or the
+ * thread is interrupted.
+ *
+ * @author The MxUpdate Team
+ */
+public class WatchAction_mxJPO
+{
+    /** Time in milliseconds to wait for the first event before the stop flag is checked. */
+    private static final long POLL_TIME = 500L;
+
+    /** Parameter cache. */
+    private final ParameterCache_mxJPO paramCache;
+    /** Selected files / CI objects. */
+    private final SelectTypeDefUtil_mxJPO selects;
+    /** Watched directories depending on the watch keys. */
+    private final Map<WatchKey,Path> keys = new HashMap<>();
+    /** Compiled match for ignored directories. */
+    private WildcardMatcher_mxJPO ignorePaths;
+    /** Compiled match for ignored files. */
+    private WildcardMatcher_mxJPO ignoreFiles;
+    /** Is the watch action stopped? */
+    private volatile boolean stopped;
+
+    /**
+     * Initializes the action.
+     *
+     * @param _paramCache   parameter cache
+     * @param _selects      selected matched files
+     */
+    public WatchAction_mxJPO(final ParameterCache_mxJPO _paramCache,
+                             final SelectTypeDefUtil_mxJPO _selects)
+    {
+        this.paramCache = _paramCache;
+        this.selects = _selects;
+    }
+
+    /**
+     * Executes the action.
+     *
+     * @throws Exception if execute failed
+     */
+    public void execute()
+        throws Exception
+    {
+        final Collection<String> paths = this.paramCache.getValueList(ValueKeys.Path);
+        // check for definition of min. one path
+        if ((paths == null) || paths.isEmpty())  {
+            throw new Exception("no path is defined, but required for the watch!");
+        }
+        final Collection<String> ignorePathList = this.paramCache.getValueList(ValueKeys.PathIgnorePath);
+        final Collection<String> ignoreFileList = this.paramCache.getValueList(ValueKeys.PathIgnoreFile);
+        this.ignorePaths = WildcardMatcher_mxJPO.compile((ignorePathList != null) ? ignorePathList : Collections.<String>emptyList());
+        this.ignoreFiles = WildcardMatcher_mxJPO.compile((ignoreFileList != null) ? ignoreFileList : Collections.<String>emptyList());
+        final Integer debounceParam = this.paramCache.getValueInteger(ValueKeys.WatchDebounceTime);
+        final long debounce = ((debounceParam != null) && (debounceParam > 0)) ? debounceParam : 0;
+
+        final WatchService watcher = FileSystems.getDefault().newWatchService();
+        try  {
+            for (final String path : paths)  {
+                this.register(watcher, new File(path).toPath(), null);
+            }
+            // warm up caches (mapping, file index and existing names)
+            for (final TypeDef_mxJPO typeDef : this.selects.evalMatches(this.paramCache).keySet())  {
+                typeDef.matchMxNames(this.paramCache, null);
+            }
+            this.paramCache.logInfo("watching " + this.keys.size() + " directories for changed CI files");
+
+            while (!this.stopped && !Thread.currentThread().isInterrupted())  {
+                final Set<File> changed = new HashSet<>();
+                final boolean overflow = this.poll(watcher, changed, debounce);
+                if (overflow || !changed.isEmpty())  {
+                    this.update(overflow, changed);
+                }
+            }
+        } catch (final InterruptedException e)  {
+            Thread.currentThread().interrupt();
+        } finally  {
+            watcher.close();
+            this.keys.clear();
+        }
+    }
+
+    /**
+     * Stops the watch action. Current running update is finished.
+     */
+    public void stop()
+    {
+        this.stopped = true;
+    }
+
+    /**
+     * Registers <code>_dir</code> and all not ignored sub directories.
+     *
+     * @param _watcher      watch service
+     * @param _dir          directory to register
+     * @param _files        set where found files are added (or
+     *                      <code>null</code> if not needed)
+     * @throws IOException if a directory could not be registered
+     */
+    private void register(final WatchService _watcher,
+                          final Path _dir,
+                          final Set<File> _files)
+        throws IOException
+    {
+        Files.walkFileTree(_dir, new SimpleFileVisitor<Path>()  {
+            @Override()
+            public FileVisitResult preVisitDirectory(final Path _subDir,
+                                                     final BasicFileAttributes _attrs)
+                throws IOException
+            {
+                final FileVisitResult ret;
+                if (!_subDir.equals(_dir) && WatchAction_mxJPO.this.ignorePaths.match(_subDir.getFileName().toString()))  {
+                    ret = FileVisitResult.SKIP_SUBTREE;
+                } else  {
+                    final WatchKey key = _subDir.register(_watcher,
+                                                          StandardWatchEventKinds.ENTRY_CREATE,
+                                                          StandardWatchEventKinds.ENTRY_MODIFY);
+                    WatchAction_mxJPO.this.keys.put(key, _subDir);
+                    ret = FileVisitResult.CONTINUE;
+                }
+                return ret;
+            }
+
+            @Override()
+            public FileVisitResult visitFile(final Path _file,
+                                             final BasicFileAttributes _attrs)
+            {
+                if ((_files != null) && _attrs.isRegularFile() && !WatchAction_mxJPO.this.ignoreFiles.match(_file.getFileName().toString()))  {
+                    _files.add(_file.toFile());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Waits for the next changed files. After the first event, all further
+     * events are collected until no event occurs within
+     * <code>_debounce</code> milliseconds.
+     *
+     * @param _watcher      watch service
+     * @param _changed      set where the changed files are added
+     * @param _debounce     debounce time in milliseconds
+     * @return <i>true</i> if events are lost (and all files must be checked)
+     * @throws InterruptedException if the wait was interrupted
+     * @throws IOException if a new directory could not be registered
+     */
+    private boolean poll(final WatchService _watcher,
+                         final Set<File> _changed,
+                         final long _debounce)
+        throws InterruptedException, IOException
+    {
+        boolean overflow = false;
+        WatchKey key = _watcher.poll(WatchAction_mxJPO.POLL_TIME, TimeUnit.MILLISECONDS);
+        while (key != null)  {
+            final Path dir = this.keys.get(key);
+            for (final WatchEvent<?> event : key.pollEvents())  {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW)  {
+                    overflow = true;
+                } else if (dir != null)  {
+                    final Path child = dir.resolve((Path) event.context());
+                    final String name = child.getFileName().toString();
+                    if (Files.isDirectory(child))  {
+                        if ((event.kind() == StandardWatchEventKinds.ENTRY_CREATE) && !this.ignorePaths.match(name))  {
+                            this.register(_watcher, child, _changed);
+                        }
+                    } else if (Files.isRegularFile(child) && !this.ignoreFiles.match(name))  {
+                        _changed.add(child.toFile());
+                    }
+                }
+            }
+            if (!key.reset())  {
+                this.keys.remove(key);
+            }
+            key = _watcher.poll(_debounce, TimeUnit.MILLISECONDS);
+        }
+        return overflow;
+    }
+
+    /**
+     * Updates the <code>_changed</code> CI files. If new CI's are created,
+     * the cached names of existing CI's are evaluated again within next
+     * update. Errors are only logged, so that the watch continues.
+     *
+     * @param _overflow     if <i>true</i> all CI files are updated
+     * @param _changed      changed CI files
+     */
+    private void update(final boolean _overflow,
+                        final Set<File> _changed)
+    {
+        final long start = System.currentTimeMillis();
+        try  {
+            final Map<TypeDef_mxJPO,Map<String,File>> clazz2names = _overflow
+                    ? this.selects.evalMatches(this.paramCache)
+                    : this.selects.evalMatches(this.paramCache, _changed);
+
+            int count = 0;
+            boolean created = false;
+            for (final Map.Entry<TypeDef_mxJPO,Map<String,File>> entry : clazz2names.entrySet())  {
+                if (!entry.getValue().isEmpty())  {
+                    count += entry.getValue().size();
+                    created = created || !entry.getKey().matchMxNames(this.paramCache, null).containsAll(entry.getValue().keySet());
+                }
+            }
+
+            if (count > 0)  {
+                new UpdateAction_mxJPO(this.paramCache, this.selects).update(this.paramCache, clazz2names);
+                if (created)  {
+                    this.paramCache.removeCache(CacheKey.Programs);
+                }
+                this.paramCache.logInfo("updated " + count + " changed CI(s) in " + (System.currentTimeMillis() - start) + "ms");
+            }
+        } catch (final Exception e)  {
+            // the watch is running long, so the complete exception with the causes is logged
+            final StringWriter writer = new StringWriter();
+            e.printStackTrace(new PrintWriter(writer));
+            this.paramCache.logError("update of changed CI files failed:\n" + writer.toString());
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.mxupdate.action.LicenseAction_mxJPO;
 import org.mxupdate.action.SelectTypeDefUtil_mxJPO;
 import org.mxupdate.action.UpdateAction_mxJPO;
 import org.mxupdate.action.VersionAction_mxJPO;
+import org.mxupdate.action.WatchAction_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 
 /**
@@ -90,6 +91,16 @@ public enum Action_mxJPO
         {
             new VersionAction_mxJPO(_paramCache).execute();
         }
+    },
+    /** Watches the file system and updates changed administration objects into MX. */
+    WATCH()  {
+        @Override
+        public void execute(final ParameterCache_mxJPO _paramCache,
+                            final SelectTypeDefUtil_mxJPO _selects)
+            throws Exception
+        {
+            new WatchAction_mxJPO(_paramCache, _selects).execute();
+        }
     };
 
     /**
@@ -26,6 +26,8 @@ public enum PropertyDef_mxJPO
 {
     /** Admin property to store the last modified date of the file. */
     FILEDATE,
+    /** Admin property to store the content hash of the file. */
+    FILEHASH,
     /** Admin property to store the installation date. */
     INSTALLEDDATE,
     /** Admin property to store the installer. */
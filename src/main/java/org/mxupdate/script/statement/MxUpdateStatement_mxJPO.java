@@ -26,6 +26,7 @@ import org.mxupdate.update.AbstractAdminObject_mxJPO;
 import org.mxupdate.update.BusObject_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
+import org.mxupdate.update.util.PerformanceStatistics_mxJPO.Phase;
 import org.mxupdate.update.util.StringUtil_mxJPO;
 import org.mxupdate.util.MqlBuilderUtil_mxJPO;
 import org.mxupdate.util.MqlBuilderUtil_mxJPO.MultiLineMqlBuilder;
@@ -69,6 +70,7 @@ public class MxUpdateStatement_mxJPO
                     _context.getVarValue("NAME"),
                     _context.getVarValue("REVISION"),
                     _context.getVarValue("FILEDATE"),
+                    _context.getVarValue("FILEHASH"),
                     new File(_context.getVarValue("FILENAME")),
                     _context.getVarValue("FILESUBPATH"));
         } else  {
@@ -77,6 +79,7 @@ public class MxUpdateStatement_mxJPO
                     mxClass,
                     _context.getVarValue("NAME"),
                     _context.getVarValue("FILEDATE"),
+                    _context.getVarValue("FILEHASH"),
                     new File(_context.getVarValue("FILENAME")),
                     _context.getVarValue("FILESUBPATH"));
         }
@@ -90,6 +93,8 @@ public class MxUpdateStatement_mxJPO
      * @param _mxClass      MX admin class
      * @param _mxName       MX name
      * @param _fileDate     last modified date of the file
+     * @param _fileHash     content hash of the file (or <code>null</code> if
+     *                      the file hash is not checked)
      * @param _file         file
      * @param _fileSubPath  sub path of the file
      * @throws Exception if execute failed
@@ -98,23 +103,35 @@ public class MxUpdateStatement_mxJPO
                            final EMxAdmin_mxJPO _mxClass,
                            final String _mxName,
                            final String _fileDate,
+                           final String _fileHash,
                            final File _file,
                            final String _fileSubPath)
         throws Exception
     {
+        long start = System.nanoTime();
         final AbstractAdminObject_mxJPO<?> target  = _mxClass.newTypeInstance(_mxName);
         target.parseUpdate(this.code);
+        _paramCache.getStatistics().record(Phase.PARSE_UPDATE, start);
         if (!_mxClass.exist(_paramCache, _mxName))  {
             _paramCache.logDebug("    - create");
             target.create(_paramCache);
+            _mxClass.registerCreated(_paramCache, _mxName);
         }
 
+        start = System.nanoTime();
         final AbstractAdminObject_mxJPO<?> current  = _mxClass.newTypeInstance(_mxName);
         current.parse(_paramCache);
+        _paramCache.getStatistics().record(Phase.PARSE_CURRENT, start);
 
         // MxUpdate File Date => must be always overwritten if newer!
         target.getProperties().setValue4KeyValue(_paramCache, PropertyDef_mxJPO.FILEDATE, _fileDate);
 
+        // MxUpdate File Hash => must be always overwritten (if the file hash
+        // is not checked, a not defined file hash removes an old file hash)
+        if (_fileHash != null)  {
+            target.getProperties().setValue4KeyValue(_paramCache, PropertyDef_mxJPO.FILEHASH, _fileHash);
+        }
+
         // installed date => reuse if already defined, new is not
         final String curInstalledDate = current.getProperties().getValue4KeyValue(_paramCache, PropertyDef_mxJPO.INSTALLEDDATE);
         target.getProperties().setValue4KeyValue(
@@ -147,9 +164,13 @@ public class MxUpdateStatement_mxJPO
             mql = MqlBuilderUtil_mxJPO.multiLine(_file, "escape mod " + target.mxClassDef().mxClass() + " $1", target.getName());
         }
 
+        start = System.nanoTime();
         ((AbstractAdminObject_mxJPO) target).calcDelta(_paramCache, mql, current);
+        _paramCache.getStatistics().record(Phase.DELTA, start);
 
-        mql.exec(_paramCache.getContext());
+        start = System.nanoTime();
+        mql.exec(_paramCache.getContext(), this.getMqlMergeLines(_paramCache));
+        _paramCache.getStatistics().record(Phase.EXEC, start);
     }
 
     /**
@@ -160,6 +181,8 @@ public class MxUpdateStatement_mxJPO
      * @param _mxName       MX name
      * @param _mxRevision   MX revision
      * @param _fileDate     last modified date of the file
+     * @param _fileHash     content hash of the file (or <code>null</code> if
+     *                      the file hash is not checked)
      * @param _file         file
      * @param _fileSubPath  sub path of the file
      * @throws Exception if execute failed
@@ -168,6 +191,7 @@ public class MxUpdateStatement_mxJPO
                          final String _mxName,
                          final String _mxRevision,
                          final String _fileDate,
+                         final String _fileHash,
                          final File _file,
                          final String _fileSubPath)
         throws Exception
@@ -181,11 +205,15 @@ public class MxUpdateStatement_mxJPO
             }
         }
 
+        long start = System.nanoTime();
         final BusObject_mxJPO target = (BusObject_mxJPO) typeDef.newTypeInstance(_paramCache, _mxName + BusObject_mxJPO.SPLIT_NAME + _mxRevision);
         target.parseUpdate(this.code);
+        _paramCache.getStatistics().record(Phase.PARSE_UPDATE, start);
 
+        start = System.nanoTime();
         final BusObject_mxJPO current = new BusObject_mxJPO(typeDef, target.getBusType(), target.getBusName(), target.getBusRevision());
         current.parse(_paramCache);
+        _paramCache.getStatistics().record(Phase.PARSE_CURRENT, start);
 
         // MxUpdate File Date => must be always overwritten if newer!
         final String attrFileDate = PropertyDef_mxJPO.FILEDATE.getAttrName(_paramCache);
@@ -193,6 +221,16 @@ public class MxUpdateStatement_mxJPO
             target.getAttrValues().put(attrFileDate, _fileDate);
         }
 
+        // MxUpdate File Hash => must be always overwritten (or removed if not checked)
+        final String attrFileHash = PropertyDef_mxJPO.FILEHASH.getAttrName(_paramCache);
+        if ((attrFileHash != null) && !attrFileHash.isEmpty())  {
+            if (_fileHash != null)  {
+                target.getAttrValues().put(attrFileHash, _fileHash);
+            } else if ((current.getAttrValues().get(attrFileHash) != null) && !current.getAttrValues().get(attrFileHash).isEmpty())  {
+                target.getAttrValues().put(attrFileHash, "");
+            }
+        }
+
         // installed date => reuse if already defined, new is not
         final String attrInstDate = PropertyDef_mxJPO.INSTALLEDDATE.getAttrName(_paramCache);
         if ((attrInstDate != null) && !attrInstDate.isEmpty())  {
@@ -234,12 +272,29 @@ public class MxUpdateStatement_mxJPO
         // initialize MQL builder
         final MultiLineMqlBuilder mql = MqlBuilderUtil_mxJPO.multiLine(_file, "escape mod bus $1 $2 $3", target.getBusType(), target.getBusName(), target.getBusRevision());
 
+        start = System.nanoTime();
         target.calcDelta(_paramCache, mql, current);
+        _paramCache.getStatistics().record(Phase.DELTA, start);
 
-        mql.exec(_paramCache.getContext());
+        start = System.nanoTime();
+        mql.exec(_paramCache.getContext(), this.getMqlMergeLines(_paramCache));
+        _paramCache.getStatistics().record(Phase.EXEC, start);
     }
 
 
+    /**
+     * Returns the maximum number of MQL lines merged into one MQL statement.
+     *
+     * @param _paramCache   parameter cache
+     * @return maximum number of merged MQL lines
+     * @see ValueKeys#UpdateMqlMergeLines
+     */
+    private int getMqlMergeLines(final ParameterCache_mxJPO _paramCache)
+    {
+        final Integer ret = _paramCache.getValueInteger(ValueKeys.UpdateMqlMergeLines);
+        return (ret != null) ? ret : 1;
+    }
+
     /**
      * Defines the {@link #name} of the MxUpdate object.
      *
@@ -16,12 +16,23 @@
 package org.mxupdate.typedef;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
+import org.mxupdate.mapping.PropertyDef_mxJPO;
 import org.mxupdate.update.AbstractAdminObject_mxJPO;
 import org.mxupdate.update.datamodel.AttributeCI_mxJPO;
 import org.mxupdate.update.datamodel.Dimension_mxJPO;
@@ -49,12 +60,14 @@ import org.mxupdate.update.userinterface.Inquiry_mxJPO;
 import org.mxupdate.update.userinterface.Menu_mxJPO;
 import org.mxupdate.update.userinterface.Portal_mxJPO;
 import org.mxupdate.update.userinterface.Table_mxJPO;
+import org.mxupdate.update.util.AdminXMLExportSplitter_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO.CacheKey;
 import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
 import org.mxupdate.util.MqlBuilderUtil_mxJPO;
 import org.mxupdate.util.MqlBuilderUtil_mxJPO.MqlBuilder;
 
+import matrix.db.Context;
 import matrix.util.MatrixException;
 
 /**
@@ -76,6 +89,16 @@ public enum EMxAdmin_mxJPO
             }
             return ret;
         }
+        /**
+         * {@inheritDoc}
+         * <p>A select statement of a &quot;list&quot; command does not work
+         * for associations. So <code>null</code> is returned.</p>
+         */
+        @Override public Map<String,String> evalSelect(final ParameterCache_mxJPO _paramCache,
+                                                       final String _select)
+        {
+            return null;
+        }
     },
     Attribute(AttributeCI_mxJPO.class)
     {
@@ -133,7 +156,13 @@ public enum EMxAdmin_mxJPO
             return ret;
         }
     },
-    Person(PersonCI_mxJPO.class),
+    Person(PersonCI_mxJPO.class) {
+        /** Sets and mails of the person are not needed (and not exported). */
+        @Override public String xmlExportFlags()
+        {
+            return " !mail !set";
+        }
+    },
     Policy(Policy_mxJPO.class),
     Portal(Portal_mxJPO.class),
     Program(ProgramCI_mxJPO.class),
@@ -243,6 +272,17 @@ public enum EMxAdmin_mxJPO
         return "";
     }
 
+    /**
+     * Returns the flags for the XML export of this MX class (e.g. to exclude
+     * not needed parts of the XML export).
+     *
+     * @return flags for the XML export (with leading space)
+     */
+    public String xmlExportFlags()
+    {
+        return "";
+    }
+
     /**
      * Returns <i>true</i> if a suffix for MX class exists.
      *
@@ -270,28 +310,200 @@ public enum EMxAdmin_mxJPO
     }
 
     /**
-     * Checks if the current list of objects exists and if not evaluates the
-     * list of all objects.
+     * Returns the list of all object names of this MX class. The list is
+     * evaluated only once per MX class and stored in the session cache
+     * {@link CacheKey#MxNames} (shared with all worker parameter caches). The
+     * cached list is updated with {@link #registerCreated} and
+     * {@link #registerDeleted} if MxUpdate itself creates or deletes objects.
      *
      * @param _paramCache   parameter cache
-     * @return set of all object names
+     * @return set of all object names (not modifiable)
      * @throws MatrixException if evaluate failed
      */
     public SortedSet<String> evalList(final ParameterCache_mxJPO _paramCache)
         throws MatrixException
     {
-        final SortedSet<String> ret;
-        @SuppressWarnings("unchecked")
-        Map<EMxAdmin_mxJPO,SortedSet<String>> mxNames = (Map<EMxAdmin_mxJPO,SortedSet<String>>) _paramCache.getCache(CacheKey.MxNames);
-        if (mxNames == null)  {
-            mxNames = new HashMap<>();
-            _paramCache.setCache(CacheKey.MxNames, mxNames);
+        final ConcurrentMap<EMxAdmin_mxJPO,SortedSet<String>> mxNames = EMxAdmin_mxJPO.getListCache(_paramCache);
+        SortedSet<String> ret = mxNames.get(this);
+        if (ret == null)  {
+            synchronized (mxNames)  {
+                ret = mxNames.get(this);
+                if (ret == null)  {
+                    ret = new ConcurrentSkipListSet<>(this.evalListWOCache(_paramCache));
+                    mxNames.put(this, ret);
+                }
+            }
         }
-        if (mxNames.containsKey(this))  {
-            ret = mxNames.get(this);
-        } else  {
-            ret = this.evalListWOCache(_paramCache);
+        return Collections.unmodifiableSortedSet(ret);
+    }
+
+    /**
+     * Checks if the list of object names of this MX class is already
+     * evaluated and cached.
+     *
+     * @param _paramCache   parameter cache
+     * @return <i>true</i> if cached; otherwise <i>false</i>
+     */
+    public boolean isListCached(final ParameterCache_mxJPO _paramCache)
+    {
+        return EMxAdmin_mxJPO.getListCache(_paramCache).containsKey(this);
+    }
+
+    /**
+     * Stores the evaluated list of object names of this MX class (e.g.
+     * evaluated within a parallel worker) in the session cache, if not
+     * already cached.
+     *
+     * @param _paramCache   parameter cache
+     * @param _mxNames      evaluated list of all object names
+     * @see #evalListWOCache(ParameterCache_mxJPO)
+     */
+    public void cacheList(final ParameterCache_mxJPO _paramCache,
+                          final SortedSet<String> _mxNames)
+    {
+        final ConcurrentMap<EMxAdmin_mxJPO,SortedSet<String>> mxNames = EMxAdmin_mxJPO.getListCache(_paramCache);
+        synchronized (mxNames)  {
+            if (!mxNames.containsKey(this))  {
+                mxNames.put(this, new ConcurrentSkipListSet<>(_mxNames));
+            }
+        }
+    }
+
+    /**
+     * Registers the created object with {@code _mxName} within the cached
+     * list of object names (if the list is already evaluated). If a
+     * transaction is active, the change is
+     * {@link #abortListCache(ParameterCache_mxJPO) reverted} if the
+     * transaction is aborted.
+     *
+     * @param _paramCache   parameter cache
+     * @param _mxName       MX name of the created object
+     */
+    public void registerCreated(final ParameterCache_mxJPO _paramCache,
+                                final String _mxName)
+    {
+        final SortedSet<String> mxNames = EMxAdmin_mxJPO.getListCache(_paramCache).get(this);
+        if ((mxNames != null) && mxNames.add(_mxName))  {
+            this.registerListChange(_paramCache, _mxName, true);
+        }
+    }
+
+    /**
+     * Removes the deleted object with {@code _mxName} from the cached list of
+     * object names (if the list is already evaluated). If a transaction is
+     * active, the change is {@link #abortListCache(ParameterCache_mxJPO)
+     * reverted} if the transaction is aborted.
+     *
+     * @param _paramCache   parameter cache
+     * @param _mxName       MX name of the deleted object
+     */
+    public void registerDeleted(final ParameterCache_mxJPO _paramCache,
+                                final String _mxName)
+    {
+        final SortedSet<String> mxNames = EMxAdmin_mxJPO.getListCache(_paramCache).get(this);
+        if ((mxNames != null) && mxNames.remove(_mxName))  {
+            this.registerListChange(_paramCache, _mxName, false);
+        }
+    }
+
+    /**
+     * Stores the change of the cached list of object names within the
+     * changes of the current transaction of the MX context (if a transaction
+     * is active).
+     *
+     * @param _paramCache   parameter cache
+     * @param _mxName       MX name of the created or deleted object
+     * @param _created      <i>true</i> if created; <i>false</i> if deleted
+     */
+    private void registerListChange(final ParameterCache_mxJPO _paramCache,
+                                    final String _mxName,
+                                    final boolean _created)
+    {
+        final Context context = _paramCache.getContext();
+        if ((context != null) && context.isTransactionActive())  {
+            final Map<Context,List<ListChange>> changes = EMxAdmin_mxJPO.getListChanges(_paramCache);
+            synchronized (changes)  {
+                List<ListChange> contextChanges = changes.get(context);
+                if (contextChanges == null)  {
+                    contextChanges = new ArrayList<>();
+                    changes.put(context, contextChanges);
+                }
+                contextChanges.add(new ListChange(this, _mxName, _created));
+            }
+        }
+    }
+
+    /**
+     * Must be called if the transaction of the MX context is committed, so
+     * that the {@link #registerCreated registered} and
+     * {@link #registerDeleted unregistered} objects of the transaction are
+     * kept within the cached lists of object names.
+     *
+     * @param _paramCache   parameter cache
+     */
+    public static void commitListCache(final ParameterCache_mxJPO _paramCache)
+    {
+        EMxAdmin_mxJPO.getListChanges(_paramCache).remove(_paramCache.getContext());
+    }
+
+    /**
+     * Must be called if the transaction of the MX context is aborted, because
+     * then the {@link #registerCreated registered} and
+     * {@link #registerDeleted unregistered} objects of the transaction are
+     * rolled back. Only the changes of this transaction are reverted within
+     * the cached lists of object names.
+     *
+     * @param _paramCache   parameter cache
+     */
+    public static void abortListCache(final ParameterCache_mxJPO _paramCache)
+    {
+        final List<ListChange> contextChanges = EMxAdmin_mxJPO.getListChanges(_paramCache).remove(_paramCache.getContext());
+        if (contextChanges != null)  {
+            final ConcurrentMap<EMxAdmin_mxJPO,SortedSet<String>> mxNames = EMxAdmin_mxJPO.getListCache(_paramCache);
+            for (int idx = contextChanges.size() - 1; idx >= 0; idx--)  {
+                final ListChange change = contextChanges.get(idx);
+                final SortedSet<String> names = mxNames.get(change.mxClass);
+                if ((names != null) && change.created)  {
+                    names.remove(change.mxName);
+                } else if (names != null)  {
+                    names.add(change.mxName);
+                }
+            }
         }
+    }
+
+    /**
+     * Returns the map between the MX contexts and the changes of the cached
+     * lists of object names within the current transaction from the session
+     * cache {@link CacheKey#MxNamesChanges}. If not defined, the map is
+     * initialized.
+     *
+     * @param _paramCache   parameter cache
+     * @return map between MX contexts and changes of the current transaction
+     */
+    private static Map<Context,List<ListChange>> getListChanges(final ParameterCache_mxJPO _paramCache)
+    {
+        @SuppressWarnings("unchecked")
+        final Map<Context,List<ListChange>> ret = (Map<Context,List<ListChange>>) _paramCache.setCacheIfAbsent(
+                CacheKey.MxNamesChanges,
+                Collections.synchronizedMap(new IdentityHashMap<Context,List<ListChange>>()));
+        return ret;
+    }
+
+    /**
+     * Returns the map between the MX classes and the cached lists of object
+     * names from the session cache {@link CacheKey#MxNames}. If not defined,
+     * the map is initialized.
+     *
+     * @param _paramCache   parameter cache
+     * @return map between MX classes and cached lists of object names
+     */
+    private static ConcurrentMap<EMxAdmin_mxJPO,SortedSet<String>> getListCache(final ParameterCache_mxJPO _paramCache)
+    {
+        @SuppressWarnings("unchecked")
+        final ConcurrentMap<EMxAdmin_mxJPO,SortedSet<String>> ret = (ConcurrentMap<EMxAdmin_mxJPO,SortedSet<String>>) _paramCache.setCacheIfAbsent(
+                CacheKey.MxNames,
+                new ConcurrentHashMap<EMxAdmin_mxJPO,SortedSet<String>>());
         return ret;
     }
 
@@ -313,6 +525,275 @@ public enum EMxAdmin_mxJPO
         return ret;
     }
 
+    /**
+     * Exports all objects of this MX class with one MQL export statement. The
+     * XML export is split into the XML exports of the single objects. The XML
+     * exports for given <code>_mxNames</code> are stored in the session cache
+     * {@link CacheKey#XMLExports} until they are
+     * {@link #fetchXMLExport(ParameterCache_mxJPO, String) fetched}. The
+     * method is used to avoid a MQL export statement for each single object.
+     *
+     * @param _paramCache   parameter cache
+     * @param _mxNames      names of the objects for which the XML exports are
+     *                      stored
+     * @throws MatrixException if the export failed
+     */
+    public void prefetchXMLExports(final ParameterCache_mxJPO _paramCache,
+                                   final Collection<String> _mxNames)
+        throws MatrixException
+    {
+        final Set<String> mxNames = new HashSet<>(_mxNames);
+        final ConcurrentMap<String,String> xmls = new ConcurrentHashMap<>();
+        final AdminXMLExportSplitter_mxJPO splitter = new AdminXMLExportSplitter_mxJPO(MqlBuilderUtil_mxJPO.mql()
+                .cmd("escape export ").cmd(this.mxClass()).cmd(" ").arg("*").cmd(this.xmlExportFlags()).cmd(" xml")
+                .exec(_paramCache.getContext()));
+        while (splitter.next())  {
+            final String mxName = splitter.getName();
+            if ((mxName != null) && mxNames.contains(mxName))  {
+                xmls.put(mxName, splitter.getXML());
+            }
+        }
+        EMxAdmin_mxJPO.getXMLExportCache(_paramCache).put(this, xmls);
+    }
+
+    /**
+     * Returns the {@link #prefetchXMLExports(ParameterCache_mxJPO, Collection)
+     * prefetched} XML export of the object with <code>_mxName</code>. The XML
+     * export is removed from the session cache, so that each prefetched XML
+     * export is used only once.
+     *
+     * @param _paramCache   parameter cache
+     * @param _mxName       name of the object
+     * @return XML export; or <code>null</code> if not prefetched
+     */
+    public String fetchXMLExport(final ParameterCache_mxJPO _paramCache,
+                                 final String _mxName)
+    {
+        final Map<String,String> xmls = EMxAdmin_mxJPO.getXMLExportCache(_paramCache).get(this);
+        return (xmls != null) ? xmls.remove(_mxName) : null;
+    }
+
+    /**
+     * Removes all not fetched XML exports of this MX class from the session
+     * cache.
+     *
+     * @param _paramCache   parameter cache
+     */
+    public void clearXMLExports(final ParameterCache_mxJPO _paramCache)
+    {
+        EMxAdmin_mxJPO.getXMLExportCache(_paramCache).remove(this);
+    }
+
+    /**
+     * Returns the map between the MX classes and the prefetched XML exports
+     * from the session cache {@link CacheKey#XMLExports}. If not defined, the
+     * map is initialized.
+     *
+     * @param _paramCache   parameter cache
+     * @return map between MX classes and prefetched XML exports
+     */
+    private static ConcurrentMap<EMxAdmin_mxJPO,Map<String,String>> getXMLExportCache(final ParameterCache_mxJPO _paramCache)
+    {
+        @SuppressWarnings("unchecked")
+        final ConcurrentMap<EMxAdmin_mxJPO,Map<String,String>> ret = (ConcurrentMap<EMxAdmin_mxJPO,Map<String,String>>) _paramCache.setCacheIfAbsent(
+                CacheKey.XMLExports,
+                new ConcurrentHashMap<EMxAdmin_mxJPO,Map<String,String>>());
+        return ret;
+    }
+
+    /**
+     * Reads the symbolic names of all administration objects with one MQL
+     * list statement on the program {@link ValueKeys#RegisterSymbolicNames}
+     * and stores them in the session cache {@link CacheKey#SymbolicNames}.
+     * Then the symbolic names and package assignments are
+     * {@link #fetchSymbolicNames(ParameterCache_mxJPO, String) fetched} from
+     * the session cache instead of a MQL statement for each single object.
+     * The package assignments of a MX class are evaluated with the first
+     * {@link #fetchPackage(ParameterCache_mxJPO, String) fetch}.
+     *
+     * @param _paramCache   parameter cache
+     * @throws MatrixException if the symbolic names could not be evaluated
+     */
+    public static void prefetchSymbolicNames(final ParameterCache_mxJPO _paramCache)
+        throws MatrixException
+    {
+        final String symbProg = _paramCache.getValueString(ValueKeys.RegisterSymbolicNames);
+        final String symbProgIdxOf = new StringBuilder().append(" on program ").append(symbProg).append(" to ").toString();
+        final ConcurrentMap<String,SortedSet<String>> symbNames = new ConcurrentHashMap<>();
+        final String tmp = MqlBuilderUtil_mxJPO.mql()
+                .cmd("escape list property on program ").arg(symbProg)
+                .exec(_paramCache.getContext());
+        if (!tmp.isEmpty())  {
+            for (final String line : tmp.split("\n"))  {
+                // format: '<symbolic name>[ on program <program>] to <MX class> <name>'
+                int idx = line.indexOf(symbProgIdxOf);
+                int length = symbProgIdxOf.length();
+                if (idx < 0)  {
+                    idx = line.indexOf(" to ");
+                    length = 4;
+                }
+                final int idxName = (idx < 0) ? -1 : line.indexOf(' ', idx + length);
+                if (idxName > 0)  {
+                    final EMxAdmin_mxJPO mxClass = EMxAdmin_mxJPO.valueOfByClass(line.substring(idx + length, idxName));
+                    if (mxClass != null)  {
+                        String mxName = line.substring(idxName + 1);
+                        if (mxClass.hasMxClassSuffix() && mxName.endsWith(" " + mxClass.mxClassSuffix()))  {
+                            mxName = mxName.substring(0, mxName.length() - mxClass.mxClassSuffix().length() - 1);
+                        }
+                        final String key = mxClass.mxClass() + ' ' + mxName;
+                        SortedSet<String> names = symbNames.get(key);
+                        if (names == null)  {
+                            names = new TreeSet<>();
+                            symbNames.put(key, names);
+                        }
+                        names.add(line.substring(0, idx));
+                    }
+                }
+            }
+        }
+        _paramCache.setCache(CacheKey.SymbolicNames, symbNames);
+        _paramCache.setCache(CacheKey.Packages, new ConcurrentHashMap<EMxAdmin_mxJPO,Map<String,String>>());
+    }
+
+    /**
+     * Returns the {@link #prefetchSymbolicNames(ParameterCache_mxJPO)
+     * prefetched} symbolic names of the object with <code>_mxName</code>. The
+     * symbolic names are removed from the session cache, so that the
+     * prefetched symbolic names are used only once.
+     *
+     * @param _paramCache   parameter cache
+     * @param _mxName       name of the object
+     * @return symbolic names; or <code>null</code> if not prefetched
+     */
+    public SortedSet<String> fetchSymbolicNames(final ParameterCache_mxJPO _paramCache,
+                                                final String _mxName)
+    {
+        @SuppressWarnings("unchecked")
+        final Map<String,SortedSet<String>> symbNames = (Map<String,SortedSet<String>>) _paramCache.getCache(CacheKey.SymbolicNames);
+        final SortedSet<String> ret;
+        if (symbNames == null)  {
+            ret = null;
+        } else  {
+            final SortedSet<String> tmp = symbNames.remove(this.mxClass() + ' ' + _mxName);
+            ret = (tmp != null) ? tmp : new TreeSet<String>();
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the prefetched package of the object with <code>_mxName</code>.
+     * With the first call for this MX class the packages of all objects of
+     * this MX class are evaluated with one MQL list statement (if the symbolic
+     * names are {@link #prefetchSymbolicNames(ParameterCache_mxJPO)
+     * prefetched}). The package is removed from the session cache, so that
+     * each prefetched package is used only once.
+     *
+     * @param _paramCache   parameter cache
+     * @param _mxName       name of the object
+     * @return name of the package or an empty string if the object is not
+     *         assigned to a package; <code>null</code> if not prefetched
+     * @throws MatrixException if the packages could not be evaluated
+     */
+    public String fetchPackage(final ParameterCache_mxJPO _paramCache,
+                               final String _mxName)
+        throws MatrixException
+    {
+        @SuppressWarnings("unchecked")
+        final ConcurrentMap<EMxAdmin_mxJPO,Map<String,String>> packages = (ConcurrentMap<EMxAdmin_mxJPO,Map<String,String>>) _paramCache.getCache(CacheKey.Packages);
+        String ret = null;
+        if (packages != null)  {
+            Map<String,String> mxNames = packages.get(this);
+            if (mxNames == null)  {
+                synchronized (packages)  {
+                    mxNames = packages.get(this);
+                    if (mxNames == null)  {
+                        final Map<String,String> tmp = this.evalSelect(_paramCache, "package");
+                        mxNames = (tmp != null) ? new ConcurrentHashMap<>(tmp) : new ConcurrentHashMap<String,String>();
+                        packages.put(this, mxNames);
+                    }
+                }
+            }
+            ret = mxNames.remove(_mxName);
+        }
+        return ret;
+    }
+
+    /**
+     * Removes all not fetched symbolic names and packages from the session
+     * cache.
+     *
+     * @param _paramCache   parameter cache
+     */
+    public static void clearSymbolicNames(final ParameterCache_mxJPO _paramCache)
+    {
+        _paramCache.removeCache(CacheKey.SymbolicNames);
+        _paramCache.removeCache(CacheKey.Packages);
+    }
+
+    /**
+     * Evaluates for all objects of this MX class the value of the property
+     * <code>_prop</code> with one MQL list statement. The method is used to
+     * avoid a MQL print statement for each single object.
+     *
+     * @param _paramCache   parameter cache
+     * @param _prop         property definition
+     * @return map between the names of all objects and the related property
+     *         values (an empty string if the property is not defined);
+     *         <code>null</code> if the evaluation is not supported for this
+     *         MX class
+     * @throws MatrixException if evaluate failed
+     * @see #evalSelect(ParameterCache_mxJPO, String)
+     */
+    public Map<String,String> evalPropValues(final ParameterCache_mxJPO _paramCache,
+                                             final PropertyDef_mxJPO _prop)
+        throws MatrixException
+    {
+        final String propName = _prop.getPropName(_paramCache);
+        final Map<String,String> ret = this.evalSelect(_paramCache, "property[" + propName + "]");
+        if (ret != null)  {
+            // the property select returns '<name> value <value>'
+            final int length = 7 + propName.length();
+            for (final Map.Entry<String,String> entry : ret.entrySet())  {
+                entry.setValue((entry.getValue().length() >= length) ? entry.getValue().substring(length) : "");
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Evaluates for all objects of this MX class the value of the
+     * <code>_select</code> statement with one MQL list statement.
+     *
+     * @param _paramCache   parameter cache
+     * @param _select       select statement
+     * @return map between the names of all objects and the related selected
+     *         values; <code>null</code> if the evaluation is not supported for
+     *         this MX class
+     * @throws MatrixException if evaluate failed
+     */
+    public Map<String,String> evalSelect(final ParameterCache_mxJPO _paramCache,
+                                         final String _select)
+        throws MatrixException
+    {
+        final MqlBuilder mql = MqlBuilderUtil_mxJPO.mql().cmd("escape list ").cmd(this.mxClass()).cmd(" ").arg("*");
+        if (this.hasMxClassSuffix())  {
+            mql.cmd(" ").cmd(this.mxClassSuffix());
+        }
+        final String tmp = mql
+                .cmd(" select ").arg("name").cmd(" ").arg(_select)
+                .cmd(" dump ").arg(EMxAdmin_mxJPO.SELECT_KEY)
+                .exec(_paramCache.getContext());
+
+        final Map<String,String> ret = new HashMap<>();
+        if (!tmp.isEmpty())  {
+            for (final String line : tmp.split("\n"))  {
+                final String[] nameValueArr = line.split(EMxAdmin_mxJPO.SELECT_KEY, 2);
+                ret.put(nameValueArr[0], (nameValueArr.length > 1) ? nameValueArr[1] : "");
+            }
+        }
+        return ret;
+    }
+
     /**
      *
      * @param _mxName   MX name of the new instance
@@ -334,4 +815,33 @@ public enum EMxAdmin_mxJPO
     {
         return this.clazzCI.getConstructor(String.class).newInstance(_mxName);
     }
+
+    /**
+     * Change of a cached list of object names within a transaction.
+     */
+    private static final class ListChange
+    {
+        /** MX class of the changed list. */
+        private final EMxAdmin_mxJPO mxClass;
+        /** MX name of the created or deleted object. */
+        private final String mxName;
+        /** <i>true</i> if created; <i>false</i> if deleted. */
+        private final boolean created;
+
+        /**
+         * Initializes the change.
+         *
+         * @param _mxClass  MX class of the changed list
+         * @param _mxName   MX name of the created or deleted object
+         * @param _created  <i>true</i> if created; <i>false</i> if deleted
+         */
+        private ListChange(final EMxAdmin_mxJPO _mxClass,
+                           final String _mxName,
+                           final boolean _created)
+        {
+            this.mxClass = _mxClass;
+            this.mxName = _mxName;
+            this.created = _created;
+        }
+    }
 }
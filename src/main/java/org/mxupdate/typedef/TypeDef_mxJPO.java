@@ -29,14 +29,18 @@ import java.util.SortedSet;
 
 import org.mxupdate.mapping.AbstractValue_mxJPO;
 import org.mxupdate.mapping.Mapping_mxJPO;
+import org.mxupdate.mapping.PropertyDef_mxJPO;
 import org.mxupdate.typedef.export.IExport_mxJPO;
 import org.mxupdate.typedef.filenames.IMatcherFileNames_mxJPO;
 import org.mxupdate.typedef.mxnames.IMatcherMxNames_mxJPO;
+import org.mxupdate.typedef.mxnames.MxNamesAdmin_mxJPO;
 import org.mxupdate.typedef.update.IUpdate_mxJPO;
 import org.mxupdate.update.AbstractObject_mxJPO;
+import org.mxupdate.update.BusObject_mxJPO;
 import org.mxupdate.update.util.AbstractParser_mxJPO.ParseException;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO.CacheKey;
+import org.mxupdate.update.util.PerformanceStatistics_mxJPO.Phase;
 import org.mxupdate.update.util.UpdateException_mxJPO;
 import org.mxupdate.util.MqlBuilderUtil_mxJPO;
 
@@ -216,7 +220,6 @@ public final class TypeDef_mxJPO
 
             if (jpos == null)  {
                 jpos = new HashMap<>();
-                _paramCache.setCache(CacheKey.TypeDefJPOs, jpos);
 
                 final String tmp = MqlBuilderUtil_mxJPO.mql()
                         .cmd("escape list program ").arg("org.mxupdate.*")
@@ -229,6 +232,8 @@ public final class TypeDef_mxJPO
                         jpos.put(arr[0], arr[1]);
                     }
                 }
+                // cache is defined after evaluation (could be used in parallel)
+                _paramCache.setCache(CacheKey.TypeDefJPOs, jpos);
             }
             final String jpoClassName = jpos.get(_jpoName);
             if (jpoClassName == null)  {
@@ -303,6 +308,60 @@ public final class TypeDef_mxJPO
         return (tmp.length() > 0);
     }
 
+    /**
+     * Evaluates for all objects of this type definition the value of the
+     * property <code>_prop</code> with one MQL statement (for administration
+     * objects) or one query (for business objects).
+     *
+     * @param _paramCache   parameter cache
+     * @param _prop         property definition
+     * @return map between the MX names of all objects and the related
+     *         property values; <code>null</code> if not supported for this
+     *         type definition
+     * @throws MatrixException if the evaluation failed
+     */
+    public Map<String,String> evalPropValues(final ParameterCache_mxJPO _paramCache,
+                                             final PropertyDef_mxJPO _prop)
+        throws MatrixException
+    {
+        final Map<String,String> ret;
+        final EMxAdmin_mxJPO mxClassDef = (this.adminType != null) ? EMxAdmin_mxJPO.valueOfByClass(this.adminType) : null;
+        if (mxClassDef != null)  {
+            ret = mxClassDef.evalPropValues(_paramCache, _prop);
+        } else if (this.busType != null)  {
+            ret = BusObject_mxJPO.evalSelect(_paramCache, this, "attribute[" + _prop.getAttrName(_paramCache) + "]");
+        } else  {
+            ret = null;
+        }
+        return ret;
+    }
+
+    /**
+     * Evaluates for all objects of this type definition the modified date
+     * with one MQL statement (for administration objects) or one query (for
+     * business objects).
+     *
+     * @param _paramCache   parameter cache
+     * @return map between the MX names of all objects and the related
+     *         modified date; <code>null</code> if not supported for this type
+     *         definition
+     * @throws MatrixException if the evaluation failed
+     */
+    public Map<String,String> evalModified(final ParameterCache_mxJPO _paramCache)
+        throws MatrixException
+    {
+        final Map<String,String> ret;
+        final EMxAdmin_mxJPO mxClassDef = (this.adminType != null) ? EMxAdmin_mxJPO.valueOfByClass(this.adminType) : null;
+        if (mxClassDef != null)  {
+            ret = mxClassDef.evalSelect(_paramCache, "modified");
+        } else if (this.busType != null)  {
+            ret = BusObject_mxJPO.evalSelect(_paramCache, this, "modified");
+        } else  {
+            ret = null;
+        }
+        return ret;
+    }
+
     /**
      * Returns the set of attributes for business object which are ignored for
      * the update (means this attributes are not reseted). The method returns
@@ -411,6 +470,18 @@ public final class TypeDef_mxJPO
         return this.filePath;
     }
 
+    /**
+     * Returns the related {@link #orderNo order number} used within the
+     * update. The method returns only correct values if the initialize method
+     * was called!
+     *
+     * @return order number of the administration type definition
+     */
+    public int getOrderNo()
+    {
+        return this.orderNo;
+    }
+
     /**
      * Returns the related {@link #filePrefix file name prefix}. The method
      * returns only correct values if the initialize method was called!
@@ -556,11 +627,36 @@ public final class TypeDef_mxJPO
                                                  final Collection<File> _files,
                                                  final Collection<String> _matches)
             throws MatrixException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException, UpdateException_mxJPO, ClassNotFoundException
+    {
+        return this.newMatcherFileNames(_paramCache).match(_paramCache, this, _files, _matches);
+    }
+
+    /**
+     * Returns a new instance of the matcher of file names for this type
+     * definition.
+     *
+     * @param _paramCache   parameter cache
+     * @return new instance of the matcher of file names
+     * @throws MatrixException              if fetch failed
+     * @throws NoSuchMethodException        if the constructor does not exists
+     * @throws InstantiationException       if a new instance of the class
+     *                                      {@link #jpoMatchFileNames} could not
+     *                                      be created
+     * @throws IllegalAccessException       if the constructor is not public
+     * @throws InvocationTargetException    if the constructor of the
+     *                                      {@link #jpoMatchFileNames} itself
+     *                                      throws an exception
+     * @throws ClassNotFoundException if the class for
+     *                      {@link #jpoMatchFileNamesStr} is not found
+     */
+    @SuppressWarnings("unchecked")
+    public IMatcherFileNames_mxJPO newMatcherFileNames(final ParameterCache_mxJPO _paramCache)
+        throws MatrixException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException
     {
         if (this.jpoMatchFileNames == null)  {
             this.jpoMatchFileNames = (Class<? extends IMatcherFileNames_mxJPO>) TypeDef_mxJPO.fetchJPOClass(_paramCache, this.jpoMatchFileNamesStr);
-        };
-        return this.jpoMatchFileNames.getConstructor().newInstance().match(_paramCache, this, _files, _matches);
+        }
+        return this.jpoMatchFileNames.getConstructor().newInstance();
     }
 
     /**
@@ -579,12 +675,15 @@ public final class TypeDef_mxJPO
      *                                      {@link #jpoMatchFileNames} itself
      *                                      throws an exception
      * @throws UpdateException_mxJPO        if match failed
+     * @throws MatrixException              if fetch of the matcher failed
+     * @throws ClassNotFoundException if the class for
+     *                      {@link #jpoMatchFileNamesStr} is not found
      */
     public SortedMap<String,File> matchFileNames(final ParameterCache_mxJPO _paramCache,
                                                  final Collection<File> _files)
-        throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException, UpdateException_mxJPO
+        throws MatrixException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException, UpdateException_mxJPO, ClassNotFoundException
     {
-        return this.jpoMatchFileNames.getConstructor().newInstance().match(_paramCache, this, _files, null);
+        return this.newMatcherFileNames(_paramCache).match(_paramCache, this, _files, null);
     }
 
     /**
@@ -607,12 +706,55 @@ public final class TypeDef_mxJPO
     public SortedSet<String> matchMxNames(final ParameterCache_mxJPO _paramCache,
                                           final Collection<String> _matches)
         throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException, MatrixException, ClassNotFoundException
+    {
+        final long start = System.nanoTime();
+        try  {
+            return this.getMatcherMxNames(_paramCache).getConstructor().newInstance().match(_paramCache, this, _matches);
+        } finally  {
+            _paramCache.getStatistics().record(Phase.NAME_LIST, start);
+        }
+    }
+
+    /**
+     * Returns the MX admin class from which the MX names of this type
+     * definition are listed. The MX admin class is only returned if the MX
+     * names are matched with {@link MxNamesAdmin_mxJPO} (or a derived class),
+     * because only then the MX names are evaluated from
+     * {@link EMxAdmin_mxJPO#evalList(ParameterCache_mxJPO)}.
+     *
+     * @param _paramCache   parameter cache
+     * @return MX admin class; or <code>null</code> if the MX names are not
+     *         evaluated from the list of the MX admin class
+     * @throws MatrixException if the list of MxUdpate JPOs could not evaluated
+     * @throws ClassNotFoundException if the class for
+     *                      {@link #jpoMatchMxNamesStr} is not found
+     */
+    public EMxAdmin_mxJPO getMxAdminList(final ParameterCache_mxJPO _paramCache)
+        throws MatrixException, ClassNotFoundException
+    {
+        return MxNamesAdmin_mxJPO.class.isAssignableFrom(this.getMatcherMxNames(_paramCache))
+                ? EMxAdmin_mxJPO.valueOfByClass(this.getMxUpdateType())
+                : null;
+    }
+
+    /**
+     * Returns the class used to match the MX names. The class is evaluated
+     * only once and stored in {@link #jpoMatchMxNames}.
+     *
+     * @param _paramCache   parameter cache
+     * @return class to match the MX names
+     * @throws MatrixException if the list of MxUdpate JPOs could not evaluated
+     * @throws ClassNotFoundException if the class for
+     *                      {@link #jpoMatchMxNamesStr} is not found
+     */
+    @SuppressWarnings("unchecked")
+    private Class<? extends IMatcherMxNames_mxJPO> getMatcherMxNames(final ParameterCache_mxJPO _paramCache)
+        throws MatrixException, ClassNotFoundException
     {
         if (this.jpoMatchMxNames == null)  {
             this.jpoMatchMxNames = (Class<? extends IMatcherMxNames_mxJPO>) TypeDef_mxJPO.fetchJPOClass(_paramCache, this.jpoMatchMxNamesStr);
         }
-
-        return this.jpoMatchMxNames.getConstructor().newInstance().match(_paramCache, this, _matches);
+        return this.jpoMatchMxNames;
     }
 
     /**
@@ -0,0 +1,476 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.typedef.filenames;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO.CacheKey;
+
+/**
+ * Persistent index of the CI files used for warm starts. The index stores
+ * for each scanned directory the modified date and the names of all files
+ * and sub directories, and for each file the size, the modified date and the
+ * evaluated MX names depending on the type definition (only for MX names which
+ * depend on the content of the file, e.g. for JPOs). A directory listing
+ * is only reused if the modified date of the directory is unchanged, an MX
+ * name only if the size and modified date of the file are unchanged.<br/>
+ * Directories and files which are modified within the last
+ * {@link #RACY_TIME} milliseconds are not indexed, because a later
+ * modification within the same time stamp could not be detected.<br/>
+ * The index is written as text file; each line defines one directory
+ * (prefixed with {@link #KIND_DIR}) or one MX name of a file (prefixed with
+ * {@link #KIND_MXNAME}) with the values separated by tabulators. Backslashes,
+ * tabulators, new lines and carriage returns within the values are escaped.
+ * Malformed lines (e.g. from an interrupted write) are skipped, so that the
+ * related directories and files are evaluated again.
+ *
+ * @author The MxUpdate Team
+ */
+public class FileIndex_mxJPO
+{
+    /** Separator of the values within one line. */
+    private static final String SEPARATOR = "\t";
+    /** Separator of the names within a directory listing. */
+    private static final String SEPARATOR_NAMES = "/";
+    /** Header line of the index. */
+    private static final String HEADER = "# MxUpdate File Index V2: D path modified files dirs | N path size modified typedef name";
+    /** Kind of the line for a directory listing. */
+    private static final String KIND_DIR = "D";
+    /** Kind of the line for a MX name of a file. */
+    private static final String KIND_MXNAME = "N";
+    /** Time in milliseconds in which modified directories and files are not indexed. */
+    private static final long RACY_TIME = 2000L;
+
+    /** Index file. */
+    private final File file;
+    /** Listings depending on the absolute path of the directories. */
+    private final Map<String,Listing> listings = new ConcurrentHashMap<>();
+    /** Absolute paths of all directories with a listing of the current run. */
+    private final Set<String> scanned = Collections.newSetFromMap(new ConcurrentHashMap<String,Boolean>());
+    /** MX names depending on the absolute path of the files and the name of the type definitions. */
+    private final Map<String,MxName> mxNames = new ConcurrentHashMap<>();
+
+    /**
+     * Initializes the index for given <code>_file</code>.
+     *
+     * @param _file     index file
+     */
+    public FileIndex_mxJPO(final File _file)
+    {
+        this.file = _file;
+    }
+
+    /**
+     * Returns the index stored within the cache of the parameter cache.
+     *
+     * @param _paramCache   parameter cache
+     * @return index; <code>null</code> if no index is used
+     */
+    public static FileIndex_mxJPO get(final ParameterCache_mxJPO _paramCache)
+    {
+        return (FileIndex_mxJPO) _paramCache.getCache(CacheKey.FileIndex);
+    }
+
+    /**
+     * Reads the index file (if exists). Lines of an index file with another
+     * header and malformed lines are ignored.
+     *
+     * @return this index instance
+     * @throws IOException if the index file could not be read
+     */
+    public FileIndex_mxJPO read()
+        throws IOException
+    {
+        this.listings.clear();
+        this.mxNames.clear();
+        if (this.file.exists())  {
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(this.file), "UTF-8"));
+            try  {
+                String line = reader.readLine();
+                if (FileIndex_mxJPO.HEADER.equals(line))  {
+                    line = reader.readLine();
+                    while (line != null)  {
+                        final String[] values = line.split(FileIndex_mxJPO.SEPARATOR, -1);
+                        for (int idx = 0; idx < values.length; idx++)  {
+                            values[idx] = FileIndex_mxJPO.unescape(values[idx]);
+                        }
+                        try  {
+                            if (FileIndex_mxJPO.KIND_DIR.equals(values[0]) && (values.length == 5))  {
+                                this.listings.put(values[1], new Listing(Long.parseLong(values[2]),
+                                                                         FileIndex_mxJPO.split(values[3]),
+                                                                         FileIndex_mxJPO.split(values[4])));
+                            } else if (FileIndex_mxJPO.KIND_MXNAME.equals(values[0]) && (values.length == 6))  {
+                                this.mxNames.put(FileIndex_mxJPO.key(values[1], values[4]),
+                                                 new MxName(values[1], values[4], Long.parseLong(values[2]), Long.parseLong(values[3]), values[5]));
+                            }
+                        } catch (final NumberFormatException e)  {
+                            // malformed line is skipped
+                        }
+                        line = reader.readLine();
+                    }
+                }
+            } finally  {
+                reader.close();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes the index file. Listings of directories which are not scanned
+     * within the current run and do not exist anymore are removed. MX names
+     * of files which are not within the listing of the directory are also
+     * removed.
+     *
+     * @throws IOException if the index file could not be written
+     */
+    public void write()
+        throws IOException
+    {
+        final PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(this.file), "UTF-8"));
+        try  {
+            writer.append(FileIndex_mxJPO.HEADER).append('\n');
+            for (final Map.Entry<String,Listing> entry : this.listings.entrySet())  {
+                if (this.scanned.contains(entry.getKey()) || new File(entry.getKey()).isDirectory())  {
+                    writer.append(FileIndex_mxJPO.KIND_DIR)
+                          .append(FileIndex_mxJPO.SEPARATOR).append(FileIndex_mxJPO.escape(entry.getKey()))
+                          .append(FileIndex_mxJPO.SEPARATOR).append(String.valueOf(entry.getValue().modified))
+                          .append(FileIndex_mxJPO.SEPARATOR).append(FileIndex_mxJPO.escape(FileIndex_mxJPO.join(entry.getValue().files)))
+                          .append(FileIndex_mxJPO.SEPARATOR).append(FileIndex_mxJPO.escape(FileIndex_mxJPO.join(entry.getValue().dirs)))
+                          .append('\n');
+                }
+            }
+            for (final MxName mxName : this.mxNames.values())  {
+                final File mxFile = new File(mxName.path);
+                final Listing listing = this.listings.get(mxFile.getParent());
+                if ((listing != null) && listing.files.contains(mxFile.getName()))  {
+                    writer.append(FileIndex_mxJPO.KIND_MXNAME)
+                          .append(FileIndex_mxJPO.SEPARATOR).append(FileIndex_mxJPO.escape(mxName.path))
+                          .append(FileIndex_mxJPO.SEPARATOR).append(String.valueOf(mxName.size))
+                          .append(FileIndex_mxJPO.SEPARATOR).append(String.valueOf(mxName.modified))
+                          .append(FileIndex_mxJPO.SEPARATOR).append(FileIndex_mxJPO.escape(mxName.typeDef))
+                          .append(FileIndex_mxJPO.SEPARATOR).append(FileIndex_mxJPO.escape(mxName.mxName))
+                          .append('\n');
+                }
+            }
+        } finally  {
+            writer.close();
+        }
+    }
+
+    /**
+     * Returns the indexed listing of <code>_dir</code> if the modified date
+     * of the directory is unchanged.
+     *
+     * @param _dir          directory
+     * @param _modified     current modified date of the directory
+     * @return listing; <code>null</code> if not indexed or if the directory
+     *         is changed
+     */
+    public Listing getListing(final Path _dir,
+                              final long _modified)
+    {
+        final String path = _dir.toAbsolutePath().toString();
+        final Listing listing = this.listings.get(path);
+        final Listing ret = ((listing != null) && (listing.modified == _modified)) ? listing : null;
+        if (ret != null)  {
+            this.scanned.add(path);
+        }
+        return ret;
+    }
+
+    /**
+     * Defines the listing of <code>_dir</code>.
+     *
+     * @param _dir          directory
+     * @param _modified     modified date of the directory before the listing
+     *                      was read
+     * @param _files        names of all files within the directory
+     * @param _dirs         names of all sub directories
+     */
+    public void putListing(final Path _dir,
+                           final long _modified,
+                           final Collection<String> _files,
+                           final Collection<String> _dirs)
+    {
+        final String path = _dir.toAbsolutePath().toString();
+        if (_modified < (System.currentTimeMillis() - FileIndex_mxJPO.RACY_TIME))  {
+            this.listings.put(path, new Listing(_modified, _files, new ArrayList<>(_dirs)));
+            this.scanned.add(path);
+        } else  {
+            this.listings.remove(path);
+        }
+    }
+
+    /**
+     * Returns the indexed MX name of <code>_file</code> for given type
+     * definition if the size and modified date of the file are unchanged.
+     *
+     * @param _typeDef      type definition
+     * @param _file         file
+     * @return MX name; <code>null</code> if not indexed or if the file is
+     *         changed
+     */
+    public String getMxName(final TypeDef_mxJPO _typeDef,
+                            final File _file)
+    {
+        String ret = null;
+        final MxName mxName = this.mxNames.get(FileIndex_mxJPO.key(_file.getAbsolutePath(), _typeDef.getName()));
+        if (mxName != null)  {
+            final BasicFileAttributes attrs = FileIndex_mxJPO.readAttributes(_file);
+            if ((attrs != null) && (attrs.size() == mxName.size) && (attrs.lastModifiedTime().toMillis() == mxName.modified))  {
+                ret = mxName.mxName;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Defines the MX name of <code>_file</code> for given type definition.
+     *
+     * @param _typeDef      type definition
+     * @param _file         file
+     * @param _mxName       evaluated MX name
+     */
+    public void putMxName(final TypeDef_mxJPO _typeDef,
+                          final File _file,
+                          final String _mxName)
+    {
+        final String path = _file.getAbsolutePath();
+        final String key = FileIndex_mxJPO.key(path, _typeDef.getName());
+        final BasicFileAttributes attrs = FileIndex_mxJPO.readAttributes(_file);
+        if ((attrs != null) && (attrs.lastModifiedTime().toMillis() < (System.currentTimeMillis() - FileIndex_mxJPO.RACY_TIME)))  {
+            this.mxNames.put(key, new MxName(path, _typeDef.getName(), attrs.size(), attrs.lastModifiedTime().toMillis(), _mxName));
+        } else  {
+            this.mxNames.remove(key);
+        }
+    }
+
+    /**
+     * Reads the attributes of <code>_file</code>.
+     *
+     * @param _file     file
+     * @return attributes; <code>null</code> if the file could not be read
+     */
+    private static BasicFileAttributes readAttributes(final File _file)
+    {
+        BasicFileAttributes ret;
+        try  {
+            ret = Files.readAttributes(_file.toPath(), BasicFileAttributes.class);
+        } catch (final IOException e)  {
+            ret = null;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the key of a MX name for a file and type definition.
+     *
+     * @param _path         absolute path of the file
+     * @param _typeDef      name of the type definition
+     * @return key
+     */
+    private static String key(final String _path,
+                              final String _typeDef)
+    {
+        return _path + FileIndex_mxJPO.SEPARATOR + _typeDef;
+    }
+
+    /**
+     * Escapes backslashes, tabulators, new lines and carriage returns of
+     * <code>_text</code>.
+     *
+     * @param _text     text to escape
+     * @return escaped text
+     */
+    private static String escape(final String _text)
+    {
+        final StringBuilder ret = new StringBuilder();
+        for (final char ch : _text.toCharArray())  {
+            switch (ch)  {
+                case '\\':  ret.append("\\\\");break;
+                case '\t':  ret.append("\\t");break;
+                case '\n':  ret.append("\\n");break;
+                case '\r':  ret.append("\\r");break;
+                default:    ret.append(ch);break;
+            }
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Unescapes <code>_text</code> escaped with {@link #escape(String)}.
+     *
+     * @param _text     text to unescape
+     * @return unescaped text
+     */
+    private static String unescape(final String _text)
+    {
+        final StringBuilder ret = new StringBuilder();
+        for (int idx = 0; idx < _text.length(); idx++)  {
+            final char ch = _text.charAt(idx);
+            if ((ch == '\\') && ((idx + 1) < _text.length()))  {
+                final char next = _text.charAt(++idx);
+                switch (next)  {
+                    case 't':   ret.append('\t');break;
+                    case 'n':   ret.append('\n');break;
+                    case 'r':   ret.append('\r');break;
+                    default:    ret.append(next);break;
+                }
+            } else  {
+                ret.append(ch);
+            }
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Splits the names of a directory listing.
+     *
+     * @param _names    joined names
+     * @return list of names
+     */
+    private static List<String> split(final String _names)
+    {
+        return _names.isEmpty() ? new ArrayList<String>() : Arrays.asList(_names.split(FileIndex_mxJPO.SEPARATOR_NAMES));
+    }
+
+    /**
+     * Joins the names of a directory listing.
+     *
+     * @param _names    names
+     * @return joined names
+     */
+    private static String join(final Collection<String> _names)
+    {
+        final StringBuilder ret = new StringBuilder();
+        for (final String name : _names)  {
+            if (ret.length() > 0)  {
+                ret.append(FileIndex_mxJPO.SEPARATOR_NAMES);
+            }
+            ret.append(name);
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Indexed listing of one directory.
+     */
+    public static final class Listing
+    {
+        /** Modified date of the directory. */
+        private final long modified;
+        /** Names of all files within the directory. */
+        private final Set<String> files;
+        /** Names of all sub directories. */
+        private final Collection<String> dirs;
+
+        /**
+         * Initializes the listing.
+         *
+         * @param _modified     modified date of the directory
+         * @param _files        names of all files
+         * @param _dirs         names of all sub directories
+         */
+        private Listing(final long _modified,
+                        final Collection<String> _files,
+                        final Collection<String> _dirs)
+        {
+            this.modified = _modified;
+            this.files = new HashSet<>(_files);
+            this.dirs = _dirs;
+        }
+
+        /**
+         * Returns the names of all files within the directory.
+         *
+         * @return names of all files
+         */
+        public Collection<String> getFiles()
+        {
+            return this.files;
+        }
+
+        /**
+         * Returns the names of all sub directories.
+         *
+         * @return names of all sub directories
+         */
+        public Collection<String> getDirs()
+        {
+            return this.dirs;
+        }
+    }
+
+    /**
+     * Indexed MX name of one file for one type definition.
+     */
+    private static final class MxName
+    {
+        /** Absolute path of the file. */
+        private final String path;
+        /** Name of the type definition. */
+        private final String typeDef;
+        /** Size of the file. */
+        private final long size;
+        /** Modified date of the file. */
+        private final long modified;
+        /** MX name. */
+        private final String mxName;
+
+        /**
+         * Initializes the MX name.
+         *
+         * @param _path         absolute path of the file
+         * @param _typeDef      name of the type definition
+         * @param _size         size of the file
+         * @param _modified     modified date of the file
+         * @param _mxName       MX name
+         */
+        private MxName(final String _path,
+                       final String _typeDef,
+                       final long _size,
+                       final long _modified,
+                       final String _mxName)
+        {
+            this.path = _path;
+            this.typeDef = _typeDef;
+            this.size = _size;
+            this.modified = _modified;
+            this.mxName = _mxName;
+        }
+    }
+}
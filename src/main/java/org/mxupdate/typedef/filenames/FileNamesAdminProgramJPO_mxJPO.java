@@ -17,6 +17,7 @@ package org.mxupdate.typedef.filenames;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.List;
 import java.util.SortedMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,6 +25,7 @@ import java.util.regex.Pattern;
 import org.mxupdate.typedef.TypeDef_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.update.util.UpdateException_mxJPO;
+import org.mxupdate.update.util.WildcardMatcher_mxJPO;
 import org.mxupdate.util.FileUtils_mxJPO;
 import org.mxupdate.util.JPOUtil_mxJPO;
 
@@ -37,6 +39,30 @@ public class FileNamesAdminProgramJPO_mxJPO
      */
     private static final Pattern PATTERN_JPO_PACKAGE = Pattern.compile("(?<=package)[ \\t]+[A-Za-z0-9\\._]*[ \\t]*;");
 
+    /**
+     * Regular expression for the last line of the JPO header: the package
+     * line, the first import or the first type declaration (the package must
+     * be defined before).
+     */
+    private static final Pattern PATTERN_JPO_HEADER_END = Pattern.compile("(?<=package)[ \\t]+[A-Za-z0-9\\._]*[ \\t]*;"
+            + "|^[ \\t]*import[ \\t]"
+            + "|^[ \\t]*((public|protected|private|abstract|final|static|strictfp)[ \\t]+)*(class|interface|enum|@interface)[ \\t]");
+
+    /** Maximum number of characters of the JPO header which are read. */
+    private static final int MAX_HEADER_LENGTH = 64 * 1024;
+
+    /**
+     * {@inheritDoc}
+     * <p>The JPO files itself are also matched.</p>
+     */
+    @Override()
+    public List<String[]> evalFileNameAffixes(final TypeDef_mxJPO _typeDef)
+    {
+        final List<String[]> ret = super.evalFileNameAffixes(_typeDef);
+        ret.add(new String[]{null, JPOUtil_mxJPO.JPO_NAME_SUFFIX_EXTENDSION});
+        return ret;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -50,27 +76,52 @@ public class FileNamesAdminProgramJPO_mxJPO
     {
         final SortedMap<String,File> ret = super.match(_paramCache, _typeDef, _files, _matches);
 
+        final WildcardMatcher_mxJPO matcher = WildcardMatcher_mxJPO.compile(_matches);
+        final FileIndex_mxJPO index = FileIndex_mxJPO.get(_paramCache);
+
         for (final File file : _files)  {
             if (file.getName().endsWith(JPOUtil_mxJPO.JPO_NAME_SUFFIX_EXTENDSION))  {
                 // file identified as JPO
-
-                final String code = FileUtils_mxJPO.readFileToString(file);
-                String mxName = file.getName().substring(0, file.getName().length() - JPOUtil_mxJPO.JPO_NAME_SUFFIX_EXTENDSION_LENGTH);
-
-                // prefix with package name
-                for (final String line : code.split("\n"))  {
-                    final Matcher pckMatch = FileNamesAdminProgramJPO_mxJPO.PATTERN_JPO_PACKAGE.matcher(line);
-                    if (pckMatch.find())  {
-                        mxName = pckMatch.group().replace(';', ' ').trim() + "." + mxName;
-                        break;
+                String mxName = (index != null) ? index.getMxName(_typeDef, file) : null;
+                if (mxName == null)  {
+                    mxName = this.evalJPOName(file);
+                    if (index != null)  {
+                        index.putMxName(_typeDef, file, mxName);
                     }
                 }
 
-                if (!ret.containsKey(mxName) && this.matchMxName(_paramCache, mxName, _matches))  {
+                if (!ret.containsKey(mxName) && this.matchMxName(_paramCache, mxName, matcher))  {
                     ret.put(mxName, file);
                 }
             }
         }
         return ret;
     }
+
+    /**
+     * Evaluates the MX name of the JPO <code>_file</code>. The name of the
+     * JPO is prefixed with the package name defined within the code. Only the
+     * {@link FileUtils_mxJPO#readFileHeader(File, Pattern, int) header} of the
+     * JPO file is read until the package, first import or type declaration.
+     *
+     * @param _file     JPO file
+     * @return MX name of the JPO
+     * @throws UpdateException_mxJPO if the JPO file could not be read
+     */
+    protected String evalJPOName(final File _file)
+        throws UpdateException_mxJPO
+    {
+        final String header = FileUtils_mxJPO.readFileHeader(
+                _file,
+                FileNamesAdminProgramJPO_mxJPO.PATTERN_JPO_HEADER_END,
+                FileNamesAdminProgramJPO_mxJPO.MAX_HEADER_LENGTH);
+        String mxName = _file.getName().substring(0, _file.getName().length() - JPOUtil_mxJPO.JPO_NAME_SUFFIX_EXTENDSION_LENGTH);
+
+        // prefix with package name
+        final Matcher pckMatch = FileNamesAdminProgramJPO_mxJPO.PATTERN_JPO_PACKAGE.matcher(header);
+        if (pckMatch.find())  {
+            mxName = pckMatch.group().replace(';', ' ').trim() + "." + mxName;
+        }
+        return mxName;
+    }
 }
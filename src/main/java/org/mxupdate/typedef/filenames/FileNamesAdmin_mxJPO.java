@@ -16,14 +16,16 @@
 package org.mxupdate.typedef.filenames;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
 import org.mxupdate.typedef.TypeDef_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
-import org.mxupdate.update.util.StringUtil_mxJPO;
 import org.mxupdate.update.util.UpdateException_mxJPO;
+import org.mxupdate.update.util.WildcardMatcher_mxJPO;
 import org.mxupdate.util.FileUtils_mxJPO;
 
 /**
@@ -43,9 +45,10 @@ public class FileNamesAdmin_mxJPO
     {
         final SortedMap<String,File> ret = new TreeMap<String,File>();
 
+        final WildcardMatcher_mxJPO matcher = WildcardMatcher_mxJPO.compile(_matches);
         for (final File file : _files)  {
             final String mxName = this.evalMxName(_paramCache, _typeDef, file);
-            if ((mxName != null)  && this.matchMxName(_paramCache, mxName, _matches))  {
+            if ((mxName != null)  && this.matchMxName(_paramCache, mxName, matcher))  {
                 ret.put(mxName, file);
             }
         }
@@ -53,21 +56,38 @@ public class FileNamesAdmin_mxJPO
         return ret;
     }
 
+    /**
+     * Returns the file name prefixes and suffixes of all files which could be
+     * matched for given type definition. The prefixes and suffixes are used
+     * from the {@link FileNamesClassifier_mxJPO classifier} to preselect the
+     * files before {@link #match(ParameterCache_mxJPO, TypeDef_mxJPO, Collection, Collection)
+     * match} is called.
+     *
+     * @param _typeDef      type definition
+     * @return list of prefix and suffix arrays (with <code>null</code> for
+     *         not defined prefix or suffix)
+     */
+    public List<String[]> evalFileNameAffixes(final TypeDef_mxJPO _typeDef)
+    {
+        final List<String[]> ret = new ArrayList<String[]>();
+        ret.add(new String[]{_typeDef.getFilePrefix(), _typeDef.getFileSuffix()});
+        return ret;
+    }
+
     /**
      * Checks if given MX name without prefix and suffix matches given match
      * string.
      *
      * @param _paramCache   parameter cache
      * @param _mxName       name of the administration object to check
-     * @param _matches      list of string which must be matched (if
-     *                      {@code null}, name matched!)
+     * @param _matcher      compiled matches which must be matched
      * @return <i>true</i> if the given MX name matches; otherwise <i>false</i>
      */
     protected boolean matchMxName(final ParameterCache_mxJPO _paramCache,
                                   final String _mxName,
-                                  final Collection<String> _matches)
+                                  final WildcardMatcher_mxJPO _matcher)
     {
-        return StringUtil_mxJPO.match(_mxName, _matches);
+        return _matcher.match(_mxName);
     }
 
     /**
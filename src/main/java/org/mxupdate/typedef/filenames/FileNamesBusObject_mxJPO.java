@@ -16,13 +16,12 @@
 package org.mxupdate.typedef.filenames;
 
 import java.io.File;
-import java.util.Collection;
 
 import org.mxupdate.typedef.TypeDef_mxJPO;
 import org.mxupdate.update.BusObject_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
-import org.mxupdate.update.util.StringUtil_mxJPO;
 import org.mxupdate.update.util.UpdateException_mxJPO;
+import org.mxupdate.update.util.WildcardMatcher_mxJPO;
 
 /**
  * Matches given file names against business objects depending on match
@@ -62,15 +61,15 @@ public class FileNamesBusObject_mxJPO
      * @param _paramCache   parameter cache
      * @param _mxName       name (and revision) of the administration business
      *                      object
-     * @param _matches      collection string which must be matched
+     * @param _matcher      compiled matches which must be matched
      * @return <i>true</i> if the given MX name matches; otherwise <i>false</i>
      */
     @Override()
     protected boolean matchMxName(final ParameterCache_mxJPO _paramCache,
                                   final String _mxName,
-                                  final Collection<String> _matches)
+                                  final WildcardMatcher_mxJPO _matcher)
     {
         final String[] nameRev = _mxName.split(BusObject_mxJPO.SPLIT_NAME);
-        return (StringUtil_mxJPO.match(nameRev[0], _matches) || ((nameRev.length > 1) && StringUtil_mxJPO.match(nameRev[1], _matches)));
+        return (_matcher.match(nameRev[0]) || ((nameRev.length > 1) && _matcher.match(nameRev[1])));
     }
 }
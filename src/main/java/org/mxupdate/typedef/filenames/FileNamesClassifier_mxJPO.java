@@ -0,0 +1,224 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.typedef.filenames;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+
+import matrix.util.MatrixException;
+
+/**
+ * Classifies files to type definitions within one pass. For all type
+ * definitions with a {@link FileNamesAdmin_mxJPO matcher of admin file names}
+ * the file name prefixes and suffixes are indexed once, so that for each file
+ * only one lookup per distinct prefix (or suffix) length is needed instead of
+ * testing the prefixes and suffixes of all type definitions. The files of a
+ * type definition with another matcher are not preselected.<br/>
+ * The classified files must be still {@link TypeDef_mxJPO#matchFileNames(ParameterCache_mxJPO, Collection, Collection)
+ * matched} from the matcher of the type definition to evaluate the MX names.
+ *
+ * @author The MxUpdate Team
+ */
+public class FileNamesClassifier_mxJPO
+{
+    /** Type definitions for which all files are classified. */
+    private final List<TypeDef_mxJPO> typeDefsAllFiles = new ArrayList<>();
+    /** Affixes with a prefix depending on the prefix. */
+    private final Map<String,List<Affix>> prefixes = new HashMap<>();
+    /** Sorted distinct lengths of all {@link #prefixes}. */
+    private final int[] prefixLengths;
+    /** Affixes without prefix depending on the suffix. */
+    private final Map<String,List<Affix>> suffixes = new HashMap<>();
+    /** Sorted distinct lengths of all {@link #suffixes}. */
+    private final int[] suffixLengths;
+    /** Affixes without prefix and without suffix. */
+    private final List<Affix> others = new ArrayList<>();
+    /** All classified type definitions. */
+    private final Set<TypeDef_mxJPO> typeDefs = new HashSet<>();
+
+    /**
+     * Builds the index of the file name prefixes and suffixes for given type
+     * definitions.
+     *
+     * @param _paramCache   parameter cache
+     * @param _typeDefs     type definitions to classify
+     * @throws MatrixException              if fetch of the matcher failed
+     * @throws NoSuchMethodException        if the constructor of a matcher
+     *                                      does not exists
+     * @throws InstantiationException       if a matcher could not be created
+     * @throws IllegalAccessException       if the constructor of a matcher is
+     *                                      not public
+     * @throws InvocationTargetException    if the constructor of a matcher
+     *                                      itself throws an exception
+     * @throws ClassNotFoundException       if the class of a matcher is not
+     *                                      found
+     */
+    public FileNamesClassifier_mxJPO(final ParameterCache_mxJPO _paramCache,
+                                     final Collection<TypeDef_mxJPO> _typeDefs)
+        throws MatrixException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException
+    {
+        final Set<Integer> prefixLens = new TreeSet<>();
+        final Set<Integer> suffixLens = new TreeSet<>();
+        for (final TypeDef_mxJPO typeDef : _typeDefs)  {
+            this.typeDefs.add(typeDef);
+            final IMatcherFileNames_mxJPO matcher = typeDef.newMatcherFileNames(_paramCache);
+            if (matcher instanceof FileNamesAdmin_mxJPO)  {
+                for (final String[] prefixSuffix : ((FileNamesAdmin_mxJPO) matcher).evalFileNameAffixes(typeDef))  {
+                    final Affix affix = new Affix(typeDef, prefixSuffix[0], prefixSuffix[1]);
+                    if (affix.prefix != null)  {
+                        FileNamesClassifier_mxJPO.add(this.prefixes, affix.prefix, affix);
+                        prefixLens.add(affix.prefix.length());
+                    } else if (affix.suffix != null)  {
+                        FileNamesClassifier_mxJPO.add(this.suffixes, affix.suffix, affix);
+                        suffixLens.add(affix.suffix.length());
+                    } else  {
+                        this.others.add(affix);
+                    }
+                }
+            } else  {
+                this.typeDefsAllFiles.add(typeDef);
+            }
+        }
+        this.prefixLengths = FileNamesClassifier_mxJPO.toArray(prefixLens);
+        this.suffixLengths = FileNamesClassifier_mxJPO.toArray(suffixLens);
+    }
+
+    /**
+     * Classifies given <code>_files</code> within one pass.
+     *
+     * @param _files    files to classify
+     * @return map of all type definitions and the depending classified files
+     */
+    public Map<TypeDef_mxJPO,Set<File>> classify(final Collection<File> _files)
+    {
+        final Map<TypeDef_mxJPO,Set<File>> ret = new HashMap<>();
+        for (final TypeDef_mxJPO typeDef : this.typeDefs)  {
+            ret.put(typeDef, new HashSet<File>());
+        }
+        for (final TypeDef_mxJPO typeDef : this.typeDefsAllFiles)  {
+            ret.get(typeDef).addAll(_files);
+        }
+
+        for (final File file : _files)  {
+            final String fileName = file.getName();
+            final int length = fileName.length();
+            for (final int prefixLength : this.prefixLengths)  {
+                if (prefixLength > length)  {
+                    break;
+                }
+                final List<Affix> affixes = this.prefixes.get(fileName.substring(0, prefixLength));
+                if (affixes != null)  {
+                    for (final Affix affix : affixes)  {
+                        if ((affix.suffix == null) || (fileName.endsWith(affix.suffix) && ((prefixLength + affix.suffix.length()) <= length)))  {
+                            ret.get(affix.typeDef).add(file);
+                        }
+                    }
+                }
+            }
+            for (final int suffixLength : this.suffixLengths)  {
+                if (suffixLength > length)  {
+                    break;
+                }
+                final List<Affix> affixes = this.suffixes.get(fileName.substring(length - suffixLength));
+                if (affixes != null)  {
+                    for (final Affix affix : affixes)  {
+                        ret.get(affix.typeDef).add(file);
+                    }
+                }
+            }
+            for (final Affix affix : this.others)  {
+                ret.get(affix.typeDef).add(file);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Adds <code>_affix</code> to the list of <code>_key</code> within
+     * <code>_map</code>.
+     *
+     * @param _map      map
+     * @param _key      key
+     * @param _affix    affix to add
+     */
+    private static void add(final Map<String,List<Affix>> _map,
+                            final String _key,
+                            final Affix _affix)
+    {
+        List<Affix> affixes = _map.get(_key);
+        if (affixes == null)  {
+            affixes = new ArrayList<>();
+            _map.put(_key, affixes);
+        }
+        affixes.add(_affix);
+    }
+
+    /**
+     * Converts the sorted <code>_lengths</code> into an array.
+     *
+     * @param _lengths  sorted lengths
+     * @return array of the lengths
+     */
+    private static int[] toArray(final Set<Integer> _lengths)
+    {
+        final int[] ret = new int[_lengths.size()];
+        int idx = 0;
+        for (final Integer length : _lengths)  {
+            ret[idx++] = length;
+        }
+        return ret;
+    }
+
+    /**
+     * Prefix and suffix of the file names of one type definition.
+     */
+    private static final class Affix
+    {
+        /** Type definition. */
+        private final TypeDef_mxJPO typeDef;
+        /** File name prefix (or <code>null</code> if not defined). */
+        private final String prefix;
+        /** File name suffix (or <code>null</code> if not defined). */
+        private final String suffix;
+
+        /**
+         * Initializes the affix. Empty prefixes and suffixes are handled as
+         * not defined.
+         *
+         * @param _typeDef  type definition
+         * @param _prefix   file name prefix
+         * @param _suffix   file name suffix
+         */
+        private Affix(final TypeDef_mxJPO _typeDef,
+                      final String _prefix,
+                      final String _suffix)
+        {
+            this.typeDef = _typeDef;
+            this.prefix = ((_prefix == null) || _prefix.isEmpty()) ? null : _prefix;
+            this.suffix = ((_suffix == null) || _suffix.isEmpty()) ? null : _suffix;
+        }
+    }
+}
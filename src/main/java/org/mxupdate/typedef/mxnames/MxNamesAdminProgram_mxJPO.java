@@ -24,7 +24,7 @@ import java.util.TreeSet;
 import org.mxupdate.typedef.TypeDef_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO.CacheKey;
-import org.mxupdate.update.util.StringUtil_mxJPO;
+import org.mxupdate.update.util.WildcardMatcher_mxJPO;
 import org.mxupdate.util.MqlBuilderUtil_mxJPO;
 import org.mxupdate.util.MqlBuilderUtil_mxJPO.MqlBuilder;
 
@@ -84,12 +84,13 @@ public class MxNamesAdminProgram_mxJPO
 
         // now prepare list of returned programs
         final SortedSet<String> ret;
-        if (_matches == null)  {
+        final WildcardMatcher_mxJPO matcher = WildcardMatcher_mxJPO.compile(_matches);
+        if (matcher.isMatchingAll())  {
             ret = progs.get(_typeDef.getMxUpdateKind());
         } else  {
             ret = new TreeSet<>();
             for (final String mxName : progs.get(_typeDef.getMxUpdateKind()))  {
-                if (StringUtil_mxJPO.match(mxName, _matches))  {
+                if (matcher.match(mxName))  {
                     ret.add(mxName);
                 }
             }
@@ -22,7 +22,7 @@ import java.util.TreeSet;
 import org.mxupdate.typedef.EMxAdmin_mxJPO;
 import org.mxupdate.typedef.TypeDef_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
-import org.mxupdate.update.util.StringUtil_mxJPO;
+import org.mxupdate.update.util.WildcardMatcher_mxJPO;
 
 import matrix.util.MatrixException;
 
@@ -43,9 +43,14 @@ public class MxNamesAdmin_mxJPO
     {
         final SortedSet<String> ret = new TreeSet<>();
         final EMxAdmin_mxJPO mxClassDef = EMxAdmin_mxJPO.valueOfByClass(_typeDef.getMxUpdateType());
-        for (final String mxName : mxClassDef.evalList(_paramCache))  {
-            if (StringUtil_mxJPO.match(mxName, _matches))  {
-                ret.add(mxName);
+        final WildcardMatcher_mxJPO matcher = WildcardMatcher_mxJPO.compile(_matches);
+        if (matcher.isMatchingAll())  {
+            ret.addAll(mxClassDef.evalList(_paramCache));
+        } else  {
+            for (final String mxName : mxClassDef.evalList(_paramCache))  {
+                if (matcher.match(mxName))  {
+                    ret.add(mxName);
+                }
             }
         }
         return ret;
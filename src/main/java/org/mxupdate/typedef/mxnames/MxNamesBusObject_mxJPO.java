@@ -19,65 +19,133 @@ import java.util.Collection;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
-import matrix.db.BusinessObjectWithSelect;
-import matrix.db.BusinessObjectWithSelectList;
-import matrix.db.Query;
 import matrix.util.MatrixException;
-import matrix.util.StringList;
 
 import org.mxupdate.typedef.TypeDef_mxJPO;
 import org.mxupdate.update.BusObject_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.update.util.StringUtil_mxJPO;
+import org.mxupdate.update.util.WildcardMatcher_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
 
 /**
  * Fetches the names for  for all business object of current type definition.
  * The revision of the business object is appended to the name of the business
  * object split by {@link BusObject_mxJPO#SPLIT_NAME}. If types which are
  * derived from original type are used, the type is the prefix of the name with
- * the prefix {@link BusObject_mxJPO#SPLIT_TYPE}.
+ * the prefix {@link BusObject_mxJPO#SPLIT_TYPE}.<br/>
+ * The matches are handed over as name and revision patterns to the MQL
+ * temporary query, so that only business objects with matching name or
+ * revision are selected. The dumped output of the query is parsed line by
+ * line and only the MX names of matching business objects are created.
  *
  * @author The MxUpdate Team
  */
 public class MxNamesBusObject_mxJPO
     implements IMatcherMxNames_mxJPO
 {
+    /** Separator of the values within the dumped output. */
+    private static final char SEPARATOR = '\t';
+
+    /** Separator of the records within the dumped output. */
+    private static final char RECORD_SEPARATOR = '\n';
+
     @Override()
     public SortedSet<String> match(final ParameterCache_mxJPO _paramCache,
                                    final TypeDef_mxJPO _typeDef,
                                    final Collection<String> _matches)
         throws MatrixException
     {
-        final StringList selects = new StringList(3);
-        selects.addElement("type");
-        selects.addElement("name");
-        selects.addElement("revision");
+        final SortedSet<String> ret = new TreeSet<String>();
+        final WildcardMatcher_mxJPO matcher = WildcardMatcher_mxJPO.compile(_matches);
+        if (matcher.isMatchingAll() || !MxNamesBusObject_mxJPO.isQueryPattern(_matches))  {
+            this.query(_paramCache, _typeDef, matcher, "*", "*", ret);
+        } else if (!_matches.isEmpty())  {
+            // business objects with matching name or matching revision
+            final String patterns = StringUtil_mxJPO.join(',', false, _matches, null);
+            this.query(_paramCache, _typeDef, matcher, patterns, "*", ret);
+            this.query(_paramCache, _typeDef, matcher, "*", patterns, ret);
+        }
+        return ret;
+    }
 
-        final Query query = new Query();
-        query.open(_paramCache.getContext());
-        query.setBusinessObjectType(_typeDef.getMxBusType());
-        final BusinessObjectWithSelectList list = query.select(_paramCache.getContext(), selects);
-        query.close(_paramCache.getContext());
+    /**
+     * Checks if all <code>_matches</code> could be used as patterns within
+     * the MQL temporary query. Because multiple patterns are separated by
+     * commas, matches with commas could not be used.
+     *
+     * @param _matches  matches to check
+     * @return <i>true</i> if all matches could be used as query patterns
+     */
+    private static boolean isQueryPattern(final Collection<String> _matches)
+    {
+        boolean ret = true;
+        for (final String match : _matches)  {
+            if (match.isEmpty() || (match.indexOf(',') >= 0))  {
+                ret = false;
+                break;
+            }
+        }
+        return ret;
+    }
 
-        final SortedSet<String> ret = new TreeSet<String>();
-        for (final Object mapObj : list)  {
-            final BusinessObjectWithSelect map = (BusinessObjectWithSelect) mapObj;
-            final String busType = (String) map.getSelectDataList("type").get(0);
-            final String busName = (String) map.getSelectDataList("name").get(0);
-            final String busRevision = (String) map.getSelectDataList("revision").get(0);
+    /**
+     * Selects all business objects of the business type of the type
+     * definition for given name and revision patterns. For each business
+     * object whose name or revision is matched by <code>_matcher</code>, the
+     * MX name is added to <code>_mxNames</code>.
+     *
+     * @param _paramCache   parameter cache
+     * @param _typeDef      type definition
+     * @param _matcher      matcher for names and revisions
+     * @param _namePattern  name pattern for the query
+     * @param _revPattern   revision pattern for the query
+     * @param _mxNames      set of MX names to update
+     * @throws MatrixException if the query failed
+     */
+    protected void query(final ParameterCache_mxJPO _paramCache,
+                         final TypeDef_mxJPO _typeDef,
+                         final WildcardMatcher_mxJPO _matcher,
+                         final String _namePattern,
+                         final String _revPattern,
+                         final SortedSet<String> _mxNames)
+        throws MatrixException
+    {
+        final String result = MqlBuilderUtil_mxJPO.mql()
+                .cmd("escape temp query bus ").arg(_typeDef.getMxBusType()).cmd(" ").arg(_namePattern).cmd(" ").arg(_revPattern)
+                .cmd(" dump ").arg(String.valueOf(MxNamesBusObject_mxJPO.SEPARATOR))
+                .cmd(" recordsep ").arg(String.valueOf(MxNamesBusObject_mxJPO.RECORD_SEPARATOR))
+                .exec(_paramCache.getContext());
 
-            if (StringUtil_mxJPO.match(busName, _matches) || StringUtil_mxJPO.match(busRevision, _matches))  {
-                final StringBuilder name = new StringBuilder();
-                if (_typeDef.hasMxBusTypeDerived())  {
-                    name.append(busType).append(BusObject_mxJPO.SPLIT_TYPE);
+        final int length = result.length();
+        int start = 0;
+        while (start < length)  {
+            int end = result.indexOf(MxNamesBusObject_mxJPO.RECORD_SEPARATOR, start);
+            if (end < 0)  {
+                end = length;
+            }
+            final int sepName = result.indexOf(MxNamesBusObject_mxJPO.SEPARATOR, start);
+            if ((sepName >= 0) && (sepName < end))  {
+                // empty revision of the last record => separator is trimmed
+                int sepRev = result.indexOf(MxNamesBusObject_mxJPO.SEPARATOR, sepName + 1);
+                if ((sepRev < 0) || (sepRev > end))  {
+                    sepRev = end;
                 }
-                name.append(busName);
-                if ((busRevision != null) && !busRevision.isEmpty())  {
-                    name.append(BusObject_mxJPO.SPLIT_NAME).append(busRevision);
+                final String busName = result.substring(sepName + 1, sepRev);
+                final String busRevision = (sepRev < end) ? result.substring(sepRev + 1, end) : "";
+                if (_matcher.match(busName) || _matcher.match(busRevision))  {
+                    final StringBuilder name = new StringBuilder();
+                    if (_typeDef.hasMxBusTypeDerived())  {
+                        name.append(result, start, sepName).append(BusObject_mxJPO.SPLIT_TYPE);
+                    }
+                    name.append(busName);
+                    if (!busRevision.isEmpty())  {
+                        name.append(BusObject_mxJPO.SPLIT_NAME).append(busRevision);
+                    }
+                    _mxNames.add(name.toString());
                 }
-                ret.add(name.toString());
             }
+            start = end + 1;
         }
-        return ret;
     }
 }
@@ -22,8 +22,10 @@ import java.util.Map;
 import org.mxupdate.mapping.PropertyDef_mxJPO;
 import org.mxupdate.typedef.EMxAdmin_mxJPO;
 import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.update.AbstractAdminObject_mxJPO.Section;
 import org.mxupdate.update.program.ProgramCI_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
 import org.mxupdate.update.util.StringUtil_mxJPO;
 import org.mxupdate.util.FileUtils_mxJPO;
 import org.mxupdate.util.JPOUtil_mxJPO;
@@ -60,14 +62,17 @@ public class UpdateAdminProgramJPO_mxJPO
     {
         if (_file.getName().endsWith(JPOUtil_mxJPO.JPO_NAME_SUFFIX_EXTENDSION))  {
             final String propName = PropertyDef_mxJPO.FILEDATE.getPropName(_paramCache);
+            final String propHashName = PropertyDef_mxJPO.FILEHASH.getPropName(_paramCache);
 
             // create program if not exists
             if (!EMxAdmin_mxJPO.Program.exist(_paramCache, _name))  {
                 MqlBuilderUtil_mxJPO.mql().cmd("escape add program ").arg(_name).cmd(" java").exec(_paramCache.getContext());
+                EMxAdmin_mxJPO.Program.registerCreated(_paramCache, _name);
             }
 
+            // only the properties are needed (the code of the JPO is skipped)
             final ProgramCI_mxJPO current = new ProgramCI_mxJPO(_name);
-            current.parse(_paramCache);
+            current.parseSections(_paramCache, Section.Properties);
 
             final MultiLineMqlBuilder mql = MqlBuilderUtil_mxJPO.multiLine(_file, "");
 
@@ -75,6 +80,9 @@ public class UpdateAdminProgramJPO_mxJPO
             if (current.getProperties().getValue4KeyValue(_paramCache, PropertyDef_mxJPO.FILEDATE) != null)  {
                 mql.newLine().cmd("escape mod program ").arg(_name).cmd(" remove property ").arg(propName);
             }
+            if (current.getProperties().getValue4KeyValue(_paramCache, PropertyDef_mxJPO.FILEHASH) != null)  {
+                mql.newLine().cmd("escape mod program ").arg(_name).cmd(" remove property ").arg(propHashName);
+            }
             // check if program type is java => if not define
             final String isJava = MqlBuilderUtil_mxJPO.mql().cmd("escape print program ").arg(_name).cmd(" select ").arg("isjavaprogram").exec(_paramCache.getContext());
             if (!"TRUE".equalsIgnoreCase(isJava))  {
@@ -85,6 +93,12 @@ public class UpdateAdminProgramJPO_mxJPO
             mql.newLine().cmd("escape mod program ").arg(_name).cmd(" add property ")
                     .arg(propName).cmd(" value ").arg(StringUtil_mxJPO.formatFileDate(_paramCache, new Date(_file.lastModified())));
 
+            // define file hash (only if checked)
+            if (_paramCache.getValueBoolean(ValueKeys.UpdateCheckFileHash))  {
+                mql.newLine().cmd("escape mod program ").arg(_name).cmd(" add property ")
+                        .arg(propHashName).cmd(" value ").arg(FileUtils_mxJPO.calcContentHash(_file));
+            }
+
             // update program
             mql.newLine().cmd("escape mod program ").arg(_name).cmd(" ")
                     .cmd("code ").arg(JPOUtil_mxJPO.convertJavaToJPOCode(current.isBackslashUpgraded(), _name, FileUtils_mxJPO.readFileToString(_file).toString()));
@@ -25,6 +25,7 @@ import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
 import org.mxupdate.update.util.StringUtil_mxJPO;
 import org.mxupdate.util.FileUtils_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO.MergedMqlException;
 
 /**
  * Updates given CI object.
@@ -76,6 +77,9 @@ public class UpdateObject_mxJPO
         final ScriptHandler_mxJPO script = new ScriptHandler_mxJPO();
 
         script.defVar("FILEDATE", StringUtil_mxJPO.formatFileDate(_paramCache, new Date(_file.lastModified())));
+        if (_paramCache.getValueBoolean(ValueKeys.UpdateCheckFileHash))  {
+            script.defVar("FILEHASH", FileUtils_mxJPO.calcContentHash(_file));
+        }
         script.defVar("FILENAME", _file.toString().replaceAll("\\\\", "/"));
         script.defVar("FILESUBPATH", FileUtils_mxJPO.extraceSubPath(_file.getAbsolutePath(), _typeDef.getFilePath()));
         script.defVar("CREATE", String.valueOf(_create));
@@ -102,7 +106,8 @@ public class UpdateObject_mxJPO
             script.parse(FileUtils_mxJPO.readFileToString(_file))
                   .execute(_paramCache);
         } catch (final Exception e) {
-            if (_paramCache.getValueBoolean(ValueKeys.ParamContinueOnError))  {
+            // merged MQL statements are executed again from the caller
+            if (_paramCache.getValueBoolean(ValueKeys.ParamContinueOnError) && !(e instanceof MergedMqlException))  {
                 _paramCache.logError(e.toString());
             } else {
                 throw e;
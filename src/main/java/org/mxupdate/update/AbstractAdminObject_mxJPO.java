@@ -16,6 +16,8 @@
 package org.mxupdate.update;
 
 import java.io.StringReader;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.SortedSet;
@@ -162,7 +164,7 @@ public abstract class AbstractAdminObject_mxJPO<CLASS extends AbstractAdminObjec
     public void parse(final ParameterCache_mxJPO _paramCache)
         throws MatrixException, ParseException
     {
-        new AdminXMLExportParser_mxJPO(new StringReader(this.execXMLExport(_paramCache))).parse(_paramCache, this);
+        new AdminXMLExportParser_mxJPO(this.execXMLExport(_paramCache)).parse(_paramCache, this);
 
         // prepare post preparation
         this.prepare();
@@ -171,8 +173,49 @@ public abstract class AbstractAdminObject_mxJPO<CLASS extends AbstractAdminObjec
         this.parseDBFinish(_paramCache);
     }
 
+    /**
+     * Creates a XML representation of the object and parses only the
+     * elements of the given <code>_sections</code>. The elements of all other
+     * sections are skipped from the parser (without copied texts and without
+     * called events). Elements outside of all sections (e.g. the backslash
+     * upgraded flag of programs) are always parsed. Afterwards the post
+     * preparation {@link #prepare()} is executed.<br/>
+     * The symbolic names and the package are not read, and derived classes
+     * overwriting {@link #parse(ParameterCache_mxJPO)} are not called. So the
+     * method could be only used if e.g. only the properties of the object are
+     * needed and not the complete object (which is needed for the export or
+     * the calculation of the delta).
+     *
+     * @param _paramCache   parameter cache
+     * @param _sections     needed sections
+     * @throws MatrixException  if the export of the admin object failed
+     * @throws ParseException   if the exported XML document could not be
+     *                          parsed
+     */
+    public void parseSections(final ParameterCache_mxJPO _paramCache,
+                              final Section... _sections)
+        throws MatrixException, ParseException
+    {
+        final Set<Section> needed = EnumSet.noneOf(Section.class);
+        needed.addAll(Arrays.asList(_sections));
+        final Set<String> skippedTags = new HashSet<>();
+        for (final Section section : Section.values())  {
+            if (!needed.contains(section))  {
+                skippedTags.addAll(Arrays.asList(section.tags));
+            }
+        }
+
+        new AdminXMLExportParser_mxJPO(this.execXMLExport(_paramCache)).parse(_paramCache, this, skippedTags);
+
+        // prepare post preparation
+        this.prepare();
+    }
+
     /**
      * Finishes the DB parsing by reading the symbolic names and package names.
+     * If the symbolic names and packages are
+     * {@link EMxAdmin_mxJPO#prefetchSymbolicNames(ParameterCache_mxJPO)
+     * prefetched}, the prefetched values are used.
      *
      * @param _paramCache   parameter cache
      * @throws MatrixException  if the export of the admin object failed
@@ -180,30 +223,39 @@ public abstract class AbstractAdminObject_mxJPO<CLASS extends AbstractAdminObjec
     protected void parseDBFinish(final ParameterCache_mxJPO _paramCache)
         throws MatrixException
     {
-        // reads symbolic names of the administration objects
-        final String symbProg = _paramCache.getValueString(ValueKeys.RegisterSymbolicNames);
-        final String symbProgIdxOf = new StringBuilder().append(" on program ").append(symbProg).append(' ').toString();
-        final String symbNames = MqlBuilderUtil_mxJPO.mql()
-                .cmd("escape list property on program ").arg(symbProg).cmd(" ")
-                .cmd("to ").cmd(this.mxClassDef().mxClass()).cmd(" ").arg(this.getName()).cmd(" ").cmd(this.mxClassDef().mxClassSuffix())
-                .exec(_paramCache.getContext());
-        if (!symbNames.isEmpty())  {
-            for (final String symbName : symbNames.split("\n"))  {
-                this.symbolicNames.add(symbName.substring(0, symbName.indexOf(symbProgIdxOf)));
-            }
-        }
+        // prefetched symbolic names and package
+        final String pckPrefetched = this.mxClassDef().fetchPackage(_paramCache, this.getName());
+        final SortedSet<String> symbNamesPrefetched = (pckPrefetched != null) ? this.mxClassDef().fetchSymbolicNames(_paramCache, this.getName()) : null;
 
-        // evaluate package (with workaround for associations)
         final String pckTmp;
-        if (this.mxClassDef() == EMxAdmin_mxJPO.Association)  {
-            pckTmp = MqlBuilderUtil_mxJPO.mql()
-                    .cmd("escape list package ").arg("*").cmd(" where ").arg("member[association " + this.getName() + "]")
-                    .exec(_paramCache.getContext());
+        if (symbNamesPrefetched != null)  {
+            this.symbolicNames.addAll(symbNamesPrefetched);
+            pckTmp = pckPrefetched;
         } else  {
-            pckTmp = MqlBuilderUtil_mxJPO.mql()
-                    .cmd("escape print ").cmd(this.mxClassDef().mxClass()).cmd(" ").arg(this.getName()).cmd(" ").cmd(this.mxClassDef().mxClassSuffix()).cmd(" ")
-                    .cmd("select ").arg("package").cmd(" dump")
+            // reads symbolic names of the administration objects
+            final String symbProg = _paramCache.getValueString(ValueKeys.RegisterSymbolicNames);
+            final String symbProgIdxOf = new StringBuilder().append(" on program ").append(symbProg).append(' ').toString();
+            final String symbNames = MqlBuilderUtil_mxJPO.mql()
+                    .cmd("escape list property on program ").arg(symbProg).cmd(" ")
+                    .cmd("to ").cmd(this.mxClassDef().mxClass()).cmd(" ").arg(this.getName()).cmd(" ").cmd(this.mxClassDef().mxClassSuffix())
                     .exec(_paramCache.getContext());
+            if (!symbNames.isEmpty())  {
+                for (final String symbName : symbNames.split("\n"))  {
+                    this.symbolicNames.add(symbName.substring(0, symbName.indexOf(symbProgIdxOf)));
+                }
+            }
+
+            // evaluate package (with workaround for associations)
+            if (this.mxClassDef() == EMxAdmin_mxJPO.Association)  {
+                pckTmp = MqlBuilderUtil_mxJPO.mql()
+                        .cmd("escape list package ").arg("*").cmd(" where ").arg("member[association " + this.getName() + "]")
+                        .exec(_paramCache.getContext());
+            } else  {
+                pckTmp = MqlBuilderUtil_mxJPO.mql()
+                        .cmd("escape print ").cmd(this.mxClassDef().mxClass()).cmd(" ").arg(this.getName()).cmd(" ").cmd(this.mxClassDef().mxClassSuffix()).cmd(" ")
+                        .cmd("select ").arg("package").cmd(" dump")
+                        .exec(_paramCache.getContext());
+            }
         }
         this.packageRef = StringUtils_mxJPO.isEmpty(pckTmp) ? (String) null : pckTmp;
     }
@@ -211,7 +263,9 @@ public abstract class AbstractAdminObject_mxJPO<CLASS extends AbstractAdminObjec
     /**
      * The XML export is executed and the result returned. The method could be
      * used to overwrite the returned XML export; e.g. if the XML export from MX
-     * has some 'problems'.
+     * has some 'problems'. If the XML export is
+     * {@link EMxAdmin_mxJPO#prefetchXMLExports prefetched}, the prefetched XML
+     * export is used.
      *
      * @param _paramCache   parameter cache
      * @return string from the XML export
@@ -220,7 +274,10 @@ public abstract class AbstractAdminObject_mxJPO<CLASS extends AbstractAdminObjec
     protected String execXMLExport(final ParameterCache_mxJPO _paramCache)
         throws MatrixException
     {
-        return MqlBuilderUtil_mxJPO.mql().cmd("escape export ").cmd(this.mxClassDef().mxClass()).cmd(" ").arg(this.getName()).cmd(" xml").exec(_paramCache.getContext());
+        final String xml = this.mxClassDef().fetchXMLExport(_paramCache, this.getName());
+        return (xml != null)
+                ? xml
+                : MqlBuilderUtil_mxJPO.mql().cmd("escape export ").cmd(this.mxClassDef().mxClass()).cmd(" ").arg(this.getName()).cmd(this.mxClassDef().xmlExportFlags()).cmd(" xml").exec(_paramCache.getContext());
     }
 
     /**
@@ -288,6 +345,7 @@ public abstract class AbstractAdminObject_mxJPO<CLASS extends AbstractAdminObjec
                 .append(" \"").append(StringUtil_mxJPO.convertMql(this.getName())).append("\" ")
                 .append(this.mxClassDef().mxClassSuffix());
         MqlUtil_mxJPO.execMql(_paramCache, cmd);
+        this.mxClassDef().registerDeleted(_paramCache, this.getName());
     }
 
     /**
@@ -305,6 +363,7 @@ public abstract class AbstractAdminObject_mxJPO<CLASS extends AbstractAdminObjec
             mql.cmd(" ").cmd(this.mxClassDef().mxClassSuffix());
         }
         mql.exec(_paramCache.getContext());
+        this.mxClassDef().registerCreated(_paramCache, this.getName());
     }
 
     /**
@@ -376,6 +435,41 @@ public abstract class AbstractAdminObject_mxJPO<CLASS extends AbstractAdminObjec
 
     ///////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Sections of the XML export of administration objects which could be
+     * parsed {@link AbstractAdminObject_mxJPO#parseSections selectively}.
+     * Each section is defined by the tag names of the elements directly below
+     * the administration object element.
+     */
+    public enum Section
+    {
+        /** Properties with description, hidden flag and property list. */
+        Properties("adminProperties"),
+        /** Triggers. */
+        Triggers("triggerList"),
+        /** Access definitions including the states of policies. */
+        Access("access", "adminAccess", "accessRuleRef",
+               "ownerAccess", "ownerRevoke", "publicAccess", "publicRevoke", "userAccessList",
+               "allstateDef", "stateDefList"),
+        /** Code of programs and content of pages. */
+        Code("code", "pageContent"),
+        /** Fields of user interface objects (e.g. forms and tables). */
+        Fields("fieldList", "columnList");
+
+        /** Tag names of the elements of the section. */
+        private final String[] tags;
+
+        /**
+         * Initializes the section.
+         *
+         * @param _tags     tag names of the elements of the section
+         */
+        private Section(final String... _tags)
+        {
+            this.tags = _tags;
+        }
+    }
+
     /**
      * SAX handler used to parse the XML exports from XML.
      */
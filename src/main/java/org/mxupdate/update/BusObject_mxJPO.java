@@ -47,7 +47,9 @@ import matrix.db.Attribute;
 import matrix.db.AttributeList;
 import matrix.db.BusinessObject;
 import matrix.db.BusinessObjectWithSelect;
+import matrix.db.BusinessObjectWithSelectList;
 import matrix.db.ExpansionWithSelect;
+import matrix.db.Query;
 import matrix.db.RelationshipWithSelect;
 import matrix.util.MatrixException;
 import matrix.util.StringList;
@@ -221,6 +223,57 @@ public class BusObject_mxJPO
                 .exec(_paramCache.getContext());
     }
 
+    /**
+     * Evaluates for all business objects of given type definition the value
+     * of the <code>_select</code> statement with one query. The returned
+     * names are defined in the same format as for the MX names matcher
+     * {@link org.mxupdate.typedef.mxnames.MxNamesBusObject_mxJPO}.
+     *
+     * @param _paramCache   parameter cache
+     * @param _typeDef      type definition
+     * @param _select       select statement
+     * @return map between the names of all business objects and the related
+     *         selected values
+     * @throws MatrixException if query failed
+     */
+    public static Map<String,String> evalSelect(final ParameterCache_mxJPO _paramCache,
+                                                final TypeDef_mxJPO _typeDef,
+                                                final String _select)
+        throws MatrixException
+    {
+        final StringList selects = new StringList(4);
+        selects.addElement("type");
+        selects.addElement("name");
+        selects.addElement("revision");
+        selects.addElement(_select);
+
+        final Query query = new Query();
+        query.open(_paramCache.getContext());
+        query.setBusinessObjectType(_typeDef.getMxBusType());
+        final BusinessObjectWithSelectList list = query.select(_paramCache.getContext(), selects);
+        query.close(_paramCache.getContext());
+
+        final Map<String,String> ret = new HashMap<>();
+        for (final Object mapObj : list)  {
+            final BusinessObjectWithSelect map = (BusinessObjectWithSelect) mapObj;
+            final String busType = (String) map.getSelectDataList("type").get(0);
+            final String busName = (String) map.getSelectDataList("name").get(0);
+            final String busRevision = (String) map.getSelectDataList("revision").get(0);
+            final StringList values = map.getSelectDataList(_select);
+
+            final StringBuilder name = new StringBuilder();
+            if (_typeDef.hasMxBusTypeDerived())  {
+                name.append(busType).append(BusObject_mxJPO.SPLIT_TYPE);
+            }
+            name.append(busName);
+            if ((busRevision != null) && !busRevision.isEmpty())  {
+                name.append(BusObject_mxJPO.SPLIT_NAME).append(busRevision);
+            }
+            ret.put(name.toString(), ((values != null) && !values.isEmpty()) ? (String) values.get(0) : "");
+        }
+        return ret;
+    }
+
     /**
      * Parses all information for given administration object.
      * Sorts the attribute values, defines the description for the TCL
@@ -184,90 +184,90 @@ public class AttributeCI_mxJPO
                                             final String _url,
                                             final String _content)
     {
-        final boolean parsed;
-        if (AttributeCI_mxJPO.IGNORED_URLS.contains(_url))  {
-            parsed = true;
-        } else if ("/accessRuleRef".equals(_url))  {
-            this.rules.add(_content);
-            parsed = true;
-        } else if ("/attrValueType".equals(_url))  {
-            if ("2".equals(_content))  {
-                this.rangeValue = true;
-                parsed = true;
-            } else if ("1".equals(_content))  {
-                this.multiValue = true;
-                parsed = true;
-            } else if ("0".equals(_content))  {
-                parsed = true;
-            } else  {
-                parsed = false;
-            }
+        boolean parsed = true;
+        if (!AttributeCI_mxJPO.IGNORED_URLS.contains(_url))  {
+            switch (_url)  {
+                case "/accessRuleRef":
+                    this.rules.add(_content);
+                    break;
+                case "/attrValueType":
+                    if ("2".equals(_content))  {
+                        this.rangeValue = true;
+                    } else if ("1".equals(_content))  {
+                        this.multiValue = true;
+                    } else if (!"0".equals(_content))  {
+                        parsed = false;
+                    }
+                    break;
 
-        } else if ("/defaultValue".equals(_url))  {
-            this.defaultValue = _content;
-            parsed = true;
-
-        } else if ("/dimensionRef".equals(_url))  {
-            this.dimension = _content;
-            parsed = true;
-
-        } else if ("/maxlength".equals(_url))  {
-            this.maxLength = Integer.parseInt(_content);
-            parsed = true;
-        } else if ("/multiline".equals(_url))  {
-            this.multiline = true;
-            parsed = true;
-
-        } else if ("/primitiveType".equals(_url))  {
-            for (final Kind checkKind : Kind.values())  {
-                if (checkKind.attrTypeParse.equals(_content))  {
-                    this.kind = checkKind;
+                case "/defaultValue":
+                    this.defaultValue = _content;
                     break;
-                }
-            }
-            parsed = (this.kind != null);
-
-        } else if ("/resetonclone".equals(_url))  {
-            this.resetOnClone = true;
-            parsed = true;
-        } else if ("/resetonrevision".equals(_url))  {
-            this.resetOnRevision = true;
-            parsed = true;
-
-        } else if ("/rangeList/range".equals(_url))  {
-            this.rangesStack.add(new Range());
-            parsed = true;
-        } else if ("/rangeList/range/rangeType".equals(_url))  {
-            this.rangesStack.peek().type = AttributeCI_mxJPO.RANGE_COMP.get(_content);
-            if (this.rangesStack.peek().type == null)  {
-                throw new Error("unknown range comparator " + _content);
+
+                case "/dimensionRef":
+                    this.dimension = _content;
+                    break;
+
+                case "/maxlength":
+                    this.maxLength = Integer.parseInt(_content);
+                    break;
+                case "/multiline":
+                    this.multiline = true;
+                    break;
+
+                case "/primitiveType":
+                    for (final Kind checkKind : Kind.values())  {
+                        if (checkKind.attrTypeParse.equals(_content))  {
+                            this.kind = checkKind;
+                            break;
+                        }
+                    }
+                    parsed = (this.kind != null);
+                    break;
+
+                case "/resetonclone":
+                    this.resetOnClone = true;
+                    break;
+                case "/resetonrevision":
+                    this.resetOnRevision = true;
+                    break;
+
+                case "/rangeList/range":
+                    this.rangesStack.add(new Range());
+                    break;
+                case "/rangeList/range/rangeType":
+                    this.rangesStack.peek().type = AttributeCI_mxJPO.RANGE_COMP.get(_content);
+                    if (this.rangesStack.peek().type == null)  {
+                        throw new Error("unknown range comparator " + _content);
+                    }
+                    break;
+                case "/rangeList/range/rangeValue":
+                    this.rangesStack.peek().value1 = _content;
+                    break;
+                case "/rangeList/range/includingValue":
+                    this.rangesStack.peek().include1 = true;
+                    break;
+                case "/rangeList/range/rangeSecondValue":
+                    this.rangesStack.peek().value2 = _content;
+                    break;
+                case "/rangeList/range/includingSecondValue":
+                    this.rangesStack.peek().include2 = true;
+                    break;
+
+                case "/rangeProgram/programRef":
+                    this.rangeProgramRef = _content;
+                    break;
+                case "/rangeProgram/inputArguments":
+                    this.rangeProgramInputArguments = _content;
+                    break;
+
+                default:
+                    if (_url.startsWith("/triggerList"))  {
+                        parsed = this.triggers.parse(_paramCache, _url.substring(12), _content);
+                    } else  {
+                        parsed = super.parseAdminXMLExportEvent(_paramCache, _url, _content);
+                    }
             }
-            parsed = true;
-        } else if ("/rangeList/range/rangeValue".equals(_url))  {
-            this.rangesStack.peek().value1 = _content;
-            parsed = true;
-        } else if ("/rangeList/range/includingValue".equals(_url))  {
-            this.rangesStack.peek().include1 = true;
-            parsed = true;
-        } else if ("/rangeList/range/rangeSecondValue".equals(_url))  {
-            this.rangesStack.peek().value2 = _content;
-            parsed = true;
-        } else if ("/rangeList/range/includingSecondValue".equals(_url))  {
-            this.rangesStack.peek().include2 = true;
-            parsed = true;
-
-        } else if ("/rangeProgram/programRef".equals(_url))  {
-            this.rangeProgramRef = _content;
-            parsed = true;
-        } else if ("/rangeProgram/inputArguments".equals(_url))  {
-            this.rangeProgramInputArguments = _content;
-            parsed = true;
-
-        } else if (_url.startsWith("/triggerList"))  {
-            parsed = this.triggers.parse(_paramCache, _url.substring(12), _content);
-
-        } else  {
-            parsed = super.parseAdminXMLExportEvent(_paramCache, _url, _content);
         }
         return parsed;
     }
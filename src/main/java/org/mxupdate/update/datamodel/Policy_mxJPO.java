@@ -202,57 +202,60 @@ public class Policy_mxJPO
                                             final String _url,
                                             final String _content)
     {
-        final boolean parsed;
-        if (Policy_mxJPO.IGNORED_URLS.contains(_url))  {
-            parsed = true;
-        } else if ("/defaultFormat/formatRef".equals(_url))  {
-            this.defaultFormat = _content;
-            parsed = true;
-        } else if ("/formatRefList/formatRef".equals(_url))  {
-            this.formats.add(_content);
-            parsed = true;
-        } else if ("/allowAllFormats".equals(_url))  {
-            this.allFormats = true;
-            parsed = true;
-        } else if ("/enforceLocking".equals(_url))  {
-            this.enforce = true;
-            parsed = true;
-
-        } else if ("/delimiter".equals(_url))  {
-            this.delimiter = _content;
-            parsed = true;
-        } else if ("/sequence".equals(_url))  {
-            this.minorsequence = _content;
-            parsed = true;
-        } else if ("/majorsequence".equals(_url))  {
-            this.majorsequence = _content;
-            parsed = true;
-
-        } else if ("/storeRef".equals(_url))  {
-            this.store = _content;
-            parsed = true;
-
-        } else if ("/typeRefList/typeRef".equals(_url))  {
-            this.types.add(_content);
-            parsed = true;
-        } else if ("/allowAllTypes".equals(_url))  {
-            this.allTypes = true;
-            parsed = true;
-
-        } else if ("/allstateDef".equals(_url))  {
-            this.allState = true;
-            parsed = true;
-        } else if (_url.startsWith("/allstateDef"))  {
-            parsed = this.allStateAccess.parse(_paramCache, _url.substring(12), _content);
-
-        } else if ("/stateDefList/stateDef".equals(_url))  {
-            this.states.add(new State());
-            parsed = true;
-        } else if (_url.startsWith("/stateDefList/stateDef"))  {
-            parsed = this.states.peek().parse(_paramCache, _url.substring(22), _content);
-
-        } else  {
-            parsed = super.parseAdminXMLExportEvent(_paramCache, _url, _content);
+        boolean parsed = true;
+        if (!Policy_mxJPO.IGNORED_URLS.contains(_url))  {
+            switch (_url)  {
+                case "/defaultFormat/formatRef":
+                    this.defaultFormat = _content;
+                    break;
+                case "/formatRefList/formatRef":
+                    this.formats.add(_content);
+                    break;
+                case "/allowAllFormats":
+                    this.allFormats = true;
+                    break;
+                case "/enforceLocking":
+                    this.enforce = true;
+                    break;
+
+                case "/delimiter":
+                    this.delimiter = _content;
+                    break;
+                case "/sequence":
+                    this.minorsequence = _content;
+                    break;
+                case "/majorsequence":
+                    this.majorsequence = _content;
+                    break;
+
+                case "/storeRef":
+                    this.store = _content;
+                    break;
+
+                case "/typeRefList/typeRef":
+                    this.types.add(_content);
+                    break;
+                case "/allowAllTypes":
+                    this.allTypes = true;
+                    break;
+
+                case "/allstateDef":
+                    this.allState = true;
+                    break;
+
+                case "/stateDefList/stateDef":
+                    this.states.add(new State());
+                    break;
+
+                default:
+                    if (_url.startsWith("/allstateDef"))  {
+                        parsed = this.allStateAccess.parse(_paramCache, _url.substring(12), _content);
+                    } else if (_url.startsWith("/stateDefList/stateDef"))  {
+                        parsed = this.states.peek().parse(_paramCache, _url.substring(22), _content);
+                    } else  {
+                        parsed = super.parseAdminXMLExportEvent(_paramCache, _url, _content);
+                    }
+            }
         }
         return parsed;
     }
@@ -136,40 +136,40 @@ public class Type_mxJPO
                                             final String _url,
                                             final String _content)
     {
-        final boolean parsed;
-        if (Type_mxJPO.IGNORED_URLS.contains(_url))  {
-            parsed = true;
-        } else if ("/abstract".equals(_url))  {
-            this.abstractFlag = true;
-            parsed = true;
-        } else if ("/derivedFrom/typeRefList/typeRef".equals(_url))  {
-            this.derived = _content;
-            parsed = true;
+        boolean parsed = true;
+        if (!Type_mxJPO.IGNORED_URLS.contains(_url))  {
+            switch (_url)  {
+                case "/abstract":
+                    this.abstractFlag = true;
+                    break;
+                case "/derivedFrom/typeRefList/typeRef":
+                    this.derived = _content;
+                    break;
 
-        } else if (_url.startsWith("/attributeDefRefList/attributeDefRef"))  {
-            this.globalAttributes.add(_content);
-            parsed = true;
-        } else if (_url.startsWith("/localAttributes/attributeDefList/attributeDef"))  {
-            parsed = this.localAttributes.parseAdminXMLExportEvent(_paramCache, _url.substring(46), _content);
+                case "/methodList/programRef":
+                    this.methods.add(_content);
+                    break;
+                case "/typeKind":
+                    if ("0".equals(_content))  {
+                        this.kind = Kind.Basic;
+                    } else if ("1".equals(_content))  {
+                        this.kind = Kind.Composed;
+                    } else  {
+                        parsed = false;
+                    }
+                    break;
 
-        } else if (_url.startsWith("/localPathTypes/pathDefList/pathDef"))  {
-            parsed = this.localPathTypes.parseAdminXMLExportEvent(_paramCache, _url.substring(35), _content);
-
-        } else if ("/methodList/programRef".equals(_url))  {
-            this.methods.add(_content);
-            parsed = true;
-        } else if ("/typeKind".equals(_url))  {
-            if ("0".equals(_content))  {
-                this.kind = Kind.Basic;
-                parsed = true;
-            } else if ("1".equals(_content))  {
-                this.kind = Kind.Composed;
-                parsed = true;
-            } else  {
-                parsed = false;
+                default:
+                    if (_url.startsWith("/attributeDefRefList/attributeDefRef"))  {
+                        this.globalAttributes.add(_content);
+                    } else if (_url.startsWith("/localAttributes/attributeDefList/attributeDef"))  {
+                        parsed = this.localAttributes.parseAdminXMLExportEvent(_paramCache, _url.substring(46), _content);
+                    } else if (_url.startsWith("/localPathTypes/pathDefList/pathDef"))  {
+                        parsed = this.localPathTypes.parseAdminXMLExportEvent(_paramCache, _url.substring(35), _content);
+                    } else  {
+                        parsed = super.parseAdminXMLExportEvent(_paramCache, _url, _content);
+                    }
             }
-        } else  {
-            parsed = super.parseAdminXMLExportEvent(_paramCache, _url, _content);
         }
         return parsed;
     }
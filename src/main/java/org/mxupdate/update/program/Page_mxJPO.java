@@ -133,6 +133,14 @@ public class Page_mxJPO
             code = this.getCode();
         } else  {
             code = FileUtils_mxJPO.readFileToString(realFile);
+            // file hash must include the content hash of the real file
+            if (this.getProperties().getValue4KeyValue(_paramCache, PropertyDef_mxJPO.FILEHASH) != null)  {
+                this.getProperties().setValue4KeyValue(_paramCache, PropertyDef_mxJPO.FILEHASH,
+                        FileUtils_mxJPO.calcContentHash(
+                                _mql.getFile(),
+                                this.getProperties().getValue4KeyValue(_paramCache, PropertyDef_mxJPO.FILEHASH),
+                                this.getFile()));
+            }
         }
         DeltaUtil_mxJPO.calcValueDelta(_mql, "content", code, _current.getCode());
 
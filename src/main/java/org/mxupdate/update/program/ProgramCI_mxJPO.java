@@ -280,6 +280,15 @@ public class ProgramCI_mxJPO
             update = !fileDate.equals(_current.getProperties().getValue4KeyValue(_paramCache, PropertyDef_mxJPO.FILEDATE));
         }
 
+        // file hash must include the content hash of the real file
+        if ((realFile != null) && (this.getProperties().getValue4KeyValue(_paramCache, PropertyDef_mxJPO.FILEHASH) != null))  {
+            this.getProperties().setValue4KeyValue(_paramCache, PropertyDef_mxJPO.FILEHASH,
+                    FileUtils_mxJPO.calcContentHash(
+                            _mql.getFile(),
+                            this.getProperties().getValue4KeyValue(_paramCache, PropertyDef_mxJPO.FILEHASH),
+                            this.getFile()));
+        }
+
         if (update)  {
             // at first => check that kind is correct set
             if (this.kind != _current.kind)  {
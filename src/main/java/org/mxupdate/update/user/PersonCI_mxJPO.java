@@ -33,7 +33,6 @@ import org.mxupdate.update.util.StringUtil_mxJPO;
 import org.mxupdate.update.util.UpdateBuilder_mxJPO;
 import org.mxupdate.update.util.UpdateException_mxJPO;
 import org.mxupdate.update.zparser.MxParser_mxJPO;
-import org.mxupdate.util.MqlBuilderUtil_mxJPO;
 import org.mxupdate.util.MqlBuilderUtil_mxJPO.MultiLineMqlBuilder;
 
 import matrix.util.MatrixException;
@@ -308,20 +307,6 @@ public class PersonCI_mxJPO
         return parsed;
     }
 
-    /**
-     * The original export MQL command from the super class could not be used,
-     * because otherwise all sets and mails of the person to export are also
-     * exported (but the sets and mails of the person is not needed....).
-     *
-     * @return XML export of the person
-     */
-    @Override
-    protected String execXMLExport(final ParameterCache_mxJPO _paramCache)
-            throws MatrixException
-    {
-        return MqlBuilderUtil_mxJPO.mql().cmd("escape export person ").arg(this.getName()).cmd(" !mail !set xml").exec(_paramCache.getContext());
-    }
-
     /**
      * <p>Calculates if workspace objects for this person are not handled. This
      * is done by checking if the name of this person matches one of the match
@@ -250,100 +250,131 @@ public abstract class AbstractUIWithFields_mxJPO<CLASS extends AbstractAdminObje
         {
             boolean parsed = true;
             if (!AbstractUIWithFields_mxJPO.AbstractField.IGNORED_URLS.contains(_url))  {
-                if ("/alt".equals(_url))  {
-                    this.alt = _content;
-                } else if ("/derivedfield".equals(_url))  {
-                    if ((_content != null) && !_content.isEmpty())  {
+                switch (_url)  {
+                    case "/alt":
+                        this.alt = _content;
+                        break;
+                    case "/derivedfield":
+                        if ((_content != null) && !_content.isEmpty())  {
 // TODO:
 System.err.println("derived field not null! This is not supported!");
-                    }
-
-                } else if ("/href".equals(_url))  {
-                    this.href = _content;
-                } else if ("/rangeHref".equals(_url))  {
-                    this.range = _content;
-                } else if ("/updateUrl".equals(_url))  {
-                    this.updateURL = _content;
-                } else if ("/label".equals(_url))  {
-                    this.label = _content;
-                } else if ("/name".equals(_url))  {
-                    this.name = _content;
-                } else if ("/sortType".equals(_url))  {
-                    if ("0".equals(_content))  {
-                        this.sortType = AbstractUIWithFields_mxJPO.AbstractField.SortType.NONE;
-                    } else if ("1".equals(_content))  {
-                        this.sortType = AbstractUIWithFields_mxJPO.AbstractField.SortType.ALPHANUMERIC;
-                    } else if ("2".equals(_content))  {
-                        this.sortType = AbstractUIWithFields_mxJPO.AbstractField.SortType.NUMERIC;
-                    } else if ("3".equals(_content))  {
-                        this.sortType = AbstractUIWithFields_mxJPO.AbstractField.SortType.OTHER;
-                    } else  {
+                        }
+                        break;
+
+                    case "/href":
+                        this.href = _content;
+                        break;
+                    case "/rangeHref":
+                        this.range = _content;
+                        break;
+                    case "/updateUrl":
+                        this.updateURL = _content;
+                        break;
+                    case "/label":
+                        this.label = _content;
+                        break;
+                    case "/name":
+                        this.name = _content;
+                        break;
+                    case "/sortType":
+                        if ("0".equals(_content))  {
+                            this.sortType = AbstractUIWithFields_mxJPO.AbstractField.SortType.NONE;
+                        } else if ("1".equals(_content))  {
+                            this.sortType = AbstractUIWithFields_mxJPO.AbstractField.SortType.ALPHANUMERIC;
+                        } else if ("2".equals(_content))  {
+                            this.sortType = AbstractUIWithFields_mxJPO.AbstractField.SortType.NUMERIC;
+                        } else if ("3".equals(_content))  {
+                            this.sortType = AbstractUIWithFields_mxJPO.AbstractField.SortType.OTHER;
+                        } else  {
 // TODO: correct error message!
 System.err.println("unknown sort type '" + _content + "'");
-                    }
-                } else if ("/sortProgram".equals(_url))  {
-                    this.sortProgram = _content;
-
-                } else if ("/expression".equals(_url) || "/fieldValue".equals(_url))  {
-                    this.expression = _content;
-                } else if ("/usesBusinessObject".equals(_url))  {
-                    this.expressionType = ExpressionType.BUSINESSOBJECT;
-                } else if ("/usesRelationship".equals(_url))  {
-                    this.expressionType = ExpressionType.RELATIONSHIP;
-                } else if ("/fieldType".equals(_url))  {
+                        }
+                        break;
+                    case "/sortProgram":
+                        this.sortProgram = _content;
+                        break;
+
+                    case "/expression":
+                    case "/fieldValue":
+                        this.expression = _content;
+                        break;
+                    case "/usesBusinessObject":
+                        this.expressionType = ExpressionType.BUSINESSOBJECT;
+                        break;
+                    case "/usesRelationship":
+                        this.expressionType = ExpressionType.RELATIONSHIP;
+                        break;
+                    case "/fieldType":
 if (!"select".equals(_content))  {
     System.err.println("unknown field type '" + _content + "'");
 }
+                        break;
+
+                    case "/global":
+                        this.users.add("all");
+                        break;
+                    case "/fieldUserList/user":
+                        this.users.add(_content);
+                        break;
+
+                    case "/fieldSettingList/fieldSetting":
+                        this.settings.add(new Setting());
+                        break;
+                    case "/fieldSettingList/fieldSetting/fieldSettingName":
+                        this.settings.peek().name = _content;
+                        break;
+                    case "/fieldSettingList/fieldSetting/fieldSettingValue":
+                        this.settings.peek().value = _content;
+                        break;
 
-                } else if ("/global".equals(_url))  {
-                    this.users.add("all");
-                } else if ("/fieldUserList/user".equals(_url))  {
-                    this.users.add(_content);
-
-                } else if ("/fieldSettingList/fieldSetting".equals(_url))  {
-                    this.settings.add(new Setting());
-                } else if ("/fieldSettingList/fieldSetting/fieldSettingName".equals(_url))  {
-                    this.settings.peek().name = _content;
-                } else if ("/fieldSettingList/fieldSetting/fieldSettingValue".equals(_url))  {
-                    this.settings.peek().value = _content;
-
-                } else if ("/scale".equals(_url))  {
-                    this.scale = Double.parseDouble(_content);
-                } else if ("/geometry/height".equals(_url))  {
-                    this.height = Double.parseDouble(_content.replace(',', '.'));
-                } else if ("/geometry/width".equals(_url))  {
-                    this.width = Double.parseDouble(_content.replace(',', '.'));
-                } else if ("/geometry/minHeight".equals(_url))  {
-                    this.minHeight = Double.parseDouble(_content.replace(',', '.'));
-                } else if ("/geometry/minWidth".equals(_url))  {
-                    this.minWidth = Double.parseDouble(_content.replace(',', '.'));
-                } else if ("/geometry/autoHeight".equals(_url))  {
-                    this.autoHeight = true;
-                } else if ("/geometry/autoWidth".equals(_url))  {
-                    this.autoWidth = true;
-                } else if ("/geometry/xLocation".equals(_url))  {
-                    // must be parsed because of old MX versions (and numbers
-                    // are exported with a comma instead of a point)
-                    if (Double.parseDouble(_content.replace(',', '.')) != 0.0)  {
+                    case "/scale":
+                        this.scale = Double.parseDouble(_content);
+                        break;
+                    case "/geometry/height":
+                        this.height = Double.parseDouble(_content.replace(',', '.'));
+                        break;
+                    case "/geometry/width":
+                        this.width = Double.parseDouble(_content.replace(',', '.'));
+                        break;
+                    case "/geometry/minHeight":
+                        this.minHeight = Double.parseDouble(_content.replace(',', '.'));
+                        break;
+                    case "/geometry/minWidth":
+                        this.minWidth = Double.parseDouble(_content.replace(',', '.'));
+                        break;
+                    case "/geometry/autoHeight":
+                        this.autoHeight = true;
+                        break;
+                    case "/geometry/autoWidth":
+                        this.autoWidth = true;
+                        break;
+                    case "/geometry/xLocation":
+                        // must be parsed because of old MX versions (and numbers
+                        // are exported with a comma instead of a point)
+                        if (Double.parseDouble(_content.replace(',', '.')) != 0.0)  {
 // TODO:
 System.err.println("x location is not 0.0 and this is currently not supported");
-                    }
-                } else if ("/geometry/yLocation".equals(_url))  {
-                    // must be parsed because of old MX versions (and numbers
-                    // are exported with a comma instead of a point)
-                    if (Double.parseDouble(_content.replace(',', '.')) != 0.0)  {
+                        }
+                        break;
+                    case "/geometry/yLocation":
+                        // must be parsed because of old MX versions (and numbers
+                        // are exported with a comma instead of a point)
+                        if (Double.parseDouble(_content.replace(',', '.')) != 0.0)  {
 // TODO:
 System.err.println("y location is not 0.0 and this is currently not supported");
-                    }
+                        }
+                        break;
 
-                // only for web tables...
-                } else if ("/editable".equals(_url))  {
-                    this.editable = true;
-                } else if ("/hidden".equals(_url))  {
-                    this.hidden = true;
+                    // only for web tables...
+                    case "/editable":
+                        this.editable = true;
+                        break;
+                    case "/hidden":
+                        this.hidden = true;
+                        break;
 
-                } else  {
-                    parsed = false;
+                    default:
+                        parsed = false;
                 }
             }
             return parsed;
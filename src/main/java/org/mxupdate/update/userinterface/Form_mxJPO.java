@@ -149,6 +149,7 @@ public class Form_mxJPO
         throws Exception
     {
         MqlBuilderUtil_mxJPO.mql().cmd("escape add form ").arg(this.getName()).cmd(" web; ").exec(_paramCache.getContext());
+        this.mxClassDef().registerCreated(_paramCache, this.getName());
     }
 
     @Override
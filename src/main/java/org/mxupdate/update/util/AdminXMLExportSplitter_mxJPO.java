@@ -0,0 +1,281 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.update.util;
+
+/**
+ * Splits the XML export of multiple administration objects (e.g. from
+ * <code>export attribute * xml</code>) into XML exports of single
+ * administration objects. The XML export is scanned once; for each object
+ * element below the root element the XML export of the single object is
+ * built with the same prolog and root element, so that the single XML export
+ * could be parsed like the export of one administration object. Other
+ * elements below the root element (like <code>creationProperties</code>)
+ * are skipped.
+ *
+ * @author The MxUpdate Team
+ */
+public class AdminXMLExportSplitter_mxJPO
+{
+    /** Start of a CDATA section. */
+    private static final String CDATA_START = "<![CDATA[";
+    /** End of a CDATA section. */
+    private static final String CDATA_END = "]]>";
+
+    /** Elements below the root element which are not administration objects. */
+    private static final String TAG_CREATION_PROPERTIES = "creationProperties";
+
+    /** XML export of multiple administration objects. */
+    private final String xml;
+    /** Prolog with the start tag of the root element. */
+    private final String prolog;
+    /** Name of the root element. */
+    private final String rootTag;
+
+    /** Current scan position within {@link #xml}. */
+    private int pos;
+    /** Start of the current object element. */
+    private int start;
+    /** End of the current object element. */
+    private int end;
+
+    /**
+     * Initializes the splitter for given XML export.
+     *
+     * @param _xml  XML export of multiple administration objects
+     */
+    public AdminXMLExportSplitter_mxJPO(final String _xml)
+    {
+        this.xml = _xml;
+        // prolog: skip XML declaration, comments and DOCTYPE up to the root element
+        int idx = 0;
+        String root = null;
+        while ((root == null) && (idx >= 0) && (idx < this.xml.length()))  {
+            idx = this.xml.indexOf('<', idx);
+            if (idx >= 0)  {
+                final char next = (idx + 1 < this.xml.length()) ? this.xml.charAt(idx + 1) : ' ';
+                if ((next == '?') || (next == '!'))  {
+                    idx = this.skipMarkup(idx);
+                } else  {
+                    final int tagEnd = this.findTagEnd(idx);
+                    root = this.evalTagName(idx + 1);
+                    idx = tagEnd + 1;
+                }
+            }
+        }
+        if (root == null)  {
+            this.prolog = "";
+            this.rootTag = null;
+            this.pos = this.xml.length();
+        } else  {
+            this.prolog = this.xml.substring(0, idx);
+            this.rootTag = root;
+            this.pos = idx;
+        }
+    }
+
+    /**
+     * Moves to the next administration object element.
+     *
+     * @return <i>true</i> if a next administration object exists; otherwise
+     *         <i>false</i>
+     */
+    public boolean next()
+    {
+        boolean found = false;
+        int depth = 0;
+        int idx = this.pos;
+        final int length = this.xml.length();
+        while (!found && (idx >= 0) && (idx < length))  {
+            idx = this.xml.indexOf('<', idx);
+            if (idx < 0)  {
+                break;
+            }
+            final char next = (idx + 1 < length) ? this.xml.charAt(idx + 1) : ' ';
+            if ((next == '?') || (next == '!'))  {
+                idx = this.skipMarkup(idx);
+            } else if (next == '/')  {
+                idx = this.findTagEnd(idx) + 1;
+                if (depth == 0)  {
+                    // end tag of the root element
+                    break;
+                }
+                depth--;
+                if (depth == 0)  {
+                    found = this.defineCurrent(idx);
+                }
+            } else  {
+                final int tagEnd = this.findTagEnd(idx);
+                if (depth == 0)  {
+                    this.start = idx;
+                }
+                if (this.xml.charAt(tagEnd - 1) != '/')  {
+                    depth++;
+                } else if (depth == 0)  {
+                    found = this.defineCurrent(tagEnd + 1);
+                }
+                idx = tagEnd + 1;
+            }
+        }
+        this.pos = (idx < 0) ? length : idx;
+        return found;
+    }
+
+    /**
+     * Defines the end of current element and checks if the element is an
+     * administration object element.
+     *
+     * @param _end  end of current element
+     * @return <i>true</i> if current element is an administration object
+     *         element
+     */
+    private boolean defineCurrent(final int _end)
+    {
+        this.end = _end;
+        return !AdminXMLExportSplitter_mxJPO.TAG_CREATION_PROPERTIES.equals(this.evalTagName(this.start + 1));
+    }
+
+    /**
+     * Returns the XML export of current administration object.
+     *
+     * @return XML export of the single administration object
+     */
+    public String getXML()
+    {
+        return new StringBuilder(this.prolog.length() + this.end - this.start + this.rootTag.length() + 4)
+                .append(this.prolog)
+                .append(this.xml, this.start, this.end)
+                .append("</").append(this.rootTag).append('>')
+                .toString();
+    }
+
+    /**
+     * Returns the name of current administration object defined with the
+     * first <code>name</code> element within <code>adminProperties</code>.
+     *
+     * @return name of current administration object; or <code>null</code> if
+     *         not found
+     */
+    public String getName()
+    {
+        String ret = null;
+        final int adminProps = this.xml.indexOf("<adminProperties>", this.start);
+        if ((adminProps >= 0) && (adminProps < this.end))  {
+            final int nameStart = this.xml.indexOf("<name>", adminProps);
+            final int nameEnd = (nameStart >= 0) ? this.xml.indexOf("</name>", nameStart) : -1;
+            if ((nameEnd >= 0) && (nameEnd < this.end))  {
+                final String text = this.xml.substring(nameStart + 6, nameEnd).trim();
+                if (text.startsWith(AdminXMLExportSplitter_mxJPO.CDATA_START) && text.endsWith(AdminXMLExportSplitter_mxJPO.CDATA_END))  {
+                    ret = text.substring(AdminXMLExportSplitter_mxJPO.CDATA_START.length(), text.length() - AdminXMLExportSplitter_mxJPO.CDATA_END.length());
+                } else  {
+                    ret = text.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"").replace("&apos;", "'").replace("&amp;", "&");
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Skips the markup (XML declaration, processing instruction, comment,
+     * CDATA section or DOCTYPE) starting at <code>_idx</code>.
+     *
+     * @param _idx  start of the markup
+     * @return index after the markup
+     */
+    private int skipMarkup(final int _idx)
+    {
+        final int ret;
+        if (this.xml.startsWith(AdminXMLExportSplitter_mxJPO.CDATA_START, _idx))  {
+            ret = this.indexAfter(AdminXMLExportSplitter_mxJPO.CDATA_END, _idx);
+        } else if (this.xml.startsWith("<!--", _idx))  {
+            ret = this.indexAfter("-->", _idx);
+        } else if (this.xml.startsWith("<?", _idx))  {
+            ret = this.indexAfter("?>", _idx);
+        } else  {
+            // DOCTYPE with optional internal subset
+            int idx = _idx + 2;
+            int brackets = 0;
+            while ((idx < this.xml.length()) && ((brackets > 0) || (this.xml.charAt(idx) != '>')))  {
+                final char ch = this.xml.charAt(idx);
+                if (ch == '[')  {
+                    brackets++;
+                } else if (ch == ']')  {
+                    brackets--;
+                }
+                idx++;
+            }
+            ret = idx + 1;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the index after the first occurrence of <code>_text</code>
+     * starting at <code>_idx</code>.
+     *
+     * @param _text     text to search
+     * @param _idx      start index
+     * @return index after the found text; or the length of the XML if not
+     *         found
+     */
+    private int indexAfter(final String _text,
+                           final int _idx)
+    {
+        final int idx = this.xml.indexOf(_text, _idx);
+        return (idx < 0) ? this.xml.length() : idx + _text.length();
+    }
+
+    /**
+     * Searches the end of the tag starting at <code>_idx</code>. Quoted
+     * attribute values are skipped.
+     *
+     * @param _idx  start of the tag
+     * @return index of the closing '&gt;' of the tag
+     */
+    private int findTagEnd(final int _idx)
+    {
+        int idx = _idx + 1;
+        char quote = 0;
+        while (idx < this.xml.length())  {
+            final char ch = this.xml.charAt(idx);
+            if (quote != 0)  {
+                if (ch == quote)  {
+                    quote = 0;
+                }
+            } else if ((ch == '"') || (ch == '\''))  {
+                quote = ch;
+            } else if (ch == '>')  {
+                break;
+            }
+            idx++;
+        }
+        return Math.min(idx, this.xml.length() - 1);
+    }
+
+    /**
+     * Evaluates the name of the tag starting at <code>_idx</code>.
+     *
+     * @param _idx  start of the tag name (after '&lt;')
+     * @return name of the tag
+     */
+    private String evalTagName(final int _idx)
+    {
+        int idx = _idx;
+        while ((idx < this.xml.length()) && !Character.isWhitespace(this.xml.charAt(idx))
+                && (this.xml.charAt(idx) != '>') && (this.xml.charAt(idx) != '/'))  {
+            idx++;
+        }
+        return this.xml.substring(_idx, idx);
+    }
+}
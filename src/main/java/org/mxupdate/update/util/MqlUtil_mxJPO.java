@@ -18,7 +18,6 @@ package org.mxupdate.update.util;
 import org.mxupdate.util.MqlBuilderUtil_mxJPO;
 
 import matrix.db.Context;
-import matrix.db.MQLCommand;
 import matrix.util.MatrixException;
 
 /**
@@ -75,12 +74,11 @@ public final class MqlUtil_mxJPO
                                  final boolean _includeMQLCommand)
             throws MatrixException
     {
-        final MQLCommand mql = new MQLCommand();
-        mql.executeCommand(_context, _cmd.toString());
-        if ((mql.getError() != null) && !"".equals(mql.getError()))  {
-            throw new MatrixException(mql.getError()
+        try  {
+            return MqlBuilderUtil_mxJPO.getExecutor(_context).execute(_context, _cmd.toString(), null);
+        } catch (final MatrixException e)  {
+            throw new MatrixException(e.getMessage()
                     + (_includeMQLCommand ? ("\nMQL command was:\n" + _cmd) : ""));
         }
-        return mql.getResult().trim();
     }
 }
@@ -22,6 +22,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.mxupdate.mapping.Mapping_mxJPO;
 import org.mxupdate.mapping.ParameterDef_mxJPO;
@@ -59,8 +61,21 @@ public class ParameterCache_mxJPO
     /** Stores the used mapping from this parameter cache instance. */
     private final Mapping_mxJPO mapping;
 
-    /** Session Cache. */
-    private final Map<CacheKey,Object> cache = new HashMap<>();
+    /**
+     * Session Cache. The cache is shared between the origin parameter cache
+     * and all {@link #ParameterCache_mxJPO(ParameterCache_mxJPO, Context)
+     * worker parameter caches} and therefore thread safe.
+     */
+    private final ConcurrentMap<CacheKey,Object> cache;
+
+    /** Flag that the log is written in the console format. */
+    private final boolean consoleLog;
+
+    /**
+     * Performance statistics of the run (shared between the origin parameter
+     * cache and all worker parameter caches).
+     */
+    private final PerformanceStatistics_mxJPO statistics;
 
     /**
      * Creates a new instance of the parameter cache. All default values from
@@ -110,6 +125,7 @@ public class ParameterCache_mxJPO
             throws Exception
     {
         this.context = _context;
+        this.cache = new ConcurrentHashMap<>();
 
         this.mapping = this.initMapping(_context);
 
@@ -143,6 +159,39 @@ public class ParameterCache_mxJPO
             this.stringWriter = null;
             this.writer = new PrintWriter(System.out);
         }
+        this.consoleLog = !_stringLog;
+        this.statistics = new PerformanceStatistics_mxJPO();
+    }
+
+    /**
+     * Creates a new worker parameter cache for given origin
+     * <code>_paramCache</code>. The worker parameter cache uses its own MX
+     * <code>_context</code> and a copy of all parameter values. The
+     * {@link #mapping} and the session {@link #cache} are shared. The logging
+     * is always written into a string writer (in the log format of the origin
+     * parameter cache), so that the log could be appended in a defined order
+     * via {@link #appendLog(ParameterCache_mxJPO)}.
+     *
+     * @param _paramCache   origin parameter cache
+     * @param _context      MX context of the worker
+     */
+    public ParameterCache_mxJPO(final ParameterCache_mxJPO _paramCache,
+                                final Context _context)
+    {
+        this.context = _context;
+        this.cache = _paramCache.cache;
+        this.mapping = _paramCache.mapping;
+
+        this.mapBoolean = new HashMap<>(_paramCache.mapBoolean);
+        this.mapInteger = new HashMap<>(_paramCache.mapInteger);
+        this.mapList = new HashMap<>(_paramCache.mapList);
+        this.mapMap = new HashMap<>(_paramCache.mapMap);
+        this.mapString = new HashMap<>(_paramCache.mapString);
+
+        this.stringWriter = new StringWriter();
+        this.writer = new PrintWriter(this.stringWriter);
+        this.consoleLog = _paramCache.consoleLog;
+        this.statistics = _paramCache.statistics;
     }
 
     /**
@@ -280,6 +329,17 @@ public class ParameterCache_mxJPO
         return this.context;
     }
 
+    /**
+     * Returns the performance statistics of the run.
+     *
+     * @return performance statistics
+     * @see #statistics
+     */
+    public PerformanceStatistics_mxJPO getStatistics()
+    {
+        return this.statistics;
+    }
+
     /**
      * Returns the cache with all mappings.
      *
@@ -516,7 +576,7 @@ public class ParameterCache_mxJPO
                      final String _text)
     {
         for (final String line : _text.split("\n"))  {
-            if (this.stringWriter == null)  {
+            if (this.consoleLog)  {
                 this.writer.append(_logLevel.getConsoleLog());
             } else  {
                 this.writer.append(_logLevel.getPlugInLog());
@@ -526,6 +586,22 @@ public class ParameterCache_mxJPO
         this.writer.flush();
     }
 
+    /**
+     * Appends the complete log of given worker <code>_paramCache</code> to
+     * the log of this parameter cache.
+     *
+     * @param _paramCache   worker parameter cache
+     * @see #ParameterCache_mxJPO(ParameterCache_mxJPO, Context)
+     */
+    public void appendLog(final ParameterCache_mxJPO _paramCache)
+    {
+        final String log = _paramCache.getLogString();
+        if ((log != null) && !log.isEmpty())  {
+            this.writer.append(log);
+            this.writer.flush();
+        }
+    }
+
     public Object getCache(final CacheKey _key)
     {
         return this.cache.get(_key);
@@ -536,6 +612,26 @@ public class ParameterCache_mxJPO
         this.cache.put(_key, _value);
     }
 
+    /**
+     * Stores the <code>_value</code> for <code>_key</code> in the session
+     * cache if no value is already stored.
+     *
+     * @param _key      cache key
+     * @param _value    value to store if not already defined
+     * @return already stored value or the new stored <code>_value</code>
+     */
+    public Object setCacheIfAbsent(final CacheKey _key,
+                                   final Object _value)
+    {
+        final Object ret = this.cache.putIfAbsent(_key, _value);
+        return (ret != null) ? ret : _value;
+    }
+
+    public void removeCache(final CacheKey _key)
+    {
+        this.cache.remove(_key);
+    }
+
 
     /**
      * Returns the string representation of the parameter cache. The string
@@ -634,13 +730,31 @@ public class ParameterCache_mxJPO
 
         /** Path parameter. */
         Path,
+        /** Path of the file index used for warm starts of the path scan. */
+        PathFileIndex,
+        /** Path of the file with the list of CI files to update (or '-' for the standard input). */
+        PathFileList,
         /** Path parameter for ignored files. */
         PathIgnoreFile,
         /** Path parameter for ignored paths. */
         PathIgnorePath,
+        /** Number of parallel threads to scan the paths for CI files. */
+        PathScanThreads,
 
         /** Boolean that the update continues if a error was thrown. */
         ParamContinueOnError,
+        /** Path of the transcript file to record all MQL commands with their results. */
+        ParamMqlRecord,
+        /** Path of the transcript file from which the results of all MQL commands are replayed. */
+        ParamMqlReplay,
+        /** Maximum number of CIs updated / deleted within one transaction. */
+        ParamTransactionBatchSize,
+        /** Maximum time in seconds of one transaction to update / delete CIs. */
+        ParamTransactionBatchTime,
+        /** Boolean that the performance statistics are collected and the summary is logged. */
+        ParamStatistics,
+        /** Path of the JSON report file of the performance statistics. */
+        ParamStatisticsReport,
 
         /** License text. */
         ActionLicenseText,
@@ -672,6 +786,8 @@ public class ParameterCache_mxJPO
         /** Parameter for the help usage used for the help description. */
         HelpUsage,
 
+        /** Exports all administration objects of a type definition with one XML export. */
+        ExportBulkXML,
         /** Comment written above ignored business object attributes. */
         ExportBusIgnoredAttrText,
         /** Header used for file exports. */
@@ -689,10 +805,23 @@ public class ParameterCache_mxJPO
         Compile,
         /** Check if an update is required by comparing the defined last modified date against the value of the file date property. */
         UpdateCheckFileDate,
+        /** Check if an update is required by comparing the content hash of the file against the value of the file hash property. */
+        UpdateCheckFileHash,
+        /** Path of the local manifest file to record the updated CIs (to skip unchanged CIs). */
+        UpdateManifest,
+        /** Maximum number of MQL lines of a CI update merged into one MQL statement. */
+        UpdateMqlMergeLines,
+        /** Number of parallel workers (each with an own MX context) used to update the CIs. */
+        UpdateParallelWorkers,
+        /** URL of the MX server used to connect the MX contexts of the parallel workers. */
+        UpdateParallelServerUrl,
 
         /** Info text used for the version print out. */
         VersionActionInfoText,
 
+        /** Time in milliseconds without file events before the changed CI files are updated within the watch mode. */
+        WatchDebounceTime,
+
         /** Defines the application name. */
         RegisterApplicationName,
         /** Defines the program name where applications must be registered. */
@@ -860,11 +989,21 @@ public class ParameterCache_mxJPO
     {
         /** List of attribute names which are cached for easy reuse. */
         Attributes,
+        /** File index of the CI files used for warm starts. */
+        FileIndex,
         /** List of evaluate mx names which are cached for easy reuse. */
         MxNames,
+        /** Changes of the cached mx names within the open transaction of each MX context. */
+        MxNamesChanges,
+        /** Prefetched package assignments of administration objects. */
+        Packages,
         /** List of program names which are cached for easy reuse. */
         Programs,
+        /** Prefetched symbolic names of administration objects. */
+        SymbolicNames,
         /** Map between the JPO name and the class name used within MX for type definition. */
-        TypeDefJPOs;
+        TypeDefJPOs,
+        /** Prefetched XML exports of administration objects. */
+        XMLExports;
     }
 }
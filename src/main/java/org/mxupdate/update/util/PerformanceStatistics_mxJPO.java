@@ -0,0 +1,593 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.update.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Performance statistics of one MxUpdate run. The statistics are only
+ * collected if parameter {@link ValueKeys#ParamStatistics} is set or a
+ * report file is defined with parameter
+ * {@link ValueKeys#ParamStatisticsReport}. Following values are measured:
+ * <ul>
+ * <li>all MQL calls depending on the MQL verb (first two words of the MQL
+ *     command, e.g. <code>print type</code>)</li>
+ * <li>the main {@link Phase phases} of the run</li>
+ * <li>the update of the CIs and the MQL calls within the update depending on
+ *     the type definition</li>
+ * <li>the slowest CIs</li>
+ * </ul>
+ * The MQL calls are measured by a MQL executor of the MX context defined
+ * within {@link #begin(ParameterCache_mxJPO)}. Only MQL calls from threads of this
+ * run are counted (the main thread and the threads of the parallel workers).
+ * At the end of the run, a summary is logged and the report is written as
+ * JSON file.
+ *
+ * @author The MxUpdate Team
+ */
+public class PerformanceStatistics_mxJPO
+{
+    /** Maximum number of slowest CIs. */
+    private static final int MAX_SLOWEST_CIS = 10;
+    /** Maximum number of MQL verbs within the summary. */
+    private static final int MAX_SUMMARY_VERBS = 10;
+
+    /** Statistics of the run for the current thread. */
+    private static final ThreadLocal<PerformanceStatistics_mxJPO> ACTIVE = new ThreadLocal<>();
+    /** Currently updated CI of the current thread. */
+    private static final ThreadLocal<CI> CURRENT_CI = new ThreadLocal<>();
+
+    /** Flag that the statistics are collected. */
+    private volatile boolean enabled;
+    /** Start time of the run in nanoseconds. */
+    private long startTime;
+    /** Needed time of the run in nanoseconds. */
+    private long runTime;
+
+    /** MX context for which the MQL executor of this statistics is defined. */
+    private Context context;
+    /** Previous own MQL executor of the MX context (or {@code null} if not defined). */
+    private IMqlExecutor_mxJPO previous;
+    /** MQL executor of this statistics (or {@code null} if not active). */
+    private Executor executor;
+
+    /** Timings of all MQL calls. */
+    private final Timing mqlAll = new Timing();
+    /** Timings of the MQL calls depending on the MQL verb. */
+    private final Map<String,Timing> mqlVerbs = new TreeMap<>();
+    /** Timings of the phases. */
+    private final Map<Phase,Timing> phases = new TreeMap<>();
+    /** Timings of the CI updates depending on the type definition. */
+    private final Map<String,Timing> typeDefCIs = new TreeMap<>();
+    /** Timings of the MQL calls within CI updates depending on the type definition. */
+    private final Map<String,Timing> typeDefMqls = new TreeMap<>();
+    /** Slowest CIs. */
+    private final List<CI> slowestCIs = new ArrayList<>();
+
+    /**
+     * Starts the statistics of the run, if parameter
+     * {@link ValueKeys#ParamStatistics} is set or a report file is defined
+     * with parameter {@link ValueKeys#ParamStatisticsReport}. The MQL calls
+     * are measured by a MQL executor of the MX context from the parameter
+     * cache which delegates to the current MQL executor of the MX context.
+     *
+     * @param _paramCache   parameter cache
+     */
+    public void begin(final ParameterCache_mxJPO _paramCache)
+    {
+        final String report = _paramCache.getValueString(ValueKeys.ParamStatisticsReport);
+        this.enabled = _paramCache.getValueBoolean(ValueKeys.ParamStatistics) || ((report != null) && !report.isEmpty());
+        if (this.enabled)  {
+            this.startTime = System.nanoTime();
+            this.context = _paramCache.getContext();
+            this.executor = new Executor(MqlBuilderUtil_mxJPO.getExecutor(this.context));
+            this.previous = MqlBuilderUtil_mxJPO.setExecutor(this.context, this.executor);
+            PerformanceStatistics_mxJPO.ACTIVE.set(this);
+        }
+    }
+
+    /**
+     * Ends the statistics of the run. The summary is logged and the report is
+     * written if defined with parameter
+     * {@link ValueKeys#ParamStatisticsReport}.
+     *
+     * @param _paramCache   parameter cache
+     * @throws IOException if the report could not be written
+     */
+    public void end(final ParameterCache_mxJPO _paramCache)
+        throws IOException
+    {
+        if (this.enabled)  {
+            this.enabled = false;
+            this.runTime = System.nanoTime() - this.startTime;
+            MqlBuilderUtil_mxJPO.setExecutor(this.context, this.previous);
+            this.context = null;
+            this.previous = null;
+            this.executor = null;
+            PerformanceStatistics_mxJPO.ACTIVE.remove();
+
+            this.logSummary(_paramCache);
+
+            final String report = _paramCache.getValueString(ValueKeys.ParamStatisticsReport);
+            if ((report != null) && !report.isEmpty())  {
+                final PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(new File(report)), "UTF-8"));
+                try  {
+                    this.writeReport(writer);
+                } finally  {
+                    writer.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the time of <code>_phase</code> started at
+     * <code>_start</code>.
+     *
+     * @param _phase    phase
+     * @param _start    start time in nanoseconds
+     *                  (from {@link System#nanoTime()})
+     */
+    public void record(final Phase _phase,
+                       final long _start)
+    {
+        if (this.enabled)  {
+            PerformanceStatistics_mxJPO.get(this.phases, _phase).add(System.nanoTime() - _start);
+        }
+    }
+
+    /**
+     * Starts the update of the CI with <code>_name</code> for
+     * <code>_typeDef</code> within current thread. All MQL calls until the
+     * {@link #endCI() end} of the CI update are recorded for the type
+     * definition.
+     *
+     * @param _typeDef  type definition of the CI
+     * @param _name     MX name of the CI
+     */
+    public void startCI(final TypeDef_mxJPO _typeDef,
+                        final String _name)
+    {
+        if (this.enabled)  {
+            PerformanceStatistics_mxJPO.ACTIVE.set(this);
+            PerformanceStatistics_mxJPO.CURRENT_CI.set(new CI(_typeDef.getName(), _name, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Ends the update of current CI within current thread started with
+     * {@link #startCI(TypeDef_mxJPO, String)}.
+     */
+    public void endCI()
+    {
+        final CI ci = PerformanceStatistics_mxJPO.CURRENT_CI.get();
+        if (ci != null)  {
+            PerformanceStatistics_mxJPO.CURRENT_CI.remove();
+            if (this.enabled)  {
+                ci.time = System.nanoTime() - ci.time;
+                PerformanceStatistics_mxJPO.get(this.typeDefCIs, ci.typeDef).add(ci.time);
+                synchronized (this.slowestCIs)  {
+                    if ((this.slowestCIs.size() < PerformanceStatistics_mxJPO.MAX_SLOWEST_CIS)
+                            || (ci.time > this.slowestCIs.get(this.slowestCIs.size() - 1).time))  {
+                        int idx = 0;
+                        while ((idx < this.slowestCIs.size()) && (this.slowestCIs.get(idx).time >= ci.time))  {
+                            idx++;
+                        }
+                        this.slowestCIs.add(idx, ci);
+                        if (this.slowestCIs.size() > PerformanceStatistics_mxJPO.MAX_SLOWEST_CIS)  {
+                            this.slowestCIs.remove(this.slowestCIs.size() - 1);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the MQL call <code>_cmd</code> with needed <code>_time</code>.
+     *
+     * @param _cmd      MQL command
+     * @param _time     needed time in nanoseconds
+     */
+    protected void recordMql(final String _cmd,
+                             final long _time)
+    {
+        if (this.enabled)  {
+            this.mqlAll.add(_time);
+            PerformanceStatistics_mxJPO.get(this.mqlVerbs, PerformanceStatistics_mxJPO.evalVerb(_cmd)).add(_time);
+            final CI ci = PerformanceStatistics_mxJPO.CURRENT_CI.get();
+            if (ci != null)  {
+                PerformanceStatistics_mxJPO.get(this.typeDefMqls, ci.typeDef).add(_time);
+            }
+        }
+    }
+
+    /**
+     * Evaluates the MQL verb of <code>_cmd</code>. The MQL verb are the first
+     * two words of the MQL command without leading <code>escape</code> and
+     * without arguments (e.g. <code>print type</code>).
+     *
+     * @param _cmd      MQL command
+     * @return MQL verb
+     */
+    protected static String evalVerb(final String _cmd)
+    {
+        final StringBuilder ret = new StringBuilder();
+        int words = 0;
+        for (final String word : _cmd.trim().split("\\s+", 4))  {
+            if ((words == 0) && "escape".equalsIgnoreCase(word))  {
+                continue;
+            }
+            if ((words >= 2) || word.isEmpty() || word.startsWith("$") || (word.indexOf('"') >= 0))  {
+                break;
+            }
+            if (words > 0)  {
+                ret.append(' ');
+            }
+            ret.append(word.toLowerCase(Locale.ENGLISH));
+            words++;
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Logs the summary of the statistics.
+     *
+     * @param _paramCache   parameter cache used to log
+     */
+    protected void logSummary(final ParameterCache_mxJPO _paramCache)
+    {
+        _paramCache.logInfo("statistics: run " + PerformanceStatistics_mxJPO.formatMs(this.runTime) + "ms, "
+                + this.mqlAll.count + " MQL call(s) with " + PerformanceStatistics_mxJPO.formatMs(this.mqlAll.total) + "ms");
+
+        final List<Map.Entry<String,Timing>> verbs = new ArrayList<>(this.mqlVerbs.entrySet());
+        Collections.sort(verbs, new Comparator<Map.Entry<String,Timing>>() {
+            @Override()
+            public int compare(final Map.Entry<String,Timing> _entry1,
+                               final Map.Entry<String,Timing> _entry2)
+            {
+                return Long.compare(_entry2.getValue().total, _entry1.getValue().total);
+            }
+        });
+        for (final Map.Entry<String,Timing> entry : verbs.subList(0, Math.min(verbs.size(), PerformanceStatistics_mxJPO.MAX_SUMMARY_VERBS)))  {
+            _paramCache.logInfo("    - MQL '" + entry.getKey() + "': " + entry.getValue().toSummary());
+        }
+        for (final Map.Entry<Phase,Timing> entry : this.phases.entrySet())  {
+            _paramCache.logInfo("    - " + entry.getKey().text + ": " + entry.getValue().toSummary());
+        }
+        for (final Map.Entry<String,Timing> entry : this.typeDefCIs.entrySet())  {
+            _paramCache.logInfo("    - update " + entry.getKey() + ": " + entry.getValue().toSummary());
+        }
+        for (final CI ci : this.slowestCIs)  {
+            _paramCache.logInfo("    - slow CI " + ci.typeDef + " '" + ci.name + "': " + PerformanceStatistics_mxJPO.formatMs(ci.time) + "ms");
+        }
+    }
+
+    /**
+     * Writes the report of the statistics in JSON format.
+     *
+     * @param _writer   writer
+     */
+    protected void writeReport(final PrintWriter _writer)
+    {
+        _writer.append("{\n")
+               .append("  \"runMs\": ").append(PerformanceStatistics_mxJPO.formatMs(this.runTime)).append(",\n")
+               .append("  \"mql\": ");
+        this.mqlAll.writeJSON(_writer);
+        _writer.append(",\n")
+               .append("  \"mqlVerbs\": {");
+        String sep = "\n";
+        for (final Map.Entry<String,Timing> entry : this.mqlVerbs.entrySet())  {
+            _writer.append(sep).append("    ").append(PerformanceStatistics_mxJPO.quoteJSON(entry.getKey())).append(": ");
+            entry.getValue().writeJSON(_writer);
+            sep = ",\n";
+        }
+        _writer.append("\n  },\n")
+               .append("  \"phases\": {");
+        sep = "\n";
+        for (final Map.Entry<Phase,Timing> entry : this.phases.entrySet())  {
+            _writer.append(sep).append("    ").append(PerformanceStatistics_mxJPO.quoteJSON(entry.getKey().text)).append(": ");
+            entry.getValue().writeJSON(_writer);
+            sep = ",\n";
+        }
+        _writer.append("\n  },\n")
+               .append("  \"typeDefs\": {");
+        sep = "\n";
+        for (final Map.Entry<String,Timing> entry : this.typeDefCIs.entrySet())  {
+            _writer.append(sep).append("    ").append(PerformanceStatistics_mxJPO.quoteJSON(entry.getKey())).append(": {\"update\": ");
+            entry.getValue().writeJSON(_writer);
+            final Timing mql = this.typeDefMqls.get(entry.getKey());
+            if (mql != null)  {
+                _writer.append(", \"mql\": ");
+                mql.writeJSON(_writer);
+            }
+            _writer.append('}');
+            sep = ",\n";
+        }
+        _writer.append("\n  },\n")
+               .append("  \"slowestCIs\": [");
+        sep = "\n";
+        for (final CI ci : this.slowestCIs)  {
+            _writer.append(sep)
+                   .append("    {\"typeDef\": ").append(PerformanceStatistics_mxJPO.quoteJSON(ci.typeDef))
+                   .append(", \"name\": ").append(PerformanceStatistics_mxJPO.quoteJSON(ci.name))
+                   .append(", \"ms\": ").append(PerformanceStatistics_mxJPO.formatMs(ci.time))
+                   .append('}');
+            sep = ",\n";
+        }
+        _writer.append("\n  ]\n")
+               .append("}\n");
+    }
+
+    /**
+     * Returns the timing for <code>_key</code> from <code>_map</code>. If
+     * not exists, a new timing is created.
+     *
+     * @param _map  map with the timings
+     * @param _key  key of the timing
+     * @param <K>   type of the key
+     * @return timing
+     */
+    private static <K> Timing get(final Map<K,Timing> _map,
+                                  final K _key)
+    {
+        synchronized (_map)  {
+            Timing ret = _map.get(_key);
+            if (ret == null)  {
+                ret = new Timing();
+                _map.put(_key, ret);
+            }
+            return ret;
+        }
+    }
+
+    /**
+     * Formats given nanoseconds as milliseconds with three fraction digits.
+     *
+     * @param _nanos    nanoseconds
+     * @return formatted milliseconds
+     */
+    private static String formatMs(final long _nanos)
+    {
+        return String.format(Locale.ENGLISH, "%.3f", _nanos / 1000000.0);
+    }
+
+    /**
+     * Quotes given <code>_text</code> as JSON string.
+     *
+     * @param _text     text to quote
+     * @return quoted JSON string
+     */
+    private static String quoteJSON(final String _text)
+    {
+        final StringBuilder ret = new StringBuilder().append('"');
+        for (final char ch : _text.toCharArray())  {
+            switch (ch)  {
+                case '"':   ret.append("\\\"");break;
+                case '\\':  ret.append("\\\\");break;
+                case '\n':  ret.append("\\n");break;
+                case '\r':  ret.append("\\r");break;
+                case '\t':  ret.append("\\t");break;
+                default:
+                    if (ch < 0x20)  {
+                        ret.append(String.format("\\u%04x", (int) ch));
+                    } else  {
+                        ret.append(ch);
+                    }
+            }
+        }
+        return ret.append('"').toString();
+    }
+
+    /**
+     * Measured phases of a run.
+     */
+    public enum Phase
+    {
+        /** Scan of the file system for the CI files. */
+        FILE_SCAN("file scan"),
+        /** Listing of the MX names. */
+        NAME_LIST("name listing"),
+        /** Parse of the update file. */
+        PARSE_UPDATE("parse update file"),
+        /** Parse of the current object from MX. */
+        PARSE_CURRENT("parse current object"),
+        /** Calculation of the delta between update file and current object. */
+        DELTA("delta calculation"),
+        /** Execution of the delta MQL statements. */
+        EXEC("execute delta");
+
+        /** Text of the phase used within the summary and report. */
+        private final String text;
+
+        /**
+         * Initializes the phase.
+         *
+         * @param _text     text of the phase
+         */
+        private Phase(final String _text)
+        {
+            this.text = _text;
+        }
+    }
+
+    /**
+     * Timings of one measured value.
+     */
+    protected static class Timing
+    {
+        /** Number of timings. */
+        private int count;
+        /** Total time in nanoseconds. */
+        private long total;
+        /** All timings in nanoseconds (used to calculate the percentiles). */
+        private long[] times = new long[16];
+
+        /**
+         * Adds given <code>_time</code>.
+         *
+         * @param _time     time in nanoseconds
+         */
+        protected synchronized void add(final long _time)
+        {
+            if (this.count == this.times.length)  {
+                this.times = Arrays.copyOf(this.times, this.times.length * 2);
+            }
+            this.times[this.count++] = _time;
+            this.total += _time;
+        }
+
+        /**
+         * Returns the percentiles for <code>_percents</code> (nearest rank
+         * method).
+         *
+         * @param _percents     percents of the percentiles
+         * @return percentiles in nanoseconds
+         */
+        protected synchronized long[] percentiles(final int... _percents)
+        {
+            final long[] ret = new long[_percents.length];
+            if (this.count > 0)  {
+                final long[] sorted = Arrays.copyOf(this.times, this.count);
+                Arrays.sort(sorted);
+                for (int idx = 0; idx < _percents.length; idx++)  {
+                    final int rank = (int) Math.ceil((_percents[idx] / 100.0) * sorted.length);
+                    ret[idx] = sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+                }
+            }
+            return ret;
+        }
+
+        /**
+         * Returns the summary of the timing used for the log.
+         *
+         * @return summary text
+         */
+        protected String toSummary()
+        {
+            final long[] perc = this.percentiles(50, 90, 99);
+            return this.count + "x, total " + PerformanceStatistics_mxJPO.formatMs(this.total) + "ms"
+                    + " (p50 " + PerformanceStatistics_mxJPO.formatMs(perc[0])
+                    + "ms, p90 " + PerformanceStatistics_mxJPO.formatMs(perc[1])
+                    + "ms, p99 " + PerformanceStatistics_mxJPO.formatMs(perc[2]) + "ms)";
+        }
+
+        /**
+         * Writes the timing as JSON object.
+         *
+         * @param _writer   writer
+         */
+        protected void writeJSON(final PrintWriter _writer)
+        {
+            final long[] perc = this.percentiles(50, 90, 99, 100);
+            _writer.append("{\"count\": ").append(String.valueOf(this.count))
+                   .append(", \"totalMs\": ").append(PerformanceStatistics_mxJPO.formatMs(this.total))
+                   .append(", \"p50Ms\": ").append(PerformanceStatistics_mxJPO.formatMs(perc[0]))
+                   .append(", \"p90Ms\": ").append(PerformanceStatistics_mxJPO.formatMs(perc[1]))
+                   .append(", \"p99Ms\": ").append(PerformanceStatistics_mxJPO.formatMs(perc[2]))
+                   .append(", \"maxMs\": ").append(PerformanceStatistics_mxJPO.formatMs(perc[3]))
+                   .append('}');
+        }
+    }
+
+    /**
+     * Updated CI.
+     */
+    private static final class CI
+    {
+        /** Name of the type definition. */
+        private final String typeDef;
+        /** MX name. */
+        private final String name;
+        /** Start time, after the end of the update needed time in nanoseconds. */
+        private long time;
+
+        /**
+         * Initializes the CI.
+         *
+         * @param _typeDef  name of the type definition
+         * @param _name     MX name
+         * @param _start    start time in nanoseconds
+         */
+        private CI(final String _typeDef,
+                   final String _name,
+                   final long _start)
+        {
+            this.typeDef = _typeDef;
+            this.name = _name;
+            this.time = _start;
+        }
+    }
+
+    /**
+     * MQL executor which measures the MQL calls of the threads of the run
+     * and delegates the execution to the origin MQL executor.
+     */
+    private static final class Executor
+        implements IMqlExecutor_mxJPO
+    {
+        /** Origin MQL executor. */
+        private final IMqlExecutor_mxJPO delegate;
+
+        /**
+         * Initializes the MQL executor.
+         *
+         * @param _delegate     origin MQL executor
+         */
+        private Executor(final IMqlExecutor_mxJPO _delegate)
+        {
+            this.delegate = _delegate;
+        }
+
+        @Override()
+        public String execute(final Context _context,
+                              final String _cmd,
+                              final List<String> _args)
+            throws MatrixException
+        {
+            final PerformanceStatistics_mxJPO statistics = PerformanceStatistics_mxJPO.ACTIVE.get();
+            if (statistics == null)  {
+                return this.delegate.execute(_context, _cmd, _args);
+            }
+            final long start = System.nanoTime();
+            try  {
+                return this.delegate.execute(_context, _cmd, _args);
+            } finally  {
+                statistics.recordMql(_cmd, System.nanoTime() - start);
+            }
+        }
+    }
+}
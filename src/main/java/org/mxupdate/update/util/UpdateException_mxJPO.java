@@ -433,7 +433,10 @@ public class UpdateException_mxJPO
                 90702, "File ''{0}'' can't be read because of {1}"),
         /** If the name of a configuration item could not be extracted from a file name. */
         UTIL_FILEUTILS_DECODE_FILENAME(
-                90703, "the file name is not correct defined and could not be converted back to a configuration item name");
+                90703, "the file name is not correct defined and could not be converted back to a configuration item name"),
+        /** If the content hash of a file could not be calculated. */
+        UTIL_FILEUTILS_CONTENT_HASH(
+                90704, "Content hash of file ''{0}'' can''t be calculated because of {1}");
 
         /** Error code of this error enumeration. */
         private final int code;
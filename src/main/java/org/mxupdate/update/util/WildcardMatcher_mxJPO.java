@@ -0,0 +1,211 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.update.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled wildcard matches with the same semantic as
+ * {@link StringUtil_mxJPO#match(String, Collection)}: <code>*</code> matches
+ * any characters, <code>?</code> matches exactly one character. The wildcard
+ * matches are compiled once, so that many names could be checked without
+ * interpreting the wildcard strings again for each name:
+ * <ul>
+ * <li>wildcard matches without wildcard characters are checked within one
+ *     hash lookup,</li>
+ * <li>wildcard matches with only one trailing (or leading) <code>*</code>
+ *     are checked within one hash lookup for each distinct prefix (or suffix)
+ *     length,</li>
+ * <li>all other wildcard matches are combined into one regular
+ *     expression.</li>
+ * </ul>
+ * If one of the wildcard matches is only a <code>*</code>, all names are
+ * matched without any further check.
+ *
+ * @author The MxUpdate Team
+ */
+public final class WildcardMatcher_mxJPO
+{
+    /** Matcher if all names are matched. */
+    private static final WildcardMatcher_mxJPO ALL = new WildcardMatcher_mxJPO(null);
+
+    /** Are all names matched? */
+    private final boolean all;
+    /** Wildcard matches without any wildcard character. */
+    private final Set<String> literals = new HashSet<>();
+    /** Prefixes of the wildcard matches with only a trailing <code>*</code>. */
+    private final Set<String> prefixes = new HashSet<>();
+    /** Sorted distinct lengths of all {@link #prefixes}. */
+    private final int[] prefixLengths;
+    /** Suffixes of the wildcard matches with only a leading <code>*</code>. */
+    private final Set<String> suffixes = new HashSet<>();
+    /** Sorted distinct lengths of all {@link #suffixes}. */
+    private final int[] suffixLengths;
+    /** Combined regular expression of all other wildcard matches (or <code>null</code>). */
+    private final Pattern pattern;
+
+    /**
+     * Compiles the <code>_wildcardMatchers</code>.
+     *
+     * @param _wildcardMatchers     wildcard matches; <code>null</code> if all
+     *                              names are matched
+     */
+    private WildcardMatcher_mxJPO(final Collection<String> _wildcardMatchers)
+    {
+        final Set<Integer> prefixLens = new TreeSet<>();
+        final Set<Integer> suffixLens = new TreeSet<>();
+        final StringBuilder regex = new StringBuilder();
+        boolean tmpAll = (_wildcardMatchers == null);
+        if (!tmpAll)  {
+            for (final String wildcardMatcher : _wildcardMatchers)  {
+                if (wildcardMatcher == null)  {
+                    continue;
+                }
+                final String wildcard = wildcardMatcher.replaceAll("\\*+", "*");
+                final int firstStar = wildcard.indexOf('*');
+                final boolean hasQuestion = (wildcard.indexOf('?') >= 0);
+                if ("*".equals(wildcard))  {
+                    tmpAll = true;
+                    break;
+                } else if ((firstStar < 0) && !hasQuestion)  {
+                    this.literals.add(wildcard);
+                } else if (!hasQuestion && (firstStar == (wildcard.length() - 1)))  {
+                    this.prefixes.add(wildcard.substring(0, firstStar));
+                    prefixLens.add(firstStar);
+                } else if (!hasQuestion && (firstStar == 0) && (wildcard.indexOf('*', 1) < 0))  {
+                    this.suffixes.add(wildcard.substring(1));
+                    suffixLens.add(wildcard.length() - 1);
+                } else  {
+                    if (regex.length() > 0)  {
+                        regex.append('|');
+                    }
+                    WildcardMatcher_mxJPO.appendRegex(regex, wildcard);
+                }
+            }
+        }
+        this.all = tmpAll;
+        this.prefixLengths = WildcardMatcher_mxJPO.toArray(prefixLens);
+        this.suffixLengths = WildcardMatcher_mxJPO.toArray(suffixLens);
+        this.pattern = (regex.length() > 0) ? Pattern.compile(regex.toString(), Pattern.DOTALL) : null;
+    }
+
+    /**
+     * Compiles given <code>_wildcardMatchers</code>.
+     *
+     * @param _wildcardMatchers     wildcard matches; <code>null</code> if all
+     *                              names are matched
+     * @return compiled wildcard matcher
+     */
+    public static WildcardMatcher_mxJPO compile(final Collection<String> _wildcardMatchers)
+    {
+        return (_wildcardMatchers == null) ? WildcardMatcher_mxJPO.ALL : new WildcardMatcher_mxJPO(_wildcardMatchers);
+    }
+
+    /**
+     * Compiles given <code>_wildcardMatcher</code>.
+     *
+     * @param _wildcardMatcher      wildcard match
+     * @return compiled wildcard matcher
+     */
+    public static WildcardMatcher_mxJPO compile(final String _wildcardMatcher)
+    {
+        return new WildcardMatcher_mxJPO(Arrays.asList(_wildcardMatcher));
+    }
+
+    /**
+     * Checks if all names are matched.
+     *
+     * @return <i>true</i> if all names are matched; otherwise <i>false</i>
+     */
+    public boolean isMatchingAll()
+    {
+        return this.all;
+    }
+
+    /**
+     * Checks if <code>_name</code> matches at minimum one of the compiled
+     * wildcard matches.
+     *
+     * @param _name     name to check
+     * @return <i>true</i> if <code>_name</code> matches; otherwise
+     *         <i>false</i>
+     */
+    public boolean match(final String _name)
+    {
+        boolean ret = this.all;
+        if (!ret && (_name != null))  {
+            ret = this.literals.contains(_name);
+            final int length = _name.length();
+            for (int idx = 0; !ret && (idx < this.prefixLengths.length) && (this.prefixLengths[idx] <= length); idx++)  {
+                ret = this.prefixes.contains(_name.substring(0, this.prefixLengths[idx]));
+            }
+            for (int idx = 0; !ret && (idx < this.suffixLengths.length) && (this.suffixLengths[idx] <= length); idx++)  {
+                ret = this.suffixes.contains(_name.substring(length - this.suffixLengths[idx]));
+            }
+            if (!ret && (this.pattern != null))  {
+                ret = this.pattern.matcher(_name).matches();
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Appends the regular expression for <code>_wildcard</code> to
+     * <code>_regex</code>.
+     *
+     * @param _regex        regular expression
+     * @param _wildcard     wildcard match
+     */
+    private static void appendRegex(final StringBuilder _regex,
+                                    final String _wildcard)
+    {
+        final StringBuilder text = new StringBuilder();
+        for (final char ch : _wildcard.toCharArray())  {
+            if ((ch == '*') || (ch == '?'))  {
+                if (text.length() > 0)  {
+                    _regex.append(Pattern.quote(text.toString()));
+                    text.setLength(0);
+                }
+                _regex.append((ch == '*') ? ".*" : ".");
+            } else  {
+                text.append(ch);
+            }
+        }
+        if (text.length() > 0)  {
+            _regex.append(Pattern.quote(text.toString()));
+        }
+    }
+
+    /**
+     * Converts the sorted <code>_lengths</code> into an array.
+     *
+     * @param _lengths  sorted lengths
+     * @return array of the lengths
+     */
+    private static int[] toArray(final Set<Integer> _lengths)
+    {
+        final int[] ret = new int[_lengths.size()];
+        int idx = 0;
+        for (final Integer length : _lengths)  {
+            ret[idx++] = length;
+        }
+        return ret;
+    }
+}
@@ -1,74 +0,0 @@
-/* Generated By:JavaCC: Do not edit this line. AdminXMLExportParserConstants.java */
-package org.mxupdate.update.zparser;
-
-
-/**
- * Token literal values and constants.
- * Generated by org.javacc.parser.OtherFilesGen#start()
- */
-interface AdminXMLExportParserConstants_mxJPO {
-
-  /** End of File. */
-  int EOF = 0;
-  /** RegularExpression Id. */
-  int STARTTAG_START = 7;
-  /** RegularExpression Id. */
-  int ENDTAG_START = 8;
-  /** RegularExpression Id. */
-  int TEXT = 9;
-  /** RegularExpression Id. */
-  int DTDINFO = 10;
-  /** RegularExpression Id. */
-  int CDATA_START = 11;
-  /** RegularExpression Id. */
-  int STARTTAG_SINGLE = 12;
-  /** RegularExpression Id. */
-  int STARTTAG_END = 15;
-  /** RegularExpression Id. */
-  int STARTTAG_COMPLETE_END = 16;
-  /** RegularExpression Id. */
-  int ENDTAG_SINGLE = 17;
-  /** RegularExpression Id. */
-  int ENDTAG_END = 18;
-  /** RegularExpression Id. */
-  int CDATA_CHAR = 19;
-  /** RegularExpression Id. */
-  int CDATA_END = 20;
-
-  /** Lexical state. */
-  int DEFAULT = 0;
-  /** Lexical state. */
-  int STARTTAG_EXPECTED = 1;
-  /** Lexical state. */
-  int STARTTAG_ATTR_OR_END_EXPECTED = 2;
-  /** Lexical state. */
-  int ENDTAG_EXPECTED = 3;
-  /** Lexical state. */
-  int CDATA_EXPECTED = 4;
-
-  /** Literal token values. */
-  String[] tokenImage = {
-    "<EOF>",
-    "\" \"",
-    "\"\\t\"",
-    "\"\\n\"",
-    "<token of kind 4>",
-    "<token of kind 5>",
-    "<token of kind 6>",
-    "\"<\"",
-    "\"</\"",
-    "<TEXT>",
-    "\"&ematrixProductDtd;\"",
-    "\"<![CDATA[\"",
-    "<STARTTAG_SINGLE>",
-    "\" \"",
-    "<token of kind 14>",
-    "\">\"",
-    "\"/>\"",
-    "<ENDTAG_SINGLE>",
-    "\">\"",
-    "<CDATA_CHAR>",
-    "\"]]>\"",
-  };
-
-}
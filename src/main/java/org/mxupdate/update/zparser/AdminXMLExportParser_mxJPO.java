@@ -1,343 +1,665 @@
-/* AdminXMLExportParser.java */
-/* Generated By:JavaCC: Do not edit this line. AdminXMLExportParser.java */
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
 package org.mxupdate.update.zparser;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.Stack;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 
-import org.mxupdate.update.util.AbstractParser_mxJPO;
 import org.mxupdate.update.util.AbstractParser_mxJPO.ParseException;
-import org.mxupdate.update.util.AbstractParser_mxJPO.SimpleCharStream;
-import org.mxupdate.update.util.AbstractParser_mxJPO.Token;
-import org.mxupdate.update.util.AbstractParser_mxJPO.TokenMgrError;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 
 /**
- * Parses the XML export for all kind of MX administration objects.
+ * Parses the XML export for all kind of MX administration objects. The parser
+ * is a push scanner over a {@link CharBuffer}: start tags, end tags and texts
+ * are scanned as offset slices of the buffer. The content of an element is
+ * only copied into a string if the element has a text; a content with only
+ * one text or CDATA section is copied directly from the buffer. Comments,
+ * processing instructions, the document type, tag attributes and texts
+ * behind child elements are skipped without any allocation.<br/>
+ * The URLs of the elements are held in a trie of the tag names which is
+ * shared between all parsers. So for each element the URL is found by one
+ * lookup of the tag name in the children of the parent URL (without any
+ * string concatenation) and the same URL is always the same (interned)
+ * string instance with an already calculated hash code.<br/>
+ * For each element below the administration object element the event
+ * {@link AdminXMLExportObject_mxJPO#parseAdminXMLExportEvent} is called with
+ * the URL of the element and the content before the first child element (or
+ * <code>null</code> for an empty element tag).<br/>
+ * Elements directly below the administration object element could be
+ * skipped (e.g. if only some sections of an administration object are
+ * needed); for skipped elements only the nesting of the child elements is
+ * scanned.
+ *
+ * @author The MxUpdate Team
  */
-@SuppressWarnings("unused")
 public class AdminXMLExportParser_mxJPO
-    extends AbstractParser_mxJPO implements AdminXMLExportParserConstants_mxJPO {
-    /** Stack of the parsed URL. */
-    private final Stack<String> stack = new Stack<String>();
+{
+    /** Start of a CDATA section. */
+    private static final String CDATA_START = "<![CDATA[";
+    /** End of a CDATA section. */
+    private static final String CDATA_END = "]]>";
+    /** Start of a comment. */
+    private static final String COMMENT_START = "<!--";
+    /** End of a comment. */
+    private static final String COMMENT_END = "-->";
+    /** Start of a processing instruction. */
+    private static final String PI_START = "<?";
+    /** End of a processing instruction. */
+    private static final String PI_END = "?>";
+
+    /** Depth of the administration object element (below the root element). */
+    private static final int DEPTH_OBJECT = 2;
+
+    /** Root of the URL trie (URL of the administration object element). */
+    private static final URL ROOT = new URL("", "");
+
+    /** XML export. */
+    private final CharBuffer buffer;
+    /** Length of the XML export. */
+    private final int length;
+    /** Current scan position within the {@link #buffer}. */
+    private int pos;
+
     /** Parameter cache used for the interface of the event method. */
     private ParameterCache_mxJPO paramCache;
     /** Parsed object where the events are called. */
     private AdminXMLExportObject_mxJPO object;
+    /** Tag names of the elements below the administration object element which are skipped. */
+    private String[] skippedTags = new String[0];
+
+    /** Number of open elements. */
+    private int depth;
+    /** URLs of the open elements (<code>null</code> above the administration object element). */
+    private URL[] urls = new URL[16];
+    /** Start positions of the tag names of the open elements. */
+    private int[] tagStarts = new int[16];
+    /** End positions of the tag names of the open elements. */
+    private int[] tagEnds = new int[16];
+
+    /** Is the event for the current element not called? */
+    private boolean pending;
+    /** Start of the first text slice of the current element. */
+    private int textStart;
+    /** End of the first text slice of the current element. */
+    private int textEnd;
+    /** Text of the current element if more than one text slice is defined. */
+    private StringBuilder text;
+
+    /**
+     * Initializes the parser for given <code>_xml</code> export. The export
+     * is scanned directly without copy.
+     *
+     * @param _xml      XML export
+     */
+    public AdminXMLExportParser_mxJPO(final CharSequence _xml)
+    {
+        this.buffer = CharBuffer.wrap(_xml);
+        this.length = this.buffer.remaining();
+    }
+
+    /**
+     * Initializes the parser for the XML export read from
+     * <code>_reader</code>.
+     *
+     * @param _reader   reader of the XML export
+     * @throws IOException if the XML export could not be read
+     */
+    public AdminXMLExportParser_mxJPO(final Reader _reader)
+        throws IOException
+    {
+        this(AdminXMLExportParser_mxJPO.read(_reader));
+    }
 
     /**
-     * Executes a single admin XML export event.
+     * Reads the complete content of <code>_reader</code>.
      *
-     * @param _content  content for current URL
+     * @param _reader   reader
+     * @return read content
+     * @throws IOException if the content could not be read
      */
-    private void event(final String _content)
+    private static CharSequence read(final Reader _reader)
+        throws IOException
     {
         final StringBuilder ret = new StringBuilder();
-        for (final String tag : this.stack.subList(1, this.stack.size()))  {
-            ret.append('/').append(tag);
+        final char[] chars = new char[8192];
+        int len = _reader.read(chars);
+        while (len >= 0)  {
+            ret.append(chars, 0, len);
+            len = _reader.read(chars);
         }
-
-        this.object.parseAdminXMLExportEvent(this.paramCache, ret.toString(), _content);
+        return ret;
     }
 
     /**
+     * Parses the XML export and calls for each element below the
+     * administration object element the event method of <code>_object</code>.
+     *
      * @param _paramCache       parameter cache
      * @param _object           object where to execute the events
+     * @throws ParseException if the XML export is not well formed
      */
     public void parse(final ParameterCache_mxJPO _paramCache,
                       final AdminXMLExportObject_mxJPO _object)
         throws ParseException
     {
-      this.object = _object;
-      this.paramCache = _paramCache;
-      this.rootParse();
+        this.parse(_paramCache, _object, Collections.<String>emptySet());
     }
 
-  final private void rootParse() throws ParseException {
-    jj_consume_token(STARTTAG_START);
-    jj_consume_token(STARTTAG_SINGLE);
-    jj_consume_token(STARTTAG_END);
-    label_1:
-    while (true) {
-      switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
-      case STARTTAG_START:{
-        ;
-        break;
+    /**
+     * Parses the XML export and calls for each element below the
+     * administration object element the event method of <code>_object</code>.
+     * The elements directly below the administration object element with a
+     * tag name of <code>_skippedTags</code> are skipped including all their
+     * child elements (without any copied text and without any called event).
+     *
+     * @param _paramCache       parameter cache
+     * @param _object           object where to execute the events
+     * @param _skippedTags      tag names of the skipped elements directly
+     *                          below the administration object element
+     * @throws ParseException if the XML export is not well formed
+     */
+    public void parse(final ParameterCache_mxJPO _paramCache,
+                      final AdminXMLExportObject_mxJPO _object,
+                      final Collection<String> _skippedTags)
+        throws ParseException
+    {
+        this.object = _object;
+        this.skippedTags = _skippedTags.toArray(new String[_skippedTags.size()]);
+        this.paramCache = _paramCache;
+
+        boolean root = false;
+        while (this.pos < this.length)  {
+            final char ch = this.buffer.get(this.pos);
+            if (ch != '<')  {
+                this.scanText();
+            } else if (this.startsWith(AdminXMLExportParser_mxJPO.CDATA_START))  {
+                final int start = this.pos + AdminXMLExportParser_mxJPO.CDATA_START.length();
+                final int end = this.indexOf(AdminXMLExportParser_mxJPO.CDATA_END, start);
+                this.appendText(start, end);
+                this.pos = end + AdminXMLExportParser_mxJPO.CDATA_END.length();
+            } else if (this.startsWith(AdminXMLExportParser_mxJPO.COMMENT_START))  {
+                this.pos = this.indexOf(AdminXMLExportParser_mxJPO.COMMENT_END, this.pos) + AdminXMLExportParser_mxJPO.COMMENT_END.length();
+            } else if (this.startsWith(AdminXMLExportParser_mxJPO.PI_START))  {
+                this.pos = this.indexOf(AdminXMLExportParser_mxJPO.PI_END, this.pos) + AdminXMLExportParser_mxJPO.PI_END.length();
+            } else if (this.charAt(this.pos + 1) == '!')  {
+                // document type
+                this.pos = this.indexOf(">", this.pos) + 1;
+            } else if (this.charAt(this.pos + 1) == '/')  {
+                this.scanEndTag();
+                if (this.depth == 0)  {
+                    break;
+                }
+            } else  {
+                this.scanStartTag();
+                root = true;
+                if (this.depth == 0)  {
+                    break;
+                }
+            }
+        }
+        if (!root)  {
+            throw new ParseException("XML export without root element");
+        }
+        if (this.depth > 0)  {
+            throw new ParseException("XML export ends within element '" + this.tagName(this.depth - 1) + "'");
         }
-      default:
-        jj_la1[0] = jj_gen;
-        break label_1;
-      }
-      parse();
     }
-    jj_consume_token(ENDTAG_START);
-    jj_consume_token(ENDTAG_SINGLE);
-    jj_consume_token(ENDTAG_END);
-  }
-
-  final private void parse() throws ParseException {Token tmp;
-    StringBuilder text = new StringBuilder();
-    jj_consume_token(STARTTAG_START);
-    tmp = jj_consume_token(STARTTAG_SINGLE);
-this.stack.push(tmp.image);
-    switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
-    case STARTTAG_COMPLETE_END:{
-      jj_consume_token(STARTTAG_COMPLETE_END);
-this.event(null);this.stack.pop();
-      break;
-      }
-    case STARTTAG_END:{
-      jj_consume_token(STARTTAG_END);
-      label_2:
-      while (true) {
-        switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
-        case TEXT:
-        case DTDINFO:
-        case CDATA_START:{
-          ;
-          break;
-          }
-        default:
-          jj_la1[1] = jj_gen;
-          break label_2;
+
+    /**
+     * Scans a text up to the next markup. A text with only one white space
+     * character (between two tags) is ignored.
+     */
+    private void scanText()
+    {
+        final int start = this.pos;
+        while ((this.pos < this.length) && (this.buffer.get(this.pos) != '<'))  {
+            this.pos++;
+        }
+        if ((this.pos - start) > 1 || !AdminXMLExportParser_mxJPO.isWhitespace(this.buffer.get(start)))  {
+            this.appendText(start, this.pos);
         }
-        switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
-        case DTDINFO:{
-          tmp = jj_consume_token(DTDINFO);
-text.append(tmp.image);
-          break;
-          }
-        case TEXT:{
-          tmp = jj_consume_token(TEXT);
-text.append(tmp.image);
-          break;
-          }
-        case CDATA_START:{
-          jj_consume_token(CDATA_START);
-          label_3:
-          while (true) {
-            switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
-            case CDATA_CHAR:{
-              ;
-              break;
-              }
-            default:
-              jj_la1[2] = jj_gen;
-              break label_3;
+    }
+
+    /**
+     * Scans a start tag at the current position. The attributes of the tag
+     * are skipped. For an empty element tag the event is called directly.
+     *
+     * @throws ParseException if the start tag is not closed
+     */
+    private void scanStartTag()
+        throws ParseException
+    {
+        // the event of the parent element is called before the child elements
+        this.callEvent();
+
+        final int nameStart = this.pos + 1;
+        int idx = nameStart;
+        while ((idx < this.length) && !AdminXMLExportParser_mxJPO.isWhitespace(this.buffer.get(idx))
+                && (this.buffer.get(idx) != '/') && (this.buffer.get(idx) != '>'))  {
+            idx++;
+        }
+        final int nameEnd = idx;
+        idx = this.tagEnd(nameStart, idx);
+        final boolean empty = (this.buffer.get(idx - 1) == '/');
+        this.pos = idx + 1;
+
+        if ((this.depth == AdminXMLExportParser_mxJPO.DEPTH_OBJECT) && this.isSkipped(nameStart, nameEnd))  {
+            if (!empty)  {
+                this.skipElement(nameStart, nameEnd);
             }
-            tmp = jj_consume_token(CDATA_CHAR);
-text.append(tmp.image);
-          }
-          jj_consume_token(CDATA_END);
-          break;
-          }
-        default:
-          jj_la1[3] = jj_gen;
-          jj_consume_token(-1);
-          throw new ParseException();
+            return;
         }
-      }
-this.event(text.toString());
-      label_4:
-      while (true) {
-        switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
-        case STARTTAG_START:{
-          ;
-          break;
-          }
-        default:
-          jj_la1[4] = jj_gen;
-          break label_4;
+
+        this.push(nameStart, nameEnd);
+        if (empty)  {
+            if (this.depth >= AdminXMLExportParser_mxJPO.DEPTH_OBJECT)  {
+                this.object.parseAdminXMLExportEvent(this.paramCache, this.urls[this.depth - 1].url, null);
+            }
+            this.pop();
+        } else  {
+            this.pending = (this.depth >= AdminXMLExportParser_mxJPO.DEPTH_OBJECT);
+            this.textStart = this.textEnd = 0;
+            this.text = null;
         }
-        parse();
-      }
-      jj_consume_token(ENDTAG_START);
-      tmp = jj_consume_token(ENDTAG_SINGLE);
-this.stack.pop();
-      jj_consume_token(ENDTAG_END);
-      break;
-      }
-    default:
-      jj_la1[5] = jj_gen;
-      jj_consume_token(-1);
-      throw new ParseException();
     }
-  }
-
-  /** Generated Token Manager. */
-  public AdminXMLExportParserTokenManager_mxJPO token_source;
-  SimpleCharStream jj_input_stream;
-  /** Current token. */
-  public Token token;
-  /** Next token. */
-  public Token jj_nt;
-  private int jj_ntk;
-  private int jj_gen;
-  final private int[] jj_la1 = new int[6];
-  static private int[] jj_la1_0;
-  static {
-      jj_la1_init_0();
-   }
-   private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x80,0xe00,0x80000,0xe00,0x80,0x18000,};
-   }
-
-  /** Constructor with InputStream. */
-  public AdminXMLExportParser_mxJPO(java.io.InputStream stream) {
-     this(stream, null);
-  }
-  /** Constructor with InputStream and supplied encoding */
-  public AdminXMLExportParser_mxJPO(java.io.InputStream stream, String encoding) {
-    try { jj_input_stream = new SimpleCharStream(stream, encoding, 1, 1); } catch(java.io.UnsupportedEncodingException e) { throw new RuntimeException(e); }
-    token_source = new AdminXMLExportParserTokenManager_mxJPO(jj_input_stream);
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 6; i++) jj_la1[i] = -1;
-  }
-
-  /** Reinitialise. */
-  public void ReInit(java.io.InputStream stream) {
-     ReInit(stream, null);
-  }
-  /** Reinitialise. */
-  public void ReInit(java.io.InputStream stream, String encoding) {
-    try { jj_input_stream.ReInit(stream, encoding, 1, 1); } catch(java.io.UnsupportedEncodingException e) { throw new RuntimeException(e); }
-    token_source.ReInit(jj_input_stream);
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 6; i++) jj_la1[i] = -1;
-  }
-
-  /** Constructor. */
-  public AdminXMLExportParser_mxJPO(java.io.Reader stream) {
-    jj_input_stream = new SimpleCharStream(stream, 1, 1);
-    token_source = new AdminXMLExportParserTokenManager_mxJPO(jj_input_stream);
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 6; i++) jj_la1[i] = -1;
-  }
-
-  /** Reinitialise. */
-  public void ReInit(java.io.Reader stream) {
-	if (jj_input_stream == null) {
-      jj_input_stream = new SimpleCharStream(stream, 1, 1);
-   } else {
-      jj_input_stream.ReInit(stream, 1, 1);
-   }
-   if (token_source == null) {
-      token_source = new AdminXMLExportParserTokenManager_mxJPO(jj_input_stream);
-   }
-
-    token_source.ReInit(jj_input_stream);
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 6; i++) jj_la1[i] = -1;
-  }
-
-  /** Constructor with generated Token Manager. */
-  public AdminXMLExportParser_mxJPO(AdminXMLExportParserTokenManager_mxJPO tm) {
-    token_source = tm;
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 6; i++) jj_la1[i] = -1;
-  }
-
-  /** Reinitialise. */
-  public void ReInit(AdminXMLExportParserTokenManager_mxJPO tm) {
-    token_source = tm;
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 6; i++) jj_la1[i] = -1;
-  }
-
-  private Token jj_consume_token(int kind) throws ParseException {
-    Token oldToken;
-    if ((oldToken = token).next != null) token = token.next;
-    else token = token.next = token_source.getNextToken();
-    jj_ntk = -1;
-    if (token.kind == kind) {
-      jj_gen++;
-      return token;
+
+    /**
+     * Searches the end of the tag starting at <code>_nameStart</code>. The
+     * attributes are skipped (the values could include '&gt;').
+     *
+     * @param _nameStart    start of the tag name
+     * @param _from         index behind the tag name
+     * @return index of the closing '&gt;' of the tag
+     * @throws ParseException if the tag is not closed
+     */
+    private int tagEnd(final int _nameStart,
+                       final int _from)
+        throws ParseException
+    {
+        int idx = _from;
+        char quote = 0;
+        while ((idx < this.length) && ((quote != 0) || (this.buffer.get(idx) != '>')))  {
+            final char ch = this.buffer.get(idx);
+            if (quote != 0)  {
+                if (ch == quote)  {
+                    quote = 0;
+                }
+            } else if ((ch == '"') || (ch == '\''))  {
+                quote = ch;
+            }
+            idx++;
+        }
+        if (idx >= this.length)  {
+            throw new ParseException("start tag '" + this.buffer.subSequence(_nameStart, _from) + "' not closed");
+        }
+        return idx;
     }
-    token = oldToken;
-    jj_kind = kind;
-    throw generateParseException();
-  }
-
-
-/** Get the next Token. */
-  final public Token getNextToken() {
-    if (token.next != null) token = token.next;
-    else token = token.next = token_source.getNextToken();
-    jj_ntk = -1;
-    jj_gen++;
-    return token;
-  }
-
-/** Get the specific Token. */
-  final public Token getToken(int index) {
-    Token t = token;
-    for (int i = 0; i < index; i++) {
-      if (t.next != null) t = t.next;
-      else t = t.next = token_source.getNextToken();
+
+    /**
+     * Checks if the tag name from <code>_nameStart</code> to
+     * <code>_nameEnd</code> is one of the {@link #skippedTags}.
+     *
+     * @param _nameStart    start of the tag name
+     * @param _nameEnd      end of the tag name
+     * @return <i>true</i> if the element must be skipped
+     */
+    private boolean isSkipped(final int _nameStart,
+                              final int _nameEnd)
+    {
+        boolean ret = false;
+        for (int i = 0; !ret && (i < this.skippedTags.length); i++)  {
+            final String tag = this.skippedTags[i];
+            ret = (tag.length() == (_nameEnd - _nameStart));
+            for (int j = 0; ret && (j < tag.length()); j++)  {
+                ret = (this.buffer.get(_nameStart + j) == tag.charAt(j));
+            }
+        }
+        return ret;
     }
-    return t;
-  }
-
-  private int jj_ntk_f() {
-    if ((jj_nt=token.next) == null)
-      return (jj_ntk = (token.next=token_source.getNextToken()).kind);
-    else
-      return (jj_ntk = jj_nt.kind);
-  }
-
-  private java.util.List<int[]> jj_expentries = new java.util.ArrayList<int[]>();
-  private int[] jj_expentry;
-  private int jj_kind = -1;
-
-  /** Generate ParseException. */
-  public ParseException generateParseException() {
-    jj_expentries.clear();
-    boolean[] la1tokens = new boolean[21];
-    if (jj_kind >= 0) {
-      la1tokens[jj_kind] = true;
-      jj_kind = -1;
+
+    /**
+     * Skips the complete content of the element with the tag name from
+     * <code>_nameStart</code> to <code>_nameEnd</code> (the start tag is
+     * already scanned). Only the nesting of the child elements is counted;
+     * no texts are copied, no URLs are evaluated and no events are called.
+     *
+     * @param _nameStart    start of the tag name
+     * @param _nameEnd      end of the tag name
+     * @throws ParseException if the XML export ends within the element
+     */
+    private void skipElement(final int _nameStart,
+                             final int _nameEnd)
+        throws ParseException
+    {
+        int level = 1;
+        while (level > 0)  {
+            if (this.pos >= this.length)  {
+                throw new ParseException("XML export ends within element '" + this.buffer.subSequence(_nameStart, _nameEnd) + "'");
+            }
+            if (this.buffer.get(this.pos) != '<')  {
+                this.pos++;
+            } else if (this.startsWith(AdminXMLExportParser_mxJPO.CDATA_START))  {
+                this.pos = this.indexOf(AdminXMLExportParser_mxJPO.CDATA_END, this.pos) + AdminXMLExportParser_mxJPO.CDATA_END.length();
+            } else if (this.startsWith(AdminXMLExportParser_mxJPO.COMMENT_START))  {
+                this.pos = this.indexOf(AdminXMLExportParser_mxJPO.COMMENT_END, this.pos) + AdminXMLExportParser_mxJPO.COMMENT_END.length();
+            } else if (this.startsWith(AdminXMLExportParser_mxJPO.PI_START))  {
+                this.pos = this.indexOf(AdminXMLExportParser_mxJPO.PI_END, this.pos) + AdminXMLExportParser_mxJPO.PI_END.length();
+            } else if (this.charAt(this.pos + 1) == '!')  {
+                this.pos = this.indexOf(">", this.pos) + 1;
+            } else if (this.charAt(this.pos + 1) == '/')  {
+                this.pos = this.indexOf(">", this.pos) + 1;
+                level--;
+            } else  {
+                final int idx = this.tagEnd(this.pos + 1, this.pos + 1);
+                if (this.buffer.get(idx - 1) != '/')  {
+                    level++;
+                }
+                this.pos = idx + 1;
+            }
+        }
     }
-    for (int i = 0; i < 6; i++) {
-      if (jj_la1[i] == jj_gen) {
-        for (int j = 0; j < 32; j++) {
-          if ((jj_la1_0[i] & (1<<j)) != 0) {
-            la1tokens[j] = true;
-          }
+
+    /**
+     * Scans an end tag at the current position and closes the current
+     * element.
+     *
+     * @throws ParseException if no element is open, the end tag does not
+     *                        match the current element or the end tag is not
+     *                        closed
+     */
+    private void scanEndTag()
+        throws ParseException
+    {
+        final int nameStart = this.pos + 2;
+        int idx = nameStart;
+        while ((idx < this.length) && (this.buffer.get(idx) != '>') && !AdminXMLExportParser_mxJPO.isWhitespace(this.buffer.get(idx)))  {
+            idx++;
+        }
+        final int nameEnd = idx;
+        idx = this.indexOf(">", idx);
+
+        if (this.depth == 0)  {
+            throw new ParseException("end tag '" + this.buffer.subSequence(nameStart, nameEnd) + "' without start tag");
+        }
+        final int openStart = this.tagStarts[this.depth - 1];
+        final int openEnd = this.tagEnds[this.depth - 1];
+        boolean match = (nameEnd - nameStart) == (openEnd - openStart);
+        for (int i = 0; match && (i < (nameEnd - nameStart)); i++)  {
+            match = (this.buffer.get(nameStart + i) == this.buffer.get(openStart + i));
+        }
+        if (!match)  {
+            throw new ParseException("end tag '" + this.buffer.subSequence(nameStart, nameEnd)
+                    + "' does not match start tag '" + this.tagName(this.depth - 1) + "'");
+        }
+        this.pos = idx + 1;
+
+        this.callEvent();
+        this.pop();
+    }
+
+    /**
+     * Appends the text slice from <code>_start</code> to <code>_end</code>
+     * to the content of the current element. Texts of elements with already
+     * called event (texts behind child elements) are skipped.
+     *
+     * @param _start    start of the text slice
+     * @param _end      end of the text slice
+     */
+    private void appendText(final int _start,
+                            final int _end)
+    {
+        if (this.pending && (_end > _start))  {
+            if (this.text != null)  {
+                this.text.append(this.buffer, _start, _end);
+            } else if (this.textEnd > this.textStart)  {
+                this.text = new StringBuilder().append(this.buffer, this.textStart, this.textEnd).append(this.buffer, _start, _end);
+            } else  {
+                this.textStart = _start;
+                this.textEnd = _end;
+            }
+        }
+    }
+
+    /**
+     * Calls the event for the current element with the scanned text (if not
+     * already called).
+     */
+    private void callEvent()
+    {
+        if (this.pending)  {
+            this.pending = false;
+            final String content;
+            if (this.text != null)  {
+                content = this.text.toString();
+                this.text = null;
+            } else if (this.textEnd > this.textStart)  {
+                content = this.buffer.subSequence(this.textStart, this.textEnd).toString();
+            } else  {
+                content = "";
+            }
+            this.object.parseAdminXMLExportEvent(this.paramCache, this.urls[this.depth - 1].url, content);
+        }
+    }
+
+    /**
+     * Opens a new element with the tag name from <code>_nameStart</code> to
+     * <code>_nameEnd</code>. The URL is only evaluated for the administration
+     * object element and the elements below.
+     *
+     * @param _nameStart    start of the tag name
+     * @param _nameEnd      end of the tag name
+     */
+    private void push(final int _nameStart,
+                      final int _nameEnd)
+    {
+        if (this.depth == this.tagStarts.length)  {
+            this.tagStarts = Arrays.copyOf(this.tagStarts, this.depth * 2);
+            this.tagEnds = Arrays.copyOf(this.tagEnds, this.depth * 2);
+            this.urls = Arrays.copyOf(this.urls, this.depth * 2);
+        }
+        this.tagStarts[this.depth] = _nameStart;
+        this.tagEnds[this.depth] = _nameEnd;
+        if (this.depth > (AdminXMLExportParser_mxJPO.DEPTH_OBJECT - 1))  {
+            this.urls[this.depth] = this.urls[this.depth - 1].child(this.buffer, _nameStart, _nameEnd);
+        } else if (this.depth == (AdminXMLExportParser_mxJPO.DEPTH_OBJECT - 1))  {
+            this.urls[this.depth] = AdminXMLExportParser_mxJPO.ROOT;
+        }
+        this.depth++;
+    }
+
+    /**
+     * Closes the current element.
+     */
+    private void pop()
+    {
+        this.depth--;
+        this.urls[this.depth] = null;
+    }
+
+    /**
+     * Returns the tag name of the open element with <code>_index</code>.
+     *
+     * @param _index    index of the open element
+     * @return tag name
+     */
+    private String tagName(final int _index)
+    {
+        return this.buffer.subSequence(this.tagStarts[_index], this.tagEnds[_index]).toString();
+    }
+
+    /**
+     * Checks if the buffer starts at current position with
+     * <code>_prefix</code>.
+     *
+     * @param _prefix   prefix to check
+     * @return <i>true</i> if the prefix is found; otherwise <i>false</i>
+     */
+    private boolean startsWith(final String _prefix)
+    {
+        boolean ret = (this.pos + _prefix.length()) <= this.length;
+        for (int idx = 0; ret && (idx < _prefix.length()); idx++)  {
+            ret = (this.buffer.get(this.pos + idx) == _prefix.charAt(idx));
         }
-      }
+        return ret;
     }
-    for (int i = 0; i < 21; i++) {
-      if (la1tokens[i]) {
-        jj_expentry = new int[1];
-        jj_expentry[0] = i;
-        jj_expentries.add(jj_expentry);
-      }
+
+    /**
+     * Returns the character at <code>_idx</code>.
+     *
+     * @param _idx  index
+     * @return character; or <code>0</code> if the index is behind the end
+     */
+    private char charAt(final int _idx)
+    {
+        return (_idx < this.length) ? this.buffer.get(_idx) : 0;
     }
-    int[][] exptokseq = new int[jj_expentries.size()][];
-    for (int i = 0; i < jj_expentries.size(); i++) {
-      exptokseq[i] = jj_expentries.get(i);
+
+    /**
+     * Searches <code>_str</code> in the buffer starting at
+     * <code>_from</code>.
+     *
+     * @param _str      string to search
+     * @param _from     start index
+     * @return index of the found string
+     * @throws ParseException if the string is not found
+     */
+    private int indexOf(final String _str,
+                        final int _from)
+        throws ParseException
+    {
+        final char first = _str.charAt(0);
+        final int max = this.length - _str.length();
+        int ret = -1;
+        for (int idx = _from; (ret < 0) && (idx <= max); idx++)  {
+            if (this.buffer.get(idx) == first)  {
+                boolean found = true;
+                for (int i = 1; found && (i < _str.length()); i++)  {
+                    found = (this.buffer.get(idx + i) == _str.charAt(i));
+                }
+                if (found)  {
+                    ret = idx;
+                }
+            }
+        }
+        if (ret < 0)  {
+            throw new ParseException("'" + _str + "' expected, but XML export ends");
+        }
+        return ret;
     }
-    return new ParseException(token, exptokseq, tokenImage);
-  }
 
-  /** Enable tracing. */
-  final public void enable_tracing() {
-  }
+    /**
+     * Checks if <code>_ch</code> is a white space character within the XML
+     * export.
+     *
+     * @param _ch   character to check
+     * @return <i>true</i> if white space; otherwise <i>false</i>
+     */
+    private static boolean isWhitespace(final char _ch)
+    {
+        return (_ch == ' ') || (_ch == '\t') || (_ch == '\n') || (_ch == '\r');
+    }
 
-  /** Disable tracing. */
-  final public void disable_tracing() {
-  }
+    /**
+     * URL of an element within the URL trie. The children are only appended
+     * (copy on write), so that the lookup of a child works without
+     * synchronization.
+     */
+    private static final class URL
+    {
+        /** Tag name of the element. */
+        private final String tag;
+        /** Interned URL string. */
+        private final String url;
+        /** Child URLs. */
+        private volatile URL[] children = new URL[0];
+
+        /**
+         * Initializes the URL.
+         *
+         * @param _tag  tag name of the element
+         * @param _url  URL string
+         */
+        private URL(final String _tag,
+                    final String _url)
+        {
+            this.tag = _tag;
+            this.url = _url.intern();
+            // hash code is calculated once for the string switch dispatch of the handlers
+            this.url.hashCode();
+        }
 
+        /**
+         * Returns the child URL for the tag name from <code>_start</code> to
+         * <code>_end</code> within <code>_buffer</code>. If the child URL is
+         * not defined, the child URL is created.
+         *
+         * @param _buffer   buffer with the tag name
+         * @param _start    start of the tag name
+         * @param _end      end of the tag name
+         * @return child URL
+         */
+        private URL child(final CharBuffer _buffer,
+                          final int _start,
+                          final int _end)
+        {
+            URL ret = this.find(_buffer, _start, _end);
+            if (ret == null)  {
+                synchronized (this)  {
+                    ret = this.find(_buffer, _start, _end);
+                    if (ret == null)  {
+                        final String tag = _buffer.subSequence(_start, _end).toString();
+                        ret = new URL(tag, this.url + '/' + tag);
+                        final URL[] urls = Arrays.copyOf(this.children, this.children.length + 1);
+                        urls[urls.length - 1] = ret;
+                        this.children = urls;
+                    }
+                }
+            }
+            return ret;
+        }
+
+        /**
+         * Searches the child URL for the tag name from <code>_start</code>
+         * to <code>_end</code> within <code>_buffer</code>.
+         *
+         * @param _buffer   buffer with the tag name
+         * @param _start    start of the tag name
+         * @param _end      end of the tag name
+         * @return found child URL; or <code>null</code> if not found
+         */
+        private URL find(final CharBuffer _buffer,
+                         final int _start,
+                         final int _end)
+        {
+            final URL[] urls = this.children;
+            URL ret = null;
+            for (int idx = 0; (ret == null) && (idx < urls.length); idx++)  {
+                final String tag = urls[idx].tag;
+                boolean match = (tag.length() == (_end - _start));
+                for (int i = 0; match && (i < tag.length()); i++)  {
+                    match = (tag.charAt(i) == _buffer.get(_start + i));
+                }
+                if (match)  {
+                    ret = urls[idx];
+                }
+            }
+            return ret;
+        }
+    }
 }
@@ -15,11 +15,19 @@
 
 package org.mxupdate.util;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.regex.Pattern;
 
 import org.mxupdate.typedef.TypeDef_mxJPO;
 import org.mxupdate.update.util.UpdateException_mxJPO;
@@ -33,6 +41,12 @@ import org.mxupdate.update.util.UpdateException_mxJPO.ErrorKey;
  */
 public final class FileUtils_mxJPO
 {
+    /** Charset used to read files for the content hash. */
+    private static final String CHARSET_HASH = "ISO-8859-1";
+
+    /** Separator of the content hashes of a CI file and a referenced file. */
+    private static final String HASH_SEPARATOR = " ___ ";
+
     /**
      * The constructor is defined to avoid external initialization.
      */
@@ -135,6 +149,190 @@ public final class FileUtils_mxJPO
         return code.toString();
     }
 
+    /**
+     * Reads the header of given file line by line until a line matches
+     * <code>_end</code> or <code>_maxLength</code> characters are read. So
+     * only the first part of the file is read (and decoded). The encoding is
+     * evaluated from the byte order mark (UTF-8 or UTF-16); without byte
+     * order mark the default encoding is used (like for
+     * {@link #readFileToString(File)}).
+     *
+     * @param _file         file used to read
+     * @param _end          pattern of the last line of the header
+     * @param _maxLength    maximum number of read characters
+     * @return read header of the file (including the matched last line)
+     * @throws UpdateException_mxJPO if the file could not be opened or read
+     */
+    public static String readFileHeader(final File _file,
+                                        final Pattern _end,
+                                        final int _maxLength)
+        throws UpdateException_mxJPO
+    {
+        final StringBuilder header = new StringBuilder();
+        try  {
+            final InputStream in;
+            try  {
+                in = new BufferedInputStream(new FileInputStream(_file), 4096);
+            } catch (final FileNotFoundException e)  {
+                throw new UpdateException_mxJPO(ErrorKey.UTIL_FILEUTILS_READ_FILE_NOT_EXISTS, _file);
+            }
+            try  {
+                final BufferedReader reader = new BufferedReader(new InputStreamReader(in, FileUtils_mxJPO.evalCharset(in)), 4096);
+                String line = reader.readLine();
+                while (line != null)  {
+                    header.append(line).append('\n');
+                    if (_end.matcher(line).find() || (header.length() >= _maxLength))  {
+                        break;
+                    }
+                    line = reader.readLine();
+                }
+            } finally  {
+                in.close();
+            }
+        } catch (final IOException e)  {
+            throw new UpdateException_mxJPO(ErrorKey.UTIL_FILEUTILS_READ_FILE_UNEXPECTED, _file, e.getMessage());
+        }
+
+        return header.toString();
+    }
+
+    /**
+     * Evaluates the charset from the byte order mark of given input stream.
+     * The byte order mark itself is skipped.
+     *
+     * @param _in       input stream (must support marks)
+     * @return charset of the byte order mark; or the default charset if no
+     *         byte order mark is defined
+     * @throws IOException if the input stream could not be read
+     */
+    private static Charset evalCharset(final InputStream _in)
+        throws IOException
+    {
+        _in.mark(3);
+        final int b1 = _in.read();
+        final int b2 = _in.read();
+        final int b3 = _in.read();
+        final Charset ret;
+        if ((b1 == 0xEF) && (b2 == 0xBB) && (b3 == 0xBF))  {
+            ret = Charset.forName("UTF-8");
+        } else if ((b1 == 0xFE) && (b2 == 0xFF))  {
+            _in.reset();
+            _in.skip(2);
+            ret = Charset.forName("UTF-16BE");
+        } else if ((b1 == 0xFF) && (b2 == 0xFE))  {
+            _in.reset();
+            _in.skip(2);
+            ret = Charset.forName("UTF-16LE");
+        } else  {
+            _in.reset();
+            ret = Charset.defaultCharset();
+        }
+        return ret;
+    }
+
+    /**
+     * Calculates the content hash for given file. The file is read line by
+     * line, so that different line endings of the same content (e.g.
+     * depending on the operating system of the checkout) result in the same
+     * hash. The file is read with the charset ISO-8859-1 (each byte is one
+     * character), so that the hash only depends on the bytes of the file and
+     * not on the default charset of the platform.
+     *
+     * @param _file     file for which the content hash is calculated
+     * @return hexadecimal SHA-256 content hash
+     * @throws UpdateException_mxJPO if the file could not be read or the hash
+     *                               could not be calculated
+     */
+    public static String calcContentHash(final File _file)
+        throws UpdateException_mxJPO
+    {
+        final MessageDigest digest;
+        try  {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e)  {
+            throw new UpdateException_mxJPO(ErrorKey.UTIL_FILEUTILS_CONTENT_HASH, _file, e.getMessage());
+        }
+        try  {
+            final BufferedReader reader;
+            try  {
+                reader = new BufferedReader(new InputStreamReader(new FileInputStream(_file), FileUtils_mxJPO.CHARSET_HASH));
+            } catch (final FileNotFoundException e)  {
+                throw new UpdateException_mxJPO(ErrorKey.UTIL_FILEUTILS_READ_FILE_NOT_EXISTS, _file);
+            }
+            try  {
+                String line = reader.readLine();
+                while (line != null)  {
+                    digest.update(line.getBytes(FileUtils_mxJPO.CHARSET_HASH));
+                    digest.update((byte) '\n');
+                    line = reader.readLine();
+                }
+            } finally  {
+                reader.close();
+            }
+        } catch (final IOException e)  {
+            throw new UpdateException_mxJPO(ErrorKey.UTIL_FILEUTILS_READ_FILE_UNEXPECTED, _file, e.getMessage());
+        }
+        final StringBuilder ret = new StringBuilder(64);
+        for (final byte b : digest.digest())  {
+            ret.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Calculates the content hash of a CI file <code>_ciFile</code> which
+     * references the code file <code>_file</code> (e.g. for programs and
+     * pages). The returned value is a concatenation of the content hash
+     * <code>_ciHash</code> of the CI file, the referenced file as defined in
+     * the CI file and the content hash of the referenced file, so that the
+     * value could be checked with {@link #isContentHashEqual(File, String)}.
+     *
+     * @param _ciFile   CI file
+     * @param _ciHash   content hash of the CI file
+     * @param _file     referenced file as defined within the CI file
+     * @return content hash of the CI file including the referenced file
+     * @throws UpdateException_mxJPO if the referenced file could not be read
+     */
+    public static String calcContentHash(final File _ciFile,
+                                         final String _ciHash,
+                                         final String _file)
+        throws UpdateException_mxJPO
+    {
+        return new StringBuilder()
+                .append(_ciHash)
+                .append(FileUtils_mxJPO.HASH_SEPARATOR).append(_file)
+                .append(FileUtils_mxJPO.HASH_SEPARATOR).append(FileUtils_mxJPO.calcContentHash(FileUtils_mxJPO.calcFile(_ciFile, _file)))
+                .toString();
+    }
+
+    /**
+     * Checks if the stored content hash <code>_hash</code> is equal to the
+     * current content of the CI file <code>_ciFile</code>. If the stored
+     * content hash includes a referenced file (see
+     * {@link #calcContentHash(File, String, String)}), the content hash of
+     * the referenced file is also checked.
+     *
+     * @param _ciFile   CI file
+     * @param _hash     stored content hash
+     * @return <i>true</i> if the content hash is equal; otherwise
+     *         <i>false</i>
+     * @throws UpdateException_mxJPO if the CI file could not be read
+     */
+    public static boolean isContentHashEqual(final File _ciFile,
+                                             final String _hash)
+        throws UpdateException_mxJPO
+    {
+        final String[] parts = _hash.split(FileUtils_mxJPO.HASH_SEPARATOR, -1);
+        boolean ret = parts[0].equals(FileUtils_mxJPO.calcContentHash(_ciFile));
+        if (ret && (parts.length == 3))  {
+            final File file = FileUtils_mxJPO.calcFile(_ciFile, parts[1]);
+            ret = (file != null) && file.isFile() && parts[2].equals(FileUtils_mxJPO.calcContentHash(file));
+        } else if (parts.length != 1)  {
+            ret = false;
+        }
+        return ret;
+    }
+
     /**
      * <p>Decodes given MX name to a name which could be used within a file
      * system. This must be done because some characters could not handled
@@ -0,0 +1,53 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.util;
+
+import java.util.List;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Executes MQL commands against the MX server. All MQL commands of MxUpdate
+ * are executed with the executor of the MX context defined in
+ * {@link MqlBuilderUtil_mxJPO#setExecutor(matrix.db.Context, IMqlExecutor_mxJPO)}
+ * (or the default executor defined in
+ * {@link MqlBuilderUtil_mxJPO#setExecutor(IMqlExecutor_mxJPO)}). The executor
+ * could be replaced, e.g. to measure, cache or record the MQL commands or to
+ * use another backend instead of a MX server.
+ *
+ * @author The MxUpdate Team
+ */
+public interface IMqlExecutor_mxJPO
+{
+    /**
+     * Executes given MQL command.
+     *
+     * @param _context  MX context for this request
+     * @param _cmd      MQL command to execute
+     * @param _args     arguments of the MQL command referenced with
+     *                  <code>$1</code>, <code>$2</code>, ... in the MQL
+     *                  command; or {@code null} if the MQL command is executed
+     *                  without replacing arguments
+     * @return trimmed result of the MQL execution
+     * @throws MatrixException if MQL execution failed (the message includes
+     *                         only the MQL error and not the MQL command)
+     */
+    String execute(final Context _context,
+                   final String _cmd,
+                   final List<String> _args)
+        throws MatrixException;
+}
@@ -16,17 +16,17 @@
 package org.mxupdate.util;
 
 import java.io.File;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import matrix.db.Context;
-import matrix.db.MQLCommand;
 import matrix.util.MatrixException;
 
 /**
@@ -39,6 +39,8 @@ public final class MqlBuilderUtil_mxJPO
     // hint: to avoid challenges with backslashes, they are defined directly via character
     /** Regular expression for the matcher in the converter. */
     private final static String MQL_MATCHER                 = "" + ((char) 0x005c) + "$[0-9]+";
+    /** Compiled pattern of {@link #MQL_MATCHER}. */
+    private final static Pattern MQL_MATCHER_PATTERN        = Pattern.compile(MqlBuilderUtil_mxJPO.MQL_MATCHER);
     /** Regular expression to replace backslashes. */
     private final static String MQL_CONVERT_BACKSLASH_FROM  = "" + ((char) 0x005c) + ((char) 0x005c);
     /** String which will be the target for backslashes. */
@@ -48,6 +50,17 @@ public final class MqlBuilderUtil_mxJPO
     /** String which will be the target for quotations. */
     private final static String MQL_CONVERT_QUOTATION_TO    = "" + ((char) 0x005c) + ((char) 0x005c) + ((char) 0x0022);
 
+    /** Default executor used for all MQL commands of MX contexts without own executor. */
+    private static volatile IMqlExecutor_mxJPO EXECUTOR = new MqlExecutor_mxJPO();
+
+    /**
+     * Executors of the MX contexts. The executors are scoped to the MX
+     * context (and not global), so that multiple runs within the same JVM
+     * (e.g. JPOs executed in parallel within the MX server) do not overwrite
+     * the executors of each other.
+     */
+    private static final Map<Context,IMqlExecutor_mxJPO> EXECUTORS = Collections.synchronizedMap(new IdentityHashMap<Context,IMqlExecutor_mxJPO>());
+
     /**
      * Private constructor to avoid external initialization.
      */
@@ -55,6 +68,137 @@ public final class MqlBuilderUtil_mxJPO
     {
     }
 
+    /**
+     * Returns the default executor used for all MQL commands of MX contexts
+     * without own executor.
+     *
+     * @return current default MQL executor
+     */
+    public static IMqlExecutor_mxJPO getExecutor()
+    {
+        return MqlBuilderUtil_mxJPO.EXECUTOR;
+    }
+
+    /**
+     * Defines the default executor used for all MQL commands of MX contexts
+     * without own executor. If <code>_executor</code> is {@code null}, the
+     * {@link MqlExecutor_mxJPO executor} for the MX server is used.
+     *
+     * @param _executor     new default MQL executor
+     * @return previous default MQL executor
+     */
+    public static IMqlExecutor_mxJPO setExecutor(final IMqlExecutor_mxJPO _executor)
+    {
+        final IMqlExecutor_mxJPO ret = MqlBuilderUtil_mxJPO.EXECUTOR;
+        MqlBuilderUtil_mxJPO.EXECUTOR = (_executor != null) ? _executor : new MqlExecutor_mxJPO();
+        return ret;
+    }
+
+    /**
+     * Returns the executor used for all MQL commands of the MX
+     * <code>_context</code>.
+     *
+     * @param _context      MX context
+     * @return executor of the MX context; or the default executor if no own
+     *         executor is defined for the MX context
+     */
+    public static IMqlExecutor_mxJPO getExecutor(final Context _context)
+    {
+        final IMqlExecutor_mxJPO ret = MqlBuilderUtil_mxJPO.EXECUTORS.get(_context);
+        return (ret != null) ? ret : MqlBuilderUtil_mxJPO.EXECUTOR;
+    }
+
+    /**
+     * Defines the executor used for all MQL commands of the MX
+     * <code>_context</code>. If <code>_executor</code> is {@code null}, the
+     * own executor of the MX context is removed (and the default executor is
+     * used). The previous executor must be always restored (e.g. within a
+     * finally block), so that the MX context is not referenced anymore.
+     *
+     * @param _context      MX context
+     * @param _executor     new MQL executor of the MX context
+     * @return previous own MQL executor of the MX context; or {@code null} if
+     *         no own executor was defined
+     */
+    public static IMqlExecutor_mxJPO setExecutor(final Context _context,
+                                                 final IMqlExecutor_mxJPO _executor)
+    {
+        return (_executor != null)
+                ? MqlBuilderUtil_mxJPO.EXECUTORS.put(_context, _executor)
+                : MqlBuilderUtil_mxJPO.EXECUTORS.remove(_context);
+    }
+
+    /**
+     * Converts given MQL command <code>_cmd</code> with the arguments
+     * <code>_args</code> to one MQL statement for legacy calls.
+     *
+     * @param _cmd      MQL command
+     * @param _args     arguments of the MQL command
+     * @return converted MQL statement
+     */
+    static String convertLegacy(final String _cmd,
+                                final List<String> _args)
+    {
+        final StringBuilder ret = new StringBuilder();
+        final Matcher matcher = MqlBuilderUtil_mxJPO.MQL_MATCHER_PATTERN.matcher(_cmd);
+        int startIdx = 0;
+        while (matcher.find())  {
+            final int argIdx = Integer.parseInt(matcher.group().substring(1));
+            final String replace;
+            if (_args.size() >= argIdx)  {
+                replace = "\""
+                        + _args.get(argIdx - 1)
+                        .replaceAll(MqlBuilderUtil_mxJPO.MQL_CONVERT_BACKSLASH_FROM, MqlBuilderUtil_mxJPO.MQL_CONVERT_BACKSLASH_TO)
+                        .replaceAll(MqlBuilderUtil_mxJPO.MQL_CONVERT_QUOTATION_FROM, MqlBuilderUtil_mxJPO.MQL_CONVERT_QUOTATION_TO)
+                        + "\"";
+            } else  {
+                replace = matcher.group();
+            }
+
+            ret.append(_cmd.substring(startIdx, matcher.start())).append(replace);
+
+            startIdx = matcher.end();
+        }
+        ret.append(_cmd.substring(startIdx, _cmd.length()));
+
+        return ret.toString();
+    }
+
+    /**
+     * Merges given <code>_lines</code> with the same <code>_prefix</code> into
+     * one MQL statement. The arguments of the lines are renumbered.
+     *
+     * @param _prefix   prefix of all lines
+     * @param _lines    lines to merge
+     * @return merged MQL statement
+     */
+    static MqlBuilder merge(final MqlBuilder _prefix,
+                            final List<MqlBuilder> _lines)
+    {
+        final int prefixLength = _prefix.cmd.length() + 1;
+        final int prefixArgs = _prefix.args.size();
+
+        final MqlBuilder ret = new MqlBuilder();
+        ret.cmd.append(_prefix.cmd);
+        ret.args.addAll(_prefix.args);
+        for (final MqlBuilder line : _lines)  {
+            final String suffix = line.cmd.substring(prefixLength);
+            final int offset = ret.args.size() - prefixArgs;
+            ret.cmd.append(' ');
+            final Matcher matcher = MqlBuilderUtil_mxJPO.MQL_MATCHER_PATTERN.matcher(suffix);
+            int startIdx = 0;
+            while (matcher.find())  {
+                final int argIdx = Integer.parseInt(matcher.group().substring(1));
+                ret.cmd.append(suffix.substring(startIdx, matcher.start()))
+                       .append('$').append((argIdx > prefixArgs) ? (argIdx + offset) : argIdx);
+                startIdx = matcher.end();
+            }
+            ret.cmd.append(suffix.substring(startIdx));
+            ret.args.addAll(line.args.subList(prefixArgs, line.args.size()));
+        }
+        return ret;
+    }
+
     /**
      * Initializes new single line MQL builder.
      *
@@ -187,6 +331,7 @@ public final class MqlBuilderUtil_mxJPO
         {
             this.lastLine = new MqlBuilder();
             if ((this.prefix.peek().cmd.length() > 0) && !this.prefix.peek().args.isEmpty())  {
+                this.lastLine.prefix = this.prefix.peek();
                 this.lastLine.cmd.append(this.prefix.peek().cmd).append(' ');
                 this.lastLine.args.addAll(this.prefix.peek().args);
             }
@@ -237,6 +382,63 @@ public final class MqlBuilderUtil_mxJPO
             }
         }
 
+        /**
+         * Executes all lines of the MQL builder. Up to
+         * <code>_maxMergeLines</code> following lines with the same
+         * <code>escape mod</code> prefix are merged into one MQL statement, so
+         * that only one call to the MX server is needed.<br/>
+         * If a merged MQL statement failed and no transaction is active, the
+         * merged lines are executed again line by line so that the error
+         * points to the failed line (a failed MQL statement itself changes
+         * nothing). Within an active transaction the previous MQL statements
+         * of the transaction could not be repeated, so a
+         * {@link MergedMqlException} with all merged lines is thrown; the
+         * owner of the transaction must abort the transaction and could
+         * execute the lines again without merge.
+         *
+         * @param _context          MX context
+         * @param _maxMergeLines    maximum number of lines merged into one MQL
+         *                          statement (if less or equal to one, lines
+         *                          are not merged)
+         * @throws MatrixException if execute failed
+         * @throws MergedMqlException if a merged MQL statement failed within
+         *                            an active transaction
+         */
+        public void exec(final Context _context,
+                         final int _maxMergeLines)
+            throws MatrixException
+        {
+            int idx = 0;
+            while (idx < this.lines.size())  {
+                final MqlBuilder first = this.lines.get(idx);
+                int end = idx + 1;
+                if ((first.prefix != null) && first.prefix.cmd.toString().startsWith("escape mod "))  {
+                    while ((end < this.lines.size()) && ((end - idx) < _maxMergeLines) && (this.lines.get(end).prefix == first.prefix))  {
+                        end++;
+                    }
+                }
+                if ((end - idx) == 1)  {
+                    first.exec(_context);
+                } else  {
+                    final List<MqlBuilder> merge = this.lines.subList(idx, end);
+                    MatrixException error = null;
+                    try  {
+                        MqlBuilderUtil_mxJPO.merge(first.prefix, merge).exec(_context);
+                    } catch (final MatrixException e)  {
+                        error = e;
+                    }
+                    if ((error != null) && (_context != null) && _context.isTransactionActive())  {
+                        throw new MergedMqlException(error, merge);
+                    } else if (error != null)  {
+                        for (final MqlBuilder line : merge)  {
+                            line.exec(_context);
+                        }
+                    }
+                }
+                idx = end;
+            }
+        }
+
         @Override()
         public String toString()
         {
@@ -248,6 +450,50 @@ public final class MqlBuilderUtil_mxJPO
         }
     }
 
+    /**
+     * Exception if a merged MQL statement failed within an active
+     * transaction. The message includes all merged lines, so that the failed
+     * line could be found.
+     */
+    public static final class MergedMqlException
+        extends MatrixException
+    {
+        /** Dummy version identifier for this Serializable class. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Initializes the exception.
+         *
+         * @param _error    error of the merged MQL statement
+         * @param _lines    merged lines
+         */
+        private MergedMqlException(final MatrixException _error,
+                                   final List<MqlBuilder> _lines)
+        {
+            super(MergedMqlException.message(_error, _lines));
+            this.initCause(_error);
+        }
+
+        /**
+         * Returns the message of the exception with all merged lines.
+         *
+         * @param _error    error of the merged MQL statement
+         * @param _lines    merged lines
+         * @return message
+         */
+        private static String message(final MatrixException _error,
+                                      final List<MqlBuilder> _lines)
+        {
+            final StringBuilder ret = new StringBuilder()
+                    .append(_error.getMessage())
+                    .append("\nThe failed MQL statement was merged from the MQL commands:");
+            for (final MqlBuilder line : _lines)  {
+                ret.append('\n').append(line.toString());
+            }
+            return ret.toString();
+        }
+    }
+
     /**
      * Handles one MQL line.
      */
@@ -257,6 +503,8 @@ public final class MqlBuilderUtil_mxJPO
         private final StringBuilder cmd = new StringBuilder();
         /** Arguments of the line. */
         final List<String> args = new ArrayList<>();
+        /** Prefix of the line within a multi-line MQL builder (or {@code null}). */
+        private MqlBuilder prefix;
 
         /**
          * Private constructor to avoid external initialization.
@@ -299,7 +547,9 @@ public final class MqlBuilderUtil_mxJPO
          *
          * @param _context              MX context for this request
          * @return trimmed result of the MQL execution
-         * @throws MatrixException if MQL execution failed
+         * @throws MatrixException if MQL execution failed (the message
+         *                         includes the MQL command, the original
+         *                         exception of the executor is the cause)
          */
         public String exec(final Context _context)
             throws MatrixException
@@ -308,60 +558,14 @@ public final class MqlBuilderUtil_mxJPO
                 throw new MatrixException("MQL Command starts not with escape!\nMQL command was:\n" + this.toString());
             }
 
-            final MQLCommand mql = new MQLCommand();
-
-            // search for new MQL execute method with arguments
-            Method meth = null;
-            boolean methodWithArgs = false;
-            try {
-                meth = mql.getClass().getDeclaredMethod("executeCommand", Context.class, String.class, List.class);
-                methodWithArgs = true;
-            } catch (final NoSuchMethodException e)  {
-                try
-                {
-                    meth = mql.getClass().getDeclaredMethod("executeCommand", Context.class, String.class);
-                } catch (final NoSuchMethodException e1)  {
-                    meth = null;
-                }
-            }
-
-            // new method with arguments
-            if (methodWithArgs)  {
-                try  {
-                    meth.invoke(mql, _context, this.cmd.toString(), this.args);
-                } catch (final IllegalAccessException e)  {
-                    throw new MatrixException(e);
-                } catch (final IllegalArgumentException e)  {
-                    throw new MatrixException(e);
-                } catch (final InvocationTargetException e)  {
-                    if (e.getCause() instanceof MatrixException)  {
-                        throw (MatrixException) e.getCause();
-                    }
-                    throw new MatrixException(e);
-                }
-
-            // old MX versions where method has no arguments...
-            } else if (meth != null)  {
-                try  {
-                    meth.invoke(mql, _context, this.mqlConvertLegacy());
-                } catch (final IllegalAccessException e)  {
-                    throw new MatrixException(e);
-                } catch (final IllegalArgumentException e)  {
-                    System.err.println("Failed for " + this.toString());
-                    throw new MatrixException(e);
-                } catch (final InvocationTargetException e)  {
-                    if (e.getCause() instanceof MatrixException)  {
-                        throw (MatrixException) e.getCause();
-                    }
-                    throw new MatrixException(e);
-                }
-            }
-
-            if ((mql.getError() != null) && !mql.getError().isEmpty())  {
-                throw new MatrixException(mql.getError()
-                        + "\nMQL command was:\n" + this.toString());
+            try  {
+                return MqlBuilderUtil_mxJPO.getExecutor(_context).execute(_context, this.cmd.toString(), this.args);
+            } catch (final MatrixException e)  {
+                // the original exception is kept as cause (with its stack)
+                final MatrixException ex = new MatrixException(e.getMessage() + "\nMQL command was:\n" + this.toString());
+                ex.initCause(e);
+                throw ex;
             }
-            return mql.getResult().trim();
         }
 
         /**
@@ -372,30 +576,7 @@ public final class MqlBuilderUtil_mxJPO
          */
         private String mqlConvertLegacy()
         {
-            final StringBuilder ret = new StringBuilder();
-            final String tmpCmd = this.cmd.toString();
-            final Matcher matcher = Pattern.compile(MqlBuilderUtil_mxJPO.MQL_MATCHER).matcher(this.cmd.toString());
-            int startIdx = 0;
-            while (matcher.find())  {
-                final int argIdx = Integer.parseInt(matcher.group().substring(1));
-                final String replace;
-                if (this.args.size() >= argIdx)  {
-                    replace = "\""
-                            + this.args.get(argIdx - 1)
-                            .replaceAll(MqlBuilderUtil_mxJPO.MQL_CONVERT_BACKSLASH_FROM, MqlBuilderUtil_mxJPO.MQL_CONVERT_BACKSLASH_TO)
-                            .replaceAll(MqlBuilderUtil_mxJPO.MQL_CONVERT_QUOTATION_FROM, MqlBuilderUtil_mxJPO.MQL_CONVERT_QUOTATION_TO)
-                            + "\"";
-                } else  {
-                    replace = matcher.group();
-                }
-
-                ret.append(tmpCmd.substring(startIdx, matcher.start())).append(replace);
-
-                startIdx = matcher.end();
-            }
-            ret.append(tmpCmd.substring(startIdx, tmpCmd.length()));
-
-            return ret.toString();
+            return MqlBuilderUtil_mxJPO.convertLegacy(this.cmd.toString(), this.args);
         }
 
         @Override()
@@ -0,0 +1,90 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import matrix.db.Context;
+import matrix.db.MQLCommand;
+import matrix.util.MatrixException;
+
+/**
+ * Default MQL executor which executes the MQL commands with
+ * {@link MQLCommand}. The execute method of the MQL command with arguments
+ * exists only for newer MX versions. The method is searched only once per
+ * JVM. For old MX versions the arguments are converted into the MQL command
+ * (see {@link MqlBuilderUtil_mxJPO#convertLegacy(String, List)}).
+ *
+ * @author The MxUpdate Team
+ */
+public class MqlExecutor_mxJPO
+    implements IMqlExecutor_mxJPO
+{
+    /**
+     * Execute method of the MQL command with arguments or {@code null} if
+     * not supported from the MX version.
+     */
+    private static final Method EXECUTE_WITH_ARGS;
+    static  {
+        Method meth;
+        try {
+            meth = MQLCommand.class.getDeclaredMethod("executeCommand", Context.class, String.class, List.class);
+        } catch (final NoSuchMethodException e)  {
+            meth = null;
+        }
+        EXECUTE_WITH_ARGS = meth;
+    }
+
+    /**
+     * {@inheritDoc}
+     * A new MQL command is used for each execution, because the MQL command
+     * holds the result and error of the execution.
+     */
+    @Override()
+    public String execute(final Context _context,
+                          final String _cmd,
+                          final List<String> _args)
+        throws MatrixException
+    {
+        final MQLCommand mql = new MQLCommand();
+
+        if (_args == null)  {
+            mql.executeCommand(_context, _cmd);
+        } else if (MqlExecutor_mxJPO.EXECUTE_WITH_ARGS != null)  {
+            try  {
+                MqlExecutor_mxJPO.EXECUTE_WITH_ARGS.invoke(mql, _context, _cmd, _args);
+            } catch (final IllegalAccessException e)  {
+                throw new MatrixException(e);
+            } catch (final IllegalArgumentException e)  {
+                throw new MatrixException(e);
+            } catch (final InvocationTargetException e)  {
+                if (e.getCause() instanceof MatrixException)  {
+                    throw (MatrixException) e.getCause();
+                }
+                throw new MatrixException(e);
+            }
+        } else  {
+            mql.executeCommand(_context, MqlBuilderUtil_mxJPO.convertLegacy(_cmd, _args));
+        }
+
+        if ((mql.getError() != null) && !mql.getError().isEmpty())  {
+            throw new MatrixException(mql.getError());
+        }
+        return mql.getResult().trim();
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mxupdate.mapping.ParameterDef_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO.ValueKeys;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Handles MQL transcripts. A transcript is a text file with all executed MQL
+ * commands, their arguments and the results (or errors). The transcript is
+ * written by a {@link Recorder} during a run against a MX server and is
+ * served by a {@link Replayer} without any MX server, so that a run could be
+ * repeated offline (e.g. as reproducible benchmark).<br/>
+ * Each line of a transcript starts with a character defining the content of
+ * the line:
+ * <ul>
+ * <li><code>&gt;</code>: MQL command</li>
+ * <li><code>$</code>: argument of the MQL command</li>
+ * <li><code>=</code>: result of the MQL command</li>
+ * <li><code>!</code>: error of the MQL command</li>
+ * </ul>
+ * Backslashes, new lines and carriage returns are escaped.
+ *
+ * @author The MxUpdate Team
+ */
+public final class MqlTranscript_mxJPO
+{
+    /** Header line of a transcript. */
+    private static final String HEADER = "# MxUpdate MQL Transcript";
+
+    /** MX context for which the transcript is recorded or replayed (or {@code null} if not started). */
+    private final Context context;
+    /** Own executor of the MX context before the transcript was started. */
+    private final IMqlExecutor_mxJPO previous;
+    /** Recorder of the transcript (or {@code null} if not recording). */
+    private final Recorder recorder;
+
+    /**
+     * Initializes the transcript.
+     *
+     * @param _context      MX context (or {@code null} if not started)
+     * @param _previous     own executor of the MX context before the
+     *                      transcript was started
+     * @param _recorder     recorder (or {@code null} if not recording)
+     */
+    private MqlTranscript_mxJPO(final Context _context,
+                                final IMqlExecutor_mxJPO _previous,
+                                final Recorder _recorder)
+    {
+        this.context = _context;
+        this.previous = _previous;
+        this.recorder = _recorder;
+    }
+
+    /**
+     * Starts the recording or replay of a transcript if defined with
+     * parameter {@link ValueKeys#ParamMqlRecord} or
+     * {@link ValueKeys#ParamMqlReplay} within <code>_args</code>. The
+     * arguments are evaluated before all other parameters so that also the
+     * MQL commands to prepare the parameters are included. The executor of
+     * the transcript is only defined for the MX context of the parameter
+     * cache.
+     *
+     * @param _paramCache   parameter cache
+     * @param _args         arguments from the command line
+     * @return transcript which must be {@link #end() ended}
+     * @throws IOException if the transcript could not be opened
+     */
+    public static MqlTranscript_mxJPO begin(final ParameterCache_mxJPO _paramCache,
+                                            final String... _args)
+        throws IOException
+    {
+        MqlTranscript_mxJPO.evalParameter(_paramCache, ValueKeys.ParamMqlRecord, _args);
+        MqlTranscript_mxJPO.evalParameter(_paramCache, ValueKeys.ParamMqlReplay, _args);
+
+        final Context context = _paramCache.getContext();
+        final String replay = _paramCache.getValueString(ValueKeys.ParamMqlReplay);
+        final String record = _paramCache.getValueString(ValueKeys.ParamMqlRecord);
+        final MqlTranscript_mxJPO ret;
+        if ((replay != null) && !replay.isEmpty())  {
+            ret = new MqlTranscript_mxJPO(
+                    context,
+                    MqlBuilderUtil_mxJPO.setExecutor(context, MqlTranscript_mxJPO.replay(new File(replay))),
+                    null);
+            _paramCache.logDebug("replay MQL transcript " + replay);
+        } else if ((record != null) && !record.isEmpty())  {
+            final Recorder recorder = MqlTranscript_mxJPO.record(MqlBuilderUtil_mxJPO.getExecutor(context), new File(record));
+            ret = new MqlTranscript_mxJPO(context, MqlBuilderUtil_mxJPO.setExecutor(context, recorder), recorder);
+            _paramCache.logDebug("record MQL transcript " + record);
+        } else  {
+            ret = new MqlTranscript_mxJPO(null, null, null);
+        }
+        return ret;
+    }
+
+    /**
+     * Ends the recording or replay of this transcript started with
+     * {@link #begin(ParameterCache_mxJPO, String...)}. The previous executor
+     * of the MX context is restored.
+     */
+    public void end()
+    {
+        if (this.context != null)  {
+            MqlBuilderUtil_mxJPO.setExecutor(this.context, this.previous);
+        }
+        if (this.recorder != null)  {
+            this.recorder.close();
+        }
+    }
+
+    /**
+     * Evaluates the parameter for <code>_key</code> within
+     * <code>_args</code>.
+     *
+     * @param _paramCache   parameter cache
+     * @param _key          key of the parameter
+     * @param _args         arguments from the command line
+     */
+    private static void evalParameter(final ParameterCache_mxJPO _paramCache,
+                                      final ValueKeys _key,
+                                      final String... _args)
+    {
+        final ParameterDef_mxJPO paramDef = _paramCache.getMapping().getParameterDef(_key.name());
+        if ((paramDef != null) && (paramDef.getParameterList() != null))  {
+            for (int idx = 0; idx < _args.length; idx++)  {
+                for (final String param : paramDef.getParameterList())  {
+                    final String paramStr = (param.length() > 1) ? "--" + param : "-" + param;
+                    if (paramStr.equalsIgnoreCase(_args[idx]) && ((idx + 1) < _args.length))  {
+                        _paramCache.evalParameter(paramDef, _args, idx);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a new recorder which executes all MQL commands with
+     * <code>_delegate</code> and writes them into the transcript
+     * <code>_file</code>.
+     *
+     * @param _delegate     executor of the MQL commands
+     * @param _file         transcript file
+     * @return new recorder
+     * @throws IOException if the transcript file could not be opened
+     */
+    public static Recorder record(final IMqlExecutor_mxJPO _delegate,
+                                  final File _file)
+        throws IOException
+    {
+        return new Recorder(_delegate, _file);
+    }
+
+    /**
+     * Returns a new replayer for the transcript <code>_file</code>.
+     *
+     * @param _file     transcript file
+     * @return new replayer
+     * @throws IOException if the transcript could not be read
+     */
+    public static Replayer replay(final File _file)
+        throws IOException
+    {
+        final Replayer ret = new Replayer();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(_file), "UTF-8"));
+        try  {
+            String cmd = null;
+            final List<String> args = new ArrayList<>();
+            String line = reader.readLine();
+            while (line != null)  {
+                if (!line.isEmpty())  {
+                    final String value = MqlTranscript_mxJPO.unescape(line.substring(1));
+                    switch (line.charAt(0))  {
+                        case '>':
+                            cmd = value;
+                            args.clear();
+                            break;
+                        case '$':
+                            args.add(value);
+                            break;
+                        case '=':
+                        case '!':
+                            if (cmd != null)  {
+                                ret.add(MqlTranscript_mxJPO.key(cmd, args), new Response(value, line.charAt(0) == '!'));
+                                cmd = null;
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                }
+                line = reader.readLine();
+            }
+        } finally  {
+            reader.close();
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the key of the MQL command <code>_cmd</code> with the arguments
+     * <code>_args</code> used to search the response of a replay.
+     *
+     * @param _cmd      MQL command
+     * @param _args     arguments (or {@code null})
+     * @return key
+     */
+    private static String key(final String _cmd,
+                              final List<String> _args)
+    {
+        final StringBuilder ret = new StringBuilder().append(_cmd);
+        if (_args != null)  {
+            for (final String arg : _args)  {
+                ret.append('\n').append(MqlTranscript_mxJPO.escape(arg));
+            }
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Escapes backslashes, new lines and carriage returns of
+     * <code>_text</code>.
+     *
+     * @param _text     text to escape
+     * @return escaped text
+     */
+    private static String escape(final String _text)
+    {
+        final StringBuilder ret = new StringBuilder();
+        for (final char ch : _text.toCharArray())  {
+            switch (ch)  {
+                case '\\':  ret.append("\\\\");break;
+                case '\n':  ret.append("\\n");break;
+                case '\r':  ret.append("\\r");break;
+                default:    ret.append(ch);break;
+            }
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Unescapes <code>_text</code> escaped with {@link #escape(String)}.
+     *
+     * @param _text     text to unescape
+     * @return unescaped text
+     */
+    private static String unescape(final String _text)
+    {
+        final StringBuilder ret = new StringBuilder();
+        for (int idx = 0; idx < _text.length(); idx++)  {
+            final char ch = _text.charAt(idx);
+            if ((ch == '\\') && ((idx + 1) < _text.length()))  {
+                final char next = _text.charAt(++idx);
+                switch (next)  {
+                    case 'n':   ret.append('\n');break;
+                    case 'r':   ret.append('\r');break;
+                    default:    ret.append(next);break;
+                }
+            } else  {
+                ret.append(ch);
+            }
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Executor which executes all MQL commands with a delegate executor and
+     * writes all MQL commands with their results into a transcript file.
+     */
+    public static final class Recorder
+        implements IMqlExecutor_mxJPO
+    {
+        /** Executor of the MQL commands. */
+        private final IMqlExecutor_mxJPO delegate;
+        /** Writer of the transcript file. */
+        private final PrintWriter writer;
+
+        /**
+         * Initializes the recorder.
+         *
+         * @param _delegate     executor of the MQL commands
+         * @param _file         transcript file
+         * @throws IOException if the transcript file could not be opened
+         */
+        private Recorder(final IMqlExecutor_mxJPO _delegate,
+                         final File _file)
+            throws IOException
+        {
+            this.delegate = _delegate;
+            this.writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(_file), "UTF-8"));
+            this.writer.append(MqlTranscript_mxJPO.HEADER).append('\n');
+        }
+
+        @Override()
+        public String execute(final Context _context,
+                              final String _cmd,
+                              final List<String> _args)
+            throws MatrixException
+        {
+            String result = null;
+            MatrixException error = null;
+            try  {
+                result = this.delegate.execute(_context, _cmd, _args);
+            } catch (final MatrixException e)  {
+                error = e;
+            }
+            synchronized (this.writer)  {
+                this.writer.append('>').append(MqlTranscript_mxJPO.escape(_cmd)).append('\n');
+                if (_args != null)  {
+                    for (final String arg : _args)  {
+                        this.writer.append('$').append(MqlTranscript_mxJPO.escape(arg)).append('\n');
+                    }
+                }
+                if (error != null)  {
+                    this.writer.append('!').append(MqlTranscript_mxJPO.escape(String.valueOf(error.getMessage()))).append('\n');
+                } else  {
+                    this.writer.append('=').append(MqlTranscript_mxJPO.escape((result != null) ? result : "")).append('\n');
+                }
+            }
+            if (error != null)  {
+                throw error;
+            }
+            return result;
+        }
+
+        /**
+         * Closes the transcript file.
+         */
+        public void close()
+        {
+            synchronized (this.writer)  {
+                this.writer.close();
+            }
+        }
+    }
+
+    /**
+     * Executor which serves the results of MQL commands from a transcript
+     * without any MX server. If the same MQL command with the same arguments
+     * is recorded multiple times, the results are returned in the recorded
+     * order; the last recorded result is repeated.
+     */
+    public static final class Replayer
+        implements IMqlExecutor_mxJPO
+    {
+        /** Recorded responses depending on the key of the MQL command. */
+        private final Map<String,Deque<Response>> responses = new HashMap<>();
+
+        /**
+         * Private constructor to avoid external initialization.
+         */
+        private Replayer()
+        {
+        }
+
+        /**
+         * Adds the <code>_response</code> for <code>_key</code>.
+         *
+         * @param _key          key of the MQL command
+         * @param _response     response
+         */
+        private void add(final String _key,
+                         final Response _response)
+        {
+            Deque<Response> deque = this.responses.get(_key);
+            if (deque == null)  {
+                deque = new ArrayDeque<>();
+                this.responses.put(_key, deque);
+            }
+            deque.add(_response);
+        }
+
+        @Override()
+        public String execute(final Context _context,
+                              final String _cmd,
+                              final List<String> _args)
+            throws MatrixException
+        {
+            final Response response;
+            synchronized (this.responses)  {
+                final Deque<Response> deque = this.responses.get(MqlTranscript_mxJPO.key(_cmd, _args));
+                if (deque == null)  {
+                    throw new MatrixException("MQL command not recorded in transcript");
+                }
+                response = (deque.size() > 1) ? deque.poll() : deque.peek();
+            }
+            if (response.error)  {
+                throw new MatrixException(response.value);
+            }
+            return response.value;
+        }
+    }
+
+    /**
+     * Recorded response of a MQL command.
+     */
+    private static final class Response
+    {
+        /** Result or error message. */
+        private final String value;
+        /** Is the response an error? */
+        private final boolean error;
+
+        /**
+         * Initializes the response.
+         *
+         * @param _value    result or error message
+         * @param _error    is the response an error?
+         */
+        private Response(final String _value,
+                         final boolean _error)
+        {
+            this.value = _value;
+            this.error = _error;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.action;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.action.ExportAction_mxJPO;
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.test.util.MxUpdateUtil;
+import org.mxupdate.test.util.OfflineContext;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link ExportAction_mxJPO export action} with bulk XML exports.
+ *
+ * @author The MxUpdate Team
+ */
+public class ExportAction_BulkXMLTest
+{
+    /** Number of exported roles. */
+    private static final int COUNT = 20;
+
+    /**
+     * Positive test that the bulk XML export results in the same CI files
+     * (including symbolic names and packages) with less MQL commands.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the bulk XML export results in the same CI files with less MQL commands")
+    public void positiveTestSameFiles()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("program", "eServiceSchemaVariableMapping.tcl");
+        for (int idx = 0; idx < ExportAction_BulkXMLTest.COUNT; idx++)  {
+            server.create("role", "Role " + idx).description("role " + idx).property("Test", "value " + idx);
+        }
+        server.create("role", "Other");
+        server.get("role", "Role 1").xml("package", "Package");
+        server.execute(null, "escape add property $1 on program $2 to role $3", Arrays.asList("role_Role0", "eServiceSchemaVariableMapping.tcl", "Role 0"));
+        server.execute(null, "escape add property $1 on program $2 to role $3", Arrays.asList("role_Role0b", "eServiceSchemaVariableMapping.tcl", "Role 0"));
+        server.execute(null, "escape add property $1 on program $2 to role $3", Arrays.asList("role_Other", "eServiceSchemaVariableMapping.tcl", "Other"));
+
+        final File pathSingle = MxUpdateUtil.createTempDir();
+        final File pathBulk = MxUpdateUtil.createTempDir();
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(server);
+        try  {
+            final OfflineContext context = new OfflineContext();
+
+            final long start = server.getMqlCounter();
+            MxUpdateUtil.mxMain(context, "--export", "--path", pathSingle.toString(), "--role", "Role*");
+            final long countSingle = server.getMqlCounter() - start;
+
+            final long startBulk = server.getMqlCounter();
+            MxUpdateUtil.mxMain(context, "--export", "--exportbulk", "--path", pathBulk.toString(), "--role", "Role*");
+            final long countBulk = server.getMqlCounter() - startBulk;
+
+            final Collection<File> filesSingle = FileUtils.listFiles(pathSingle, null, true);
+            Assert.assertEquals(filesSingle.size(), ExportAction_BulkXMLTest.COUNT);
+            final StringBuilder contentBulk = new StringBuilder();
+            for (final File fileSingle : filesSingle)  {
+                final File fileBulk = new File(pathBulk, pathSingle.toURI().relativize(fileSingle.toURI()).getPath());
+                contentBulk.append(FileUtils.readFileToString(fileBulk));
+                Assert.assertEquals(
+                        FileUtils.readFileToString(fileBulk).replaceAll("\n#.*", ""),
+                        FileUtils.readFileToString(fileSingle).replaceAll("\n#.*", ""),
+                        fileSingle.toString());
+            }
+            Assert.assertTrue(contentBulk.toString().contains("symbolicname \"role_Role0b\""), contentBulk.toString());
+            Assert.assertTrue(contentBulk.toString().contains("package \"Package\""), contentBulk.toString());
+            // one XML export, one list of symbolic names and one list of packages instead of three MQL commands per role
+            Assert.assertEquals(countBulk, countSingle - (3 * ExportAction_BulkXMLTest.COUNT) + 3);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            FileUtils.deleteDirectory(pathSingle);
+            FileUtils.deleteDirectory(pathBulk);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.action;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.action.SelectTypeDefUtil_mxJPO;
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the scan of the paths for CI files within method
+ * {@link SelectTypeDefUtil_mxJPO#evalMatches(ParameterCache_mxJPO)}.
+ *
+ * @author The MxUpdate Team
+ */
+public class SelectTypeDefUtil_EvalMatchesTest
+{
+    /**
+     * Returns the number of scan threads to test.
+     *
+     * @return test data
+     */
+    @DataProvider(name = "threads")
+    public Object[][] getThreads()
+    {
+        return new Object[][]{{"1"}, {"4"}};
+    }
+
+    /**
+     * Positive test that files in sub directories are found and ignored files
+     * and directories are not returned.
+     *
+     * @param _threads  number of scan threads
+     * @throws Exception if test failed
+     */
+    @Test(dataProvider = "threads",
+          description = "positive test that files in sub directories are found and ignored files and directories are not returned")
+    public void positiveTestScan(final String _threads)
+        throws Exception
+    {
+        final File path = File.createTempFile("MxUpdate", "");
+        path.delete();
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new FakeMxAdminServer());
+        try  {
+            for (final String fileName : Arrays.asList("ATTRIBUTE_A.mxu", "sub/ATTRIBUTE_B.mxu", "sub/deep/ATTRIBUTE_C.mxu",
+                                                       ".svn/ATTRIBUTE_D.mxu", ".ATTRIBUTE_E.mxu", "sub/TYPE_F.mxu", "ignored/ATTRIBUTE_G.mxu"))  {
+                FileUtils.writeStringToFile(new File(path, fileName), "");
+            }
+
+            final Map<String,String> params = new HashMap<>();
+            params.put("Path", path.getAbsolutePath());
+            params.put("PathIgnorePath", ".*,ign?red");
+            params.put("PathScanThreads", _threads);
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, params);
+            final TypeDef_mxJPO typeDef = paramCache.getMapping().getTypeDef("DMAttribute");
+
+            final SelectTypeDefUtil_mxJPO selects = new SelectTypeDefUtil_mxJPO();
+            selects.match(Arrays.asList(typeDef), "*");
+
+            final Map<String,File> expected = new TreeMap<>();
+            expected.put("A", new File(path, "ATTRIBUTE_A.mxu"));
+            expected.put("B", new File(path, "sub/ATTRIBUTE_B.mxu"));
+            expected.put("C", new File(path, "sub/deep/ATTRIBUTE_C.mxu"));
+            Assert.assertEquals(new TreeMap<>(selects.evalMatches(paramCache).get(typeDef)), expected);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            FileUtils.deleteDirectory(path);
+        }
+    }
+}
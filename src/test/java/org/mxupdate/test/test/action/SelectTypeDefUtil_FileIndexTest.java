@@ -0,0 +1,201 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.action;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.action.SelectTypeDefUtil_mxJPO;
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.typedef.filenames.FileIndex_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the warm start of method
+ * {@link SelectTypeDefUtil_mxJPO#evalMatches(ParameterCache_mxJPO)} with a
+ * {@link FileIndex_mxJPO file index}.
+ *
+ * @author The MxUpdate Team
+ */
+public class SelectTypeDefUtil_FileIndexTest
+{
+    /** Modified date of the files and directories (older than the racy time of the index). */
+    private static final long MODIFIED = System.currentTimeMillis() - 60000L;
+
+    /**
+     * Positive test that unchanged directories and files are used from the
+     * index and changed directories and files are evaluated again.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that unchanged directories and files are used from the index and changed are evaluated again")
+    public void positiveTestWarmStart()
+        throws Exception
+    {
+        final File path = File.createTempFile("MxUpdate", "");
+        path.delete();
+        final File indexFile = File.createTempFile("MxUpdate", ".index");
+        indexFile.delete();
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new FakeMxAdminServer());
+        try  {
+            final File jpo = new File(path, "sub/Test_mxJPO.java");
+            this.write(new File(path, "ATTRIBUTE_A.mxu"), "");
+            this.write(jpo, "package abc;\npublic class Test_mxJPO {}\n");
+            this.touch(new File(path, "sub"));
+            this.touch(path);
+
+            final Map<String,File> expected = new TreeMap<>();
+            expected.put("A", new File(path, "ATTRIBUTE_A.mxu"));
+            expected.put("abc.Test", jpo);
+
+            // cold start
+            Assert.assertEquals(this.evalMatches(path, indexFile), expected);
+            Assert.assertTrue(indexFile.exists());
+
+            // warm start: unchanged file with same size and modified date is not read again
+            this.write(jpo, "package xyz;\npublic class Test_mxJPO {}\n");
+            Assert.assertEquals(this.evalMatches(path, indexFile), expected);
+
+            // warm start: changed modified date of file
+            jpo.setLastModified(SelectTypeDefUtil_FileIndexTest.MODIFIED - 1000L);
+            expected.put("xyz.Test", jpo);
+            expected.remove("abc.Test");
+            Assert.assertEquals(this.evalMatches(path, indexFile), expected);
+
+            // warm start: new file within unchanged directory (modified date) is not found
+            this.write(new File(path, "ATTRIBUTE_B.mxu"), "");
+            this.touch(path);
+            Assert.assertEquals(this.evalMatches(path, indexFile), expected);
+
+            // warm start: changed modified date of directory
+            new File(path, "ATTRIBUTE_B.mxu").delete();
+            this.write(new File(path, "ATTRIBUTE_C.mxu"), "");
+            path.setLastModified(SelectTypeDefUtil_FileIndexTest.MODIFIED - 1000L);
+            expected.put("C", new File(path, "ATTRIBUTE_C.mxu"));
+            Assert.assertEquals(this.evalMatches(path, indexFile), expected);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            FileUtils.deleteDirectory(path);
+            indexFile.delete();
+        }
+    }
+
+    /**
+     * Positive test that names with tabulators and new lines are stored
+     * within the index and that malformed lines of the index are skipped.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that names with tabulators are indexed and malformed lines of the index are skipped")
+    public void positiveTestMalformedIndex()
+        throws Exception
+    {
+        final File path = File.createTempFile("MxUpdate", "");
+        path.delete();
+        final File indexFile = File.createTempFile("MxUpdate", ".index");
+        indexFile.delete();
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new FakeMxAdminServer());
+        try  {
+            this.write(new File(path, "ATTRIBUTE_A\tB\\C.mxu"), "");
+            this.touch(path);
+
+            final Map<String,File> expected = new TreeMap<>();
+            expected.put("A\tB\\C", new File(path, "ATTRIBUTE_A\tB\\C.mxu"));
+
+            // cold start
+            Assert.assertEquals(this.evalMatches(path, indexFile), expected);
+
+            // warm start with malformed lines
+            FileUtils.writeStringToFile(indexFile,
+                    FileUtils.readFileToString(indexFile, "UTF-8")
+                            .replaceFirst("\nD\t([^\t]*)\t[0-9]*\t", "\nD\t$1\tabc\t")
+                            + "N\tabc\n"
+                            + "N\t" + path.getAbsolutePath() + "\tabc\t1\tDMAttribute\tX\n",
+                    "UTF-8");
+            Assert.assertEquals(this.evalMatches(path, indexFile), expected);
+
+            // warm start with rewritten index
+            Assert.assertEquals(this.evalMatches(path, indexFile), expected);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            FileUtils.deleteDirectory(path);
+            indexFile.delete();
+        }
+    }
+
+    /**
+     * Evaluates the matched attribute and JPO files.
+     *
+     * @param _path         path to scan
+     * @param _indexFile    file index
+     * @return map of MX names and files
+     * @throws Exception if evaluation failed
+     */
+    private Map<String,File> evalMatches(final File _path,
+                                         final File _indexFile)
+        throws Exception
+    {
+        final Map<String,String> params = new HashMap<>();
+        params.put("Path", _path.getAbsolutePath());
+        params.put("PathFileIndex", _indexFile.getAbsolutePath());
+        final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, params);
+        final TypeDef_mxJPO attr = paramCache.getMapping().getTypeDef("DMAttribute");
+        final TypeDef_mxJPO jpo = paramCache.getMapping().getTypeDef("JPO");
+
+        final SelectTypeDefUtil_mxJPO selects = new SelectTypeDefUtil_mxJPO();
+        selects.match(Arrays.asList(attr, jpo), "*");
+
+        final Map<TypeDef_mxJPO,Map<String,File>> matches = selects.evalMatches(paramCache);
+        final Map<String,File> ret = new TreeMap<>();
+        ret.putAll(matches.get(attr));
+        ret.putAll(matches.get(jpo));
+        return ret;
+    }
+
+    /**
+     * Writes the <code>_content</code> into <code>_file</code> and sets the
+     * modified date to {@link #MODIFIED}.
+     *
+     * @param _file     file
+     * @param _content  content
+     * @throws Exception if write failed
+     */
+    private void write(final File _file,
+                       final String _content)
+        throws Exception
+    {
+        FileUtils.writeStringToFile(_file, _content);
+        this.touch(_file);
+    }
+
+    /**
+     * Sets the modified date of <code>_file</code> to {@link #MODIFIED}.
+     *
+     * @param _file     file or directory
+     */
+    private void touch(final File _file)
+    {
+        _file.setLastModified(SelectTypeDefUtil_FileIndexTest.MODIFIED);
+    }
+}
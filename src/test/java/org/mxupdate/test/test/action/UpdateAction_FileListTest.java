@@ -0,0 +1,175 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.action;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.action.SelectTypeDefUtil_mxJPO;
+import org.mxupdate.action.UpdateAction_mxJPO;
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.test.util.MxUpdateUtil;
+import org.mxupdate.test.util.OfflineContext;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link UpdateAction_mxJPO update action} with a list of changed
+ * CI files.
+ *
+ * @author The MxUpdate Team
+ */
+public class UpdateAction_FileListTest
+{
+    /**
+     * Positive test that only the listed CI files are updated and not
+     * existing, ignored and outside files of the list are skipped.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that only the listed CI files are updated")
+    public void positiveTestFileList()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("program", "eServiceSchemaVariableMapping.tcl");
+        server.create("role", "Role A").description("role A");
+        server.create("role", "Role B").description("role B");
+
+        final File path = MxUpdateUtil.createTempDir();
+        final File other = MxUpdateUtil.createTempDir();
+        final File fileList = new File(path, "filelist.txt");
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(server);
+        try  {
+            final OfflineContext context = new OfflineContext();
+            MxUpdateUtil.mxMain(context, "--export", "--path", path.toString(), "--role", "*");
+
+            final File fileA = new File(path, "user/role/ROLE_Role A.mxu");
+            final File fileB = new File(path, "user/role/ROLE_Role B.mxu");
+            final String codeA = FileUtils.readFileToString(fileA);
+            FileUtils.writeStringToFile(fileA, codeA.replace("role A", "changed A"));
+            FileUtils.writeStringToFile(fileB, FileUtils.readFileToString(fileB).replace("role B", "changed B"));
+            FileUtils.writeStringToFile(new File(path, ".svn/ROLE_Role C.mxu"), codeA.replace("Role A", "Role C"));
+            FileUtils.writeStringToFile(new File(other, "ROLE_Role D.mxu"), codeA.replace("Role A", "Role D"));
+            FileUtils.writeStringToFile(fileList,
+                    fileA.getAbsolutePath() + "\n"
+                    + "\n"
+                    + new File(path, "user/role/ROLE_Not Existing.mxu").getAbsolutePath() + "\n"
+                    + new File(path, ".svn/ROLE_Role C.mxu").getAbsolutePath() + "\n"
+                    + new File(other, "ROLE_Role D.mxu").getAbsolutePath() + "\n");
+
+            MxUpdateUtil.mxMain(context, "--update", "--path", path.toString(), "--filelist", fileList.toString(), "--role", "*");
+
+            Assert.assertEquals(server.get("role", "Role A").getDescription(), "changed A");
+            Assert.assertEquals(server.get("role", "Role B").getDescription(), "role B");
+            Assert.assertNull(server.get("role", "Role C"));
+            Assert.assertNull(server.get("role", "Role D"));
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            FileUtils.deleteDirectory(path);
+            FileUtils.deleteDirectory(other);
+        }
+    }
+
+    /**
+     * Positive test that without path parameter the matches are used as
+     * paths of the listed CI files.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that without path parameter the matches are used as paths of the listed CI files")
+    public void positiveTestFileListWithoutPath()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("program", "eServiceSchemaVariableMapping.tcl");
+        server.create("role", "Role A").description("role A");
+        server.create("role", "Role B").description("role B");
+
+        final File path = MxUpdateUtil.createTempDir();
+        final File other = MxUpdateUtil.createTempDir();
+        final File fileList = new File(path, "filelist.txt");
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(server);
+        try  {
+            final OfflineContext context = new OfflineContext();
+            MxUpdateUtil.mxMain(context, "--export", "--path", path.toString(), "--role", "*");
+
+            final File fileA = new File(path, "user/role/ROLE_Role A.mxu");
+            final File fileB = new File(path, "user/role/ROLE_Role B.mxu");
+            final String codeA = FileUtils.readFileToString(fileA);
+            FileUtils.writeStringToFile(fileA, codeA.replace("role A", "changed A"));
+            FileUtils.writeStringToFile(fileB, FileUtils.readFileToString(fileB).replace("role B", "changed B"));
+            FileUtils.writeStringToFile(new File(other, "ROLE_Role D.mxu"), codeA.replace("Role A", "Role D"));
+            FileUtils.writeStringToFile(fileList,
+                    fileA.getAbsolutePath() + "\n"
+                    + fileB.getAbsolutePath() + "\n"
+                    + new File(other, "ROLE_Role D.mxu").getAbsolutePath() + "\n");
+
+            MxUpdateUtil.mxMain(context, "--update", "--filelist", fileList.toString(), "--role", new File(path, "user/role/ROLE_Role A*").getAbsolutePath());
+
+            Assert.assertEquals(server.get("role", "Role A").getDescription(), "changed A");
+            Assert.assertEquals(server.get("role", "Role B").getDescription(), "role B");
+            Assert.assertNull(server.get("role", "Role D"));
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            FileUtils.deleteDirectory(path);
+            FileUtils.deleteDirectory(other);
+        }
+    }
+
+    /**
+     * Positive test that ignored directories are only checked below the
+     * path of the CI file (or below the current directory if no path is
+     * defined) and not for the parent directories of the path.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that ignored directories are only checked below the path")
+    public void positiveTestIgnoredParentDirectory()
+        throws Exception
+    {
+        final File tmp = MxUpdateUtil.createTempDir();
+        try  {
+            final File path = new File(tmp, ".workspace/repo");
+            final File file = new File(path, "user/role/ROLE_Role A.mxu");
+            final File ignored = new File(path, "user/.svn/ROLE_Role B.mxu");
+            FileUtils.writeStringToFile(file, "");
+            FileUtils.writeStringToFile(ignored, "");
+            final File fileList = new File(tmp, "filelist.txt");
+            FileUtils.writeStringToFile(fileList, file.getAbsolutePath() + "\n" + ignored.getAbsolutePath() + "\n");
+
+            // with path
+            final Map<String,String> params = new HashMap<>();
+            params.put("Path", path.getAbsolutePath());
+            Assert.assertEquals(
+                    new SelectTypeDefUtil_mxJPO().readFileList(new ParameterCache_mxJPO(null, true, params), fileList.getAbsolutePath()),
+                    new HashSet<>(Arrays.asList(file.getAbsoluteFile())));
+
+            // without path
+            Assert.assertEquals(
+                    new SelectTypeDefUtil_mxJPO().readFileList(new ParameterCache_mxJPO(null, true, new HashMap<String,String>()), fileList.getAbsolutePath()),
+                    new HashSet<>(Arrays.asList(file.getAbsoluteFile(), ignored.getAbsoluteFile())));
+        } finally  {
+            FileUtils.deleteDirectory(tmp);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.action;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.action.SelectTypeDefUtil_mxJPO;
+import org.mxupdate.action.UpdateAction_mxJPO;
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.test.util.MxUpdateUtil;
+import org.mxupdate.test.util.OfflineContext;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Tests the {@link UpdateAction_mxJPO update action} with an update manifest.
+ *
+ * @author The MxUpdate Team
+ */
+public class UpdateAction_ManifestTest
+{
+    /** Fake MX server. */
+    private FakeMxAdminServer server;
+    /** Path of the CI files. */
+    private File path;
+    /** Manifest file. */
+    private File manifest;
+    /** Name of the role for which the update fails (or {@code null}). */
+    private String failedRole;
+    /** Previous MQL executor. */
+    private IMqlExecutor_mxJPO prev;
+
+    /**
+     * Creates the roles, exports them and changes the descriptions within the
+     * CI files.
+     *
+     * @throws Exception if the CI files could not be prepared
+     */
+    @BeforeMethod()
+    public void prepare()
+        throws Exception
+    {
+        this.server = new FakeMxAdminServer();
+        this.server.create("program", "eServiceSchemaVariableMapping.tcl");
+        this.server.create("role", "Role A").description("role A");
+        this.server.create("role", "Role B").description("role B");
+        this.path = MxUpdateUtil.createTempDir();
+        this.manifest = new File(this.path, "manifest.txt");
+        this.failedRole = null;
+        this.prev = MqlBuilderUtil_mxJPO.setExecutor(new IMqlExecutor_mxJPO()  {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+                throws MatrixException
+            {
+                if (_cmd.startsWith("escape mod") && (_args != null) && _args.contains(UpdateAction_ManifestTest.this.failedRole))  {
+                    throw new MatrixException("update of " + UpdateAction_ManifestTest.this.failedRole + " failed");
+                }
+                return UpdateAction_ManifestTest.this.server.execute(_context, _cmd, _args);
+            }
+        });
+
+        MxUpdateUtil.mxMain(new OfflineContext(), "--export", "--path", this.path.toString(), "--role", "*");
+        this.changeFile("Role A", "role A", "changed A");
+        this.changeFile("Role B", "role B", "changed B");
+    }
+
+    /**
+     * Removes the CI files and resets the MQL executor.
+     *
+     * @throws Exception if the CI files could not be removed
+     */
+    @AfterMethod()
+    public void cleanup()
+        throws Exception
+    {
+        MqlBuilderUtil_mxJPO.setExecutor(this.prev);
+        FileUtils.deleteDirectory(this.path);
+    }
+
+    /**
+     * Positive test that the written manifest is read again, so that
+     * unchanged CI's are skipped.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the written manifest is read again and unchanged CI's are skipped")
+    public void positiveTestSkipUnchanged()
+        throws Exception
+    {
+        final String log1 = this.update(false);
+        Assert.assertTrue(log1.contains("check role 'Role A'"), log1);
+        Assert.assertTrue(log1.contains("check role 'Role B'"), log1);
+        Assert.assertEquals(this.server.get("role", "Role A").getDescription(), "changed A");
+        Assert.assertEquals(this.server.get("role", "Role B").getDescription(), "changed B");
+
+        final List<String[]> entries = this.readManifest();
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertEquals(entries.get(0)[0], this.file("Role A").getAbsolutePath());
+        Assert.assertEquals(entries.get(0)[1], this.server.get("role", "Role A").getPropValue("MxUpdate File Hash"));
+        Assert.assertEquals(entries.get(0)[2], "Role");
+        Assert.assertEquals(entries.get(0)[3], "Role A");
+        Assert.assertEquals(entries.get(1)[0], this.file("Role B").getAbsolutePath());
+        Assert.assertEquals(entries.get(1)[3], "Role B");
+
+        final String log2 = this.update(false);
+        Assert.assertFalse(log2.contains("check role"), log2);
+        Assert.assertEquals(this.readManifest().size(), 2);
+    }
+
+    /**
+     * Positive test that a CI is updated again if the CI file or the modified
+     * date of the MX object is changed since the last update.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that a CI is updated again if the CI file or the MX object is changed")
+    public void positiveTestUpdateChanged()
+        throws Exception
+    {
+        this.update(false);
+
+        // changed on the MX server
+        this.server.execute(null, "escape mod role $1 description $2", Arrays.asList("Role A", "outside A"));
+        final String log1 = this.update(false);
+        Assert.assertTrue(log1.contains("check role 'Role A'"), log1);
+        Assert.assertFalse(log1.contains("check role 'Role B'"), log1);
+        Assert.assertEquals(this.server.get("role", "Role A").getDescription(), "changed A");
+
+        // changed CI file
+        this.changeFile("Role B", "changed B", "new B");
+        final String log2 = this.update(false);
+        Assert.assertFalse(log2.contains("check role 'Role A'"), log2);
+        Assert.assertTrue(log2.contains("check role 'Role B'"), log2);
+        Assert.assertEquals(this.server.get("role", "Role B").getDescription(), "new B");
+        Assert.assertEquals(this.readManifest().size(), 2);
+    }
+
+    /**
+     * Positive test that the CI of a failed update is removed from the
+     * manifest, so that the CI is updated again within the next update.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the CI of a failed update is removed from the manifest")
+    public void positiveTestRemoveFailed()
+        throws Exception
+    {
+        this.update(false);
+
+        this.changeFile("Role B", "changed B", "new B");
+        this.failedRole = "Role B";
+        this.update(true);
+        final List<String[]> entries = this.readManifest();
+        Assert.assertEquals(entries.size(), 1);
+        Assert.assertEquals(entries.get(0)[3], "Role A");
+
+        this.failedRole = null;
+        final String log = this.update(false);
+        Assert.assertFalse(log.contains("check role 'Role A'"), log);
+        Assert.assertTrue(log.contains("check role 'Role B'"), log);
+        Assert.assertEquals(this.server.get("role", "Role B").getDescription(), "new B");
+        Assert.assertEquals(this.readManifest().size(), 2);
+    }
+
+    /**
+     * Updates all roles with the manifest.
+     *
+     * @param _continueOnError  continue on errors?
+     * @return log of the update
+     * @throws Exception if update failed
+     */
+    private String update(final boolean _continueOnError)
+        throws Exception
+    {
+        final Map<String,String> params = new HashMap<>();
+        params.put("Path", this.path.getAbsolutePath());
+        params.put("UpdateManifest", this.manifest.getAbsolutePath());
+        params.put("ParamContinueOnError", String.valueOf(_continueOnError));
+        final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(new OfflineContext(), true, params);
+        final SelectTypeDefUtil_mxJPO selects = new SelectTypeDefUtil_mxJPO();
+        selects.match(Arrays.asList(paramCache.getMapping().getTypeDef("Role")), "*");
+        new UpdateAction_mxJPO(paramCache, selects).execute();
+        return paramCache.getLogString();
+    }
+
+    /**
+     * Reads the entries of the manifest.
+     *
+     * @return values of all entries
+     * @throws Exception if the manifest could not be read
+     */
+    private List<String[]> readManifest()
+        throws Exception
+    {
+        final List<String[]> ret = new ArrayList<>();
+        for (final String line : FileUtils.readLines(this.manifest, "UTF-8"))  {
+            if (!line.startsWith("#"))  {
+                final String[] values = line.split("\t", -1);
+                Assert.assertEquals(values.length, 5, line);
+                ret.add(values);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the CI file of given role.
+     *
+     * @param _role     name of the role
+     * @return CI file
+     */
+    private File file(final String _role)
+    {
+        return new File(this.path, "user/role/ROLE_" + _role + ".mxu");
+    }
+
+    /**
+     * Replaces the description of the role within the CI file.
+     *
+     * @param _role     name of the role
+     * @param _old      old description
+     * @param _new      new description
+     * @throws Exception if the CI file could not be changed
+     */
+    private void changeFile(final String _role,
+                            final String _old,
+                            final String _new)
+        throws Exception
+    {
+        final File file = this.file(_role);
+        FileUtils.writeStringToFile(file, FileUtils.readFileToString(file).replace("description \"" + _old + "\"", "description \"" + _new + "\""));
+    }
+}
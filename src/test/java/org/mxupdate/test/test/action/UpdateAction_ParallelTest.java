@@ -0,0 +1,310 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.action;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.action.SelectTypeDefUtil_mxJPO;
+import org.mxupdate.action.UpdateAction_mxJPO;
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.test.util.MxUpdateUtil;
+import org.mxupdate.test.util.OfflineContext;
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Tests the {@link UpdateAction_mxJPO update action} with parallel workers.
+ *
+ * @author The MxUpdate Team
+ */
+public class UpdateAction_ParallelTest
+{
+    /** Names of the roles used within the tests. */
+    private static final String[] ROLES = {"Role A", "Role B", "Role C", "Role D", "Role E", "Role F"};
+
+    /**
+     * Positive test that the order numbers of the type definitions define
+     * the phases of the parallel update.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the order numbers of the type definitions define the phases of the parallel update")
+    public void positiveTestPhases()
+        throws Exception
+    {
+        final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(new OfflineContext(), true, new HashMap<String,String>());
+
+        this.assertBefore(paramCache, "Type", "Policy");
+        this.assertBefore(paramCache, "Relationship", "Policy");
+        this.assertBefore(paramCache, "Role", "UserPerson");
+        this.assertBefore(paramCache, "Group", "UserPerson");
+        this.assertBefore(paramCache, "Policy", "Trigger");
+        this.assertBefore(paramCache, "JPO", "Command");
+        for (final TypeDef_mxJPO typeDef : paramCache.getMapping().getAllTypeDefsSorted())  {
+            Assert.assertNotEquals(typeDef.getOrderNo(), Integer.MAX_VALUE, "order number of " + typeDef.getName());
+        }
+    }
+
+    /**
+     * Positive test that all CI's are updated with parallel workers and that
+     * the log is written in the same order as for a sequential update,
+     * although the update of the first role needs longer than the updates of
+     * all other roles.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that all CI's are updated with parallel workers and the log is written in the sequential order")
+    public void positiveTestParallel()
+        throws Exception
+    {
+        final FakeMxAdminServer server = this.createServer();
+        final IMqlExecutor_mxJPO executor = new IMqlExecutor_mxJPO()  {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+                throws MatrixException
+            {
+                if (_cmd.startsWith("escape mod") && (_args != null) && _args.contains("Role A"))  {
+                    try  {
+                        Thread.sleep(500L);
+                    } catch (final InterruptedException e)  {
+                        throw new MatrixException(e);
+                    }
+                }
+                return server.execute(_context, _cmd, _args);
+            }
+        };
+        final ParallelUpdateAction action = this.update(server, executor, new HashMap<String,String>());
+
+        Assert.assertNull(action.error);
+        Assert.assertEquals(action.connected.get(), 3);
+        this.assertUpdated(server, UpdateAction_ParallelTest.ROLES);
+
+        final String log = action.paramCache.getLogString();
+        int prevIdx = -1;
+        for (final String role : UpdateAction_ParallelTest.ROLES)  {
+            final int idx = log.indexOf("'" + role + "'");
+            Assert.assertTrue(idx > prevIdx, "log of " + role + " in sequential order:\n" + log);
+            prevIdx = idx;
+        }
+    }
+
+    /**
+     * Negative test that the failed update of a CI is logged with the name
+     * of the worker and that the update stops with the error.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "negative test that the failed update of a CI is logged with the worker and the update stops with the error")
+    public void negativeTestFailed()
+        throws Exception
+    {
+        final FakeMxAdminServer server = this.createServer();
+        final ParallelUpdateAction action = this.update(server, this.failingExecutor(server), new HashMap<String,String>());
+
+        Assert.assertNotNull(action.error, "update of role B must fail");
+        Assert.assertTrue(action.error.getMessage().contains("update of role B failed"), action.error.getMessage());
+        final String log = action.paramCache.getLogString();
+        Assert.assertTrue(log.contains("update of role 'Role B' failed (MxUpdate Worker "), log);
+        Assert.assertEquals(server.get("role", "Role B").getDescription(), "Role B");
+    }
+
+    /**
+     * Positive test that with parameter continue on error the failed update
+     * of a CI is logged and all other CI's are updated.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that with continue on error the failed update of a CI is logged and all other CI's are updated")
+    public void positiveTestContinueOnError()
+        throws Exception
+    {
+        final FakeMxAdminServer server = this.createServer();
+        final Map<String,String> params = new HashMap<>();
+        params.put("ParamContinueOnError", "true");
+        final ParallelUpdateAction action = this.update(server, this.failingExecutor(server), params);
+
+        Assert.assertNull(action.error);
+        Assert.assertTrue(action.paramCache.getLogString().contains("update of role B failed"), action.paramCache.getLogString());
+        Assert.assertEquals(server.get("role", "Role B").getDescription(), "Role B");
+        this.assertUpdated(server, "Role A", "Role C", "Role D", "Role E", "Role F");
+    }
+
+    /**
+     * Checks that the order number of type definition <code>_before</code>
+     * is lower than the order number of type definition <code>_after</code>.
+     *
+     * @param _paramCache   parameter cache with the mapping
+     * @param _before       name of the type definition updated before
+     * @param _after        name of the type definition updated after
+     */
+    private void assertBefore(final ParameterCache_mxJPO _paramCache,
+                              final String _before,
+                              final String _after)
+    {
+        Assert.assertTrue(
+                _paramCache.getMapping().getTypeDef(_before).getOrderNo() < _paramCache.getMapping().getTypeDef(_after).getOrderNo(),
+                _before + " must be updated before " + _after);
+    }
+
+    /**
+     * Creates the fake MX server with the {@link #ROLES roles} (the
+     * description of each role is the name).
+     *
+     * @return fake MX server
+     * @throws MatrixException if the roles could not be created
+     */
+    private FakeMxAdminServer createServer()
+        throws MatrixException
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("program", "eServiceSchemaVariableMapping.tcl");
+        for (final String role : UpdateAction_ParallelTest.ROLES)  {
+            server.create("role", role).description(role);
+        }
+        return server;
+    }
+
+    /**
+     * Returns a MQL executor for which the update of role B fails.
+     *
+     * @param _server   fake MX server
+     * @return MQL executor
+     */
+    private IMqlExecutor_mxJPO failingExecutor(final FakeMxAdminServer _server)
+    {
+        return new IMqlExecutor_mxJPO()  {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+                throws MatrixException
+            {
+                if (_cmd.startsWith("escape mod") && (_args != null) && _args.contains("Role B"))  {
+                    throw new MatrixException("update of role B failed");
+                }
+                return _server.execute(_context, _cmd, _args);
+            }
+        };
+    }
+
+    /**
+     * Exports all roles, changes the description of all roles within the CI
+     * files and updates the roles with three parallel workers and one CI
+     * within each transaction batch. An error of the update is stored in
+     * the returned action.
+     *
+     * @param _server       fake MX server used for the export
+     * @param _executor     MQL executor used for the update
+     * @param _params       parameters of the update
+     * @return executed update action
+     * @throws Exception if update failed
+     */
+    private ParallelUpdateAction update(final FakeMxAdminServer _server,
+                                        final IMqlExecutor_mxJPO _executor,
+                                        final Map<String,String> _params)
+        throws Exception
+    {
+        final File path = MxUpdateUtil.createTempDir();
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(_server);
+        try  {
+            MxUpdateUtil.mxMain(new OfflineContext(), "--export", "--path", path.toString(), "--role", "*");
+            for (final File file : new File(path, "user/role").listFiles())  {
+                FileUtils.writeStringToFile(file, FileUtils.readFileToString(file).replace("description \"Role", "description \"changed Role"));
+            }
+
+            MqlBuilderUtil_mxJPO.setExecutor(_executor);
+            _params.put("Path", path.getAbsolutePath());
+            _params.put("UpdateParallelWorkers", "3");
+            _params.put("ParamTransactionBatchSize", "1");
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(new OfflineContext(), true, _params);
+            final SelectTypeDefUtil_mxJPO selects = new SelectTypeDefUtil_mxJPO();
+            selects.match(Arrays.asList(paramCache.getMapping().getTypeDef("Role")), "*");
+            final ParallelUpdateAction action = new ParallelUpdateAction(paramCache, selects);
+            try  {
+                action.execute();
+            } catch (final Exception e)  {
+                action.error = e;
+            }
+            return action;
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            FileUtils.deleteDirectory(path);
+        }
+    }
+
+    /**
+     * Checks that the descriptions of all <code>_roles</code> are changed.
+     *
+     * @param _server   fake MX server
+     * @param _roles    names of the roles
+     */
+    private void assertUpdated(final FakeMxAdminServer _server,
+                               final String... _roles)
+    {
+        for (final String role : _roles)  {
+            Assert.assertEquals(_server.get("role", role).getDescription(), "changed " + role);
+        }
+    }
+
+    /**
+     * Update action which uses offline MX contexts for the parallel workers.
+     */
+    private static final class ParallelUpdateAction
+        extends UpdateAction_mxJPO
+    {
+        /** Parameter cache of the update. */
+        private final ParameterCache_mxJPO paramCache;
+        /** Number of connected MX contexts of the workers. */
+        private final AtomicInteger connected = new AtomicInteger();
+        /** Error of the update; or {@code null} if the update was successful. */
+        private Exception error;
+
+        /**
+         * Initializes the action.
+         *
+         * @param _paramCache   parameter cache
+         * @param _selects      selected matched files
+         */
+        private ParallelUpdateAction(final ParameterCache_mxJPO _paramCache,
+                                     final SelectTypeDefUtil_mxJPO _selects)
+        {
+            super(_paramCache, _selects);
+            this.paramCache = _paramCache;
+        }
+
+        @Override()
+        protected Context connectWorkerContext(final ParameterCache_mxJPO _paramCache)
+            throws MatrixException
+        {
+            this.connected.incrementAndGet();
+            return new OfflineContext();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.action;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.action.SelectTypeDefUtil_mxJPO;
+import org.mxupdate.action.UpdateAction_mxJPO;
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.test.util.MxUpdateUtil;
+import org.mxupdate.test.util.OfflineContext;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Tests the {@link UpdateAction_mxJPO update action} with pre-fetched file
+ * hashes of all existing CI's.
+ *
+ * @author The MxUpdate Team
+ */
+public class UpdateAction_PrefetchTest
+{
+    /**
+     * Positive test that the file hashes of all existing CI's are fetched
+     * with one MQL statement and that unchanged CI's are not read again.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the file hashes of all existing CI's are fetched with one MQL statement")
+    public void positiveTestCheckFileHash()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("program", "eServiceSchemaVariableMapping.tcl");
+        for (int idx = 0; idx < 10; idx++)  {
+            server.create("role", "Role " + idx).description("role " + idx);
+        }
+        final List<String> cmds = new ArrayList<>();
+        final File path = MxUpdateUtil.createTempDir();
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new IMqlExecutor_mxJPO()  {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+                throws MatrixException
+            {
+                cmds.add(_cmd + " " + _args);
+                return server.execute(_context, _cmd, _args);
+            }
+        });
+        try  {
+            MxUpdateUtil.mxMain(new OfflineContext(), "--export", "--path", path.toString(), "--role", "*");
+            final File file = new File(path, "user/role/ROLE_Role 5.mxu");
+            FileUtils.writeStringToFile(file, FileUtils.readFileToString(file).replace("role 5", "changed 5"));
+
+            // first update stores the file hashes
+            this.update(path);
+            Assert.assertEquals(server.get("role", "Role 5").getDescription(), "changed 5");
+            for (int idx = 0; idx < 10; idx++)  {
+                Assert.assertNotNull(server.get("role", "Role " + idx).getPropValue("MxUpdate File Hash"), "Role " + idx);
+            }
+
+            // second update with unchanged file hashes
+            cmds.clear();
+            this.update(path);
+            int lists = 0;
+            for (final String cmd : cmds)  {
+                Assert.assertFalse(cmd.matches("^(escape )?(print|mod|export) role.*"), cmd);
+                if (cmd.matches("^(escape )?list role.*MxUpdate File Hash.*"))  {
+                    lists++;
+                }
+            }
+            Assert.assertEquals(lists, 1, cmds.toString());
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            FileUtils.deleteDirectory(path);
+        }
+    }
+
+    /**
+     * Updates all roles with enabled check of the file hashes.
+     *
+     * @param _path     path of the CI files
+     * @throws Exception if update failed
+     */
+    private void update(final File _path)
+        throws Exception
+    {
+        final Map<String,String> params = new HashMap<>();
+        params.put("Path", _path.getAbsolutePath());
+        params.put("UpdateCheckFileHash", "true");
+        final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(new OfflineContext(), true, params);
+        final SelectTypeDefUtil_mxJPO selects = new SelectTypeDefUtil_mxJPO();
+        selects.match(Arrays.asList(paramCache.getMapping().getTypeDef("Role")), "*");
+        new UpdateAction_mxJPO(paramCache, selects).execute();
+    }
+}
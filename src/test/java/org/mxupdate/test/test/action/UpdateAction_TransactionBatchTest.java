@@ -0,0 +1,297 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.action;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.action.SelectTypeDefUtil_mxJPO;
+import org.mxupdate.action.UpdateAction_mxJPO;
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.test.util.MxUpdateUtil;
+import org.mxupdate.test.util.OfflineContext;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Tests the {@link UpdateAction_mxJPO update action} with transaction
+ * batches.
+ *
+ * @author The MxUpdate Team
+ */
+public class UpdateAction_TransactionBatchTest
+{
+    /**
+     * Positive test that without transaction batches each CI is committed
+     * within an own transaction.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that without transaction batches each CI is committed within an own transaction")
+    public void positiveTestWithoutBatch()
+        throws Exception
+    {
+        final FakeMxAdminServer server = this.createServer("Role A", "Role B", "Role C");
+        final CommitContext context = new CommitContext();
+        final String log = this.update(server, context, server, new HashMap<String,String>());
+
+        Assert.assertEquals(context.commits, 3);
+        Assert.assertFalse(log.contains("transaction batches"), log);
+        this.assertUpdated(server, "Role A", "Role B", "Role C");
+    }
+
+    /**
+     * Positive test that the transaction batch is committed if the maximum
+     * number of CI's is reached.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the transaction batch is committed if the maximum number of CI's is reached")
+    public void positiveTestCommitOnSize()
+        throws Exception
+    {
+        final FakeMxAdminServer server = this.createServer("Role A", "Role B", "Role C", "Role D", "Role E");
+        final CommitContext context = new CommitContext();
+        final Map<String,String> params = new HashMap<>();
+        params.put("ParamTransactionBatchSize", "2");
+        final String log = this.update(server, context, server, params);
+
+        Assert.assertEquals(context.commits, 3);
+        Assert.assertTrue(log.contains("transaction batches: 5 CI(s) committed within 3 transaction(s) (0 failed batch(es))"), log);
+        this.assertUpdated(server, "Role A", "Role B", "Role C", "Role D", "Role E");
+    }
+
+    /**
+     * Positive test that the transaction batch is committed if the maximum
+     * time is elapsed. The update of the second CI needs more than the
+     * maximum time, so that the first two CI's are committed together.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the transaction batch is committed if the maximum time is elapsed")
+    public void positiveTestCommitOnTime()
+        throws Exception
+    {
+        final FakeMxAdminServer server = this.createServer("Role A", "Role B", "Role C", "Role D");
+        final CommitContext context = new CommitContext();
+        final AtomicBoolean slept = new AtomicBoolean(false);
+        final IMqlExecutor_mxJPO executor = new IMqlExecutor_mxJPO()  {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+                throws MatrixException
+            {
+                if ((_args != null) && _args.contains("Role B") && !slept.getAndSet(true))  {
+                    try  {
+                        Thread.sleep(1100L);
+                    } catch (final InterruptedException e)  {
+                        throw new MatrixException(e);
+                    }
+                }
+                return server.execute(_context, _cmd, _args);
+            }
+        };
+        final Map<String,String> params = new HashMap<>();
+        params.put("ParamTransactionBatchTime", "1");
+        final String log = this.update(server, context, executor, params);
+
+        Assert.assertTrue(slept.get());
+        Assert.assertEquals(context.commits, 2);
+        Assert.assertTrue(log.contains("transaction batches: 4 CI(s) committed within 2 transaction(s) (0 failed batch(es))"), log);
+        this.assertUpdated(server, "Role A", "Role B", "Role C", "Role D");
+    }
+
+    /**
+     * Positive test that each CI is executed again within an own transaction
+     * if the commit of the transaction batch failed.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that each CI is executed again within an own transaction if the commit of the transaction batch failed")
+    public void positiveTestRetryFailedCommit()
+        throws Exception
+    {
+        final FakeMxAdminServer server = this.createServer("Role A", "Role B", "Role C");
+        final CommitContext context = new CommitContext();
+        context.failCommits = 1;
+        final Map<String,String> params = new HashMap<>();
+        params.put("ParamTransactionBatchSize", "10");
+        this.update(server, context, server, params);
+
+        Assert.assertEquals(context.failCommits, 0);
+        Assert.assertEquals(context.commits, 3);
+        this.assertUpdated(server, "Role A", "Role B", "Role C");
+    }
+
+    /**
+     * Negative test that the CI's of a transaction batch with a failed CI are
+     * executed again within an own transaction and that the update stops
+     * with the error of the failed CI.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "negative test that the CI's of a failed transaction batch are executed again within an own transaction")
+    public void negativeTestRetryFailedCI()
+        throws Exception
+    {
+        final FakeMxAdminServer server = this.createServer("Role A", "Role B", "Role C");
+        final CommitContext context = new CommitContext();
+        final IMqlExecutor_mxJPO executor = new IMqlExecutor_mxJPO()  {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+                throws MatrixException
+            {
+                if (_cmd.startsWith("escape mod") && (_args != null) && _args.contains("Role B"))  {
+                    throw new MatrixException("update of role B failed");
+                }
+                return server.execute(_context, _cmd, _args);
+            }
+        };
+        final Map<String,String> params = new HashMap<>();
+        params.put("ParamTransactionBatchSize", "10");
+        try  {
+            this.update(server, context, executor, params);
+            Assert.fail("update of role B must fail");
+        } catch (final Exception e)  {
+            Assert.assertTrue(e.getMessage().contains("update of role B failed"), e.getMessage());
+        }
+
+        Assert.assertFalse(context.isTransactionActive());
+        Assert.assertEquals(context.commits, 1);
+        Assert.assertEquals(server.get("role", "Role A").getDescription(), "changed Role A");
+        Assert.assertEquals(server.get("role", "Role C").getDescription(), "Role C");
+    }
+
+    /**
+     * Creates the fake MX server with given roles (the description of each
+     * role is the name).
+     *
+     * @param _roles    names of the roles
+     * @return fake MX server
+     * @throws MatrixException if the roles could not be created
+     */
+    private FakeMxAdminServer createServer(final String... _roles)
+        throws MatrixException
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("program", "eServiceSchemaVariableMapping.tcl");
+        for (final String role : _roles)  {
+            server.create("role", role).description(role);
+        }
+        return server;
+    }
+
+    /**
+     * Exports all roles, changes the description of all roles within the CI
+     * files and updates the roles with given <code>_params</code>.
+     *
+     * @param _server       fake MX server used for the export
+     * @param _context      MX context used for the update
+     * @param _executor     MQL executor used for the update
+     * @param _params       parameters of the update
+     * @return log of the update
+     * @throws Exception if update failed
+     */
+    private String update(final FakeMxAdminServer _server,
+                          final Context _context,
+                          final IMqlExecutor_mxJPO _executor,
+                          final Map<String,String> _params)
+        throws Exception
+    {
+        final File path = MxUpdateUtil.createTempDir();
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(_server);
+        try  {
+            MxUpdateUtil.mxMain(new OfflineContext(), "--export", "--path", path.toString(), "--role", "*");
+            for (final File file : new File(path, "user/role").listFiles())  {
+                FileUtils.writeStringToFile(file, FileUtils.readFileToString(file).replace("description \"Role", "description \"changed Role"));
+            }
+
+            MqlBuilderUtil_mxJPO.setExecutor(_executor);
+            _params.put("Path", path.getAbsolutePath());
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(_context, true, _params);
+            final SelectTypeDefUtil_mxJPO selects = new SelectTypeDefUtil_mxJPO();
+            selects.match(Arrays.asList(paramCache.getMapping().getTypeDef("Role")), "*");
+            new UpdateAction_mxJPO(paramCache, selects).execute();
+            return paramCache.getLogString();
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            FileUtils.deleteDirectory(path);
+        }
+    }
+
+    /**
+     * Checks that the descriptions of all <code>_roles</code> are changed.
+     *
+     * @param _server   fake MX server
+     * @param _roles    names of the roles
+     */
+    private void assertUpdated(final FakeMxAdminServer _server,
+                               final String... _roles)
+    {
+        for (final String role : _roles)  {
+            Assert.assertEquals(_server.get("role", role).getDescription(), "changed " + role);
+        }
+    }
+
+    /**
+     * Offline MX context which counts the commits and could simulate failed
+     * commits.
+     */
+    private static final class CommitContext
+        extends OfflineContext
+    {
+        /** Number of commits. */
+        private int commits;
+        /** Number of next commits which fails. */
+        private int failCommits;
+
+        /**
+         * Initializes the MX context.
+         *
+         * @throws MatrixException if the context could not be initialized
+         */
+        private CommitContext()
+            throws MatrixException
+        {
+            super();
+        }
+
+        @Override()
+        public void commit()
+            throws MatrixException
+        {
+            if (this.failCommits > 0)  {
+                this.failCommits--;
+                throw new MatrixException("commit failed");
+            }
+            super.commit();
+            this.commits++;
+        }
+    }
+}
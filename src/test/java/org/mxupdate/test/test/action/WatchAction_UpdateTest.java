@@ -0,0 +1,118 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.action;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.action.SelectTypeDefUtil_mxJPO;
+import org.mxupdate.action.WatchAction_mxJPO;
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.test.util.MxUpdateUtil;
+import org.mxupdate.test.util.OfflineContext;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link WatchAction_mxJPO watch action}.
+ *
+ * @author The MxUpdate Team
+ */
+public class WatchAction_UpdateTest
+{
+    /** Maximum time in milliseconds to wait for an update. */
+    private static final long TIMEOUT = 20000L;
+
+    /** Exception thrown from the watch thread (or {@code null} if not failed). */
+    private volatile Throwable watchError;
+
+    /**
+     * Positive test that changed and new CI files are updated.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that changed and new CI files are updated")
+    public void positiveTestUpdate()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("program", "eServiceSchemaVariableMapping.tcl");
+        server.create("role", "Role A").description("role A");
+
+        final File path = MxUpdateUtil.createTempDir();
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(server);
+        Thread thread = null;
+        try  {
+            final OfflineContext context = new OfflineContext();
+            MxUpdateUtil.mxMain(context, "--export", "--path", path.toString(), "--role", "*");
+            final File fileA = new File(path, "user/role/ROLE_Role A.mxu");
+            final String code = FileUtils.readFileToString(fileA);
+
+            final Map<String,String> params = new HashMap<>();
+            params.put("Path", path.getAbsolutePath());
+            params.put("WatchDebounceTime", "50");
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(context, true, params);
+            final SelectTypeDefUtil_mxJPO selects = new SelectTypeDefUtil_mxJPO();
+            selects.match(Arrays.asList(paramCache.getMapping().getTypeDef("Role")), "*");
+
+            final WatchAction_mxJPO watch = new WatchAction_mxJPO(paramCache, selects);
+            thread = new Thread()  {
+                @Override()
+                public void run()
+                {
+                    try  {
+                        watch.execute();
+                    } catch (final Throwable e)  {
+                        WatchAction_UpdateTest.this.watchError = e;
+                    }
+                }
+            };
+            thread.start();
+
+            // changed CI file
+            final long start = System.currentTimeMillis();
+            while (!"role changed".equals(server.get("role", "Role A").getDescription()) && ((System.currentTimeMillis() - start) < WatchAction_UpdateTest.TIMEOUT))  {
+                FileUtils.writeStringToFile(fileA, code.replace("role A", "role changed"));
+                Thread.sleep(500);
+            }
+            Assert.assertEquals(server.get("role", "Role A").getDescription(), "role changed");
+
+            // new CI file
+            FileUtils.writeStringToFile(new File(path, "user/role/sub/ROLE_Role B.mxu"), code.replace("role A", "role B").replace("Role A", "Role B"));
+            while ((server.get("role", "Role B") == null) && ((System.currentTimeMillis() - start) < WatchAction_UpdateTest.TIMEOUT))  {
+                Thread.sleep(100);
+            }
+            Assert.assertNotNull(server.get("role", "Role B"));
+            Assert.assertEquals(server.get("role", "Role B").getDescription(), "role B");
+
+            watch.stop();
+            thread.join(WatchAction_UpdateTest.TIMEOUT);
+            Assert.assertFalse(thread.isAlive());
+            Assert.assertNull(this.watchError, "watch failed");
+        } finally  {
+            if ((thread != null) && thread.isAlive())  {
+                thread.interrupt();
+            }
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            FileUtils.deleteDirectory(path);
+        }
+    }
+}
@@ -54,6 +54,6 @@ public class InstallDataModel_EvalAttributesTest
 
         Assert.assertEquals(
                 attrs,
-                new TreeSet<>(Arrays.asList(new String[]{"MxUpdate File Date", "MxUpdate Installed Date", "MxUpdate Installer", "MxUpdate Sub Path"})));
+                new TreeSet<>(Arrays.asList(new String[]{"MxUpdate File Date", "MxUpdate File Hash", "MxUpdate Installed Date", "MxUpdate Installer", "MxUpdate Sub Path"})));
     }
 }
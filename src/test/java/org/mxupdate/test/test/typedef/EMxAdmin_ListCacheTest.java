@@ -0,0 +1,193 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.typedef;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.test.util.OfflineContext;
+import org.mxupdate.typedef.EMxAdmin_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the cached list of object names of {@link EMxAdmin_mxJPO}.
+ *
+ * @author The MxUpdate Team
+ */
+public class EMxAdmin_ListCacheTest
+{
+    /**
+     * Positive test that the list of object names is evaluated only once.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the list of object names is evaluated only once")
+    public void positiveTestEvaluatedOnce()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("role", "Role A");
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(server);
+        try  {
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, new HashMap<String,String>());
+
+            Assert.assertTrue(EMxAdmin_mxJPO.Role.exist(paramCache, "Role A"));
+            final long counter = server.getMqlCounter();
+            for (int idx = 0; idx < 100; idx++)  {
+                Assert.assertTrue(EMxAdmin_mxJPO.Role.exist(paramCache, "Role A"));
+                Assert.assertFalse(EMxAdmin_mxJPO.Role.exist(paramCache, "Role B"));
+            }
+            Assert.assertEquals(server.getMqlCounter(), counter);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+
+    /**
+     * Positive test that created and deleted objects are registered within
+     * the cached list.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that created and deleted objects are registered")
+    public void positiveTestRegister()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("role", "Role A");
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(server);
+        try  {
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, new HashMap<String,String>());
+
+            Assert.assertEquals(EMxAdmin_mxJPO.Role.evalList(paramCache).size(), 1);
+
+            // created outside => still cached
+            server.create("role", "Role B");
+            Assert.assertFalse(EMxAdmin_mxJPO.Role.exist(paramCache, "Role B"));
+
+            EMxAdmin_mxJPO.Role.registerCreated(paramCache, "Role B");
+            Assert.assertTrue(EMxAdmin_mxJPO.Role.exist(paramCache, "Role B"));
+
+            EMxAdmin_mxJPO.Role.registerDeleted(paramCache, "Role A");
+            Assert.assertFalse(EMxAdmin_mxJPO.Role.exist(paramCache, "Role A"));
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+
+    /**
+     * Positive test that only the registered objects of an aborted
+     * transaction are reverted within the cached lists and that the lists
+     * are not evaluated again.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that only the registered objects of an aborted transaction are reverted")
+    public void positiveTestAbortTransaction()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("role", "Role A");
+        server.create("group", "Group A");
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(server);
+        try  {
+            final OfflineContext context = new OfflineContext();
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(context, true, new HashMap<String,String>());
+            Assert.assertTrue(EMxAdmin_mxJPO.Role.exist(paramCache, "Role A"));
+            Assert.assertTrue(EMxAdmin_mxJPO.Group.exist(paramCache, "Group A"));
+            final long counter = server.getMqlCounter();
+
+            // registered outside of a transaction => not reverted
+            EMxAdmin_mxJPO.Role.registerCreated(paramCache, "Role C");
+
+            // committed transaction => not reverted
+            context.start(true);
+            EMxAdmin_mxJPO.Group.registerCreated(paramCache, "Group B");
+            context.commit();
+            EMxAdmin_mxJPO.commitListCache(paramCache);
+
+            // aborted transaction => reverted
+            context.start(true);
+            EMxAdmin_mxJPO.Role.registerCreated(paramCache, "Role B");
+            EMxAdmin_mxJPO.Role.registerDeleted(paramCache, "Role A");
+            EMxAdmin_mxJPO.Group.registerDeleted(paramCache, "Group A");
+            context.abort();
+            EMxAdmin_mxJPO.abortListCache(paramCache);
+
+            Assert.assertTrue(EMxAdmin_mxJPO.Role.exist(paramCache, "Role A"));
+            Assert.assertFalse(EMxAdmin_mxJPO.Role.exist(paramCache, "Role B"));
+            Assert.assertTrue(EMxAdmin_mxJPO.Role.exist(paramCache, "Role C"));
+            Assert.assertTrue(EMxAdmin_mxJPO.Group.exist(paramCache, "Group A"));
+            Assert.assertTrue(EMxAdmin_mxJPO.Group.exist(paramCache, "Group B"));
+            Assert.assertEquals(server.getMqlCounter(), counter);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+
+    /**
+     * Positive test that the list of object names is evaluated only once if
+     * parallel workers check for existing objects.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the list of object names is evaluated only once for parallel workers")
+    public void positiveTestParallel()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        for (int idx = 0; idx < 100; idx++)  {
+            server.create("role", "Role " + idx);
+        }
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(server);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try  {
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, new HashMap<String,String>());
+            final long counter = server.getMqlCounter();
+
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int idx = 0; idx < 100; idx++)  {
+                final String name = "Role " + idx;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override()
+                    public Boolean call()
+                        throws Exception
+                    {
+                        final ParameterCache_mxJPO worker = new ParameterCache_mxJPO(paramCache, paramCache.getContext());
+                        EMxAdmin_mxJPO.Role.registerCreated(worker, name + " New");
+                        return EMxAdmin_mxJPO.Role.exist(worker, name);
+                    }
+                }));
+            }
+            for (final Future<Boolean> result : results)  {
+                Assert.assertTrue(result.get());
+            }
+            Assert.assertEquals(server.getMqlCounter(), counter + 1);
+        } finally  {
+            executor.shutdownNow();
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+}
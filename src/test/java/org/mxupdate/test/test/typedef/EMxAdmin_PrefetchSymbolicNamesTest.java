@@ -0,0 +1,79 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.typedef;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.typedef.EMxAdmin_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the prefetched symbolic names and packages of {@link EMxAdmin_mxJPO}.
+ *
+ * @author The MxUpdate Team
+ */
+public class EMxAdmin_PrefetchSymbolicNamesTest
+{
+    /**
+     * Positive test that the prefetched symbolic names and packages are
+     * evaluated with one MQL command for each MX class and used only once.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that prefetched symbolic names and packages are evaluated once and used only once")
+    public void positiveTestFetchedOnce()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("program", "eServiceSchemaVariableMapping.tcl");
+        server.create("attribute", "Attr A").xml("package", "Package");
+        server.create("attribute", "Attr B");
+        server.create("table", "Table A");
+        server.execute(null, "escape add property $1 on program $2 to attribute $3", Arrays.asList("attribute_AttrA", "eServiceSchemaVariableMapping.tcl", "Attr A"));
+        server.execute(null, "escape add property $1 on program $2 to table $3 system", Arrays.asList("table_TableA", "eServiceSchemaVariableMapping.tcl", "Table A"));
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(server);
+        try  {
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, new HashMap<String,String>());
+
+            // not prefetched
+            Assert.assertNull(EMxAdmin_mxJPO.Attribute.fetchPackage(paramCache, "Attr A"));
+            Assert.assertNull(EMxAdmin_mxJPO.Attribute.fetchSymbolicNames(paramCache, "Attr A"));
+
+            final long counter = server.getMqlCounter();
+            EMxAdmin_mxJPO.prefetchSymbolicNames(paramCache);
+            Assert.assertEquals(EMxAdmin_mxJPO.Attribute.fetchPackage(paramCache, "Attr A"), "Package");
+            Assert.assertEquals(EMxAdmin_mxJPO.Attribute.fetchSymbolicNames(paramCache, "Attr A"), Arrays.asList("attribute_AttrA"));
+            Assert.assertEquals(EMxAdmin_mxJPO.Attribute.fetchPackage(paramCache, "Attr B"), "");
+            Assert.assertTrue(EMxAdmin_mxJPO.Attribute.fetchSymbolicNames(paramCache, "Attr B").isEmpty());
+            Assert.assertEquals(EMxAdmin_mxJPO.Table.fetchSymbolicNames(paramCache, "Table A"), Arrays.asList("table_TableA"));
+            Assert.assertEquals(server.getMqlCounter() - counter, 2);
+
+            // already fetched or not existing
+            Assert.assertNull(EMxAdmin_mxJPO.Attribute.fetchPackage(paramCache, "Attr A"));
+            Assert.assertNull(EMxAdmin_mxJPO.Attribute.fetchPackage(paramCache, "Attr C"));
+
+            EMxAdmin_mxJPO.clearSymbolicNames(paramCache);
+            Assert.assertNull(EMxAdmin_mxJPO.Attribute.fetchSymbolicNames(paramCache, "Attr B"));
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.typedef;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.mxupdate.mapping.PropertyDef_mxJPO;
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests method
+ * {@link TypeDef_mxJPO#evalPropValues(ParameterCache_mxJPO, PropertyDef_mxJPO)}.
+ *
+ * @author The MxUpdate Team
+ */
+public class TypeDef_EvalPropValuesTest
+{
+    /**
+     * Positive test that the property values of all objects are evaluated
+     * with one MQL statement.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the property values of all objects are evaluated with one MQL statement")
+    public void positiveTest()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("role", "Role A").property("MxUpdate File Hash", "hash A").property("file date", "date A");
+        server.create("role", "Role B").property("MxUpdate File Hash", "hash B");
+        server.create("role", "Role C");
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(server);
+        try  {
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, new HashMap<String,String>());
+            final TypeDef_mxJPO typeDef = paramCache.getMapping().getTypeDef("Role");
+
+            final Map<String,String> hashes = new HashMap<>();
+            hashes.put("Role A", "hash A");
+            hashes.put("Role B", "hash B");
+            hashes.put("Role C", "");
+            final long counter = server.getMqlCounter();
+            Assert.assertEquals(typeDef.evalPropValues(paramCache, PropertyDef_mxJPO.FILEHASH), hashes);
+            Assert.assertEquals(server.getMqlCounter(), counter + 1);
+
+            final Map<String,String> dates = new HashMap<>();
+            dates.put("Role A", "date A");
+            dates.put("Role B", "");
+            dates.put("Role C", "");
+            Assert.assertEquals(typeDef.evalPropValues(paramCache, PropertyDef_mxJPO.FILEDATE), dates);
+            Assert.assertEquals(server.getMqlCounter(), counter + 2);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.typedef;
+
+import java.util.HashMap;
+
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.typedef.EMxAdmin_mxJPO;
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests method {@link TypeDef_mxJPO#getMxAdminList(ParameterCache_mxJPO)}.
+ *
+ * @author The MxUpdate Team
+ */
+public class TypeDef_GetMxAdminListTest
+{
+    /**
+     * Positive test that the MX admin class is only returned for type
+     * definitions whose MX names are evaluated from the list of the MX admin
+     * class.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the MX admin class is returned only for listed MX names")
+    public void positiveTest()
+        throws Exception
+    {
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new FakeMxAdminServer());
+        try  {
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, new HashMap<String,String>());
+
+            Assert.assertEquals(paramCache.getMapping().getTypeDef("Role").getMxAdminList(paramCache),        EMxAdmin_mxJPO.Role);
+            Assert.assertEquals(paramCache.getMapping().getTypeDef("DMAttribute").getMxAdminList(paramCache), EMxAdmin_mxJPO.Attribute);
+            Assert.assertEquals(paramCache.getMapping().getTypeDef("UserPerson").getMxAdminList(paramCache),  EMxAdmin_mxJPO.Person);
+            Assert.assertNull(paramCache.getMapping().getTypeDef("JPO").getMxAdminList(paramCache));
+            Assert.assertNull(paramCache.getMapping().getTypeDef("NumberGenerator").getMxAdminList(paramCache));
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.typedef.filenames;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.typedef.filenames.FileNamesClassifier_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests method {@link FileNamesClassifier_mxJPO#classify(java.util.Collection)}.
+ *
+ * @author The MxUpdate Team
+ */
+public class FileNamesClassifier_ClassifyTest
+{
+    /**
+     * Positive test that files are classified depending on the file prefixes
+     * and suffixes of the type definitions.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that files are classified depending on the file prefixes and suffixes")
+    public void positiveTestClassify()
+        throws Exception
+    {
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new FakeMxAdminServer());
+        try  {
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, new HashMap<String,String>());
+            final TypeDef_mxJPO attr    = paramCache.getMapping().getTypeDef("DMAttribute");
+            final TypeDef_mxJPO type    = paramCache.getMapping().getTypeDef("Type");
+            final TypeDef_mxJPO program = paramCache.getMapping().getTypeDef("Program");
+            final TypeDef_mxJPO jpo     = paramCache.getMapping().getTypeDef("JPO");
+            final TypeDef_mxJPO trigger = paramCache.getMapping().getTypeDef("Trigger");
+
+            final File fileAttr     = new File("dir/ATTRIBUTE_Test.mxu");
+            final File fileType     = new File("TYPE_Test.mxu");
+            final File fileProgram  = new File("Test.mql.mxu");
+            final File fileJPO      = new File("Test_mxJPO.java");
+            final File fileJPOMxu   = new File("Test_mxJPO.java.mxu");
+            final File fileTrigger  = new File("TRIGGER_Test.mxu");
+            final File fileOther    = new File("ATTRIBUTE_Test.txt");
+            final File fileShort    = new File("TYPE_mxu");
+
+            final Map<TypeDef_mxJPO,Set<File>> result = new FileNamesClassifier_mxJPO(paramCache, Arrays.asList(attr, type, program, jpo, trigger))
+                    .classify(Arrays.asList(fileAttr, fileType, fileProgram, fileJPO, fileJPOMxu, fileTrigger, fileOther, fileShort));
+
+            Assert.assertEquals(result.get(attr),    new HashSet<>(Arrays.asList(fileAttr)));
+            Assert.assertEquals(result.get(type),    new HashSet<>(Arrays.asList(fileType)));
+            Assert.assertEquals(result.get(program), new HashSet<>(Arrays.asList(fileProgram)));
+            Assert.assertEquals(result.get(jpo),     new HashSet<>(Arrays.asList(fileJPO, fileJPOMxu)));
+            Assert.assertEquals(result.get(trigger), new HashSet<>(Arrays.asList(fileTrigger)));
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+
+    /**
+     * Positive test that for type definitions without matched files an empty
+     * set is returned.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that for type definitions without matched files an empty set is returned")
+    public void positiveTestNoFiles()
+        throws Exception
+    {
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new FakeMxAdminServer());
+        try  {
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, new HashMap<String,String>());
+            final TypeDef_mxJPO attr = paramCache.getMapping().getTypeDef("DMAttribute");
+
+            final Map<TypeDef_mxJPO,Set<File>> result = new FileNamesClassifier_mxJPO(paramCache, Arrays.asList(attr))
+                    .classify(Arrays.asList(new File("TYPE_Test.mxu")));
+
+            Assert.assertTrue(result.get(attr).isEmpty());
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+}
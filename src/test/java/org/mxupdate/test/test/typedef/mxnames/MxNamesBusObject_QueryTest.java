@@ -0,0 +1,157 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.typedef.mxnames;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.typedef.TypeDef_mxJPO;
+import org.mxupdate.typedef.mxnames.MxNamesBusObject_mxJPO;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.update.util.StringUtil_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Tests the JPO {@link MxNamesBusObject_mxJPO} with an emulated MQL
+ * temporary query.
+ *
+ * @author The MxUpdate Team
+ */
+public class MxNamesBusObject_QueryTest
+{
+    /**
+     * Business objects of the emulated query (type, name, revision). The last
+     * business object has an empty revision, so that the trimmed output is
+     * also tested.
+     */
+    private static final String[][] BUS_OBJECTS = {
+        {"Notification", "Test 2", "A"},
+        {"Notification", "Other", "Test"},
+        {"Notification", "Other", "B"},
+        {"Notification", "Test 1", ""},
+    };
+
+    /**
+     * Positive test that all business objects are selected with one query.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that all business objects are selected with one query")
+    public void positiveTestAll()
+        throws Exception
+    {
+        final List<List<String>> queries = new ArrayList<>();
+        Assert.assertEquals(
+                this.match(queries, "Notification", null),
+                new TreeSet<>(Arrays.asList("Test 1", "Test 2________A", "Other________Test", "Other________B")));
+        Assert.assertEquals(queries, Arrays.asList(Arrays.asList("Notification", "*", "*")));
+    }
+
+    /**
+     * Positive test that the matches are used as name and revision patterns
+     * of the query.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the matches are used as name and revision patterns of the query")
+    public void positiveTestPatterns()
+        throws Exception
+    {
+        final List<List<String>> queries = new ArrayList<>();
+        Assert.assertEquals(
+                this.match(queries, "Notification", Arrays.asList("Test*", "X")),
+                new TreeSet<>(Arrays.asList("Test 1", "Test 2________A", "Other________Test")));
+        Assert.assertEquals(queries, Arrays.asList(
+                Arrays.asList("Notification", "Test*,X", "*"),
+                Arrays.asList("Notification", "*", "Test*,X")));
+    }
+
+    /**
+     * Positive test that matches with commas are not used as query patterns.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that matches with commas are not used as query patterns")
+    public void positiveTestPatternWithComma()
+        throws Exception
+    {
+        final List<List<String>> queries = new ArrayList<>();
+        Assert.assertEquals(
+                this.match(queries, "Notification", Arrays.asList("Test 1", "A,B")),
+                new TreeSet<>(Arrays.asList("Test 1")));
+        Assert.assertEquals(queries, Arrays.asList(Arrays.asList("Notification", "*", "*")));
+    }
+
+    /**
+     * Matches the MX names of given type definition with an emulated MQL
+     * temporary query.
+     *
+     * @param _queries  list to store the arguments of the executed queries
+     * @param _typeDef  name of the type definition
+     * @param _matches  matches
+     * @return matched MX names
+     * @throws Exception if match failed
+     */
+    private SortedSet<String> match(final List<List<String>> _queries,
+                                    final String _typeDef,
+                                    final List<String> _matches)
+        throws Exception
+    {
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new FakeMxAdminServer() {
+            @Override()
+            public synchronized String execute(final Context _context,
+                                               final String _cmd,
+                                               final List<String> _args)
+                throws MatrixException
+            {
+                final String ret;
+                if (_cmd.startsWith("escape temp query bus "))  {
+                    _queries.add(_args.subList(0, 3));
+                    final StringBuilder out = new StringBuilder();
+                    for (final String[] busObject : MxNamesBusObject_QueryTest.BUS_OBJECTS)  {
+                        if (StringUtil_mxJPO.match(busObject[0], _args.get(0))
+                                && StringUtil_mxJPO.match(busObject[1], Arrays.asList(_args.get(1).split(",")))
+                                && StringUtil_mxJPO.match(busObject[2], Arrays.asList(_args.get(2).split(","))))  {
+                            out.append(busObject[0]).append(_args.get(3)).append(busObject[1]).append(_args.get(3)).append(busObject[2]).append(_args.get(4));
+                        }
+                    }
+                    ret = out.toString().trim();
+                } else  {
+                    ret = super.execute(_context, _cmd, _args);
+                }
+                return ret;
+            }
+        });
+        try  {
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, new HashMap<String,String>());
+            final TypeDef_mxJPO typeDef = paramCache.getMapping().getTypeDef(_typeDef);
+            _queries.clear();
+            return new MxNamesBusObject_mxJPO().match(paramCache, typeDef, _matches);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+}
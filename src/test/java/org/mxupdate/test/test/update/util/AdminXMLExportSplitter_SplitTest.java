@@ -0,0 +1,80 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.update.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.mxupdate.update.util.AdminXMLExportSplitter_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests class {@link AdminXMLExportSplitter_mxJPO}.
+ *
+ * @author The MxUpdate Team
+ */
+public class AdminXMLExportSplitter_SplitTest
+{
+    /** Prolog of the XML exports. */
+    private static final String PROLOG = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<!DOCTYPE ematrix SYSTEM \"ematrixml.dtd\" [<!ENTITY ematrixProductDtd \"<!ELEMENT x (y)>\">]>\n"
+            + "<ematrix>";
+
+    /**
+     * Positive test that the XML export of multiple objects is split into the
+     * XML exports of the single objects.
+     */
+    @Test(description = "positive test that the XML export of multiple objects is split")
+    public void positiveTestSplit()
+    {
+        final String obj1 = "<attributeDef id=\"1\">\n"
+                + "<adminProperties>\n<name>Test &amp; 1</name>\n<description><![CDATA[</attributeDef><name>Wrong</name>]]></description>\n</adminProperties>\n"
+                + "<primitiveType>string</primitiveType>\n<multiline/>\n"
+                + "</attributeDef>";
+        final String obj2 = "<attributeDef id=\"a>b\">\n"
+                + "<adminProperties>\n<name><![CDATA[Test <2>]]></name>\n<!-- comment <x> -->\n</adminProperties>\n"
+                + "</attributeDef>";
+        final String xml = AdminXMLExportSplitter_SplitTest.PROLOG + "\n"
+                + "<creationProperties>\n<release>V6</release>\n<event>export</event>\n</creationProperties>\n"
+                + obj1 + "\n"
+                + obj2 + "\n"
+                + "</ematrix>\n";
+
+        final List<String> names = new ArrayList<>();
+        final List<String> xmls = new ArrayList<>();
+        final AdminXMLExportSplitter_mxJPO splitter = new AdminXMLExportSplitter_mxJPO(xml);
+        while (splitter.next())  {
+            names.add(splitter.getName());
+            xmls.add(splitter.getXML());
+        }
+
+        Assert.assertEquals(names, Arrays.asList("Test & 1", "Test <2>"));
+        Assert.assertEquals(xmls, Arrays.asList(
+                AdminXMLExportSplitter_SplitTest.PROLOG + obj1 + "</ematrix>",
+                AdminXMLExportSplitter_SplitTest.PROLOG + obj2 + "</ematrix>"));
+    }
+
+    /**
+     * Positive test that an XML export without objects is handled.
+     */
+    @Test(description = "positive test that an XML export without objects is handled")
+    public void positiveTestEmpty()
+    {
+        Assert.assertFalse(new AdminXMLExportSplitter_mxJPO(AdminXMLExportSplitter_SplitTest.PROLOG + "<creationProperties/></ematrix>").next());
+        Assert.assertFalse(new AdminXMLExportSplitter_mxJPO("").next());
+    }
+}
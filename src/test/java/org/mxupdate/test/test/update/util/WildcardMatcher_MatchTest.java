@@ -0,0 +1,91 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.update.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.mxupdate.update.util.StringUtil_mxJPO;
+import org.mxupdate.update.util.WildcardMatcher_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link WildcardMatcher_mxJPO#match(String)} method.
+ *
+ * @author The MxUpdate Team
+ */
+public class WildcardMatcher_MatchTest
+{
+    /**
+     * Prepares the test data to check.
+     *
+     * @return test data
+     */
+    @DataProvider(name = "matches")
+    public Object[][] dataMatches()
+    {
+        return new Object[][] {
+            {"all",                         null,                                       "abc",      true},
+            {"star",                        Arrays.asList("*"),                         "abc",      true},
+            {"double star",                 Arrays.asList("**"),                        "",         true},
+            {"empty list",                  Arrays.asList(),                            "abc",      false},
+            {"null name",                   Arrays.asList("abc"),                       null,       false},
+            {"literal",                     Arrays.asList("abc"),                       "abc",      true},
+            {"literal not matching",        Arrays.asList("abc"),                       "abcd",     false},
+            {"empty literal",               Arrays.asList(""),                          "",         true},
+            {"prefix",                      Arrays.asList("ab*"),                       "abcd",     true},
+            {"prefix only",                 Arrays.asList("ab*"),                       "ab",       true},
+            {"prefix not matching",         Arrays.asList("ab*"),                       "a",        false},
+            {"suffix",                      Arrays.asList("*cd"),                       "abcd",     true},
+            {"suffix not matching",         Arrays.asList("*cd"),                       "abc",      false},
+            {"contains",                    Arrays.asList("*bc*"),                      "abcd",     true},
+            {"contains not matching",       Arrays.asList("*bd*"),                      "abcd",     false},
+            {"question",                    Arrays.asList("a?c"),                       "abc",      true},
+            {"question not matching",       Arrays.asList("a?c"),                       "ac",       false},
+            {"complex",                     Arrays.asList("a*c?e*"),                    "abbcdeff", true},
+            {"complex not matching",        Arrays.asList("a*c?e*"),                    "abbcef",   false},
+            {"regex characters",            Arrays.asList("a.b*"),                      "a.bc",     true},
+            {"regex characters not match",  Arrays.asList("a.b*"),                      "axbc",     false},
+            {"new line",                    Arrays.asList("a*b"),                       "a\nb",     true},
+            {"list literal",                Arrays.asList("x*", "*y", "a?c", "abc"),    "abc",      true},
+            {"list prefix",                 Arrays.asList("x*", "*y", "a?c", "abc"),    "xabc",     true},
+            {"list suffix",                 Arrays.asList("x*", "*y", "a?c", "abc"),    "abcy",     true},
+            {"list regex",                  Arrays.asList("x*", "*y", "a?c", "abc"),    "axc",      true},
+            {"list not matching",           Arrays.asList("x*", "*y", "a?c", "abc"),    "abcd",     false},
+        };
+    }
+
+    /**
+     * Positive test that the compiled matcher returns the same result than
+     * {@link StringUtil_mxJPO#match(String, Collection)}.
+     *
+     * @param _description  description of the test case
+     * @param _matches      wildcard matches
+     * @param _name         name to check
+     * @param _expected     expected result
+     */
+    @Test(description = "positive test that the compiled matcher returns the same result",
+          dataProvider = "matches")
+    public void positiveTest(final String _description,
+                             final Collection<String> _matches,
+                             final String _name,
+                             final boolean _expected)
+    {
+        Assert.assertEquals(WildcardMatcher_mxJPO.compile(_matches).match(_name), _expected);
+        Assert.assertEquals(StringUtil_mxJPO.match(_name, _matches), _expected);
+    }
+}
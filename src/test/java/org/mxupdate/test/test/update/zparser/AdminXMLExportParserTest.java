@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.mxupdate.update.util.AbstractParser_mxJPO.ParseException;
 import org.mxupdate.update.util.ParameterCache_mxJPO;
 import org.mxupdate.update.zparser.AdminXMLExportObject_mxJPO;
 import org.mxupdate.update.zparser.AdminXMLExportParser_mxJPO;
@@ -53,6 +54,10 @@ public class AdminXMLExportParserTest
                 {"text with apostrophes",       "<m><mx><dtdInfo>test \"test\"</dtdInfo></mx></m>",                                         new String[]{"", "", "/dtdInfo", "test \"test\""}},
                 {"text with greater than",      "<m><mx><dtdInfo>class => java</dtdInfo></mx></m>",                                         new String[]{"", "", "/dtdInfo", "class => java"}},
                 {"text with special character", "<m><mx><dtdInfo>class \u2019 java</dtdInfo></mx></m>",                                     new String[]{"", "", "/dtdInfo", "class \u2019 java"}},
+                {"empty text",                  "<m><mx><test></test></mx></m>",                                                            new String[]{"", "", "/test", ""}},
+                {"cdata with markup",           "<m><mx><code><![CDATA[if (a < b && c > d) ]]]]><![CDATA[>]]></code></mx></m>",             new String[]{"", "", "/code", "if (a < b && c > d) ]]>"}},
+                {"nested tags",                 "<m><mx><a>x<b>y</b></a><c/></mx></m>",                                                     new String[]{"", "", "/a", "x", "/a/b", "y", "/c", null}},
+                {"attribute with greater than", "<m><mx><test value=\"a>b\">test</test></mx></m>",                                          new String[]{"", "", "/test", "test"}},
 
         };
     }
@@ -83,4 +88,110 @@ public class AdminXMLExportParserTest
                 Arrays.asList(_expected),
                 "found:"+actual + " have:" + Arrays.asList(_expected));
     }
+
+    @Test(description = "positive test that the same URL is always the same (interned) string instance")
+    public void positiveTestSameURLInstance()
+        throws Exception
+    {
+        final List<String> urls = new ArrayList<String>();
+        final AdminXMLExportObject_mxJPO object = new AdminXMLExportObject_mxJPO()
+        {
+            @Override
+            public boolean parseAdminXMLExportEvent(final ParameterCache_mxJPO _paramCache, final String _url,
+                    final String _content)
+            {
+                urls.add(_url);
+                return false;
+            }
+        };
+        new AdminXMLExportParser_mxJPO("<m><mx><cProps><rel>1</rel></cProps></mx></m>").parse(null, object);
+        new AdminXMLExportParser_mxJPO("<m><my><cProps><rel>2</rel><rel>3</rel></cProps></my></m>").parse(null, object);
+
+        Assert.assertEquals(urls, Arrays.asList("", "/cProps", "/cProps/rel", "", "/cProps", "/cProps/rel", "/cProps/rel"));
+        Assert.assertSame(urls.get(2), "/cProps/rel");
+        Assert.assertSame(urls.get(5), "/cProps/rel");
+        Assert.assertSame(urls.get(6), "/cProps/rel");
+    }
+
+    @DataProvider(name = "skippedData")
+    public Object[][] getSkippedData()
+    {
+        return new Object[][]{
+                {"skipped tag",                     "<m><mx><code>abc</code><test>1</test></mx></m>",                                       new String[]{"", "", "/test", "1"}},
+                {"skipped empty tag",               "<m><mx><code/><test>1</test></mx></m>",                                                new String[]{"", "", "/test", "1"}},
+                {"skipped nested tags",             "<m><mx><code><a>x<code>y</code><b/></a></code><test>1</test></mx></m>",                new String[]{"", "", "/test", "1"}},
+                {"skipped cdata with markup",       "<m><mx><code><![CDATA[</code><a>]]><!-- </code> --></code><test>1</test></mx></m>",    new String[]{"", "", "/test", "1"}},
+                {"skipped attribute with markup",   "<m><mx><code><a v=\"/>\">x</a></code><test>1</test></mx></m>",                         new String[]{"", "", "/test", "1"}},
+                {"not skipped nested tag",          "<m><mx><test><code>1</code></test></mx></m>",                                          new String[]{"", "", "/test", "", "/test/code", "1"}},
+        };
+    }
+
+    @Test(dataProvider = "skippedData", description = "positive test that skipped elements are not parsed")
+    public void positiveTestSkipped(final String _descr,
+                                    final String _code,
+                                    final Object[] _expected)
+        throws Exception
+    {
+        final List<String> actual = new ArrayList<String>();
+
+        new AdminXMLExportParser_mxJPO(_code).parse(null, new AdminXMLExportObject_mxJPO()
+        {
+            @Override
+            public boolean parseAdminXMLExportEvent(final ParameterCache_mxJPO _paramCache, final String _url,
+                    final String _content)
+            {
+                actual.add(_url);actual.add(_content);
+                return false;
+            }
+        }, Arrays.asList("code"));
+
+        Assert.assertEquals(
+                actual,
+                Arrays.asList(_expected),
+                "found:"+actual + " have:" + Arrays.asList(_expected));
+    }
+
+    @Test(description = "negative test that a skipped element is not closed",
+          expectedExceptions = ParseException.class,
+          expectedExceptionsMessageRegExp = "XML export ends within element 'code'")
+    public void negativeTestSkippedNotClosed()
+        throws Exception
+    {
+        new AdminXMLExportParser_mxJPO("<m><mx><code><a>x</a>").parse(null, new AdminXMLExportObject_mxJPO()
+        {
+            @Override
+            public boolean parseAdminXMLExportEvent(final ParameterCache_mxJPO _paramCache, final String _url,
+                    final String _content)
+            {
+                return false;
+            }
+        }, Arrays.asList("code"));
+    }
+
+    @DataProvider(name = "negativeData")
+    public Object[][] getNegativeData()
+    {
+        return new Object[][]{
+                {"not matching end tag",        "<m><mx><test>text</tst></mx></m>"},
+                {"not closed element",          "<m><mx><test>text</test>"},
+                {"not closed cdata",            "<m><mx><test><![CDATA[text</test></mx></m>"},
+                {"no root element",             "<!-- only comment -->"},
+        };
+    }
+
+    @Test(dataProvider = "negativeData", expectedExceptions = ParseException.class)
+    public void negativeTest(final String _descr,
+                             final String _code)
+        throws Exception
+    {
+        new AdminXMLExportParser_mxJPO(_code).parse(null, new AdminXMLExportObject_mxJPO()
+        {
+            @Override
+            public boolean parseAdminXMLExportEvent(final ParameterCache_mxJPO _paramCache, final String _url,
+                    final String _content)
+            {
+                return false;
+            }
+        });
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.util;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.test.util.FakeMxAdminServer;
+import org.mxupdate.test.util.MxUpdateUtil;
+import org.mxupdate.test.util.OfflineContext;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import matrix.util.MatrixException;
+
+/**
+ * Tests the emulation of the administration MQL commands by the
+ * {@link FakeMxAdminServer} and uses the fake MX server for an end-to-end
+ * export, update and delete of synthetic administration objects. The number
+ * of synthetic administration objects per MX class could be defined with the
+ * system property {@link #PROP_COUNT} (e.g. with 50000 for load tests).
+ *
+ * @author The MxUpdate Team
+ */
+public class FakeMxAdminServer_EmulationTest
+{
+    /** Name of the system property with the number of synthetic objects. */
+    public static final String PROP_COUNT = "org.mxupdate.test.fake.count";
+
+    /** MX classes of the synthetic administration objects. */
+    private static final String[] MX_CLASSES = {"attribute", "type", "policy", "role"};
+
+    /**
+     * Positive test of add, modify, print, list, export and delete.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test of add, modify, print, list, export and delete")
+    public void positiveTestEmulation()
+        throws Exception
+    {
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.execute(null, "escape add program $1 java", Arrays.asList("Prog"));
+        server.execute(null, "escape add attribute $1 type string description $2", Arrays.asList("Attr 1", "abc \"def\""));
+        server.execute(null, "escape add attribute \"Attr 2\" type string", null);
+        server.execute(null, "escape mod attribute $1 add property $2 value $3 hidden", Arrays.asList("Attr 2", "prop", "value"));
+        server.execute(null, "escape add property $1 on program $2 to attribute $3", Arrays.asList("attribute_Attr1", "Prog", "Attr 1"));
+
+        Assert.assertEquals(server.execute(null, "escape list attribute $1", Arrays.asList("*")), "Attr 1\nAttr 2");
+        Assert.assertEquals(server.execute(null, "escape list attribute $1", Arrays.asList("*2")), "Attr 2");
+        Assert.assertEquals(server.execute(null, "escape list attribute $1 select $2 $3 dump $4", Arrays.asList("*", "name", "hidden", "@")),
+                            "Attr 1@FALSE\nAttr 2@TRUE");
+        Assert.assertEquals(server.execute(null, "escape print attribute $1 select $2 dump", Arrays.asList("Attr 1", "description")), "abc \"def\"");
+        Assert.assertEquals(server.execute(null, "escape print attribute $1 select $2 dump", Arrays.asList("Attr 2", "property[prop]")), "prop value value");
+        Assert.assertEquals(server.execute(null, "escape print attribute $1 select $2 dump", Arrays.asList("Attr 2", "property[prop].value")), "value");
+        Assert.assertEquals(server.execute(null, "escape list property on program $1 to attribute $2", Arrays.asList("Prog", "Attr 1")),
+                            "attribute_Attr1 on program Prog to attribute Attr 1");
+
+        final String xml = server.execute(null, "escape export attribute $1 xml", Arrays.asList("Attr 2"));
+        Assert.assertTrue(xml.contains("<primitiveType><![CDATA[string]]></primitiveType>"), xml);
+        Assert.assertTrue(xml.contains("<hidden/>"), xml);
+        Assert.assertTrue(xml.contains("<name><![CDATA[prop]]></name>"), xml);
+
+        // rename keeps symbolic name, delete removes symbolic name
+        server.execute(null, "escape mod attribute $1 name $2", Arrays.asList("Attr 1", "Attr 3"));
+        Assert.assertEquals(server.execute(null, "escape list property on program $1 to attribute $2", Arrays.asList("Prog", "Attr 3")),
+                            "attribute_Attr1 on program Prog to attribute Attr 3");
+        server.execute(null, "escape delete attribute \"Attr 3\"", null);
+        Assert.assertNull(server.get("attribute", "Attr 3"));
+        Assert.assertEquals(server.execute(null, "escape list property on program $1", Arrays.asList("Prog")), "");
+    }
+
+    /**
+     * Negative test that a print of a not existing object fails.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "negative test that print of not existing object fails",
+          expectedExceptions = MatrixException.class,
+          expectedExceptionsMessageRegExp = "(?s).*attribute 'Attr' does not exist")
+    public void negativeTestNotExisting()
+        throws Exception
+    {
+        new FakeMxAdminServer().execute(null, "escape print attribute $1 select $2 dump", Arrays.asList("Attr", "name"));
+    }
+
+    /**
+     * Positive end-to-end test which exports synthetic administration
+     * objects, deletes them within the fake MX server, updates them again
+     * from the exported files and deletes them with the delete action.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive end-to-end test of export, update and delete of synthetic administration objects")
+    public void positiveTestExportUpdateDelete()
+        throws Exception
+    {
+        final int count = Integer.getInteger(FakeMxAdminServer_EmulationTest.PROP_COUNT, 20);
+
+        final FakeMxAdminServer server = new FakeMxAdminServer();
+        server.create("program", "eServiceSchemaVariableMapping.tcl");
+        for (int idx = 0; idx < count; idx++)  {
+            server.create("attribute", "Attribute " + idx).description("attribute " + idx).xml("primitiveType", "string");
+            server.create("type", "Type " + idx).description("type " + idx);
+            server.create("policy", "Policy " + idx).description("policy " + idx);
+            server.create("role", "Role " + idx).description("role " + idx);
+        }
+
+        final File path = MxUpdateUtil.createTempDir();
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(server);
+        try  {
+            final OfflineContext context = new OfflineContext();
+
+            this.mxMain(context, "--export", "--path", path.toString());
+            for (final String mxClass : FakeMxAdminServer_EmulationTest.MX_CLASSES)  {
+                for (int idx = 0; idx < count; idx++)  {
+                    server.execute(null, "escape delete " + mxClass + " $1", Arrays.asList(mxClass.substring(0, 1).toUpperCase() + mxClass.substring(1) + " " + idx));
+                }
+                Assert.assertEquals(server.count(mxClass), 0, mxClass);
+            }
+
+            this.mxMain(context, "--update", "--path", path.toString());
+            for (final String mxClass : FakeMxAdminServer_EmulationTest.MX_CLASSES)  {
+                Assert.assertEquals(server.count(mxClass), count, mxClass);
+            }
+            Assert.assertEquals(server.get("type", "Type 0").getDescription(), "type 0");
+
+            FileUtils.deleteDirectory(path);
+            path.mkdirs();
+            this.mxMain(context, "--delete", "--path", path.toString());
+            for (final String mxClass : FakeMxAdminServer_EmulationTest.MX_CLASSES)  {
+                Assert.assertEquals(server.count(mxClass), 0, mxClass);
+            }
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            FileUtils.deleteDirectory(path);
+        }
+    }
+
+    /**
+     * Executes MxUpdate for the synthetic MX classes with given
+     * <code>_args</code>.
+     *
+     * @param _context  offline context
+     * @param _args     arguments
+     * @throws Exception if MxUpdate failed
+     */
+    private void mxMain(final OfflineContext _context,
+                        final String... _args)
+        throws Exception
+    {
+        final String[] args = new String[_args.length + 2 * FakeMxAdminServer_EmulationTest.MX_CLASSES.length];
+        System.arraycopy(_args, 0, args, 0, _args.length);
+        int idx = _args.length;
+        for (final String mxClass : FakeMxAdminServer_EmulationTest.MX_CLASSES)  {
+            args[idx++] = "--" + mxClass;
+            args[idx++] = "*";
+        }
+        MxUpdateUtil.mxMain(_context, args);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.test.test.util;
+
+import java.io.File;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.update.util.UpdateException_mxJPO;
+import org.mxupdate.util.FileUtils_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests method {@link FileUtils_mxJPO#calcContentHash(File)}.
+ *
+ * @author The MxUpdate Team
+ */
+public class FileUtils_CalcContentHashTest
+{
+    /**
+     * Positive test that the content hash is independent of the line endings
+     * and the last modified date of the file.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that content hash is independent of line endings and last modified date")
+    public void positiveTestSameContent()
+        throws Exception
+    {
+        final File file1 = File.createTempFile("MxUpdate", ".mxu");
+        final File file2 = File.createTempFile("MxUpdate", ".mxu");
+        try  {
+            FileUtils.writeStringToFile(file1, "mxUpdate type \"Test\" {\n  description \"abc\"\n}\n");
+            FileUtils.writeStringToFile(file2, "mxUpdate type \"Test\" {\r\n  description \"abc\"\r\n}\r\n");
+            file2.setLastModified(file1.lastModified() - 100000);
+
+            Assert.assertEquals(FileUtils_mxJPO.calcContentHash(file1), FileUtils_mxJPO.calcContentHash(file2));
+            Assert.assertEquals(FileUtils_mxJPO.calcContentHash(file1).length(), 64);
+        } finally  {
+            file1.delete();
+            file2.delete();
+        }
+    }
+
+    /**
+     * Positive test that different contents result in different content
+     * hashes.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that different contents result in different content hashes")
+    public void positiveTestDifferentContent()
+        throws Exception
+    {
+        final File file1 = File.createTempFile("MxUpdate", ".mxu");
+        final File file2 = File.createTempFile("MxUpdate", ".mxu");
+        try  {
+            FileUtils.writeStringToFile(file1, "mxUpdate type \"Test\" {\n  description \"abc\"\n}\n");
+            FileUtils.writeStringToFile(file2, "mxUpdate type \"Test\" {\n  description \"abd\"\n}\n");
+
+            Assert.assertNotEquals(FileUtils_mxJPO.calcContentHash(file1), FileUtils_mxJPO.calcContentHash(file2));
+        } finally  {
+            file1.delete();
+            file2.delete();
+        }
+    }
+
+    /**
+     * Positive test that the content hash of a CI file with a referenced file
+     * is only equal if the CI file and the referenced file are unchanged.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the content hash with a referenced file checks the CI file and the referenced file")
+    public void positiveTestReferencedFile()
+        throws Exception
+    {
+        final File ciFile = File.createTempFile("MxUpdate", ".mxu");
+        final File refFile = File.createTempFile("MxUpdate", ".java");
+        try  {
+            FileUtils.writeStringToFile(ciFile, "mxUpdate program \"Test\" {\n  file \"" + refFile.getName() + "\"\n}\n");
+            FileUtils.writeStringToFile(refFile, "public class Test {}\n");
+
+            final String hash = FileUtils_mxJPO.calcContentHash(ciFile, FileUtils_mxJPO.calcContentHash(ciFile), refFile.getName());
+            Assert.assertTrue(FileUtils_mxJPO.isContentHashEqual(ciFile, hash));
+            Assert.assertFalse(FileUtils_mxJPO.isContentHashEqual(ciFile, FileUtils_mxJPO.calcContentHash(refFile)));
+
+            FileUtils.writeStringToFile(refFile, "public class Test {int i;}\n");
+            Assert.assertFalse(FileUtils_mxJPO.isContentHashEqual(ciFile, hash));
+
+            refFile.delete();
+            Assert.assertFalse(FileUtils_mxJPO.isContentHashEqual(ciFile, hash));
+        } finally  {
+            ciFile.delete();
+            refFile.delete();
+        }
+    }
+
+    /**
+     * Negative test that file does not exists.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "negative test that file does not exists",
+          expectedExceptions = UpdateException_mxJPO.class,
+          expectedExceptionsMessageRegExp = "^UpdateError #90701: File '.*NON-EXISTING-FILE'.*")
+    public void negativeTest90701FileNotExists()
+        throws Exception
+    {
+        FileUtils_mxJPO.calcContentHash(new File("NON-EXISTING-FILE"));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.test.util;
+
+import java.io.File;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.update.util.UpdateException_mxJPO;
+import org.mxupdate.util.FileUtils_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests method {@link FileUtils_mxJPO#readFileHeader(File, Pattern, int)}.
+ *
+ * @author The MxUpdate Team
+ */
+public class FileUtils_ReadFileHeaderTest
+{
+    /** Pattern for the last line of the header used within the tests. */
+    private static final Pattern END = Pattern.compile("^package ");
+
+    /**
+     * Positive test that the header is read until the end line.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the header is read until the end line")
+    public void positiveTestEndLine()
+        throws Exception
+    {
+        final File file = File.createTempFile("MxUpdate", ".java");
+        try  {
+            FileUtils.writeStringToFile(file, "// comment\r\npackage abc;\r\npublic class Test {}\r\n");
+            Assert.assertEquals(FileUtils_mxJPO.readFileHeader(file, FileUtils_ReadFileHeaderTest.END, 1000), "// comment\npackage abc;\n");
+        } finally  {
+            file.delete();
+        }
+    }
+
+    /**
+     * Positive test that the header is read until the maximum length.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the header is read until the maximum length")
+    public void positiveTestMaxLength()
+        throws Exception
+    {
+        final File file = File.createTempFile("MxUpdate", ".java");
+        try  {
+            FileUtils.writeStringToFile(file, "// line 1\n// line 2\n// line 3\npackage abc;\n");
+            Assert.assertEquals(FileUtils_mxJPO.readFileHeader(file, FileUtils_ReadFileHeaderTest.END, 15), "// line 1\n// line 2\n");
+        } finally  {
+            file.delete();
+        }
+    }
+
+    /**
+     * Positive test that the header of a file with UTF-16 byte order mark is
+     * decoded.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the header of a file with UTF-16 byte order mark is decoded")
+    public void positiveTestUTF16()
+        throws Exception
+    {
+        final File file = File.createTempFile("MxUpdate", ".java");
+        try  {
+            FileUtils.writeStringToFile(file, "\uFEFFpackage abc;\nclass Test {}\n", "UTF-16LE");
+            Assert.assertEquals(FileUtils_mxJPO.readFileHeader(file, FileUtils_ReadFileHeaderTest.END, 1000), "package abc;\n");
+        } finally  {
+            file.delete();
+        }
+    }
+
+    /**
+     * Negative test that file does not exists.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "negative test that file does not exists",
+          expectedExceptions = UpdateException_mxJPO.class,
+          expectedExceptionsMessageRegExp = "^UpdateError #90701: File '.*NON-EXISTING-FILE'.*")
+    public void negativeTest90701FileNotExists()
+        throws Exception
+    {
+        FileUtils_mxJPO.readFileHeader(new File("NON-EXISTING-FILE"), FileUtils_ReadFileHeaderTest.END, 1000);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.test.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mxupdate.test.util.OfflineContext;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.mxupdate.util.MqlExecutor_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Tests that all MQL commands of {@link MqlBuilderUtil_mxJPO} are executed
+ * with the defined {@link IMqlExecutor_mxJPO executor}.
+ *
+ * @author The MxUpdate Team
+ */
+public class MqlBuilderUtil_ExecutorTest
+{
+    /**
+     * Positive test that the MQL command with the arguments is executed with
+     * the defined executor.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that MQL command is executed with defined executor")
+    public void positiveTestExecute()
+        throws Exception
+    {
+        final List<String> cmds = new ArrayList<>();
+        final List<List<String>> args = new ArrayList<>();
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new IMqlExecutor_mxJPO()
+        {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+            {
+                cmds.add(_cmd);
+                args.add(new ArrayList<>(_args));
+                return "result";
+            }
+        });
+        try  {
+            Assert.assertEquals(
+                    MqlBuilderUtil_mxJPO.mql().cmd("escape print type ").arg("Test").cmd(" select ").arg("name").cmd(" dump").exec(null),
+                    "result");
+            MqlBuilderUtil_mxJPO.multiLine(null, "escape mod type $1", "Test").newLine().cmd("description ").arg("abc").exec(null);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+
+        Assert.assertEquals(cmds.size(), 2);
+        Assert.assertEquals(cmds.get(0), "escape print type $1 select $2 dump");
+        Assert.assertEquals(args.get(0).toString(), "[Test, name]");
+        Assert.assertEquals(cmds.get(1), "escape mod type $1 description $2");
+        Assert.assertEquals(args.get(1).toString(), "[Test, abc]");
+    }
+
+    /**
+     * Positive test that the default executor is used if no executor is
+     * defined.
+     */
+    @Test(description = "positive test that default executor is used if no executor is defined")
+    public void positiveTestDefaultExecutor()
+    {
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(null);
+        try  {
+            Assert.assertTrue(MqlBuilderUtil_mxJPO.getExecutor() instanceof MqlExecutor_mxJPO);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+
+    /**
+     * Positive test that the executor of a MX context is only used for the
+     * MQL commands of this MX context.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that executor of a MX context is only used for this MX context")
+    public void positiveTestContextExecutor()
+        throws Exception
+    {
+        final Context context = new OfflineContext();
+        final IMqlExecutor_mxJPO prevDefault = MqlBuilderUtil_mxJPO.setExecutor(new IMqlExecutor_mxJPO()
+        {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+            {
+                return "default";
+            }
+        });
+        try  {
+            final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(context, new IMqlExecutor_mxJPO()
+            {
+                @Override()
+                public String execute(final Context _context,
+                                      final String _cmd,
+                                      final List<String> _args)
+                {
+                    return "context";
+                }
+            });
+            Assert.assertNull(prev);
+            try  {
+                Assert.assertEquals(MqlBuilderUtil_mxJPO.mql().cmd("escape print type ").arg("Test").exec(context), "context");
+                Assert.assertEquals(MqlBuilderUtil_mxJPO.mql().cmd("escape print type ").arg("Test").exec(null), "default");
+            } finally  {
+                MqlBuilderUtil_mxJPO.setExecutor(context, prev);
+            }
+            Assert.assertEquals(MqlBuilderUtil_mxJPO.mql().cmd("escape print type ").arg("Test").exec(context), "default");
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prevDefault);
+        }
+    }
+
+    /**
+     * Negative test that the error of the executor includes the executed MQL
+     * command.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "negative test that error of the executor includes the MQL command",
+          expectedExceptions = MatrixException.class,
+          expectedExceptionsMessageRegExp = "^failed\\nMQL command was:\\nescape print type \\$1\\n    with arg\\[1\\] = \"Test\"$")
+    public void negativeTestError()
+        throws Exception
+    {
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new IMqlExecutor_mxJPO()
+        {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+                throws MatrixException
+            {
+                throw new MatrixException("failed");
+            }
+        });
+        try  {
+            MqlBuilderUtil_mxJPO.mql().cmd("escape print type ").arg("Test").exec(null);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+
+    /**
+     * Negative test that the original exception of the executor is the cause
+     * of the thrown exception.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "negative test that the original exception of the executor is the cause")
+    public void negativeTestErrorCause()
+        throws Exception
+    {
+        final MatrixException error = new MatrixException("failed");
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new IMqlExecutor_mxJPO()
+        {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+                throws MatrixException
+            {
+                throw error;
+            }
+        });
+        try  {
+            MqlBuilderUtil_mxJPO.mql().cmd("escape print type ").arg("Test").exec(null);
+            Assert.fail("exception expected");
+        } catch (final MatrixException e)  {
+            Assert.assertSame(e.getCause(), error);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.test.test.util;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mxupdate.test.util.OfflineContext;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO.MergedMqlException;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO.MultiLineMqlBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Tests the merge of MQL lines within
+ * {@link MultiLineMqlBuilder#exec(Context, int)}.
+ *
+ * @author The MxUpdate Team
+ */
+public class MqlBuilderUtil_MergeLinesTest
+{
+    /**
+     * Executes given MQL builder with a recording executor.
+     *
+     * @param _mql          MQL builder to execute
+     * @param _maxMerge     maximum number of merged lines
+     * @param _failCmd      part of the MQL commands which fail (or {@code null})
+     * @return executed MQL commands with the arguments
+     * @throws MatrixException if execute failed
+     */
+    private List<String> exec(final MultiLineMqlBuilder _mql,
+                              final int _maxMerge,
+                              final String _failCmd)
+        throws MatrixException
+    {
+        return this.exec(null, _mql, _maxMerge, _failCmd);
+    }
+
+    /**
+     * Executes given MQL builder with a recording executor for the MX
+     * <code>_context</code>.
+     *
+     * @param _context      MX context
+     * @param _mql          MQL builder to execute
+     * @param _maxMerge     maximum number of merged lines
+     * @param _failCmd      part of the MQL commands which fail (or {@code null})
+     * @return executed MQL commands with the arguments
+     * @throws MatrixException if execute failed
+     */
+    private List<String> exec(final Context _context,
+                              final MultiLineMqlBuilder _mql,
+                              final int _maxMerge,
+                              final String _failCmd)
+        throws MatrixException
+    {
+        final List<String> ret = new ArrayList<>();
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(new IMqlExecutor_mxJPO()
+        {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+                throws MatrixException
+            {
+                ret.add(_cmd + " " + _args);
+                if ((_failCmd != null) && _cmd.contains(_failCmd))  {
+                    throw new MatrixException("failed");
+                }
+                return "";
+            }
+        });
+        try  {
+            _mql.exec(_context, _maxMerge);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+        }
+        return ret;
+    }
+
+    /**
+     * Positive test that following lines with the same prefix are merged and
+     * the arguments are renumbered.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that following lines with the same prefix are merged")
+    public void positiveTestMerge()
+        throws Exception
+    {
+        final MultiLineMqlBuilder mql = MqlBuilderUtil_mxJPO.multiLine((File) null, "escape mod policy $1", "Policy")
+                .newLine().cmd("description ").arg("abc")
+                .newLine().cmd("add property ").arg("prop").cmd(" value ").arg("value")
+                .pushPrefixByAppending("state $2", "State")
+                .newLine().cmd("add login public read")
+                .newLine().cmd("add user ").arg("Creator").cmd(" read")
+                .popPrefix()
+                .newLine().cmd("hidden");
+
+        Assert.assertEquals(
+                this.exec(mql, 10, null).toString(),
+                "[escape mod policy $1 description $2 add property $3 value $4 [Policy, abc, prop, value], "
+                        + "escape mod policy $1 state $2 add login public read add user $3 read [Policy, State, Creator], "
+                        + "escape mod policy $1 hidden [Policy]]");
+    }
+
+    /**
+     * Positive test that the number of merged lines is limited.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that the number of merged lines is limited")
+    public void positiveTestMaxMerge()
+        throws Exception
+    {
+        final MultiLineMqlBuilder mql = MqlBuilderUtil_mxJPO.multiLine((File) null, "escape mod type $1", "Type")
+                .newLine().cmd("add attribute ").arg("A1")
+                .newLine().cmd("add attribute ").arg("A2")
+                .newLine().cmd("add attribute ").arg("A3");
+
+        Assert.assertEquals(
+                this.exec(mql, 2, null).toString(),
+                "[escape mod type $1 add attribute $2 add attribute $3 [Type, A1, A2], "
+                        + "escape mod type $1 add attribute $2 [Type, A3]]");
+        Assert.assertEquals(
+                this.exec(mql, 1, null).toString(),
+                "[escape mod type $1 add attribute $2 [Type, A1], "
+                        + "escape mod type $1 add attribute $2 [Type, A2], "
+                        + "escape mod type $1 add attribute $2 [Type, A3]]");
+    }
+
+    /**
+     * Negative test that the lines of a failed merged MQL statement are
+     * executed one by one and the error points to the failed line.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "negative test that error of a failed merged MQL statement points to failed line")
+    public void negativeTestFailedMerge()
+        throws Exception
+    {
+        final MultiLineMqlBuilder mql = MqlBuilderUtil_mxJPO.multiLine((File) null, "escape mod type $1", "Type")
+                .newLine().cmd("description ").arg("abc")
+                .newLine().cmd("add attribute ").arg("A1")
+                .newLine().cmd("hidden");
+
+        try  {
+            this.exec(mql, 10, "add attribute");
+            Assert.fail("merged MQL statement must fail");
+        } catch (final MatrixException e)  {
+            Assert.assertEquals(e.getMessage(), "failed\nMQL command was:\nescape mod type $1 add attribute $2\n    with arg[1] = \"Type\"\n    with arg[2] = \"A1\"");
+        }
+    }
+
+    /**
+     * Negative test that the lines of a failed merged MQL statement are not
+     * executed again within an active transaction.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "negative test that lines of a failed merged MQL statement are not executed again within a transaction")
+    public void negativeTestFailedMergeWithinTransaction()
+        throws Exception
+    {
+        final MultiLineMqlBuilder mql = MqlBuilderUtil_mxJPO.multiLine((File) null, "escape mod type $1", "Type")
+                .newLine().cmd("description ").arg("abc")
+                .newLine().cmd("add attribute ").arg("A1");
+
+        final OfflineContext context = new OfflineContext();
+        context.start(true);
+        try  {
+            this.exec(context, mql, 10, "add attribute");
+            Assert.fail("merged MQL statement must fail");
+        } catch (final MergedMqlException e)  {
+            Assert.assertEquals(
+                    e.getMessage(),
+                    "failed\nMQL command was:\nescape mod type $1 description $2 add attribute $3\n"
+                            + "    with arg[1] = \"Type\"\n    with arg[2] = \"abc\"\n    with arg[3] = \"A1\"\n"
+                            + "The failed MQL statement was merged from the MQL commands:\n"
+                            + "escape mod type $1 description $2\n    with arg[1] = \"Type\"\n    with arg[2] = \"abc\"\n"
+                            + "escape mod type $1 add attribute $2\n    with arg[1] = \"Type\"\n    with arg[2] = \"A1\"");
+        }
+    }
+}
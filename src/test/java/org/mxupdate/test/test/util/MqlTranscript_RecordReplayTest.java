@@ -0,0 +1,157 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.test.test.util;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlTranscript_mxJPO;
+import org.mxupdate.util.MqlTranscript_mxJPO.Recorder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * Tests the record and replay of MQL transcripts with
+ * {@link MqlTranscript_mxJPO}.
+ *
+ * @author The MxUpdate Team
+ */
+public class MqlTranscript_RecordReplayTest
+{
+    /**
+     * Positive test that recorded results, also with special characters and
+     * repeated MQL commands, are replayed.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that recorded results are replayed")
+    public void positiveTestReplay()
+        throws Exception
+    {
+        final File file = File.createTempFile("MxUpdate", ".mqltranscript");
+        try  {
+            final Recorder recorder = MqlTranscript_mxJPO.record(new IMqlExecutor_mxJPO()
+            {
+                /** Counter of the calls. */
+                private int count = 0;
+
+                @Override()
+                public String execute(final Context _context,
+                                      final String _cmd,
+                                      final List<String> _args)
+                    throws MatrixException
+                {
+                    if (_cmd.contains("error"))  {
+                        throw new MatrixException("Error: #1900068: print type failed\nsecond line");
+                    }
+                    return "result " + (++this.count) + " of " + _args + "\nwith \\ backslash\r\n";
+                }
+            }, file);
+            final String result1 = recorder.execute(null, "escape print type $1", Arrays.asList("Test \"1\"\nabc"));
+            final String result2 = recorder.execute(null, "escape print type $1", Arrays.asList("Test \"1\"\nabc"));
+            final String result3 = recorder.execute(null, "escape list type", null);
+            try  {
+                recorder.execute(null, "escape error", null);
+                Assert.fail("error expected");
+            } catch (final MatrixException e)  {
+                Assert.assertEquals(e.getMessage(), "Error: #1900068: print type failed\nsecond line");
+            }
+            recorder.close();
+
+            final IMqlExecutor_mxJPO replayer = MqlTranscript_mxJPO.replay(file);
+            Assert.assertEquals(replayer.execute(null, "escape list type", null), result3);
+            Assert.assertEquals(replayer.execute(null, "escape print type $1", Arrays.asList("Test \"1\"\nabc")), result1);
+            Assert.assertEquals(replayer.execute(null, "escape print type $1", Arrays.asList("Test \"1\"\nabc")), result2);
+            // last result is repeated
+            Assert.assertEquals(replayer.execute(null, "escape print type $1", Arrays.asList("Test \"1\"\nabc")), result2);
+            try  {
+                replayer.execute(null, "escape error", null);
+                Assert.fail("error expected");
+            } catch (final MatrixException e)  {
+                Assert.assertEquals(e.getMessage(), "Error: #1900068: print type failed\nsecond line");
+            }
+        } finally  {
+            file.delete();
+        }
+    }
+
+    /**
+     * Positive test that a {@code null} result is recorded as empty result.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that a null result is recorded as empty result")
+    public void positiveTestNullResult()
+        throws Exception
+    {
+        final File file = File.createTempFile("MxUpdate", ".mqltranscript");
+        try  {
+            final Recorder recorder = MqlTranscript_mxJPO.record(new IMqlExecutor_mxJPO()
+            {
+                @Override()
+                public String execute(final Context _context,
+                                      final String _cmd,
+                                      final List<String> _args)
+                {
+                    return null;
+                }
+            }, file);
+            Assert.assertNull(recorder.execute(null, "escape mod type $1", Arrays.asList("Test")));
+            recorder.close();
+
+            Assert.assertEquals(MqlTranscript_mxJPO.replay(file).execute(null, "escape mod type $1", Arrays.asList("Test")), "");
+        } finally  {
+            file.delete();
+        }
+    }
+
+    /**
+     * Negative test that a not recorded MQL command fails.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "negative test that a not recorded MQL command fails",
+          expectedExceptions = MatrixException.class,
+          expectedExceptionsMessageRegExp = "MQL command not recorded in transcript")
+    public void negativeTestNotRecorded()
+        throws Exception
+    {
+        final File file = File.createTempFile("MxUpdate", ".mqltranscript");
+        try  {
+            final Recorder recorder = MqlTranscript_mxJPO.record(new IMqlExecutor_mxJPO()
+            {
+                @Override()
+                public String execute(final Context _context,
+                                      final String _cmd,
+                                      final List<String> _args)
+                {
+                    return "";
+                }
+            }, file);
+            recorder.execute(null, "escape print type $1", Arrays.asList("Test"));
+            recorder.close();
+
+            MqlTranscript_mxJPO.replay(file).execute(null, "escape print type $1", Arrays.asList("Other"));
+        } finally  {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.test.test.util;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.mxupdate.update.util.ParameterCache_mxJPO;
+import org.mxupdate.update.util.PerformanceStatistics_mxJPO;
+import org.mxupdate.update.util.PerformanceStatistics_mxJPO.Phase;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlBuilderUtil_mxJPO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import matrix.db.Context;
+
+/**
+ * Tests the JPO {@link PerformanceStatistics_mxJPO}.
+ *
+ * @author The MxUpdate Team
+ */
+public class PerformanceStatistics_ReportTest
+{
+    /**
+     * Positive test that MQL calls, phases and CI updates are recorded and
+     * written into the JSON report.
+     *
+     * @throws Exception if test failed
+     */
+    @Test(description = "positive test that MQL calls, phases and CI updates are written into the report")
+    public void positiveTestReport()
+        throws Exception
+    {
+        final File report = File.createTempFile("MxUpdate", ".json");
+        final IMqlExecutor_mxJPO executor = new IMqlExecutor_mxJPO()
+        {
+            @Override()
+            public String execute(final Context _context,
+                                  final String _cmd,
+                                  final List<String> _args)
+            {
+                return "";
+            }
+        };
+        final IMqlExecutor_mxJPO prev = MqlBuilderUtil_mxJPO.setExecutor(executor);
+        try  {
+            final Map<String,String> params = new HashMap<>();
+            params.put("ParamStatisticsReport", report.getAbsolutePath());
+            final ParameterCache_mxJPO paramCache = new ParameterCache_mxJPO(null, true, params);
+
+            paramCache.getStatistics().begin(paramCache);
+            final long start = System.nanoTime();
+            MqlBuilderUtil_mxJPO.mql().cmd("escape list type ").arg("*").exec(null);
+            paramCache.getStatistics().record(Phase.NAME_LIST, start);
+            paramCache.getStatistics().startCI(paramCache.getMapping().getTypeDef("Type"), "Test \"1\"");
+            MqlBuilderUtil_mxJPO.mql().cmd("escape print type ").arg("Test").cmd(" select name dump").exec(null);
+            MqlBuilderUtil_mxJPO.mql().cmd("escape print type ").arg("Test").cmd(" select description dump").exec(null);
+            paramCache.getStatistics().endCI();
+            paramCache.getStatistics().end(paramCache);
+
+            // the origin executor is restored
+            Assert.assertSame(MqlBuilderUtil_mxJPO.getExecutor(null), executor);
+            Assert.assertNull(MqlBuilderUtil_mxJPO.setExecutor(null, null));
+
+            final String json = FileUtils.readFileToString(report, "UTF-8");
+            Assert.assertTrue(json.contains("\"mql\": {\"count\": 3,"), json);
+            Assert.assertTrue(json.contains("\"list type\": {\"count\": 1,"), json);
+            Assert.assertTrue(json.contains("\"print type\": {\"count\": 2,"), json);
+            Assert.assertTrue(json.contains("\"name listing\": {\"count\": 1,"), json);
+            Assert.assertTrue(json.contains("\"Type\": {\"update\": {\"count\": 1,"), json);
+            Assert.assertTrue(json.contains("\"mql\": {\"count\": 2,"), json);
+            Assert.assertTrue(json.contains("{\"typeDef\": \"Type\", \"name\": \"Test \\\"1\\\"\", \"ms\": "), json);
+        } finally  {
+            MqlBuilderUtil_mxJPO.setExecutor(prev);
+            report.delete();
+        }
+    }
+}
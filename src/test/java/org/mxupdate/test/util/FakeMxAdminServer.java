@@ -0,0 +1,1072 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+package org.mxupdate.test.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.mxupdate.update.util.StringUtil_mxJPO;
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * In-memory fake of a MX server which emulates the subset of administration
+ * MQL commands used from MxUpdate. Together with an
+ * {@link org.mxupdate.util.OfflineContext offline context} the fake is
+ * installed as MQL executor with
+ * {@link org.mxupdate.util.MqlBuilderUtil_mxJPO#setExecutor(IMqlExecutor_mxJPO)}
+ * so that update, export and delete could be executed end-to-end without a
+ * MX server (e.g. for load tests with many synthetic administration
+ * objects).<br/>
+ * Supported are:
+ * <ul>
+ * <li><code>list &lt;class&gt; [pattern] [select ...] [dump [separator]]</code>
+ *     (where clauses are ignored)</li>
+ * <li><code>print &lt;class&gt; &lt;name&gt; select ... [dump [separator]]</code>
+ *     for the selects <code>name</code>, <code>description</code>,
+ *     <code>hidden</code>, <code>modified</code>, <code>package</code>,
+ *     <code>property[...]</code> and <code>property[...].value</code></li>
+ * <li><code>export &lt;class&gt; &lt;name&gt; xml</code> with the
+ *     administration properties and the defined {@link AdminObject#xml(String, String)
+ *     XML tags}</li>
+ * <li><code>add</code>, <code>mod</code> and <code>delete</code> of
+ *     administration objects with the clauses <code>description</code>,
+ *     <code>hidden</code>, <code>name</code>, <code>type</code> and
+ *     <code>add</code> / <code>remove property</code>; all other clauses
+ *     are accepted, but ignored</li>
+ * <li>symbolic names (properties on programs referencing other
+ *     administration objects)</li>
+ * </ul>
+ * Business objects are not emulated and because the help commands returns
+ * nothing, optional MX features (e.g. dimensions of attributes) are not
+ * supported.
+ *
+ * @author The MxUpdate Team
+ */
+public class FakeMxAdminServer
+    implements IMqlExecutor_mxJPO
+{
+    /** Aliases of MX class names. */
+    private static final Map<String,String> ALIASES = new HashMap<String,String>();
+    static  {
+        FakeMxAdminServer.ALIASES.put("att", "attribute");
+        FakeMxAdminServer.ALIASES.put("rel", "relationship");
+        FakeMxAdminServer.ALIASES.put("pageobject", "page");
+    }
+
+    /** Mapping between MX class and the administration objects. */
+    private final Map<String,SortedMap<String,AdminObject>> objects = new HashMap<String,SortedMap<String,AdminObject>>();
+
+    /** Properties referencing an administration object (key is class and name of the referenced object). */
+    private final Map<String,List<Property>> references = new HashMap<String,List<Property>>();
+
+    /** Counter of all modifications (used as modified date). */
+    private long modCounter;
+
+    /** Counter of all executed MQL commands. */
+    private long mqlCounter;
+
+    /**
+     * Creates a new administration object.
+     *
+     * @param _mxClass  MX class
+     * @param _name     name of the administration object
+     * @return new administration object
+     * @throws MatrixException if the administration object already exists
+     */
+    public synchronized AdminObject create(final String _mxClass,
+                                           final String _name)
+        throws MatrixException
+    {
+        final String mxClass = this.evalClass(_mxClass);
+        SortedMap<String,AdminObject> clazz = this.objects.get(mxClass);
+        if (clazz == null)  {
+            clazz = new TreeMap<String,AdminObject>();
+            this.objects.put(mxClass, clazz);
+        }
+        if (clazz.containsKey(_name))  {
+            throw new MatrixException("Error: #1900068: add " + mxClass + " failed\nError: " + mxClass + " '" + _name + "' already exists");
+        }
+        final AdminObject ret = new AdminObject(this, mxClass, _name);
+        clazz.put(_name, ret);
+        this.modified(ret);
+        return ret;
+    }
+
+    /**
+     * Returns the administration object.
+     *
+     * @param _mxClass  MX class
+     * @param _name     name of the administration object
+     * @return found administration object; <code>null</code> if not exists
+     */
+    public synchronized AdminObject get(final String _mxClass,
+                                        final String _name)
+    {
+        final SortedMap<String,AdminObject> clazz = this.objects.get(this.evalClass(_mxClass));
+        return (clazz != null) ? clazz.get(_name) : null;
+    }
+
+    /**
+     * Returns the number of administration objects for given MX class.
+     *
+     * @param _mxClass  MX class
+     * @return number of administration objects
+     */
+    public synchronized int count(final String _mxClass)
+    {
+        final SortedMap<String,AdminObject> clazz = this.objects.get(this.evalClass(_mxClass));
+        return (clazz != null) ? clazz.size() : 0;
+    }
+
+    /**
+     * Returns the number of executed MQL commands.
+     *
+     * @return number of executed MQL commands
+     */
+    public synchronized long getMqlCounter()
+    {
+        return this.mqlCounter;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The MQL command is split into tokens, the arguments are replaced and
+     * the command is executed against the in-memory model.</p>
+     */
+    @Override()
+    public synchronized String execute(final Context _context,
+                                       final String _cmd,
+                                       final List<String> _args)
+        throws MatrixException
+    {
+        this.mqlCounter++;
+        final Tokens tokens = new Tokens(_cmd, _args);
+        tokens.nextIf("escape");
+
+        final String verb = tokens.hasNext() ? tokens.next() : "";
+        final String ret;
+        if (verb.isEmpty())  {
+            ret = "";
+        } else if ("verbose".equals(verb) || "help".equals(verb))  {
+            // no help texts => all optional MX features are not supported
+            tokens.next();
+            ret = "";
+        } else if ("list".equals(verb))  {
+            ret = this.list(tokens);
+        } else if ("print".equals(verb))  {
+            ret = this.print(tokens);
+        } else if ("export".equals(verb))  {
+            ret = this.export(tokens);
+        } else if ("add".equals(verb))  {
+            ret = this.add(tokens);
+        } else if ("mod".equals(verb) || "modify".equals(verb))  {
+            final AdminObject object = this.getExisting("modify", tokens);
+            this.modify(object, tokens);
+            ret = "";
+        } else if ("delete".equals(verb))  {
+            ret = this.delete(tokens);
+        } else  {
+            throw this.unsupported(_cmd);
+        }
+        if (tokens.hasNext())  {
+            throw this.unsupported(_cmd);
+        }
+        return ret;
+    }
+
+    /**
+     * Executes a list command.
+     *
+     * @param _tokens   tokens of the MQL command
+     * @return list result
+     * @throws MatrixException if the MQL command is not supported
+     */
+    private String list(final Tokens _tokens)
+        throws MatrixException
+    {
+        final StringBuilder ret = new StringBuilder();
+        final String mxClass = this.evalClass(_tokens.next());
+        if ("property".equals(mxClass))  {
+            // symbolic names
+            if (_tokens.nextIf("on"))  {
+                final AdminObject owner = this.getExisting("list", _tokens);
+                if (_tokens.nextIf("to"))  {
+                    final String refKey = this.evalClass(_tokens.next()) + ' ' + _tokens.nextValue();
+                    _tokens.nextIf("system");
+                    final List<Property> props = this.references.get(refKey);
+                    if (props != null)  {
+                        for (final Property prop : props)  {
+                            if (prop.owner == owner)  {
+                                if (ret.length() > 0)  {
+                                    ret.append('\n');
+                                }
+                                ret.append(prop.name).append(" on ").append(owner.mxClass).append(' ').append(owner.name)
+                                   .append(" to ").append(prop.toClass).append(' ').append(prop.toName);
+                            }
+                        }
+                    }
+                } else  {
+                    for (final Property prop : owner.properties.values())  {
+                        if (ret.length() > 0)  {
+                            ret.append('\n');
+                        }
+                        ret.append(prop.toString());
+                    }
+                }
+            }
+            _tokens.skipAll();
+        } else  {
+            final List<String> patterns = new ArrayList<String>();
+            if (_tokens.hasNext() && (_tokens.isValue() || !Tokens.LIST_KEYWORDS.contains(_tokens.peek())))  {
+                for (final String pattern : _tokens.nextValue().split(","))  {
+                    patterns.add(pattern.trim());
+                }
+            }
+            _tokens.nextIf("system");
+            if (_tokens.nextIf("where"))  {
+                _tokens.nextValue();
+            }
+            final List<String> selects = new ArrayList<String>();
+            if (_tokens.nextIf("select"))  {
+                while (_tokens.hasNext() && (_tokens.isValue() || !"dump".equals(_tokens.peek())))  {
+                    selects.add(_tokens.nextValue());
+                }
+            }
+            final String separator = _tokens.nextIf("dump") && _tokens.hasNext() ? _tokens.nextValue() : ",";
+
+            final SortedMap<String,AdminObject> clazz = this.objects.get(mxClass);
+            if (clazz != null)  {
+                for (final AdminObject object : clazz.values())  {
+                    if (patterns.isEmpty() || StringUtil_mxJPO.match(object.name, patterns))  {
+                        if (ret.length() > 0)  {
+                            ret.append('\n');
+                        }
+                        if (selects.isEmpty())  {
+                            ret.append(object.name);
+                        } else  {
+                            ret.append(this.select(object, selects, separator));
+                        }
+                    }
+                }
+            }
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Executes a print command.
+     *
+     * @param _tokens   tokens of the MQL command
+     * @return print result
+     * @throws MatrixException if the administration object does not exist
+     */
+    private String print(final Tokens _tokens)
+        throws MatrixException
+    {
+        final AdminObject object = this.getExisting("print", _tokens);
+        final List<String> selects = new ArrayList<String>();
+        if (_tokens.nextIf("select"))  {
+            while (_tokens.hasNext() && (_tokens.isValue() || !"dump".equals(_tokens.peek())))  {
+                selects.add(_tokens.nextValue());
+            }
+        }
+        final String ret;
+        if (_tokens.nextIf("dump"))  {
+            ret = this.select(object, selects, _tokens.hasNext() ? _tokens.nextValue() : ",");
+        } else  {
+            final StringBuilder tmp = new StringBuilder().append(object.mxClass).append(' ').append(object.name);
+            for (final String select : selects)  {
+                tmp.append("\n    ").append(select).append(" = ").append(this.select(object, select));
+            }
+            ret = tmp.toString();
+        }
+        return ret;
+    }
+
+    /**
+     * Executes a XML export command. The name <code>*</code> exports all
+     * administration objects of the MX class.
+     *
+     * @param _tokens   tokens of the MQL command
+     * @return XML export
+     * @throws MatrixException if the administration object does not exist
+     */
+    private String export(final Tokens _tokens)
+        throws MatrixException
+    {
+        final List<AdminObject> objects = new ArrayList<AdminObject>();
+        final String mxClass = this.evalClass(_tokens.next());
+        final String name = _tokens.nextValue();
+        _tokens.nextIf("system");
+        if ("*".equals(name))  {
+            // export of all objects of the MX class
+            final SortedMap<String,AdminObject> clazz = this.objects.get(mxClass);
+            if (clazz != null)  {
+                objects.addAll(clazz.values());
+            }
+        } else  {
+            final AdminObject object = this.get(mxClass, name);
+            if (object == null)  {
+                throw new MatrixException("Error: #1900068: export " + mxClass + " failed\nError: " + mxClass + " '" + name + "' does not exist");
+            }
+            objects.add(object);
+        }
+        // ignore export flags like '!mail'
+        while (_tokens.hasNext() && !_tokens.isValue() && !"xml".equals(_tokens.peek()))  {
+            _tokens.next();
+        }
+        if (!_tokens.nextIf("xml"))  {
+            throw new MatrixException("Error: #1900068: export " + mxClass + " failed\nonly XML export is supported");
+        }
+        final StringBuilder ret = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<ematrix>\n")
+                .append("<creationProperties>\n");
+        this.appendXML(ret, "event", "export");
+        ret.append("</creationProperties>\n");
+        for (final AdminObject object : objects)  {
+            ret.append("<").append(object.mxClass).append(">\n")
+               .append("<adminProperties>\n");
+            this.appendXML(ret, "name", object.name);
+            if (!object.description.isEmpty())  {
+                this.appendXML(ret, "description", object.description);
+            }
+            if (object.hidden)  {
+                ret.append("<hidden/>\n");
+            }
+            if (!object.properties.isEmpty())  {
+                ret.append("<propertyList>\n");
+                for (final Property prop : object.properties.values())  {
+                    ret.append("<property>\n");
+                    this.appendXML(ret, "name", prop.name);
+                    if (prop.toClass != null)  {
+                        ret.append("<adminRef>\n");
+                        this.appendXML(ret, "adminName", prop.toName);
+                        this.appendXML(ret, "adminType", prop.toClass);
+                        ret.append("</adminRef>\n");
+                    }
+                    if (prop.value != null)  {
+                        this.appendXML(ret, "value", prop.value);
+                    }
+                    ret.append("</property>\n");
+                }
+                ret.append("</propertyList>\n");
+            }
+            ret.append("</adminProperties>\n");
+            for (final Map.Entry<String,String> xml : object.xmlTags.entrySet())  {
+                this.appendXML(ret, xml.getKey(), xml.getValue());
+            }
+            ret.append("</").append(object.mxClass).append(">\n");
+        }
+        ret.append("</ematrix>");
+        return ret.toString();
+    }
+
+    /**
+     * Appends the XML <code>_tag</code> with <code>_value</code> as CDATA
+     * section.
+     *
+     * @param _xml      XML string builder
+     * @param _tag      XML tag
+     * @param _value    value of the tag; <code>null</code> for an empty tag
+     */
+    private void appendXML(final StringBuilder _xml,
+                           final String _tag,
+                           final String _value)
+    {
+        if (_value == null)  {
+            _xml.append('<').append(_tag).append("/>\n");
+        } else  {
+            _xml.append('<').append(_tag).append(">")
+                .append("<![CDATA[").append(_value.replace("]]>", "]]]]><![CDATA[>")).append("]]>")
+                .append("</").append(_tag).append(">\n");
+        }
+    }
+
+    /**
+     * Executes an add command for an administration object or a symbolic
+     * name.
+     *
+     * @param _tokens   tokens of the MQL command
+     * @return empty string
+     * @throws MatrixException if the add failed
+     */
+    private String add(final Tokens _tokens)
+        throws MatrixException
+    {
+        final String mxClass = this.evalClass(_tokens.next());
+        if ("property".equals(mxClass))  {
+            final String name = _tokens.nextValue();
+            _tokens.next("on");
+            final AdminObject owner = this.getExisting("add", _tokens);
+            this.addProperty(owner, name, _tokens);
+        } else  {
+            final AdminObject object = this.create(mxClass, _tokens.nextValue());
+            _tokens.nextIf("system");
+            this.modify(object, _tokens);
+        }
+        return "";
+    }
+
+    /**
+     * Executes a delete command for an administration object or a symbolic
+     * name.
+     *
+     * @param _tokens   tokens of the MQL command
+     * @return empty string
+     * @throws MatrixException if the delete failed
+     */
+    private String delete(final Tokens _tokens)
+        throws MatrixException
+    {
+        final String mxClass = this.evalClass(_tokens.peek());
+        if ("property".equals(mxClass))  {
+            _tokens.next();
+            final String name = _tokens.nextValue();
+            _tokens.next("on");
+            final AdminObject owner = this.getExisting("delete", _tokens);
+            this.removeProperty(owner, name, _tokens);
+        } else  {
+            final AdminObject object = this.getExisting("delete", _tokens);
+            this.objects.get(object.mxClass).remove(object.name);
+            for (final Property prop : new ArrayList<Property>(object.properties.values()))  {
+                this.unregister(prop);
+            }
+            final List<Property> refs = this.references.remove(object.mxClass + ' ' + object.name);
+            if (refs != null)  {
+                for (final Property prop : refs)  {
+                    prop.owner.properties.remove(prop.key());
+                }
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Modifies given administration object depending on the clauses.
+     *
+     * @param _object   administration object to modify
+     * @param _tokens   tokens with the clauses
+     * @throws MatrixException if modify failed
+     */
+    private void modify(final AdminObject _object,
+                        final Tokens _tokens)
+        throws MatrixException
+    {
+        while (_tokens.hasNext())  {
+            if (_tokens.isValue())  {
+                _tokens.next();
+            } else  {
+                final String clause = _tokens.next();
+                if ("description".equals(clause))  {
+                    _object.description = _tokens.nextValue();
+                } else if ("hidden".equals(clause))  {
+                    _object.hidden = true;
+                } else if ("!hidden".equals(clause) || "nothidden".equals(clause))  {
+                    _object.hidden = false;
+                } else if ("name".equals(clause))  {
+                    this.rename(_object, _tokens.nextValue());
+                } else if ("type".equals(clause) && "attribute".equals(_object.mxClass))  {
+                    _object.xmlTags.put("primitiveType", _tokens.nextValue());
+                } else if ("add".equals(clause) && _tokens.nextIf("property"))  {
+                    this.addProperty(_object, _tokens.nextValue(), _tokens);
+                } else if ("remove".equals(clause) && _tokens.nextIf("property"))  {
+                    this.removeProperty(_object, _tokens.nextValue(), _tokens);
+                }
+            }
+        }
+        this.modified(_object);
+    }
+
+    /**
+     * Renames given administration object.
+     *
+     * @param _object   administration object to rename
+     * @param _newName  new name
+     * @throws MatrixException if an administration object with the new name
+     *                         already exists
+     */
+    private void rename(final AdminObject _object,
+                        final String _newName)
+        throws MatrixException
+    {
+        final SortedMap<String,AdminObject> clazz = this.objects.get(_object.mxClass);
+        if (clazz.containsKey(_newName))  {
+            throw new MatrixException("Error: #1900068: modify " + _object.mxClass + " failed\nError: " + _object.mxClass + " '" + _newName + "' already exists");
+        }
+        clazz.remove(_object.name);
+        final List<Property> refs = this.references.remove(_object.mxClass + ' ' + _object.name);
+        _object.name = _newName;
+        clazz.put(_newName, _object);
+        if (refs != null)  {
+            for (final Property prop : refs)  {
+                prop.owner.properties.remove(prop.key());
+                prop.toName = _newName;
+                prop.owner.properties.put(prop.key(), prop);
+            }
+            this.references.put(_object.mxClass + ' ' + _newName, refs);
+        }
+    }
+
+    /**
+     * Adds a property to <code>_owner</code>. The tokens could define an
+     * referenced administration object and the value.
+     *
+     * @param _owner    owner of the property
+     * @param _name     name of the property
+     * @param _tokens   tokens with the reference and the value
+     * @throws MatrixException if the referenced object does not exist
+     */
+    private void addProperty(final AdminObject _owner,
+                             final String _name,
+                             final Tokens _tokens)
+        throws MatrixException
+    {
+        final Property prop = new Property(_owner, _name);
+        if (_tokens.nextIf("to"))  {
+            final AdminObject ref = this.getExisting("add property", _tokens);
+            prop.toClass = ref.mxClass;
+            prop.toName = ref.name;
+        }
+        if (_tokens.nextIf("value"))  {
+            prop.value = _tokens.nextValue();
+        }
+        final Property old = _owner.properties.put(prop.key(), prop);
+        if (old != null)  {
+            this.unregister(old);
+        }
+        if (prop.toClass != null)  {
+            final String refKey = prop.toClass + ' ' + prop.toName;
+            List<Property> refs = this.references.get(refKey);
+            if (refs == null)  {
+                refs = new ArrayList<Property>();
+                this.references.put(refKey, refs);
+            }
+            refs.add(prop);
+        }
+        this.modified(_owner);
+    }
+
+    /**
+     * Removes a property from <code>_owner</code>.
+     *
+     * @param _owner    owner of the property
+     * @param _name     name of the property
+     * @param _tokens   tokens with the optional reference
+     * @throws MatrixException if the property does not exist
+     */
+    private void removeProperty(final AdminObject _owner,
+                                final String _name,
+                                final Tokens _tokens)
+        throws MatrixException
+    {
+        final Property tmp = new Property(_owner, _name);
+        if (_tokens.nextIf("to"))  {
+            tmp.toClass = this.evalClass(_tokens.next());
+            tmp.toName = _tokens.nextValue();
+            _tokens.nextIf("system");
+        }
+        final Property prop = _owner.properties.remove(tmp.key());
+        if (prop == null)  {
+            throw new MatrixException("Error: #1900068: modify " + _owner.mxClass + " failed\nError: property '" + _name + "' does not exist");
+        }
+        this.unregister(prop);
+        this.modified(_owner);
+    }
+
+    /**
+     * Removes given property from the references.
+     *
+     * @param _prop     property to unregister
+     */
+    private void unregister(final Property _prop)
+    {
+        if (_prop.toClass != null)  {
+            final List<Property> refs = this.references.get(_prop.toClass + ' ' + _prop.toName);
+            if (refs != null)  {
+                refs.remove(_prop);
+            }
+        }
+    }
+
+    /**
+     * Evaluates the <code>_selects</code> for <code>_object</code> and joins
+     * them with <code>_separator</code>.
+     *
+     * @param _object       administration object
+     * @param _selects      selects
+     * @param _separator    separator
+     * @return selected values
+     */
+    private String select(final AdminObject _object,
+                          final List<String> _selects,
+                          final String _separator)
+    {
+        final StringBuilder ret = new StringBuilder();
+        for (final String select : _selects)  {
+            if (ret.length() > 0)  {
+                ret.append(_separator);
+            }
+            ret.append(this.select(_object, select));
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Evaluates one <code>_select</code> for <code>_object</code>.
+     *
+     * @param _object   administration object
+     * @param _select   select
+     * @return selected value; empty string if not defined
+     */
+    private String select(final AdminObject _object,
+                          final String _select)
+    {
+        final String ret;
+        if ("name".equals(_select))  {
+            ret = _object.name;
+        } else if ("description".equals(_select))  {
+            ret = _object.description;
+        } else if ("hidden".equals(_select))  {
+            ret = _object.hidden ? "TRUE" : "FALSE";
+        } else if ("modified".equals(_select))  {
+            ret = _object.modified;
+        } else if (_select.startsWith("property[") && (_select.indexOf(']') > 0))  {
+            final Property prop = _object.properties.get(_select.substring(9, _select.indexOf(']')));
+            if (prop == null)  {
+                ret = "";
+            } else if (_select.endsWith("].value"))  {
+                ret = (prop.value != null) ? prop.value : "";
+            } else  {
+                ret = prop.toString();
+            }
+        } else  {
+            ret = _object.xmlTags.containsKey(_select) ? _object.xmlTags.get(_select) : "";
+        }
+        return ret;
+    }
+
+    /**
+     * Reads the MX class and name from the tokens and returns the existing
+     * administration object.
+     *
+     * @param _verb     verb of the MQL command (used for the error message)
+     * @param _tokens   tokens of the MQL command
+     * @return found administration object
+     * @throws MatrixException if the administration object does not exist
+     */
+    private AdminObject getExisting(final String _verb,
+                                    final Tokens _tokens)
+        throws MatrixException
+    {
+        final String mxClass = this.evalClass(_tokens.next());
+        final String name = _tokens.nextValue();
+        _tokens.nextIf("system");
+        final AdminObject ret = this.get(mxClass, name);
+        if (ret == null)  {
+            throw new MatrixException("Error: #1900068: " + _verb + " " + mxClass + " failed\nError: " + mxClass + " '" + name + "' does not exist");
+        }
+        return ret;
+    }
+
+    /**
+     * Evaluates the MX class depending on the {@link #ALIASES}.
+     *
+     * @param _mxClass  MX class or alias
+     * @return MX class
+     */
+    private String evalClass(final String _mxClass)
+    {
+        return FakeMxAdminServer.ALIASES.containsKey(_mxClass) ? FakeMxAdminServer.ALIASES.get(_mxClass) : _mxClass;
+    }
+
+    /**
+     * Marks <code>_object</code> as modified.
+     *
+     * @param _object   modified administration object
+     */
+    private void modified(final AdminObject _object)
+    {
+        _object.modified = String.valueOf(++this.modCounter);
+    }
+
+    /**
+     * Returns the exception for a not supported MQL command.
+     *
+     * @param _cmd  MQL command
+     * @return exception
+     */
+    private MatrixException unsupported(final String _cmd)
+    {
+        return new MatrixException("MQL command not supported by fake MX admin server: " + _cmd);
+    }
+
+    /**
+     * Administration object of the fake MX server.
+     */
+    public static final class AdminObject
+    {
+        /** Related fake MX server. */
+        private final FakeMxAdminServer server;
+        /** MX class. */
+        private final String mxClass;
+        /** Name. */
+        private String name;
+        /** Description. */
+        private String description = "";
+        /** Hidden flag. */
+        private boolean hidden;
+        /** Modified date (modification counter). */
+        private String modified;
+        /** Properties (key is name and reference). */
+        private final Map<String,Property> properties = new LinkedHashMap<String,Property>();
+        /** Additional XML tags of the XML export. */
+        private final Map<String,String> xmlTags = new LinkedHashMap<String,String>();
+
+        /**
+         * Initializes the administration object.
+         *
+         * @param _server   related fake MX server
+         * @param _mxClass  MX class
+         * @param _name     name
+         */
+        private AdminObject(final FakeMxAdminServer _server,
+                            final String _mxClass,
+                            final String _name)
+        {
+            this.server = _server;
+            this.mxClass = _mxClass;
+            this.name = _name;
+        }
+
+        /**
+         * Returns the name.
+         *
+         * @return name
+         */
+        public String getName()
+        {
+            return this.name;
+        }
+
+        /**
+         * Returns the description.
+         *
+         * @return description
+         */
+        public String getDescription()
+        {
+            return this.description;
+        }
+
+        /**
+         * Defines the description.
+         *
+         * @param _description  description
+         * @return this administration object
+         */
+        public AdminObject description(final String _description)
+        {
+            synchronized (this.server)  {
+                this.description = _description;
+            }
+            return this;
+        }
+
+        /**
+         * Defines an additional XML tag of the XML export (and the related
+         * value of a select).
+         *
+         * @param _tag      XML tag
+         * @param _value    value; <code>null</code> for an empty tag
+         * @return this administration object
+         */
+        public AdminObject xml(final String _tag,
+                               final String _value)
+        {
+            synchronized (this.server)  {
+                this.xmlTags.put(_tag, _value);
+            }
+            return this;
+        }
+
+        /**
+         * Returns the value of the property with <code>_name</code>.
+         *
+         * @param _name     name of the property
+         * @return value of the property; <code>null</code> if not defined
+         */
+        public String getPropValue(final String _name)
+        {
+            synchronized (this.server)  {
+                final Property prop = this.properties.get(_name);
+                return (prop != null) ? prop.value : null;
+            }
+        }
+
+        /**
+         * Defines a property with a value.
+         *
+         * @param _name     name of the property
+         * @param _value    value of the property
+         * @return this administration object
+         */
+        public AdminObject property(final String _name,
+                                    final String _value)
+        {
+            synchronized (this.server)  {
+                final Property prop = new Property(this, _name);
+                prop.value = _value;
+                this.properties.put(prop.key(), prop);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Property of an administration object.
+     */
+    private static final class Property
+    {
+        /** Owner of the property. */
+        private final AdminObject owner;
+        /** Name of the property. */
+        private final String name;
+        /** MX class of the referenced administration object. */
+        private String toClass;
+        /** Name of the referenced administration object. */
+        private String toName;
+        /** Value of the property. */
+        private String value;
+
+        /**
+         * Initializes the property.
+         *
+         * @param _owner    owner of the property
+         * @param _name     name of the property
+         */
+        private Property(final AdminObject _owner,
+                         final String _name)
+        {
+            this.owner = _owner;
+            this.name = _name;
+        }
+
+        /**
+         * Returns the key of this property within the owner.
+         *
+         * @return key
+         */
+        private String key()
+        {
+            return (this.toClass == null) ? this.name : this.name + " to " + this.toClass + ' ' + this.toName;
+        }
+
+        /**
+         * Returns the string representation of this property as printed from
+         * MX.
+         *
+         * @return string representation
+         */
+        @Override()
+        public String toString()
+        {
+            final StringBuilder ret = new StringBuilder().append(this.key());
+            if (this.value != null)  {
+                ret.append(" value ").append(this.value);
+            }
+            return ret.toString();
+        }
+    }
+
+    /**
+     * Tokens of a MQL command. Quoted strings and arguments are values;
+     * all other tokens are keywords.
+     */
+    private static final class Tokens
+    {
+        /** Keywords within a list command. */
+        private static final List<String> LIST_KEYWORDS = new ArrayList<String>();
+        static  {
+            Tokens.LIST_KEYWORDS.add("system");
+            Tokens.LIST_KEYWORDS.add("where");
+            Tokens.LIST_KEYWORDS.add("select");
+            Tokens.LIST_KEYWORDS.add("dump");
+        }
+
+        /** MQL command. */
+        private final String cmd;
+        /** Tokens. */
+        private final List<String> tokens = new ArrayList<String>();
+        /** Flags if the related token is a value. */
+        private final List<Boolean> values = new ArrayList<Boolean>();
+        /** Index of current token. */
+        private int idx;
+
+        /**
+         * Splits <code>_cmd</code> into tokens and replaces the arguments.
+         *
+         * @param _cmd      MQL command
+         * @param _args     arguments of the MQL command
+         */
+        private Tokens(final String _cmd,
+                       final List<String> _args)
+        {
+            this.cmd = _cmd;
+            final int len = _cmd.length();
+            int pos = 0;
+            while (pos < len)  {
+                final char ch = _cmd.charAt(pos);
+                if (Character.isWhitespace(ch) || (ch == ';'))  {
+                    pos++;
+                } else if (ch == '"')  {
+                    final StringBuilder token = new StringBuilder();
+                    pos++;
+                    while ((pos < len) && (_cmd.charAt(pos) != '"'))  {
+                        if ((_cmd.charAt(pos) == '\\') && ((pos + 1) < len))  {
+                            pos++;
+                        }
+                        token.append(_cmd.charAt(pos++));
+                    }
+                    pos++;
+                    this.tokens.add(token.toString());
+                    this.values.add(true);
+                } else  {
+                    final int start = pos;
+                    while ((pos < len) && !Character.isWhitespace(_cmd.charAt(pos)) && (_cmd.charAt(pos) != ';'))  {
+                        pos++;
+                    }
+                    final String token = _cmd.substring(start, pos);
+                    if ((_args != null) && token.matches("\\$[0-9]+"))  {
+                        this.tokens.add(_args.get(Integer.parseInt(token.substring(1)) - 1));
+                        this.values.add(true);
+                    } else  {
+                        this.tokens.add(token);
+                        this.values.add(false);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Checks if more tokens exists.
+         *
+         * @return <i>true</i> if more tokens exists
+         */
+        private boolean hasNext()
+        {
+            return this.idx < this.tokens.size();
+        }
+
+        /**
+         * Checks if the current token is a value.
+         *
+         * @return <i>true</i> if the current token is a value
+         */
+        private boolean isValue()
+        {
+            return this.values.get(this.idx);
+        }
+
+        /**
+         * Returns the current token without moving to the next token.
+         *
+         * @return current token
+         * @throws MatrixException if no more token exists
+         */
+        private String peek()
+            throws MatrixException
+        {
+            if (!this.hasNext())  {
+                throw new MatrixException("Error: #1900068: unexpected end of MQL command: " + this.cmd);
+            }
+            return this.tokens.get(this.idx);
+        }
+
+        /**
+         * Returns the current token and moves to the next token.
+         *
+         * @return current token
+         * @throws MatrixException if no more token exists
+         */
+        private String next()
+            throws MatrixException
+        {
+            final String ret = this.peek();
+            this.idx++;
+            return ret;
+        }
+
+        /**
+         * Moves to the next token if the current token is the keyword
+         * <code>_keyword</code>.
+         *
+         * @param _keyword  expected keyword
+         * @throws MatrixException if current token is not the keyword
+         */
+        private void next(final String _keyword)
+            throws MatrixException
+        {
+            if (!this.nextIf(_keyword))  {
+                throw new MatrixException("Error: #1900068: expected '" + _keyword + "' in MQL command: " + this.cmd);
+            }
+        }
+
+        /**
+         * Returns the current token as value and moves to the next token.
+         * Also not quoted keywords are allowed as value.
+         *
+         * @return value
+         * @throws MatrixException if no more token exists
+         */
+        private String nextValue()
+            throws MatrixException
+        {
+            return this.next();
+        }
+
+        /**
+         * Moves to the next token if current token is the keyword
+         * <code>_keyword</code>.
+         *
+         * @param _keyword  keyword to check
+         * @return <i>true</i> if the current token is the keyword
+         */
+        private boolean nextIf(final String _keyword)
+        {
+            final boolean ret = this.hasNext() && !this.isValue() && _keyword.equals(this.tokens.get(this.idx));
+            if (ret)  {
+                this.idx++;
+            }
+            return ret;
+        }
+
+        /**
+         * Skips all remaining tokens.
+         */
+        private void skipAll()
+        {
+            this.idx = this.tokens.size();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.test.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+
+import matrix.db.Context;
+
+/**
+ * Utility class to execute MxUpdate within tests (e.g. against the
+ * {@link FakeMxAdminServer} with an {@link OfflineContext}).
+ *
+ * @author The MxUpdate Team
+ */
+public final class MxUpdateUtil
+{
+    /**
+     * Private constructor so that the utility class could not be initalized.
+     */
+    private MxUpdateUtil()
+    {
+    }
+
+    /**
+     * Executes the MxUpdate JPO with given <code>_args</code>. The MxUpdate
+     * JPO is defined within the default package and therefore called via
+     * reflection.
+     *
+     * @param _context  MX context
+     * @param _args     arguments
+     * @throws Exception if MxUpdate failed
+     */
+    public static void mxMain(final Context _context,
+                              final String... _args)
+        throws Exception
+    {
+        final Class<?> clazz = Class.forName("MxUpdate_mxJPO");
+        try  {
+            clazz.getMethod("mxMain", Context.class, String[].class).invoke(clazz.newInstance(), _context, _args);
+        } catch (final InvocationTargetException e)  {
+            if (e.getCause() instanceof Exception)  {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a new empty temporary directory.
+     *
+     * @return temporary directory
+     * @throws IOException if the temporary directory could not be created
+     */
+    public static File createTempDir()
+        throws IOException
+    {
+        final File ret = File.createTempFile("MxUpdate", "");
+        if (!ret.delete() || !ret.mkdirs())  {
+            throw new IOException("temporary directory " + ret + " could not be created");
+        }
+        return ret;
+    }
+}
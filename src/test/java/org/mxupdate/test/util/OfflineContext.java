@@ -0,0 +1,88 @@
+/*
+ *  This file is part of MxUpdate <http://www.mxupdate.org>.
+ *
+ *  MxUpdate is a deployment tool for a PLM platform to handle
+ *  administration objects as single update files (configuration item).
+ *
+ *  Copyright (C) 2008-2016 The MxUpdate Team - All Rights Reserved
+ *
+ *  You may use, distribute and modify MxUpdate under the terms of the
+ *  MxUpdate license. You should have received a copy of the MxUpdate
+ *  license with this file. If not, please write to <info@mxupdate.org>,
+ *  or visit <www.mxupdate.org>.
+ *
+ */
+
+package org.mxupdate.test.util;
+
+import org.mxupdate.util.IMqlExecutor_mxJPO;
+import org.mxupdate.util.MqlTranscript_mxJPO;
+
+import matrix.db.Context;
+import matrix.util.MatrixException;
+
+/**
+ * MX context which is not connected to any MX server. The transactions are
+ * only simulated. The context is used for tests where all MQL commands are
+ * served by an own {@link IMqlExecutor_mxJPO executor} (e.g. the
+ * {@link FakeMxAdminServer} or the
+ * {@link MqlTranscript_mxJPO.Replayer replay of a transcript}).
+ *
+ * @author The MxUpdate Team
+ */
+public class OfflineContext
+    extends Context
+{
+    /** Is a transaction active? */
+    private boolean transactionActive;
+
+    /**
+     * Initializes the offline context.
+     *
+     * @throws MatrixException if the context could not be initialized
+     */
+    public OfflineContext()
+        throws MatrixException
+    {
+        super("");
+    }
+
+    @Override()
+    public boolean isTransactionActive()
+    {
+        return this.transactionActive;
+    }
+
+    @Override()
+    public void start(final boolean _update)
+        throws MatrixException
+    {
+        if (this.transactionActive)  {
+            throw new MatrixException("transaction already active");
+        }
+        this.transactionActive = true;
+    }
+
+    @Override()
+    public void commit()
+        throws MatrixException
+    {
+        if (!this.transactionActive)  {
+            throw new MatrixException("no transaction active");
+        }
+        this.transactionActive = false;
+    }
+
+    @Override()
+    public void abort()
+        throws MatrixException
+    {
+        this.transactionActive = false;
+    }
+
+    @Override()
+    public void shutdown()
+    {
+        this.transactionActive = false;
+    }
+}